@@ -63,7 +63,10 @@ public enum DiagnosticMessages {
             "for Ballerina type '%s'. ", DiagnosticSeverity.WARNING),
 
     OAS_CONVERTOR_115("OAS_CONVERTOR_115", "Given Ballerina file does not contain any HTTP service.",
-            DiagnosticSeverity.ERROR);
+            DiagnosticSeverity.ERROR),
+    OAS_CONVERTOR_116("OAS_CONVERTOR_116", "Moved %s repeated inline record schema(s) to the components of the " +
+            "compact OpenAPI definition, which changed its size from %s to %s bytes (%s%%).",
+            DiagnosticSeverity.INFO);
 
     private final String code;
     private final String description;
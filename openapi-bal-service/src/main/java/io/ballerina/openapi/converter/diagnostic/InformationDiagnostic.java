@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.diagnostic;
+
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.ballerina.tools.diagnostics.Location;
+
+import java.util.Optional;
+
+/**
+ * This {@code InformationDiagnostic} represents the diagnostic that informs about the generated OpenAPI definition,
+ * such as the size reduction of a compact definition, without indicating any problem in the service.
+ *
+ * @since 1.8.0
+ */
+public class InformationDiagnostic implements OpenAPIConverterDiagnostic {
+    private final String code;
+    private final String message;
+    private final Location location;
+
+    public InformationDiagnostic(DiagnosticMessages details, Location location, String... args) {
+        this.code = details.getCode();
+        this.message = String.format(details.getDescription(), (Object[]) args);
+        this.location = location;
+    }
+
+    @Override
+    public String getCode() {
+        return code;
+    }
+
+    @Override
+    public DiagnosticSeverity getDiagnosticSeverity() {
+        return DiagnosticSeverity.INFO;
+    }
+
+    @Override
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public Optional<Location> getLocation() {
+        return Optional.ofNullable(location);
+    }
+}
@@ -20,6 +20,7 @@ package io.ballerina.openapi.converter.model;
 
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.openapi.converter.service.ListenerIndex;
 import io.ballerina.projects.Project;
 
 import java.nio.file.Path;
@@ -36,6 +37,8 @@ public class OASGenerationMetaInfo {
     private final SemanticModel semanticModel;
     private final ServiceDeclarationNode serviceDeclarationNode;
     private final Project project;
+    private final ListenerIndex listenerIndex;
+    private final boolean compact;
 
     public OASGenerationMetaInfo(OASGenerationMetaInfoBuilder builder) {
         this.openApiFileName = builder.openApiFileName;
@@ -43,6 +46,8 @@ public class OASGenerationMetaInfo {
         this.semanticModel = builder.semanticModel;
         this.serviceDeclarationNode = builder.serviceDeclarationNode;
         this.project = builder.project;
+        this.listenerIndex = builder.listenerIndex;
+        this.compact = builder.compact;
     }
 
     public String getOpenApiFileName() {
@@ -65,6 +70,20 @@ public class OASGenerationMetaInfo {
         return project;
     }
 
+    /**
+     * Returns the listener index of the package, falling back to the index cached for the current package.
+     */
+    public ListenerIndex getListenerIndex() {
+        return listenerIndex != null ? listenerIndex : ListenerIndex.of(project);
+    }
+
+    /**
+     * Returns whether the repeated inline record schemas are moved into the component schemas.
+     */
+    public boolean isCompact() {
+        return compact;
+    }
+
     /**
      * This method is used to create a new {@link OASGenerationMetaInfoBuilder} instance.
      */
@@ -75,6 +94,8 @@ public class OASGenerationMetaInfo {
         private SemanticModel semanticModel;
         private ServiceDeclarationNode serviceDeclarationNode;
         private Project project;
+        private ListenerIndex listenerIndex;
+        private boolean compact;
 
         public OASGenerationMetaInfoBuilder setBallerinaFilePath(Path ballerinaFilePath) {
             this.ballerinaFilePath = ballerinaFilePath;
@@ -101,6 +122,16 @@ public class OASGenerationMetaInfo {
             return project;
         }
 
+        public OASGenerationMetaInfoBuilder setListenerIndex(ListenerIndex listenerIndex) {
+            this.listenerIndex = listenerIndex;
+            return this;
+        }
+
+        public OASGenerationMetaInfoBuilder setCompact(boolean compact) {
+            this.compact = compact;
+            return this;
+        }
+
         public OASGenerationMetaInfo build() {
             return new OASGenerationMetaInfo(this);
         }
@@ -17,16 +17,24 @@
  */
 package io.ballerina.openapi.converter.model;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.swagger.v3.core.util.Json;
 import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
- * This {@code OASResult} is used to contain OpenAPI definition in string format and error list.
+ * This {@code OASResult} is used to contain OpenAPI definition in string format and error list. The serialized
+ * definition is created once per format, and is created again only when the OpenAPI definition is replaced.
  *
  * @since 2.0.0
  */
@@ -34,6 +42,15 @@ public class OASResult {
     private OpenAPI openAPI;
     private String serviceName; // added base path for key to definition
     private final List<OpenAPIConverterDiagnostic> diagnostics;
+    private final Map<Format, Optional<String>> serializedDefinitions = new EnumMap<>(Format.class);
+
+    /**
+     * Formats of the serialized OpenAPI definition.
+     */
+    public enum Format {
+        JSON,
+        YAML
+    }
 
     /**
      * This constructor is used to store the details that Map of {@code OpenAPI} objects and diagnostic list.
@@ -56,11 +73,32 @@ public class OASResult {
     }
 
     public Optional<String> getYaml() {
-        return Optional.ofNullable(Yaml.pretty(this.openAPI));
+        return serializedDefinitions.computeIfAbsent(Format.YAML,
+                format -> Optional.ofNullable(Yaml.pretty(this.openAPI)));
     }
 
     public Optional<String> getJson() {
-        return Optional.ofNullable(Json.pretty(this.openAPI));
+        return serializedDefinitions.computeIfAbsent(Format.JSON,
+                format -> Optional.ofNullable(Json.pretty(this.openAPI)));
+    }
+
+    /**
+     * Writes the OpenAPI definition in the given format to the given stream. Unless the definition is already
+     * serialized in that format, it is streamed through the Jackson generator without creating the whole definition
+     * as a string. The stream is not closed.
+     *
+     * @param outputStream stream to which the definition is written
+     * @param format       format of the definition
+     * @throws IOException when the definition cannot be written to the stream
+     */
+    public void writeTo(OutputStream outputStream, Format format) throws IOException {
+        Optional<String> serializedDefinition = serializedDefinitions.get(format);
+        if (serializedDefinition != null && serializedDefinition.isPresent()) {
+            outputStream.write(serializedDefinition.get().getBytes(StandardCharsets.UTF_8));
+            return;
+        }
+        ObjectWriter writer = format == Format.JSON ? Json.pretty() : Yaml.pretty();
+        writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, this.openAPI);
     }
 
     public void setServiceName(String serviceName) {
@@ -69,5 +107,6 @@ public class OASResult {
 
     public void setOpenAPI(OpenAPI openAPI) {
         this.openAPI = openAPI;
+        this.serializedDefinitions.clear();
     }
 }
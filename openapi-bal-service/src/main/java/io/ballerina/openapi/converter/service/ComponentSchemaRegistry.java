@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * This registry records the component schemas already mapped into the {@code Components} of a service, together with
+ * the API docs of their type definitions. It is shared by all the {@link OpenAPIComponentMapper}s of a service, so a
+ * record referred by many resources is mapped only once instead of once per reference.
+ *
+ * @since 1.8.0
+ */
+public class ComponentSchemaRegistry {
+
+    private final Map<String, Set<String>> mappedComponents = new HashMap<>();
+    private final Map<String, Map<String, String>> apiDocs = new HashMap<>();
+
+    /**
+     * Returns whether the given component is already mapped into the component schemas.
+     */
+    public boolean isMapped(String componentName) {
+        return mappedComponents.containsKey(componentName);
+    }
+
+    /**
+     * Returns the names of the type definitions visited while mapping the given component.
+     */
+    public Set<String> getVisitedTypeDefinitionNames(String componentName) {
+        return mappedComponents.getOrDefault(componentName, Collections.emptySet());
+    }
+
+    /**
+     * Records a component mapped into the component schemas, with the names of the type definitions visited while
+     * mapping it.
+     */
+    public void setMapped(String componentName, Set<String> visitedTypeDefinitionNames) {
+        mappedComponents.put(componentName, new LinkedHashSet<>(visitedTypeDefinitionNames));
+    }
+
+    /**
+     * Returns the API docs of the type definition of the given component, which are created only once per type
+     * definition.
+     */
+    public Map<String, String> getAPIDocs(String componentName, Supplier<Map<String, String>> apiDocsSupplier) {
+        return apiDocs.computeIfAbsent(componentName, name -> apiDocsSupplier.get());
+    }
+}
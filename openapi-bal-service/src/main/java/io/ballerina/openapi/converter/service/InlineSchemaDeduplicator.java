@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * This deduplicator moves the inline record schemas repeated across the request bodies, the responses, the parameters
+ * and the component schemas of a generated OpenAPI definition into the component schemas, and refers them with
+ * `$ref`s instead. Inline records are compared by their structure, so records differing only in their documentation
+ * are kept apart.
+ * <p>
+ * The names of the moved records depend only on the definition, not on the order the records are visited in. An
+ * inline record having the structure of a named component is referred to that component. A record nested in a named
+ * component is named after the component and the path of its property, e.g. `UserAddress` for the `address` of a
+ * `User`. Any other record, or a record whose name is already taken, is named after the hash of its structure, e.g.
+ * `InlineRecord1a2b3c4d`.
+ * <pre>
+ *     resource function post users(@http:Payload record {|string name;|} user) returns record {|string name;|}
+ * </pre>
+ * Both records above are mapped to a single `InlineRecord&lt;hash&gt;` component schema.
+ *
+ * @since 1.8.0
+ */
+public class InlineSchemaDeduplicator {
+
+    private static final String COMPONENT_REF_PREFIX = "#/components/schemas/";
+    private static final String INLINE_RECORD_PREFIX = "InlineRecord";
+    private static final int HASH_LENGTH = 8;
+
+    private final OpenAPI openAPI;
+    // Structural keys of the inline records, computed before any of their nested records are replaced
+    private final Map<Schema<?>, String> structuralKeys = new IdentityHashMap<>();
+    private final Map<String, Integer> occurrences = new HashMap<>();
+    // Named components and the names derived from the owning components, per structural key
+    private final Map<String, SortedSet<String>> namedComponents = new HashMap<>();
+    private final Map<String, SortedSet<String>> ownerNames = new HashMap<>();
+    private final Map<String, String> componentNames = new HashMap<>();
+    private final Map<String, Schema> movedSchemas = new TreeMap<>();
+    private final Set<String> replacedKeys = new HashSet<>();
+    private boolean replace;
+
+    public InlineSchemaDeduplicator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Replaces the inline records used more than once in the definition, or having the structure of a named
+     * component, with references to component schemas. The occurrences of the records are counted first, and only the
+     * first occurrence of a repeated record is visited for the records nested in it, as the other occurrences are
+     * replaced as a whole.
+     *
+     * @return number of the inline records replaced with references to component schemas
+     */
+    public int deduplicate() {
+        Map<String, Schema> schemas = openAPI.getComponents() != null ? openAPI.getComponents().getSchemas() : null;
+        if (schemas != null) {
+            for (Map.Entry<String, Schema> schema : schemas.entrySet()) {
+                String key = getStructuralKey(schema.getValue());
+                if (key != null) {
+                    namedComponents.computeIfAbsent(key, k -> new TreeSet<>()).add(schema.getKey());
+                }
+                collectOwnerNames(schema.getValue(), toPascalCase(schema.getKey()));
+            }
+        }
+        replace = false;
+        visitDefinition();
+        occurrences.values().removeIf(count -> count < 2);
+        for (String key : namedComponents.keySet()) {
+            occurrences.putIfAbsent(key, 1);
+        }
+        assignComponentNames(schemas != null ? schemas.keySet() : Set.of());
+        if (componentNames.isEmpty()) {
+            return 0;
+        }
+        replace = true;
+        visitDefinition();
+        if (!movedSchemas.isEmpty()) {
+            if (openAPI.getComponents() == null) {
+                openAPI.setComponents(new Components());
+            }
+            for (Map.Entry<String, Schema> movedSchema : movedSchemas.entrySet()) {
+                openAPI.getComponents().addSchemas(movedSchema.getKey(), movedSchema.getValue());
+            }
+        }
+        return replacedKeys.size();
+    }
+
+    /**
+     * Assigns the component names of the records to be replaced. A name derived from an owning component, which is
+     * either taken by a named component or claimed by several records, is replaced with the hash based name.
+     */
+    private void assignComponentNames(Set<String> existingNames) {
+        Map<String, String> candidates = new HashMap<>();
+        Map<String, Integer> claims = new HashMap<>();
+        for (String key : occurrences.keySet()) {
+            if (namedComponents.containsKey(key)) {
+                componentNames.put(key, namedComponents.get(key).first());
+            } else if (ownerNames.containsKey(key)) {
+                String candidate = ownerNames.get(key).first();
+                candidates.put(key, candidate);
+                claims.merge(candidate, 1, Integer::sum);
+            } else {
+                componentNames.put(key, INLINE_RECORD_PREFIX + getHash(key));
+            }
+        }
+        for (Map.Entry<String, String> candidate : candidates.entrySet()) {
+            String name = candidate.getValue();
+            if (existingNames.contains(name) || claims.get(name) > 1) {
+                name = name + getHash(candidate.getKey());
+            }
+            componentNames.put(candidate.getKey(), name);
+        }
+    }
+
+    private void collectOwnerNames(Schema<?> schema, String name) {
+        if (schema == null || schema.get$ref() != null) {
+            return;
+        }
+        if (schema.getProperties() != null) {
+            for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                String propertyName = name + toPascalCase(property.getKey());
+                String key = property.getValue() != null && property.getValue().get$ref() == null ?
+                        getStructuralKey(property.getValue()) : null;
+                if (key != null) {
+                    ownerNames.computeIfAbsent(key, k -> new TreeSet<>()).add(propertyName);
+                }
+                collectOwnerNames(property.getValue(), propertyName);
+            }
+        }
+        collectOwnerNames(schema.getItems(), name + "Item");
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            collectOwnerNames((Schema<?>) schema.getAdditionalProperties(), name + "Value");
+        }
+    }
+
+    private void visitDefinition() {
+        if (openAPI.getPaths() != null) {
+            for (PathItem path : openAPI.getPaths().values()) {
+                for (Operation operation : path.readOperations()) {
+                    visitOperation(operation);
+                }
+            }
+        }
+        if (openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null) {
+            // Named components are kept as they are, and only the records inlined in them are visited
+            for (Schema<?> schema : new ArrayList<>(openAPI.getComponents().getSchemas().values())) {
+                visitNestedSchemas(schema);
+            }
+        }
+    }
+
+    private void visitOperation(Operation operation) {
+        if (operation.getParameters() != null) {
+            for (Parameter parameter : operation.getParameters()) {
+                parameter.setSchema(visitSchema(parameter.getSchema()));
+                visitContent(parameter.getContent());
+            }
+        }
+        if (operation.getRequestBody() != null) {
+            visitContent(operation.getRequestBody().getContent());
+        }
+        if (operation.getResponses() != null) {
+            for (ApiResponse response : operation.getResponses().values()) {
+                if (response.getHeaders() != null) {
+                    for (Header header : response.getHeaders().values()) {
+                        header.setSchema(visitSchema(header.getSchema()));
+                    }
+                }
+                visitContent(response.getContent());
+            }
+        }
+    }
+
+    private void visitContent(Content content) {
+        if (content == null) {
+            return;
+        }
+        for (MediaType mediaType : content.values()) {
+            mediaType.setSchema(visitSchema(mediaType.getSchema()));
+        }
+    }
+
+    /**
+     * Visits a schema and the schemas nested in it, and returns the schema to be used in its place.
+     */
+    private Schema visitSchema(Schema<?> schema) {
+        if (schema == null || schema.get$ref() != null) {
+            return schema;
+        }
+        String key = getStructuralKey(schema);
+        if (key != null) {
+            if (!replace) {
+                if (occurrences.merge(key, 1, Integer::sum) > 1 || namedComponents.containsKey(key)) {
+                    // The nested records are counted with the first occurrence of the record, or the named component
+                    return schema;
+                }
+            } else if (componentNames.containsKey(key)) {
+                String componentName = componentNames.get(key);
+                replacedKeys.add(key);
+                if (!namedComponents.containsKey(key) && !movedSchemas.containsKey(componentName)) {
+                    // The first occurrence of the record is moved, after replacing the records nested in it
+                    movedSchemas.put(componentName, schema);
+                    visitNestedSchemas(schema);
+                }
+                return new Schema<>().$ref(COMPONENT_REF_PREFIX + componentName);
+            }
+        }
+        visitNestedSchemas(schema);
+        return schema;
+    }
+
+    private void visitNestedSchemas(Schema<?> schema) {
+        if (schema.getProperties() != null) {
+            for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                property.setValue(visitSchema(property.getValue()));
+            }
+        }
+        if (schema.getItems() != null) {
+            schema.setItems(visitSchema(schema.getItems()));
+        }
+        if (schema.getAdditionalProperties() instanceof Schema) {
+            schema.setAdditionalProperties(visitSchema((Schema<?>) schema.getAdditionalProperties()));
+        }
+        visitSchemaList(schema.getAllOf());
+        visitSchemaList(schema.getOneOf());
+        visitSchemaList(schema.getAnyOf());
+    }
+
+    private void visitSchemaList(List<Schema> schemas) {
+        if (schemas == null) {
+            return;
+        }
+        ListIterator<Schema> iterator = schemas.listIterator();
+        while (iterator.hasNext()) {
+            iterator.set(visitSchema(iterator.next()));
+        }
+    }
+
+    /**
+     * Returns the structural key of an inline record, which is its JSON serialization, or null for any other schema.
+     */
+    private String getStructuralKey(Schema<?> schema) {
+        if (schema.getProperties() == null || schema.getProperties().isEmpty()) {
+            return null;
+        }
+        return structuralKeys.computeIfAbsent(schema, record -> {
+            try {
+                return Json.mapper().writeValueAsString(record);
+            } catch (JsonProcessingException e) {
+                // A record which can not be compared is left inline
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Returns the leading hex digits of the SHA-256 hash of a structural key.
+     */
+    private static String getHash(String key) {
+        try {
+            StringBuilder hash = new StringBuilder();
+            for (byte hashByte : MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8))) {
+                hash.append(String.format("%02x", hashByte));
+            }
+            return hash.substring(0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String toPascalCase(String name) {
+        StringBuilder pascalCaseName = new StringBuilder();
+        for (String part : name.split("[^a-zA-Z0-9]+")) {
+            if (!part.isEmpty()) {
+                pascalCaseName.append(Character.toUpperCase(part.charAt(0))).append(part.substring(1));
+            }
+        }
+        return pascalCaseName.toString();
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.ModuleSymbol;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.tools.diagnostics.Location;
+import io.ballerina.tools.text.LinePosition;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+
+/**
+ * This index stores the module level listener declarations of a package, which are looked up by the listener symbol
+ * referred by a service when resolving its server URLs. The index is built once per package, and shared by all the
+ * services of the package regardless of whether the conversion is run from the CLI, the compiler plugins or the
+ * language server.
+ *
+ * @since 1.8.0
+ */
+public class ListenerIndex {
+
+    // The packages are immutable snapshots of a project, hence the index of a package is never stale
+    private static final Map<Package, ListenerIndex> INDEXES = Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final List<ListenerDeclarationNode> listeners = new ArrayList<>();
+    private final Map<ListenerDeclarationNode, Integer> ordinals = new HashMap<>();
+    private final Map<String, ListenerDeclarationNode> listenersBySymbol = new HashMap<>();
+    private final Map<String, List<ListenerDeclarationNode>> listenersByName = new HashMap<>();
+
+    private ListenerIndex() {
+    }
+
+    /**
+     * Returns the listener index of the current package of the given project, which is built on the first request.
+     *
+     * @param project project of the services
+     * @return {@link ListenerIndex} of the package
+     */
+    public static ListenerIndex of(Project project) {
+        return INDEXES.computeIfAbsent(project.currentPackage(), ListenerIndex::build);
+    }
+
+    /**
+     * Create the listener index of the given listener declarations, of which the listeners are only looked up by name.
+     *
+     * @param listeners listener declarations in the order of the declarations
+     * @return {@link ListenerIndex} of the listeners
+     */
+    public static ListenerIndex of(Collection<ListenerDeclarationNode> listeners) {
+        ListenerIndex listenerIndex = new ListenerIndex();
+        listeners.forEach(listener -> listenerIndex.add(listener, null));
+        return listenerIndex;
+    }
+
+    private static ListenerIndex build(Package currentPackage) {
+        ListenerIndex listenerIndex = new ListenerIndex();
+        for (Module module : currentPackage.modules()) {
+            String moduleName = module.moduleName().toString();
+            module.documentIds().forEach(documentId -> {
+                SyntaxTree syntaxTree = module.document(documentId).syntaxTree();
+                ModuleMemberVisitor moduleMemberVisitor = new ModuleMemberVisitor();
+                syntaxTree.rootNode().accept(moduleMemberVisitor);
+                moduleMemberVisitor.getListenerDeclarationNodes()
+                        .forEach(listener -> listenerIndex.add(listener, moduleName));
+            });
+        }
+        return listenerIndex;
+    }
+
+    private void add(ListenerDeclarationNode listener, String moduleName) {
+        if (ordinals.containsKey(listener)) {
+            return;
+        }
+        ordinals.put(listener, listeners.size());
+        listeners.add(listener);
+        listenersByName.computeIfAbsent(listener.variableName().text().trim(), name -> new ArrayList<>())
+                .add(listener);
+        if (moduleName != null) {
+            listenersBySymbol.put(getSymbolKey(moduleName, listener.variableName().location()), listener);
+        }
+    }
+
+    /**
+     * Returns all the listener declarations in the order of the declarations.
+     */
+    public List<ListenerDeclarationNode> getListeners() {
+        return Collections.unmodifiableList(listeners);
+    }
+
+    /**
+     * Returns the position of the given listener in the order of the declarations.
+     */
+    public int getOrdinal(ListenerDeclarationNode listener) {
+        return ordinals.getOrDefault(listener, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Returns the listener declarations referred by the given listener expression of a service. The listener is found
+     * by its symbol when the symbol is resolved by the given semantic model, or else by its name.
+     *
+     * @param expression    listener expression of the service
+     * @param semanticModel semantic model of the module of the service, which may be null
+     * @return the listener declarations referred by the expression
+     */
+    public List<ListenerDeclarationNode> getListeners(ExpressionNode expression, SemanticModel semanticModel) {
+        if (semanticModel != null && !listenersBySymbol.isEmpty()) {
+            Optional<Symbol> symbol = semanticModel.symbol(expression);
+            if (symbol.isPresent() && symbol.get().getLocation().isPresent() && symbol.get().getModule().isPresent()) {
+                ModuleSymbol moduleSymbol = symbol.get().getModule().get();
+                ListenerDeclarationNode listener = listenersBySymbol.get(getSymbolKey(moduleSymbol.id().moduleName(),
+                        symbol.get().getLocation().get()));
+                if (listener != null) {
+                    return Collections.singletonList(listener);
+                }
+            }
+        }
+        String name = expression instanceof QualifiedNameReferenceNode ?
+                ((QualifiedNameReferenceNode) expression).identifier().text().trim() : expression.toString().trim();
+        return listenersByName.getOrDefault(name, Collections.emptyList());
+    }
+
+    private static String getSymbolKey(String moduleName, Location location) {
+        LinePosition position = location.lineRange().startLine();
+        return moduleName + "/" + location.lineRange().fileName() + ":" + position.line() + ":" + position.offset();
+    }
+}
@@ -57,6 +57,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.openapi.converter.Constants.DOUBLE;
 import static io.ballerina.openapi.converter.Constants.FLOAT;
@@ -71,11 +72,13 @@ import static io.ballerina.openapi.converter.Constants.HTTP_CODES;
 public class OpenAPIComponentMapper {
 
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
     private final List<OpenAPIConverterDiagnostic> diagnostics;
     private final HashSet<String> visitedTypeDefinitionNames = new HashSet<>();
 
-    public OpenAPIComponentMapper(Components components) {
+    public OpenAPIComponentMapper(Components components, ComponentSchemaRegistry schemaRegistry) {
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
         this.diagnostics = new ArrayList<>();
     }
 
@@ -90,12 +93,20 @@ public class OpenAPIComponentMapper {
      * @param typeSymbol Record Name as a TypeSymbol
      */
     public void createComponentSchema(Map<String, Schema> schema, TypeSymbol typeSymbol) {
+        String componentName = ConverterCommonUtils.unescapeIdentifier(typeSymbol.getName().orElseThrow().trim());
+        if (schema != null && schema == components.getSchemas() && schemaRegistry.isMapped(componentName)) {
+            // The type is already mapped into the component schemas by another reference
+            visitedTypeDefinitionNames.addAll(schemaRegistry.getVisitedTypeDefinitionNames(componentName));
+            return;
+        }
         if (schema == null) {
             schema = new HashMap<>();
         }
+        Set<String> visitedBefore = new HashSet<>(visitedTypeDefinitionNames);
+        int diagnosticCount = diagnostics.size();
         // Getting main record description
-        String componentName = ConverterCommonUtils.unescapeIdentifier(typeSymbol.getName().orElseThrow().trim());
-        Map<String, String> apiDocs = getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol, componentName);
+        Map<String, String> apiDocs = schemaRegistry.getAPIDocs(componentName,
+                () -> getRecordFieldsAPIDocsMap((TypeReferenceTypeSymbol) typeSymbol, componentName));
         String typeDoc = null;
         if (apiDocs.size() > 0) {
             typeDoc = apiDocs.get(typeSymbol.getName().get());
@@ -160,7 +171,7 @@ public class OpenAPIComponentMapper {
                         Schema unionSchema = handleUnionType((UnionTypeSymbol) type, new Schema<>(), componentName);
                         schema.put(componentName, unionSchema.description(typeDoc));
                     }
-                    if (components.getSchemas() != null) {
+                    if (components.getSchemas() != null && components.getSchemas() != schema) {
                         schema.putAll(components.getSchemas());
                     }
                     components.setSchemas(schema);
@@ -187,7 +198,9 @@ public class OpenAPIComponentMapper {
 
                 Map<String, Schema> schemas = components.getSchemas();
                 if (schemas != null) {
-                    schemas.putAll(schema);
+                    if (schemas != schema) {
+                        schemas.putAll(schema);
+                    }
                 } else {
                     components.setSchemas(schema);
                 }
@@ -200,6 +213,13 @@ public class OpenAPIComponentMapper {
                 diagnostics.add(error);
                 break;
         }
+        if (diagnostics.size() == diagnosticCount && components.getSchemas() != null &&
+                components.getSchemas().containsKey(componentName)) {
+            Set<String> visited = new HashSet<>(visitedTypeDefinitionNames);
+            visited.removeAll(visitedBefore);
+            visited.add(componentName);
+            schemaRegistry.setMapped(componentName, visited);
+        }
     }
 
     /**
@@ -304,7 +324,7 @@ public class OpenAPIComponentMapper {
         if (schema != null && !schema.containsKey(componentName)) {
             // Set properties for the schema
             schema.put(componentName, allOfSchema);
-            if (this.components.getSchemas() != null) {
+            if (this.components.getSchemas() != null && this.components.getSchemas() != schema) {
                 schema.putAll(this.components.getSchemas());
             }
             this.components.setSchemas(schema);
@@ -373,7 +393,7 @@ public class OpenAPIComponentMapper {
         if (componentName != null && schema != null && !schema.containsKey(componentName)) {
             // Set properties for the schema
             schema.put(componentName, componentSchema);
-            if (this.components.getSchemas() != null) {
+            if (this.components.getSchemas() != null && this.components.getSchemas() != schema) {
                 schema.putAll(this.components.getSchemas());
             }
             this.components.setSchemas(schema);
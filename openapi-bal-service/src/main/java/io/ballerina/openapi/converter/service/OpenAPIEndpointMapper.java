@@ -19,6 +19,7 @@
 
 package io.ballerina.openapi.converter.service;
 
+import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.syntax.tree.CheckExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExplicitNewExpressionNode;
 import io.ballerina.compiler.syntax.tree.ExpressionNode;
@@ -31,7 +32,6 @@ import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
 import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
-import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
@@ -45,6 +45,7 @@ import io.swagger.v3.oas.models.servers.ServerVariables;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
@@ -68,17 +69,37 @@ public class OpenAPIEndpointMapper {
      */
     public OpenAPI getServers(OpenAPI openAPI, LinkedHashSet<ListenerDeclarationNode> endpoints,
                               ServiceDeclarationNode service) {
+        return getServers(openAPI, ListenerIndex.of(endpoints), service, null);
+    }
+
+    /**
+     * Convert endpoints bound to {@code service} openapi server information, where the endpoints referred by the
+     * service are looked up in the listener index of the package.
+     *
+     * @param openAPI       openapi definition to attach extracted information
+     * @param listenerIndex index of the endpoints defined in ballerina source
+     * @param service       service node with bound endpoints
+     * @param semanticModel semantic model of the module of the service, which may be null
+     * @return openapi definition with Server information
+     */
+    public OpenAPI getServers(OpenAPI openAPI, ListenerIndex listenerIndex, ServiceDeclarationNode service,
+                              SemanticModel semanticModel) {
         openAPI = extractServerForExpressionNode(openAPI, service.expressions(), service);
         List<Server> servers = openAPI.getServers();
         //Handle ImplicitNewExpressionNode in listener
-        if (!endpoints.isEmpty()) {
-            for (ListenerDeclarationNode ep : endpoints) {
-                SeparatedNodeList<ExpressionNode> exprNodes = service.expressions();
-                for (ExpressionNode node : exprNodes) {
-                    updateServerDetails(service, servers, ep, node);
-                }
+        List<ListenerDeclarationNode> endpoints = new ArrayList<>();
+        for (ExpressionNode node : service.expressions()) {
+            if (node.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE ||
+                    node.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
+                endpoints.addAll(listenerIndex.getListeners(node, semanticModel));
             }
         }
+        // The servers are added in the order of the declarations of the endpoints
+        endpoints.sort(Comparator.comparingInt(listenerIndex::getOrdinal));
+        String serviceBasePath = getServiceBasePath(service);
+        for (ListenerDeclarationNode ep : endpoints) {
+            servers.add(extractServer(ep, serviceBasePath));
+        }
         if (servers.size() > 1) {
             Server mainServer = addEnumValues(servers);
             openAPI.setServers(Collections.singletonList(mainServer));
@@ -86,27 +107,6 @@ public class OpenAPIEndpointMapper {
         return openAPI;
     }
 
-    /**
-     * This util is for extracting the server details from endpoints and update server list.
-     */
-    private void updateServerDetails(ServiceDeclarationNode service, List<Server> servers,
-                                     ListenerDeclarationNode endPoint, ExpressionNode expNode) {
-
-        if (expNode instanceof QualifiedNameReferenceNode) {
-            //Handle QualifiedNameReferenceNode in listener
-            QualifiedNameReferenceNode refNode = (QualifiedNameReferenceNode) expNode;
-            if (refNode.identifier().text().trim().equals(endPoint.variableName().text().trim())) {
-                String serviceBasePath = getServiceBasePath(service);
-                Server server = extractServer(endPoint, serviceBasePath);
-                servers.add(server);
-            }
-        } else if (expNode.toString().trim().equals(endPoint.variableName().text().trim())) {
-            String serviceBasePath = getServiceBasePath(service);
-            Server server = extractServer(endPoint, serviceBasePath);
-            servers.add(server);
-        }
-    }
-
     private Server addEnumValues(List<Server> servers) {
 
         Server mainServer = servers.get(0);
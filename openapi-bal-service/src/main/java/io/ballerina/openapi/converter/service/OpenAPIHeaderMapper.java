@@ -57,12 +57,15 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescape
  */
 public class OpenAPIHeaderMapper {
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
     private final SemanticModel semanticModel;
     private final Map<String, String> apidocs;
 
-    public OpenAPIHeaderMapper(Components components, SemanticModel semanticModel, Map<String, String> apidocs) {
+    public OpenAPIHeaderMapper(Components components, ComponentSchemaRegistry schemaRegistry,
+                               SemanticModel semanticModel, Map<String, String> apidocs) {
         this.apidocs = apidocs;
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
         this.semanticModel = semanticModel;
     }
 
@@ -86,7 +89,7 @@ public class OpenAPIHeaderMapper {
 
         if (headerDetailNode.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
             SimpleNameReferenceNode refNode = (SimpleNameReferenceNode) headerDetailNode;
-            headerTypeSchema = handleReference(semanticModel, components, refNode);
+            headerTypeSchema = handleReference(semanticModel, components, schemaRegistry, refNode);
         } else {
             headerTypeSchema = ConverterCommonUtils.getOpenApiSchema(getHeaderType(headerParam));
         }
@@ -126,7 +129,7 @@ public class OpenAPIHeaderMapper {
         Schema<?> headerTypeSchema;
         if (headerParam.typeName().kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
             SimpleNameReferenceNode refNode = (SimpleNameReferenceNode) headerParam.typeName();
-            headerTypeSchema = handleReference(semanticModel, components, refNode);
+            headerTypeSchema = handleReference(semanticModel, components, schemaRegistry, refNode);
         } else {
             headerTypeSchema = ConverterCommonUtils.getOpenApiSchema(getHeaderType(headerParam));
         }
@@ -184,7 +187,7 @@ public class OpenAPIHeaderMapper {
             Schema<?> itemSchema;
             if (kind == SyntaxKind.SIMPLE_NAME_REFERENCE) {
                 SimpleNameReferenceNode refNode = (SimpleNameReferenceNode) arrayNode.memberTypeDesc();
-                itemSchema = handleReference(semanticModel, components, refNode);
+                itemSchema = handleReference(semanticModel, components, schemaRegistry, refNode);
             } else {
                 itemSchema = ConverterCommonUtils.getOpenApiSchema(kind);
             }
@@ -68,6 +68,8 @@ public class OpenAPIParameterMapper {
     private final Map<String, String> apidocs;
     private final List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
+    private final TypeResolutionCache typeCache;
     private final SemanticModel semanticModel;
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
@@ -76,12 +78,15 @@ public class OpenAPIParameterMapper {
 
     public OpenAPIParameterMapper(FunctionDefinitionNode functionDefinitionNode,
                                   OperationAdaptor operationAdaptor, Map<String, String> apidocs,
-                                  Components components, SemanticModel semanticModel) {
+                                  Components components, ComponentSchemaRegistry schemaRegistry,
+                                  TypeResolutionCache typeCache, SemanticModel semanticModel) {
 
         this.functionDefinitionNode = functionDefinitionNode;
         this.operationAdaptor = operationAdaptor;
         this.apidocs = apidocs;
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
+        this.typeCache = typeCache;
         this.semanticModel = semanticModel;
     }
 
@@ -100,7 +105,7 @@ public class OpenAPIParameterMapper {
         SeparatedNodeList<ParameterNode> parameterList = functionSignature.parameters();
         for (ParameterNode parameterNode : parameterList) {
             OpenAPIQueryParameterMapper queryParameterMapper = new OpenAPIQueryParameterMapper(apidocs, components,
-                    semanticModel);
+                    schemaRegistry, semanticModel);
             if (parameterNode.kind() == SyntaxKind.REQUIRED_PARAM) {
                 RequiredParameterNode requiredParameterNode = (RequiredParameterNode) parameterNode;
                 // Handle query parameter
@@ -159,7 +164,7 @@ public class OpenAPIParameterMapper {
                 ResourcePathParameterNode pathParam = (ResourcePathParameterNode) param;
                 if (pathParam.typeDescriptor().kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
                     SimpleNameReferenceNode queryNode = (SimpleNameReferenceNode) pathParam.typeDescriptor();
-                    OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+                    OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
                     TypeSymbol typeSymbol = (TypeSymbol) semanticModel.symbol(queryNode).orElseThrow();
                     componentMapper.createComponentSchema(components.getSchemas(), typeSymbol);
                     Schema schema = new Schema();
@@ -195,12 +200,13 @@ public class OpenAPIParameterMapper {
         for (AnnotationNode annotation: annotations) {
             if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_HEADER)) {
                 // Handle headers.
-                OpenAPIHeaderMapper openAPIHeaderMapper = new OpenAPIHeaderMapper(components, semanticModel, apidocs);
+                OpenAPIHeaderMapper openAPIHeaderMapper = new OpenAPIHeaderMapper(components, schemaRegistry,
+                        semanticModel, apidocs);
                 parameters.addAll(openAPIHeaderMapper.setHeaderParameter(requiredParameterNode));
             } else if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_QUERY)) {
                 // Handle query parameter.
                 OpenAPIQueryParameterMapper openAPIQueryParameterMapper = new OpenAPIQueryParameterMapper(apidocs,
-                        components, semanticModel);
+                        components, schemaRegistry, semanticModel);
                 parameters.add(openAPIQueryParameterMapper.createQueryParameter(requiredParameterNode));
             } else if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_PAYLOAD) &&
                     (!Constants.GET.toLowerCase(Locale.ENGLISH).equalsIgnoreCase(
@@ -209,9 +215,9 @@ public class OpenAPIParameterMapper {
                 // Handle request payload.
                 Optional<String> customMediaType = extractCustomMediaType(functionDefinitionNode);
                 OpenAPIRequestBodyMapper openAPIRequestBodyMapper = customMediaType.map(
-                        value -> new OpenAPIRequestBodyMapper(components,
+                        value -> new OpenAPIRequestBodyMapper(components, schemaRegistry, typeCache,
                         operationAdaptor, semanticModel, value)).orElse(new OpenAPIRequestBodyMapper(components,
-                        operationAdaptor, semanticModel));
+                        schemaRegistry, typeCache, operationAdaptor, semanticModel));
                 openAPIRequestBodyMapper.handlePayloadAnnotation(requiredParameterNode, schema, annotation, apidocs);
                 errors.addAll(openAPIRequestBodyMapper.getDiagnostics());
             } else if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_PAYLOAD) &&
@@ -233,12 +239,13 @@ public class OpenAPIParameterMapper {
         for (AnnotationNode annotation: annotations) {
             if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_HEADER)) {
                 // Handle headers.
-                OpenAPIHeaderMapper openAPIHeaderMapper = new OpenAPIHeaderMapper(components, semanticModel, apidocs);
+                OpenAPIHeaderMapper openAPIHeaderMapper = new OpenAPIHeaderMapper(components, schemaRegistry,
+                        semanticModel, apidocs);
                 parameters = openAPIHeaderMapper.setHeaderParameter(defaultableParameterNode);
             } else if ((annotation.annotReference().toString()).trim().equals(Constants.HTTP_QUERY)) {
                 // Handle query parameter.
                 OpenAPIQueryParameterMapper openAPIQueryParameterMapper = new OpenAPIQueryParameterMapper(apidocs,
-                        components, semanticModel);
+                        components, schemaRegistry, semanticModel);
                 parameters.add(openAPIQueryParameterMapper.createQueryParameter(defaultableParameterNode));
             }
         }
@@ -65,15 +65,17 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescape
  */
 public class OpenAPIQueryParameterMapper {
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
     private final SemanticModel semanticModel;
     private final Map<String, String> apidocs;
     private final SyntaxKind[] validExpressionKind = {STRING_LITERAL, NUMERIC_LITERAL, BOOLEAN_LITERAL,
             LIST_CONSTRUCTOR, NIL_LITERAL, MAPPING_CONSTRUCTOR};
 
     public OpenAPIQueryParameterMapper(Map<String, String> apidocs, Components components,
-                                       SemanticModel semanticModel) {
+                                       ComponentSchemaRegistry schemaRegistry, SemanticModel semanticModel) {
         this.apidocs = apidocs;
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
         this.semanticModel = semanticModel;
     }
 
@@ -115,7 +117,7 @@ public class OpenAPIQueryParameterMapper {
             QueryParameter queryParameter = new QueryParameter();
             queryParameter.setName(unescapeIdentifier(queryParamName));
             SimpleNameReferenceNode queryNode = (SimpleNameReferenceNode) queryParam.typeName();
-            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
             TypeSymbol typeSymbol = (TypeSymbol) semanticModel.symbol(queryNode).orElseThrow();
             componentMapper.createComponentSchema(components.getSchemas(), typeSymbol);
             Schema<?> schema = new Schema<>();
@@ -128,7 +130,7 @@ public class OpenAPIQueryParameterMapper {
             return queryParameter;
         } else if (queryParam.typeName().kind() == SIMPLE_NAME_REFERENCE) {
             QueryParameter queryParameter = new QueryParameter();
-            Schema<?> refSchema = handleReference(semanticModel, components, (SimpleNameReferenceNode)
+            Schema<?> refSchema = handleReference(semanticModel, components, schemaRegistry, (SimpleNameReferenceNode)
                     queryParam.typeName());
             queryParameter.setSchema(refSchema);
             queryParameter.setRequired(true);
@@ -175,7 +177,7 @@ public class OpenAPIQueryParameterMapper {
             queryParameter = handleArrayTypeQueryParameter(queryParamName, arrayNode);
         } else if (defaultableQueryParam.typeName().kind() == SIMPLE_NAME_REFERENCE) {
             queryParameter.setName(unescapeIdentifier(queryParamName));
-            Schema<?> refSchema = handleReference(semanticModel, components,
+            Schema<?> refSchema = handleReference(semanticModel, components, schemaRegistry,
                     (SimpleNameReferenceNode) defaultableQueryParam.typeName());
             queryParameter.setSchema(refSchema);
             queryParameter.setRequired(true);
@@ -243,7 +245,7 @@ public class OpenAPIQueryParameterMapper {
 
     private Schema<?> getItemSchemaForReference(ArrayTypeDescriptorNode arrayNode) {
         SimpleNameReferenceNode record = (SimpleNameReferenceNode) arrayNode.memberTypeDesc();
-        return handleReference(semanticModel, components, record);
+        return handleReference(semanticModel, components, schemaRegistry, record);
     }
 
     /**
@@ -286,7 +288,8 @@ public class OpenAPIQueryParameterMapper {
             }
             return queryParameter;
         } else if (node.kind() == SIMPLE_NAME_REFERENCE) {
-            Schema<?> refSchema = handleReference(semanticModel, components, (SimpleNameReferenceNode) node);
+            Schema<?> refSchema = handleReference(semanticModel, components, schemaRegistry,
+                    (SimpleNameReferenceNode) node);
             queryParameter.setSchema(refSchema);
             if (isOptional.equals(Constants.FALSE)) {
                 queryParameter.setRequired(true);
@@ -68,6 +68,8 @@ import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.extractA
  */
 public class OpenAPIRequestBodyMapper {
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
+    private final TypeResolutionCache typeCache;
     private final OperationAdaptor operationAdaptor;
     private final SemanticModel semanticModel;
     private final String customMediaType;
@@ -77,13 +79,18 @@ public class OpenAPIRequestBodyMapper {
      * This constructor uses to create OpenAPIRequestBodyMapper instance when customMedia type enable.
      *
      * @param components        - OAS Components
+     * @param schemaRegistry    - Registry of the component schemas mapped into the OAS Components
+     * @param typeCache         - Cache of the type symbols resolved for the service
      * @param operationAdaptor  - Model of operation
      * @param semanticModel     - Semantic model for given ballerina service
      * @param customMediaType   - custom media type
      */
-    public OpenAPIRequestBodyMapper(Components components, OperationAdaptor operationAdaptor,
+    public OpenAPIRequestBodyMapper(Components components, ComponentSchemaRegistry schemaRegistry,
+                                    TypeResolutionCache typeCache, OperationAdaptor operationAdaptor,
                                     SemanticModel semanticModel, String customMediaType) {
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
+        this.typeCache = typeCache;
         this.operationAdaptor = operationAdaptor;
         this.semanticModel = semanticModel;
         this.customMediaType = customMediaType;
@@ -94,12 +101,15 @@ public class OpenAPIRequestBodyMapper {
      * This constructor uses to create OpenAPIRequestBodyMapper instance when customMedia type absent.
      *
      * @param components        - OAS Components
+     * @param schemaRegistry    - Registry of the component schemas mapped into the OAS Components
+     * @param typeCache         - Cache of the type symbols resolved for the service
      * @param operationAdaptor  - Model of operation
      * @param semanticModel     - Semantic model for given ballerina service
      */
-    public OpenAPIRequestBodyMapper(Components components, OperationAdaptor operationAdaptor,
+    public OpenAPIRequestBodyMapper(Components components, ComponentSchemaRegistry schemaRegistry,
+                                    TypeResolutionCache typeCache, OperationAdaptor operationAdaptor,
                                     SemanticModel semanticModel) {
-        this(components, operationAdaptor, semanticModel, null);
+        this(components, schemaRegistry, typeCache, operationAdaptor, semanticModel, null);
     }
 
     public List<OpenAPIConverterDiagnostic> getDiagnostics() {
@@ -195,14 +205,14 @@ public class OpenAPIRequestBodyMapper {
                 if (node.kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
                     SimpleNameReferenceNode record = (SimpleNameReferenceNode) node;
                     // Creating request body - required.
-                    TypeSymbol typeSymbol = getReferenceTypeSymbol(semanticModel.symbol(record));
+                    TypeSymbol typeSymbol = getReferenceTypeSymbol(typeCache.getSymbol(record, semanticModel));
                     String recordName = record.name().toString().trim();
                     handleReferencePayload(typeSymbol, recordName, schema, mediaTypeString, bodyParameter);
                 } else if (node instanceof ArrayTypeDescriptorNode) {
                     handleArrayTypePayload(schema, (ArrayTypeDescriptorNode) node, mediaTypeString, bodyParameter);
                 } else if (node.kind() == SyntaxKind.QUALIFIED_NAME_REFERENCE) {
                     QualifiedNameReferenceNode separateRecord = (QualifiedNameReferenceNode) node;
-                    TypeSymbol typeSymbol = getReferenceTypeSymbol(semanticModel.symbol(separateRecord));
+                    TypeSymbol typeSymbol = getReferenceTypeSymbol(typeCache.getSymbol(separateRecord, semanticModel));
                     String recordName = ((QualifiedNameReferenceNode) payloadNode.typeName()).identifier().text();
                     handleReferencePayload(typeSymbol, recordName, schema, mediaTypeString, bodyParameter);
                 }
@@ -227,8 +237,8 @@ public class OpenAPIRequestBodyMapper {
         if (typeDescriptorNode.kind().equals(SyntaxKind.SIMPLE_NAME_REFERENCE)) {
             //handle record for components
             SimpleNameReferenceNode referenceNode = (SimpleNameReferenceNode) typeDescriptorNode;
-            TypeSymbol typeSymbol = getReferenceTypeSymbol(semanticModel.symbol(referenceNode));
-            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+            TypeSymbol typeSymbol = getReferenceTypeSymbol(typeCache.getSymbol(referenceNode, semanticModel));
+            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
             componentMapper.createComponentSchema(schema, typeSymbol);
             diagnostics.addAll(componentMapper.getDiagnostics());
             Schema itemSchema = new Schema();
@@ -256,7 +266,7 @@ public class OpenAPIRequestBodyMapper {
         String mimeType = mime.replaceAll("\"", "");
         if (payloadNode.typeName().kind() == SyntaxKind.SIMPLE_NAME_REFERENCE) {
             SimpleNameReferenceNode record = (SimpleNameReferenceNode) payloadNode.typeName();
-            TypeSymbol typeSymbol = getReferenceTypeSymbol(semanticModel.symbol(record));
+            TypeSymbol typeSymbol = getReferenceTypeSymbol(typeCache.getSymbol(record, semanticModel));
             String recordName = record.name().toString().trim();
             handleReferencePayload(typeSymbol, recordName, schema, mimeType, requestBody);
         } else if (payloadNode.typeName() instanceof ArrayTypeDescriptorNode) {
@@ -283,7 +293,7 @@ public class OpenAPIRequestBodyMapper {
     private void handleReferencePayload(TypeSymbol typeSymbol, String recordName,
                                         Map<String, Schema> schema, String mediaType, RequestBody bodyParameter) {
         //handle record for components
-        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
         componentMapper.createComponentSchema(schema, typeSymbol);
         diagnostics.addAll(componentMapper.getDiagnostics());
         io.swagger.v3.oas.models.media.MediaType media = new io.swagger.v3.oas.models.media.MediaType();
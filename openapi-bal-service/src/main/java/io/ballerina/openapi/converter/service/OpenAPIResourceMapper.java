@@ -60,6 +60,8 @@ public class OpenAPIResourceMapper {
     private final SemanticModel semanticModel;
     private final Paths pathObject = new Paths();
     private final Components components = new Components();
+    private final ComponentSchemaRegistry schemaRegistry = new ComponentSchemaRegistry();
+    private final TypeResolutionCache typeCache = new TypeResolutionCache();
     private final List<OpenAPIConverterDiagnostic> errors;
 
     public List<OpenAPIConverterDiagnostic> getErrors() {
@@ -211,7 +213,7 @@ public class OpenAPIResourceMapper {
         Map<String, String> apiDocs = listAPIDocumentations(resource, op);
         //Add path parameters if in path and query parameters
         OpenAPIParameterMapper openAPIParameterMapper = new OpenAPIParameterMapper(resource, op, apiDocs, components,
-                semanticModel);
+                schemaRegistry, typeCache, semanticModel);
         openAPIParameterMapper.getResourceInputs(components, semanticModel);
         if (openAPIParameterMapper.getErrors().size() > 1 || (openAPIParameterMapper.getErrors().size() == 1 &&
                 !openAPIParameterMapper.getErrors().get(0).getCode().equals("OAS_CONVERTOR_113"))) {
@@ -221,7 +223,7 @@ public class OpenAPIResourceMapper {
         errors.addAll(openAPIParameterMapper.getErrors());
 
         OpenAPIResponseMapper openAPIResponseMapper = new OpenAPIResponseMapper(semanticModel, components,
-                resource.location());
+                schemaRegistry, typeCache, resource.location());
         openAPIResponseMapper.getResourceOutput(resource, op);
         if (!openAPIResponseMapper.getErrors().isEmpty()) {
             errors.addAll(openAPIResponseMapper.getErrors());
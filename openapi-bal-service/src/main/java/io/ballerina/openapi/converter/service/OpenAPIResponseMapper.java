@@ -83,6 +83,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.Spliterator;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import javax.ws.rs.core.MediaType;
@@ -149,6 +150,8 @@ public class OpenAPIResponseMapper {
 
     private final SemanticModel semanticModel;
     private final Components components;
+    private final ComponentSchemaRegistry schemaRegistry;
+    private final TypeResolutionCache typeCache;
     private final List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private final Location location;
     private String httpMethod;
@@ -157,9 +160,13 @@ public class OpenAPIResponseMapper {
         return errors;
     }
 
-    public OpenAPIResponseMapper(SemanticModel semanticModel, Components components, Location location) {
+    public OpenAPIResponseMapper(SemanticModel semanticModel, Components components,
+                                 ComponentSchemaRegistry schemaRegistry, TypeResolutionCache typeCache,
+                                 Location location) {
         this.semanticModel = semanticModel;
         this.components = components;
+        this.schemaRegistry = schemaRegistry;
+        this.typeCache = typeCache;
         this.location = location;
     }
 
@@ -438,7 +445,9 @@ public class OpenAPIResponseMapper {
         switch (typeNode.kind()) {
             case QUALIFIED_NAME_REFERENCE:
                 QualifiedNameReferenceNode qNode = (QualifiedNameReferenceNode) typeNode;
-                return handleQualifiedNameType(apiResponses, customMediaPrefix, headers, apiResponse, qNode);
+                ApiResponse qualifiedResponse = apiResponse;
+                return getCachedResponses(typeNode, customMediaPrefix, headers, () ->
+                        handleQualifiedNameType(apiResponses, customMediaPrefix, headers, qualifiedResponse, qNode));
             case FLOAT_TYPE_DESC:
             case DECIMAL_TYPE_DESC:
             case INT_TYPE_DESC:
@@ -477,10 +486,11 @@ public class OpenAPIResponseMapper {
                 return Optional.of(apiResponses);
             case SIMPLE_NAME_REFERENCE:
                 SimpleNameReferenceNode recordNode = (SimpleNameReferenceNode) typeNode;
-                Map<String, Schema> schemas = components.getSchemas();
-                handleReferenceResponse(operationAdaptor, recordNode, schemas, apiResponses, customMediaPrefix,
-                        headers);
-                return Optional.of(apiResponses);
+                return getCachedResponses(typeNode, customMediaPrefix, headers, () -> {
+                    handleReferenceResponse(operationAdaptor, recordNode, components.getSchemas(), apiResponses,
+                            customMediaPrefix, headers);
+                    return Optional.of(apiResponses);
+                });
             case UNION_TYPE_DESC:
                 return mapUnionReturns(operationAdaptor,
                         (UnionTypeDescriptorNode) typeNode, customMediaPrefix, headers);
@@ -536,6 +546,30 @@ public class OpenAPIResponseMapper {
         }
     }
 
+    /**
+     * Returns the responses of a type reference return, which are mapped only once per status code, media type
+     * prefix and type of a service. The responses are mapped again when the return has response headers from the
+     * cache annotation or when mapping them raised diagnostics.
+     */
+    private Optional<ApiResponses> getCachedResponses(Node typeNode, Optional<String> customMediaPrefix,
+                                                      Map<String, Header> headers,
+                                                      Supplier<Optional<ApiResponses>> responsesSupplier) {
+        if (!headers.isEmpty()) {
+            return responsesSupplier.get();
+        }
+        String key = (httpMethod.equals(POST) ? HTTP_201 : HTTP_200) + " " + customMediaPrefix.orElse("") + " " +
+                TypeResolutionCache.getKey(typeNode);
+        if (typeCache.hasResponses(key)) {
+            return typeCache.getResponses(key, headers);
+        }
+        int errorCount = errors.size();
+        Optional<ApiResponses> responses = responsesSupplier.get();
+        if (errors.size() == errorCount) {
+            typeCache.putResponses(key, responses, headers);
+        }
+        return responses;
+    }
+
     /**
      * This function is for handling {@code QualifiedNameReferenceNode} type returns.
      */
@@ -568,7 +602,7 @@ public class OpenAPIResponseMapper {
                 }
             }
         } else {
-            Symbol symbol = semanticModel.symbol(qNode).get();
+            Symbol symbol = typeCache.getSymbol(qNode, semanticModel).get();
             if (symbol instanceof TypeReferenceTypeSymbol) {
                 TypeReferenceTypeSymbol typeRef = (TypeReferenceTypeSymbol) symbol;
                 TypeSymbol typeSymbol = typeRef.typeDescriptor();
@@ -584,8 +618,8 @@ public class OpenAPIResponseMapper {
                 }
                 if (typeSymbol.typeKind() == TypeDescKind.RECORD) {
                     ApiResponses responses = handleRecordTypeSymbol(qNode.identifier().text().trim(),
-                            components.getSchemas(), customMediaPrefix, typeRef, new OpenAPIComponentMapper(components),
-                            headers);
+                            components.getSchemas(), customMediaPrefix, typeRef,
+                            new OpenAPIComponentMapper(components, schemaRegistry), headers);
                     apiResponses.putAll(responses);
                     return Optional.of(apiResponses);
                 }
@@ -878,10 +912,10 @@ public class OpenAPIResponseMapper {
                                          Map<String, Schema> schema, ApiResponses apiResponses,
                                          Optional<String> customMediaPrefix, Map<String, Header> headers) {
         ApiResponse apiResponse = new ApiResponse();
-        Optional<Symbol> symbol = semanticModel.symbol(referenceNode);
+        Optional<Symbol> symbol = typeCache.getSymbol(referenceNode, semanticModel);
         TypeSymbol typeSymbol = (TypeSymbol) symbol.orElseThrow();
         //handle record for components
-        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+        OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
         String mediaTypeString;
         // Check typeInclusion is related to the http status code
         if (referenceNode.parent().kind().equals(ARRAY_TYPE_DESC)) {
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.service;
+
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.api.symbols.Symbol;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * This cache records the type symbols resolved for the type descriptors of a service, together with the responses
+ * mapped for its return types. It is shared by the response and the request body mappers of all the resources of a
+ * service, so a record or an error type used by many resources is resolved and classified into status codes only
+ * once instead of once per resource.
+ * <p>
+ * The type descriptors are keyed by their source, since the types referred by the resources of a service are the
+ * module level types visible from the document of the service. The responses are handed out as copies, since the
+ * response mapper merges them with the other responses of a resource.
+ *
+ * @since 1.8.0
+ */
+public class TypeResolutionCache {
+
+    private final Map<String, Optional<Symbol>> symbols = new HashMap<>();
+    private final Map<String, CachedResponses> responses = new HashMap<>();
+
+    /**
+     * Returns the symbol of the given type descriptor, which is looked up in the semantic model only once per type
+     * descriptor source.
+     */
+    public Optional<Symbol> getSymbol(Node typeNode, SemanticModel semanticModel) {
+        return symbols.computeIfAbsent(getKey(typeNode), key -> semanticModel.symbol(typeNode));
+    }
+
+    /**
+     * Returns whether the responses of the given key are already mapped.
+     */
+    public boolean hasResponses(String key) {
+        return responses.containsKey(key);
+    }
+
+    /**
+     * Returns a copy of the responses mapped for the given key. The response headers added while mapping the
+     * responses are added to the given headers, which are set to the copies as they were to the mapped responses.
+     */
+    public Optional<ApiResponses> getResponses(String key, Map<String, Header> headers) {
+        CachedResponses cachedResponses = responses.get(key);
+        headers.putAll(cachedResponses.headers);
+        return cachedResponses.responses.map(apiResponses ->
+                copyResponses(apiResponses, cachedResponses.codesWithHeaders, headers));
+    }
+
+    /**
+     * Records a copy of the responses mapped for the given key, with the response headers added while mapping them
+     * into the empty headers of a return type.
+     */
+    public void putResponses(String key, Optional<ApiResponses> apiResponses, Map<String, Header> headers) {
+        Set<String> codesWithHeaders = new HashSet<>();
+        apiResponses.ifPresent(value -> value.forEach((code, response) -> {
+            if (response.getHeaders() != null) {
+                codesWithHeaders.add(code);
+            }
+        }));
+        responses.put(key, new CachedResponses(apiResponses.map(value -> copyResponses(value, codesWithHeaders,
+                headers)), new LinkedHashMap<>(headers), codesWithHeaders));
+    }
+
+    /**
+     * Returns the key of the given type descriptor.
+     */
+    public static String getKey(Node typeNode) {
+        return typeNode.toSourceCode().trim();
+    }
+
+    private static ApiResponses copyResponses(ApiResponses apiResponses, Set<String> codesWithHeaders,
+                                              Map<String, Header> headers) {
+        ApiResponses copy = new ApiResponses();
+        apiResponses.forEach((code, response) -> {
+            ApiResponse responseCopy = new ApiResponse().description(response.getDescription());
+            if (response.getContent() != null) {
+                Content content = new Content();
+                response.getContent().forEach((mediaTypeName, mediaType) ->
+                        content.addMediaType(mediaTypeName, new MediaType().schema(copySchema(mediaType.getSchema()))));
+                responseCopy.setContent(content);
+            }
+            if (codesWithHeaders.contains(code)) {
+                responseCopy.setHeaders(headers);
+            }
+            copy.put(code, responseCopy);
+        });
+        return copy;
+    }
+
+    /**
+     * The schemas of the responses are shared by the copies, except the {@code oneOf} lists which are extended when
+     * the responses are merged.
+     */
+    private static Schema<?> copySchema(Schema<?> schema) {
+        if (schema instanceof ComposedSchema && schema.getOneOf() != null) {
+            ComposedSchema composedSchema = new ComposedSchema();
+            composedSchema.setOneOf(new ArrayList<>(schema.getOneOf()));
+            return composedSchema;
+        }
+        return schema;
+    }
+
+    /**
+     * Responses mapped for a key, with the response headers added while mapping them.
+     */
+    private static class CachedResponses {
+        private final Optional<ApiResponses> responses;
+        private final Map<String, Header> headers;
+        private final Set<String> codesWithHeaders;
+
+        CachedResponses(Optional<ApiResponses> responses, Map<String, Header> headers, Set<String> codesWithHeaders) {
+            this.responses = responses;
+            this.headers = headers;
+            this.codesWithHeaders = codesWithHeaders;
+        }
+    }
+}
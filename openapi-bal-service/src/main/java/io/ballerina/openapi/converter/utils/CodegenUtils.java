@@ -16,6 +16,9 @@
 
 package io.ballerina.openapi.converter.utils;
 
+import io.ballerina.openapi.converter.model.OASResult;
+
+import java.io.BufferedOutputStream;
 import java.io.File;
 import java.io.FileWriter;
 import java.io.IOException;
@@ -59,6 +62,21 @@ public final class CodegenUtils {
         }
     }
 
+    /**
+     * Writes the OpenAPI definition of the given result to specified {@code filePath}, without creating the whole
+     * definition as a string.
+     *
+     * @param filePath  valid file path to write the definition
+     * @param oasResult result which contains the OpenAPI definition
+     * @param format    format of the definition
+     * @throws IOException when a file operation fails
+     */
+    public static void writeFile(Path filePath, OASResult oasResult, OASResult.Format format) throws IOException {
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(filePath))) {
+            oasResult.writeTo(outputStream, format);
+        }
+    }
+
     /**
      * Copy content of a file/directory into another location.
      *
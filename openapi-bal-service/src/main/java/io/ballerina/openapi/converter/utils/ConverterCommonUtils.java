@@ -52,6 +52,7 @@ import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.service.ComponentSchemaRegistry;
 import io.ballerina.openapi.converter.service.OpenAPIComponentMapper;
 import io.ballerina.runtime.api.utils.IdentifierUtils;
 import io.ballerina.tools.diagnostics.Diagnostic;
@@ -99,6 +100,8 @@ import static io.ballerina.openapi.converter.Constants.YAML_EXTENSION;
  */
 public class ConverterCommonUtils {
 
+    private static final OpenAPIContractCache CONTRACT_CACHE = new OpenAPIContractCache(32);
+
     /**
      * Retrieves a matching OpenApi {@link Schema} for a provided ballerina type.
      *
@@ -380,6 +383,11 @@ public class ConverterCommonUtils {
         String openAPIFileContent = null;
         try {
             openAPIFileContent = Files.readString(contractPath);
+            // Services sharing a contract, and the repeated compilations of a project, reuse the resolved model
+            Optional<OpenAPI> cachedContract = CONTRACT_CACHE.get(contractPath.toRealPath(), openAPIFileContent);
+            if (cachedContract.isPresent()) {
+                return new OASResult(cachedContract.get(), diagnostics);
+            }
         } catch (IOException e) {
             DiagnosticMessages error = DiagnosticMessages.OAS_CONVERTOR_108;
             ExceptionDiagnostic diagnostic = new ExceptionDiagnostic(error.getCode(), error.getDescription(), null,
@@ -394,6 +402,13 @@ public class ConverterCommonUtils {
             return new OASResult(null, diagnostics);
         }
         OpenAPI api = parseResult.getOpenAPI();
+        if (api != null && diagnostics.isEmpty()) {
+            try {
+                api = CONTRACT_CACHE.put(contractPath.toRealPath(), openAPIFileContent, api);
+            } catch (IOException e) {
+                // The contract is not cached when its file can not be read again
+            }
+        }
         return new OASResult(api, diagnostics);
     }
 
@@ -527,13 +542,14 @@ public class ConverterCommonUtils {
     }
 
     public static Schema<?> handleReference(SemanticModel semanticModel, Components components,
+                                            ComponentSchemaRegistry schemaRegistry,
                                             SimpleNameReferenceNode record) {
         Schema<?> refSchema = new Schema<>();
         // Creating request body - required.
         Optional<Symbol> symbol = semanticModel.symbol(record);
         if (symbol.isPresent() && symbol.get() instanceof TypeSymbol) {
             String recordName = record.name().toString().trim();
-            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components);
+            OpenAPIComponentMapper componentMapper = new OpenAPIComponentMapper(components, schemaRegistry);
             componentMapper.createComponentSchema(components.getSchemas(), (TypeSymbol) symbol.get());
             refSchema.set$ref(ConverterCommonUtils.unescapeIdentifier(recordName));
         }
@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.converter.utils;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.info.Info;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This bounded cache keeps the fully resolved OpenAPI contracts of the Ballerina to OpenAPI converter, so that the
+ * services referring the same contract and the repeated compilations of a project do not parse and resolve the
+ * contract again. A contract is identified by its canonical path, and a cached model is used only while the size,
+ * the modification time and the content hash of the file are unchanged. The least recently used contract is evicted
+ * once the cache is full.
+ * <p>
+ * Every caller gets a view of the cached model, with its own root, info and paths map. The converter only updates the
+ * info of a contract, hence the path items, the operations and the components are shared and must not be modified.
+ *
+ * @since 1.8.0
+ */
+public class OpenAPIContractCache {
+
+    // Contracts in the order they are accessed, from the least recently used one
+    private final Map<Path, CachedContract> contracts = new LinkedHashMap<>(16, 0.75f, true);
+    private final int capacity;
+
+    public OpenAPIContractCache(int capacity) {
+        this.capacity = capacity;
+    }
+
+    /**
+     * Returns a view of the model resolved for the given content of the contract, if it is cached.
+     *
+     * @param contractPath canonical path of the contract
+     * @param content      current content of the contract
+     * @return view of the cached model
+     * @throws IOException when the contract file cannot be read
+     */
+    public synchronized Optional<OpenAPI> get(Path contractPath, String content) throws IOException {
+        CachedContract contract = contracts.get(contractPath);
+        if (contract == null || !contract.fingerprint.equals(getFingerprint(contractPath, content))) {
+            return Optional.empty();
+        }
+        return Optional.of(viewOf(contract.openAPI));
+    }
+
+    /**
+     * Records the model resolved for the given content of the contract, and returns a view of it.
+     *
+     * @param contractPath canonical path of the contract
+     * @param content      content of the contract the model is resolved from
+     * @param openAPI      fully resolved model
+     * @return view of the cached model
+     * @throws IOException when the contract file cannot be read
+     */
+    public synchronized OpenAPI put(Path contractPath, String content, OpenAPI openAPI) throws IOException {
+        contracts.put(contractPath, new CachedContract(getFingerprint(contractPath, content), openAPI));
+        Iterator<Path> leastRecentlyUsed = contracts.keySet().iterator();
+        while (contracts.size() > capacity) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+        return viewOf(openAPI);
+    }
+
+    private static String getFingerprint(Path contractPath, String content) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hash = new StringBuilder();
+            for (byte hashByte : digest.digest(content.getBytes(StandardCharsets.UTF_8))) {
+                hash.append(String.format("%02x", hashByte));
+            }
+            return Files.size(contractPath) + ":" + Files.getLastModifiedTime(contractPath).toMillis() + ":" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // Copies the root, the info and the paths map, which are cheap to copy, and shares the rest of the model
+    private static OpenAPI viewOf(OpenAPI openAPI) {
+        OpenAPI view = new OpenAPI(openAPI.getSpecVersion());
+        view.setOpenapi(openAPI.getOpenapi());
+        view.setJsonSchemaDialect(openAPI.getJsonSchemaDialect());
+        view.setExternalDocs(openAPI.getExternalDocs());
+        view.setServers(openAPI.getServers());
+        view.setSecurity(openAPI.getSecurity());
+        view.setTags(openAPI.getTags());
+        view.setComponents(openAPI.getComponents());
+        view.setWebhooks(openAPI.getWebhooks());
+        view.setExtensions(openAPI.getExtensions());
+        Info info = openAPI.getInfo();
+        if (info != null) {
+            Info infoCopy = new Info();
+            infoCopy.setTitle(info.getTitle());
+            infoCopy.setDescription(info.getDescription());
+            infoCopy.setTermsOfService(info.getTermsOfService());
+            infoCopy.setContact(info.getContact());
+            infoCopy.setLicense(info.getLicense());
+            infoCopy.setVersion(info.getVersion());
+            infoCopy.setSummary(info.getSummary());
+            infoCopy.setExtensions(info.getExtensions());
+            view.setInfo(infoCopy);
+        }
+        if (openAPI.getPaths() != null) {
+            Paths paths = new Paths();
+            paths.putAll(openAPI.getPaths());
+            paths.setExtensions(openAPI.getPaths().getExtensions());
+            view.setPaths(paths);
+        }
+        return view;
+    }
+
+    /**
+     * Fully resolved model of a contract, with the fingerprint of the contract file it is resolved from.
+     */
+    private static class CachedContract {
+        private final String fingerprint;
+        private final OpenAPI openAPI;
+
+        CachedContract(String fingerprint, OpenAPI openAPI) {
+            this.fingerprint = fingerprint;
+            this.openAPI = openAPI;
+        }
+    }
+}
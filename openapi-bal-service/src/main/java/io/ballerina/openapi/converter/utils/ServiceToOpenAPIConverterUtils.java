@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.converter.utils;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.ModuleSymbol;
 import io.ballerina.compiler.api.symbols.ServiceDeclarationSymbol;
@@ -39,16 +40,18 @@ import io.ballerina.compiler.syntax.tree.SyntaxKind;
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
+import io.ballerina.openapi.converter.diagnostic.InformationDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.model.OASGenerationMetaInfo;
 import io.ballerina.openapi.converter.model.OASResult;
 import io.ballerina.openapi.converter.model.OpenAPIInfo;
-import io.ballerina.openapi.converter.service.ModuleMemberVisitor;
+import io.ballerina.openapi.converter.service.InlineSchemaDeduplicator;
+import io.ballerina.openapi.converter.service.ListenerIndex;
 import io.ballerina.openapi.converter.service.OpenAPIEndpointMapper;
 import io.ballerina.openapi.converter.service.OpenAPIServiceMapper;
-import io.ballerina.projects.Module;
 import io.ballerina.projects.Project;
 import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.info.Info;
 
@@ -58,12 +61,18 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import static io.ballerina.openapi.converter.Constants.CONTRACT;
 import static io.ballerina.openapi.converter.Constants.HYPHEN;
@@ -97,7 +106,99 @@ public class ServiceToOpenAPIConverterUtils {
                                                          SemanticModel semanticModel,
                                                          String serviceName, Boolean needJson,
                                                          Path inputPath) {
-        Map<String, ServiceDeclarationNode> servicesToGenerate = new HashMap<>();
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath, 1);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code, where the services are converted
+     * concurrently on at most {@code parallelism} threads. The semantic model is queried for one service at a time,
+     * and only the work on the mapped definitions runs concurrently. The results are returned in the source order
+     * of the services regardless of the order the conversions complete.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param parallelism   - Maximum number of services to be converted at a time
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, int parallelism) {
+        return generateOAS3Definition(project, syntaxTree, semanticModel, serviceName, needJson, inputPath,
+                parallelism, metaInfo -> true);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code, for the services accepted by the
+     * given filter. The services rejected by the filter are neither converted nor included in the results.
+     *
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param parallelism   - Maximum number of services to be converted at a time
+     * @param serviceFilter - Filter of the services to be converted
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, SyntaxTree syntaxTree,
+                                                         SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, int parallelism,
+                                                         Predicate<OASGenerationMetaInfo> serviceFilter) {
+        return generateOAS3Definition(project, ListenerIndex.of(project), syntaxTree, semanticModel, serviceName,
+                needJson, inputPath, parallelism, serviceFilter);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code, resolving the servers of the
+     * services from the given listener index. This lets the documents of a package share a single index of its
+     * listeners.
+     *
+     * @param listenerIndex - Index of the listeners declared in the package
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param parallelism   - Maximum number of services to be converted at a time
+     * @param serviceFilter - Filter of the services to be converted
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, ListenerIndex listenerIndex,
+                                                         SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, int parallelism,
+                                                         Predicate<OASGenerationMetaInfo> serviceFilter) {
+        return generateOAS3Definition(project, listenerIndex, syntaxTree, semanticModel, serviceName, needJson,
+                inputPath, parallelism, false, serviceFilter);
+    }
+
+    /**
+     * This method will generate openapi definition Map lists with ballerina code, optionally in the compact form. The
+     * inline record schemas repeated in a compact definition are moved into its component schemas, and the size
+     * reduction is reported in the diagnostics of the definition.
+     *
+     * @param listenerIndex - Index of the listeners declared in the package
+     * @param syntaxTree    - Syntax tree the related to ballerina service
+     * @param semanticModel - Semantic model related to ballerina module
+     * @param serviceName   - Service name that need to generate the openAPI specification
+     * @param needJson      - Flag for enabling the generated file format with json or YAML
+     * @param inputPath     - Input file path for resolve the annotation details
+     * @param parallelism   - Maximum number of services to be converted at a time
+     * @param compact       - Flag for moving the repeated inline record schemas into the component schemas
+     * @param serviceFilter - Filter of the services to be converted
+     * @return - {@link java.util.Map} with openAPI definitions for service nodes
+     */
+    public static List<OASResult> generateOAS3Definition(Project project, ListenerIndex listenerIndex,
+                                                         SyntaxTree syntaxTree, SemanticModel semanticModel,
+                                                         String serviceName, Boolean needJson,
+                                                         Path inputPath, int parallelism, boolean compact,
+                                                         Predicate<OASGenerationMetaInfo> serviceFilter) {
+        Map<String, ServiceDeclarationNode> servicesToGenerate = new LinkedHashMap<>();
         List<String> availableService = new ArrayList<>();
         List<OpenAPIConverterDiagnostic> diagnostics = new ArrayList<>();
         List<OASResult> outputs = new ArrayList<>();
@@ -116,7 +217,8 @@ public class ServiceToOpenAPIConverterUtils {
                         null, serviceName, availableService.toString());
                 diagnostics.add(error);
             }
-            // Generating openapi specification for selected services
+            // Generating openapi specification for selected services, which share the listener index of the package
+            List<OASGenerationMetaInfo> metaInfos = new ArrayList<>();
             for (Map.Entry<String, ServiceDeclarationNode> serviceNode : servicesToGenerate.entrySet()) {
                 String openApiName = getOpenApiFileName(syntaxTree.filePath(), serviceNode.getKey(), needJson);
                 OASGenerationMetaInfo.OASGenerationMetaInfoBuilder builder =
@@ -125,11 +227,22 @@ public class ServiceToOpenAPIConverterUtils {
                         .setSemanticModel(semanticModel)
                         .setOpenApiFileName(openApiName)
                         .setBallerinaFilePath(inputPath)
+                        .setCompact(compact)
+                        .setListenerIndex(listenerIndex)
                         .setProject(project);
                 OASGenerationMetaInfo oasGenerationMetaInfo = builder.build();
-                OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
-                oasDefinition.setServiceName(openApiName);
-                outputs.add(oasDefinition);
+                if (serviceFilter.test(oasGenerationMetaInfo)) {
+                    metaInfos.add(oasGenerationMetaInfo);
+                }
+            }
+            if (parallelism > 1 && metaInfos.size() > 1) {
+                outputs.addAll(generateOASConcurrently(metaInfos, parallelism, diagnostics));
+            } else {
+                for (OASGenerationMetaInfo oasGenerationMetaInfo : metaInfos) {
+                    OASResult oasDefinition = generateOAS(oasGenerationMetaInfo);
+                    oasDefinition.setServiceName(oasGenerationMetaInfo.getOpenApiFileName());
+                    outputs.add(oasDefinition);
+                }
             }
         }
         if (!diagnostics.isEmpty()) {
@@ -139,6 +252,47 @@ public class ServiceToOpenAPIConverterUtils {
         return outputs;
     }
 
+    /**
+     * Converts the given services on a bounded pool of worker threads. The semantic model is not safe for concurrent
+     * queries, as its symbols and types are resolved lazily in the shared compiler context, hence the services are
+     * mapped one at a time on the calling thread. The compaction of each mapped definition, which serializes it to
+     * measure its size, uses only its own model and runs on the pool while the next service is mapped. The results
+     * are collected in the order of the given services.
+     */
+    private static List<OASResult> generateOASConcurrently(List<OASGenerationMetaInfo> metaInfos, int parallelism,
+                                                           List<OpenAPIConverterDiagnostic> diagnostics) {
+        List<OASResult> outputs = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, metaInfos.size()));
+        try {
+            List<Future<OASResult>> results = new ArrayList<>();
+            for (OASGenerationMetaInfo oasGenerationMetaInfo : metaInfos) {
+                Supplier<OASResult> mappedService = mapService(oasGenerationMetaInfo);
+                results.add(executor.submit(mappedService::get));
+            }
+            for (int i = 0; i < results.size(); i++) {
+                OASResult oasDefinition = results.get(i).get();
+                oasDefinition.setServiceName(metaInfos.get(i).getOpenApiFileName());
+                outputs.add(oasDefinition);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            DiagnosticMessages messages = DiagnosticMessages.OAS_CONVERTOR_108;
+            diagnostics.add(new ExceptionDiagnostic(messages.getCode(), messages.getDescription(), null,
+                    e.getLocalizedMessage()));
+        } catch (ExecutionException e) {
+            // Surface the failure of a service the same way as the sequential conversion does
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+        return outputs;
+    }
+
     /**
      * Filter all the end points and service nodes.
      */
@@ -202,8 +356,16 @@ public class ServiceToOpenAPIConverterUtils {
      * @return {@code OASResult}
      */
     public static OASResult generateOAS(OASGenerationMetaInfo oasGenerationMetaInfo) {
+        return mapService(oasGenerationMetaInfo).get();
+    }
+
+    /**
+     * Maps the given service to an OpenAPI definition on the calling thread, and returns the remaining work on the
+     * mapped definition, which does not query the semantic model.
+     */
+    private static Supplier<OASResult> mapService(OASGenerationMetaInfo oasGenerationMetaInfo) {
         ServiceDeclarationNode serviceDefinition = oasGenerationMetaInfo.getServiceDeclarationNode();
-        LinkedHashSet<ListenerDeclarationNode> listeners = collectListeners(oasGenerationMetaInfo.getProject());;
+        ListenerIndex listenerIndex = oasGenerationMetaInfo.getListenerIndex();
         SemanticModel semanticModel = oasGenerationMetaInfo.getSemanticModel();
         String openApiFileName = oasGenerationMetaInfo.getOpenApiFileName();
         Path ballerinaFilePath = oasGenerationMetaInfo.getBallerinaFilePath();
@@ -216,16 +378,48 @@ public class ServiceToOpenAPIConverterUtils {
                 // Take base path of service
                 OpenAPIServiceMapper openAPIServiceMapper = new OpenAPIServiceMapper(semanticModel);
                 // 02. Filter and set the ServerURLs according to endpoints. Complete the server section in OAS
-                openapi = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServers(openapi, listeners, serviceDefinition);
+                openapi = OpenAPIEndpointMapper.ENDPOINT_MAPPER.getServers(openapi, listenerIndex, serviceDefinition,
+                        semanticModel);
                 // 03. Filter path and component sections in OAS.
                 // Generate openApi string for the mentioned service name.
-                openapi = openAPIServiceMapper.convertServiceToOpenAPI(serviceDefinition, openapi);
-                return new OASResult(openapi, openAPIServiceMapper.getErrors());
+                OpenAPI mappedOpenAPI = openAPIServiceMapper.convertServiceToOpenAPI(serviceDefinition, openapi);
+                List<OpenAPIConverterDiagnostic> diagnostics = openAPIServiceMapper.getErrors();
+                Location location = serviceDefinition.location();
+                return () -> {
+                    if (oasGenerationMetaInfo.isCompact()) {
+                        // 04. Move the repeated inline records into the component schemas.
+                        compactOpenAPI(mappedOpenAPI, location).ifPresent(diagnostics::add);
+                    }
+                    return new OASResult(mappedOpenAPI, diagnostics);
+                };
             } else {
-                return new OASResult(openapi, oasResult.getDiagnostics());
+                OASResult contractResult = new OASResult(openapi, oasResult.getDiagnostics());
+                return () -> contractResult;
             }
         } else {
-            return oasResult;
+            return () -> oasResult;
+        }
+    }
+
+    /**
+     * Replaces the inline records repeated in the given definition with references to component schemas, and returns
+     * a diagnostic reporting the reduction of the size of its JSON serialization, if any record is moved.
+     */
+    private static Optional<OpenAPIConverterDiagnostic> compactOpenAPI(OpenAPI openapi, Location location) {
+        try {
+            long originalSize = Json.mapper().writeValueAsBytes(openapi).length;
+            int movedRecords = new InlineSchemaDeduplicator(openapi).deduplicate();
+            if (movedRecords == 0) {
+                return Optional.empty();
+            }
+            long compactSize = Json.mapper().writeValueAsBytes(openapi).length;
+            long reduction = originalSize == 0 ? 0 : Math.round(100.0 * (originalSize - compactSize) / originalSize);
+            return Optional.of(new InformationDiagnostic(DiagnosticMessages.OAS_CONVERTOR_116, location,
+                    String.valueOf(movedRecords), String.valueOf(originalSize), String.valueOf(compactSize),
+                    String.format(Locale.ENGLISH, "%+d", -reduction)));
+        } catch (JsonProcessingException e) {
+            // The definition is exported without measuring its size, as it fails again when it is written
+            return Optional.empty();
         }
     }
 
@@ -490,16 +684,6 @@ public class ServiceToOpenAPIConverterUtils {
      * @param project - current project
      */
     public static LinkedHashSet<ListenerDeclarationNode> collectListeners(Project project) {
-        ModuleMemberVisitor balNodeVisitor = new ModuleMemberVisitor();
-        LinkedHashSet<ListenerDeclarationNode> listeners = new LinkedHashSet<>();
-        project.currentPackage().moduleIds().forEach(moduleId -> {
-            Module module = project.currentPackage().module(moduleId);
-            module.documentIds().forEach(documentId -> {
-                SyntaxTree syntaxTreeDoc = module.document(documentId).syntaxTree();
-                syntaxTreeDoc.rootNode().accept(balNodeVisitor);
-                listeners.addAll(balNodeVisitor.getListenerDeclarationNodes());
-            });
-        });
-        return listeners;
+        return new LinkedHashSet<>(ListenerIndex.of(project).getListeners());
     }
 }
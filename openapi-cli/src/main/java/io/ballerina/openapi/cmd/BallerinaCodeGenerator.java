@@ -25,13 +25,22 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.BallerinaTestGenerator;
+import io.ballerina.openapi.core.generators.client.LoadTestGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.incremental.IncrementalSourceMerger;
+import io.ballerina.openapi.core.generators.instrumentation.InstrumentationGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceObjectGenerator;
+import io.ballerina.openapi.core.generators.service.MockServiceGenerator;
+import io.ballerina.openapi.core.generators.service.ValidationInterceptorGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationFingerprints;
 import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.ListenerTuning;
+import io.ballerina.openapi.core.model.Projection;
+import io.ballerina.openapi.core.model.ServiceSplit;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.Formatter;
 import org.ballerinalang.formatter.core.FormatterException;
@@ -44,23 +53,28 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static io.ballerina.openapi.cmd.CmdConstants.CLIENT_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.METRICS_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.CONFIG_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_CLIENT_PKG;
 import static io.ballerina.openapi.cmd.CmdConstants.DEFAULT_MOCK_PKG;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_BOTH;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_CLIENT;
 import static io.ballerina.openapi.cmd.CmdConstants.GenType.GEN_SERVICE;
+import static io.ballerina.openapi.cmd.CmdConstants.LOAD_TEST_FILE_NAME;
+import static io.ballerina.openapi.cmd.CmdConstants.MOCK_SERVICE_FILE_NAME;
 import static io.ballerina.openapi.cmd.CmdConstants.OAS_PATH_SEPARATOR;
 import static io.ballerina.openapi.cmd.CmdConstants.SUPPORTED_OPENAPI_VERSIONS;
 import static io.ballerina.openapi.cmd.CmdConstants.TEST_DIR;
@@ -81,8 +95,24 @@ public class BallerinaCodeGenerator {
     private String srcPackage;
     private String licenseHeader = "";
     private boolean includeTestFiles;
+    private List<String> batchOperations = new ArrayList<>();
+    private Projection projection = new Projection();
+    private ListenerTuning listenerTuning = new ListenerTuning();
+    private boolean streamingPayloads = false;
+    private boolean contractValidation = false;
+    private boolean instrument = false;
+    private boolean passthrough = false;
+    private boolean incremental = false;
+    private boolean mockService = false;
+    private ServiceSplit serviceSplit = null;
+    private Path outputPath;
+    private GenerationFingerprints fingerprints;
+    private IncrementalSourceMerger sourceMerger;
+    private boolean upToDate = false;
+    private final Set<String> mergedFiles = new HashSet<>();
 
     private static final PrintStream outStream = System.err;
+    private static final String UP_TO_DATE_MESSAGE = "Generated sources are up-to-date with the OpenAPI definition.";
 
     /**
      * Generates ballerina source for provided Open API Definition in {@code definitionPath}.
@@ -105,6 +135,12 @@ public class BallerinaCodeGenerator {
         // if resource is enabled, we avoid checking operationId.
         OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPIPath, !isResource);
         checkOpenAPIVersion(openAPIDef);
+        outputPath = srcPath;
+        if (!prepareIncrementalGeneration(openAPIDef, getGenerationOptions(GEN_BOTH, serviceName, filter, nullable,
+                isResource, generateServiceType, generateWithoutDataBinding))) {
+            outStream.println(UP_TO_DATE_MESSAGE);
+            return;
+        }
         // Generate service
         String concatTitle = serviceName.toLowerCase(Locale.ENGLISH);
         String srcFile = concatTitle + "_service.bal";
@@ -114,14 +150,23 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withGenerateServiceType(generateServiceType)
                 .withGenerateWithoutDataBinding(generateWithoutDataBinding)
+                .withListenerTuning(listenerTuning)
+                .withStreamingPayloads(streamingPayloads)
+                .withContractValidation(contractValidation)
+                .withInstrument(instrument)
+                .withServiceSplit(serviceSplit)
                 .build();
         BallerinaServiceGenerator serviceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
-        String serviceContent = Formatter.format
-                (serviceGenerator.generateSyntaxTree()).toSourceCode();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
-                (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + serviceContent));
+        String serviceContent;
+        if (serviceSplit != null) {
+            serviceContent = addSplitServiceFiles(sourceFiles, serviceGenerator, concatTitle, generateServiceType);
+        } else {
+            serviceContent = formatSource(srcFile, serviceGenerator.generateSyntaxTree());
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + serviceContent));
+        }
 
-        if (generateServiceType) {
+        if (generateServiceType && serviceSplit == null) {
             BallerinaServiceObjectGenerator ballerinaServiceObjectGenerator = new
                     BallerinaServiceObjectGenerator(serviceGenerator.getFunctionList());
             String serviceType = Formatter.format(ballerinaServiceObjectGenerator.generateSyntaxTree()).toSourceCode();
@@ -129,6 +174,14 @@ public class BallerinaCodeGenerator {
                     "service_type.bal", (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
                     licenseHeader) + serviceType));
         }
+        if (contractValidation) {
+            ValidationInterceptorGenerator validationGenerator = new ValidationInterceptorGenerator(openAPIDef,
+                    filter);
+            String validationContent = Formatter.format(validationGenerator.generateSyntaxTree()).toSourceCode();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                    concatTitle + "_validation.bal", (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER :
+                    licenseHeader) + validationContent));
+        }
         // Generate client.
         // Generate ballerina client remote.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
@@ -137,10 +190,15 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
-                .withResourceMode(isResource).build();
+                .withResourceMode(isResource)
+                .withBatchOperations(batchOperations)
+                .withProjection(projection)
+                .withPassthrough(passthrough)
+                .withInstrument(instrument).build();
 
         BallerinaClientGenerator clientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String clientContent = Formatter.format(clientGenerator.generateSyntaxTree()).toSourceCode();
+        SyntaxTree clientSyntaxTree = clientGenerator.generateSyntaxTree();
+        String clientContent = formatSource(CLIENT_FILE_NAME, clientSyntaxTree);
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + clientContent));
         String utilContent = Formatter.format(clientGenerator
@@ -150,6 +208,13 @@ public class BallerinaCodeGenerator {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
                     (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + utilContent));
         }
+        if (instrument) {
+            InstrumentationGenerator instrumentationGenerator = new InstrumentationGenerator(openAPIDef, filter);
+            String metricsContent = Formatter.format(instrumentationGenerator.generateSyntaxTree(true))
+                    .toSourceCode();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, METRICS_FILE_NAME,
+                    (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + metricsContent));
+        }
 
         //Update type definition list
         List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
@@ -163,9 +228,11 @@ public class BallerinaCodeGenerator {
         // Generate ballerina records to represent schemas.
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
+        // The service binds multipart payloads to requests, hence their types are used only by the client
+        ballerinaSchemaGenerator.setGenerateMultipartPayloads(true);
 
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
+        String schemaContent = formatSource(TYPE_FILE_NAME, schemaSyntaxTree);
 
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
@@ -190,12 +257,17 @@ public class BallerinaCodeGenerator {
                         CONFIG_FILE_NAME, configContent));
             }
         }
+        if (mockService) {
+            addMockServiceFiles(sourceFiles, openAPIDef, filter, clientGenerator, clientSyntaxTree,
+                    licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader);
+        }
 
         List<GenSrcFile> newGenFiles = sourceFiles.stream()
                 .filter(distinctByKey(GenSrcFile::getFileName))
                 .collect(Collectors.toList());
 
         writeGeneratedSources(newGenFiles, srcPath, implPath, GEN_BOTH);
+        writeFingerprints(srcPath);
     }
 
     public static <T> Predicate<T> distinctByKey(
@@ -222,8 +294,14 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        outputPath = srcPath;
         List<GenSrcFile> genFiles = generateClientFiles(Paths.get(definitionPath), filter, nullable, isResource);
+        if (upToDate) {
+            outStream.println(UP_TO_DATE_MESSAGE);
+            return;
+        }
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_CLIENT);
+        writeFingerprints(srcPath);
     }
 
     /**
@@ -243,9 +321,15 @@ public class BallerinaCodeGenerator {
             throws IOException, BallerinaOpenApiException, FormatterException {
         Path srcPath = Paths.get(outPath);
         Path implPath = CodegenUtils.getImplPath(srcPackage, srcPath);
+        outputPath = srcPath;
         List<GenSrcFile> genFiles = generateBallerinaService(Paths.get(definitionPath), serviceName,
                 filter, nullable, generateServiceType, generateWithoutDataBinding);
+        if (upToDate) {
+            outStream.println(UP_TO_DATE_MESSAGE);
+            return;
+        }
         writeGeneratedSources(genFiles, srcPath, implPath, GEN_SERVICE);
+        writeFingerprints(srcPath);
     }
 
     private void writeGeneratedSources(List<GenSrcFile> sources, Path srcPath, Path implPath,
@@ -270,7 +354,8 @@ public class BallerinaCodeGenerator {
 
         for (File file : listFiles) {
             for (GenSrcFile gFile : sources) {
-                if (file.getName().equals(gFile.getFileName())) {
+                // The merged sources of an incremental generation are updated in place
+                if (file.getName().equals(gFile.getFileName()) && !mergedFiles.contains(gFile.getFileName())) {
                     if (System.console() != null) {
                         String userInput = System.console().readLine("There is already a/an " + file.getName() +
                                 " in the location. Do you want to override the file? [y/N] ");
@@ -298,13 +383,16 @@ public class BallerinaCodeGenerator {
                 boolean isDuplicatedFileInTests = file.getFileName().matches("test.+[0-9]+.bal") ||
                         file.getFileName().matches("Config.+[0-9]+.toml");
                 if (file.getFileName().equals(TEST_FILE_NAME) || file.getFileName().equals(CONFIG_FILE_NAME) ||
-                        isDuplicatedFileInTests) {
+                        file.getFileName().equals(MOCK_SERVICE_FILE_NAME) ||
+                        file.getFileName().equals(LOAD_TEST_FILE_NAME) || isDuplicatedFileInTests) {
                     // Create test directory if not exists in the path. If exists do not throw an error
                     Files.createDirectories(Paths.get(srcPath + OAS_PATH_SEPARATOR + TEST_DIR));
                     filePath = Paths.get(srcPath.resolve(TEST_DIR + OAS_PATH_SEPARATOR +
                             file.getFileName()).toFile().getCanonicalPath());
+                    recordGeneratedFile(TEST_DIR + OAS_PATH_SEPARATOR + file.getFileName());
                 } else {
                     filePath = Paths.get(srcPath.resolve(file.getFileName()).toFile().getCanonicalPath());
+                    recordGeneratedFile(file.getFileName());
                 }
                 String fileContent = file.getContent();
                 CodegenUtils.writeFile(filePath, fileContent);
@@ -340,6 +428,10 @@ public class BallerinaCodeGenerator {
         // Normalize OpenAPI definition
         OpenAPI openAPIDef = GeneratorUtils.normalizeOpenAPI(openAPI, !isResource);
         checkOpenAPIVersion(openAPIDef);
+        if (!prepareIncrementalGeneration(openAPIDef, getGenerationOptions(GEN_CLIENT, null, filter, nullable,
+                isResource, false, false))) {
+            return sourceFiles;
+        }
         // Generate ballerina service and resources.
         OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
         OASClientConfig oasClientConfig = clientMetaDataBuilder
@@ -348,11 +440,16 @@ public class BallerinaCodeGenerator {
                 .withPlugin(false)
                 .withOpenAPI(openAPIDef)
                 .withResourceMode(isResource)
+                .withBatchOperations(batchOperations)
+                .withProjection(projection)
+                .withPassthrough(passthrough)
+                .withInstrument(instrument)
                 .build();
         //Take default DO NOT modify
         licenseHeader = licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader;
         BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
-        String mainContent = Formatter.format(ballerinaClientGenerator.generateSyntaxTree()).toSourceCode();
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String mainContent = formatSource(CLIENT_FILE_NAME, clientSyntaxTree);
         sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, CLIENT_FILE_NAME,
                 licenseHeader + mainContent));
         String utilContent = Formatter.format(
@@ -361,6 +458,13 @@ public class BallerinaCodeGenerator {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.UTIL_SRC, srcPackage, UTIL_FILE_NAME,
                     licenseHeader + utilContent));
         }
+        if (instrument) {
+            InstrumentationGenerator instrumentationGenerator = new InstrumentationGenerator(openAPIDef, filter);
+            String metricsContent = Formatter.format(instrumentationGenerator.generateSyntaxTree(false))
+                    .toSourceCode();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, METRICS_FILE_NAME,
+                    licenseHeader + metricsContent));
+        }
 
         List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
                 ballerinaClientGenerator.getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
@@ -368,9 +472,12 @@ public class BallerinaCodeGenerator {
         // Generate ballerina records to represent schemas.
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
+        // Passthrough clients do not bind the payloads to the types of the schemas
+        ballerinaSchemaGenerator.setGenerateComponentSchemas(!passthrough);
+        ballerinaSchemaGenerator.setGenerateMultipartPayloads(true);
 
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
-        String schemaContent = Formatter.format(schemaSyntaxTree).toSourceCode();
+        String schemaContent = formatSource(TYPE_FILE_NAME, schemaSyntaxTree);
         if (filter.getTags().size() > 0) {
             // Remove unused records and enums when generating the client by the tags given.
             schemaContent = GeneratorUtils.removeUnusedEntities(schemaSyntaxTree, mainContent, schemaContent, null);
@@ -393,10 +500,34 @@ public class BallerinaCodeGenerator {
                         CONFIG_FILE_NAME, configContent));
             }
         }
+        if (mockService) {
+            addMockServiceFiles(sourceFiles, openAPIDef, filter, ballerinaClientGenerator, clientSyntaxTree,
+                    licenseHeader);
+        }
 
         return sourceFiles;
     }
 
+    /**
+     * Add the mock service of the contract and the load tests of the client, which are run against the mock service
+     * by `bal test`.
+     */
+    private void addMockServiceFiles(List<GenSrcFile> sourceFiles, OpenAPI openAPIDef, Filter filter,
+                                     BallerinaClientGenerator clientGenerator, SyntaxTree clientSyntaxTree,
+                                     String header) throws BallerinaOpenApiException, FormatterException {
+
+        MockServiceGenerator mockServiceGenerator = new MockServiceGenerator(openAPIDef, filter);
+        String mockServiceContent = Formatter.format(mockServiceGenerator.generateSyntaxTree()).toSourceCode();
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, MOCK_SERVICE_FILE_NAME,
+                header + mockServiceContent));
+        LoadTestGenerator loadTestGenerator = new LoadTestGenerator(clientGenerator, openAPIDef,
+                mockServiceGenerator.getBasePath());
+        String loadTestContent = Formatter.format(loadTestGenerator.generateSyntaxTree(clientSyntaxTree))
+                .toSourceCode();
+        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, LOAD_TEST_FILE_NAME,
+                header + loadTestContent));
+    }
+
 
     public List<GenSrcFile> generateBallerinaService(Path openAPI, String serviceName,
                                                       Filter filter, boolean nullable, boolean generateServiceType,
@@ -420,6 +551,10 @@ public class BallerinaCodeGenerator {
         }
 
         List<GenSrcFile> sourceFiles = new ArrayList<>();
+        if (!prepareIncrementalGeneration(openAPIDef, getGenerationOptions(GEN_SERVICE, serviceName, filter, nullable,
+                false, generateServiceType, generateWithoutDataBinding))) {
+            return sourceFiles;
+        }
         String concatTitle = serviceName == null ?
                 openAPIDef.getInfo().getTitle().toLowerCase(Locale.ENGLISH) :
                 serviceName.toLowerCase(Locale.ENGLISH);
@@ -430,22 +565,30 @@ public class BallerinaCodeGenerator {
                 .withNullable(nullable)
                 .withGenerateServiceType(generateServiceType)
                 .withGenerateWithoutDataBinding(generateWithoutDataBinding)
+                .withListenerTuning(listenerTuning)
+                .withStreamingPayloads(streamingPayloads)
+                .withContractValidation(contractValidation)
+                .withInstrument(instrument)
+                .withServiceSplit(serviceSplit)
                 .build();
         BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
-        String mainContent = Formatter.format(ballerinaServiceGenerator.generateSyntaxTree()).toSourceCode();
-        sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
-                (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + mainContent));
+        if (serviceSplit != null) {
+            addSplitServiceFiles(sourceFiles, ballerinaServiceGenerator, concatTitle, generateServiceType);
+        } else {
+            String mainContent = formatSource(srcFile, ballerinaServiceGenerator.generateSyntaxTree());
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + mainContent));
+        }
         List<TypeDefinitionNode> preGeneratedTypeDefNodes = new ArrayList<>(
                 ballerinaServiceGenerator.getTypeInclusionRecords());
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(
                 openAPIDef, nullable, preGeneratedTypeDefNodes);
-        String schemaContent = Formatter.format(
-                ballerinaSchemaGenerator.generateSyntaxTree()).toSourceCode();
+        String schemaContent = formatSource(TYPE_FILE_NAME, ballerinaSchemaGenerator.generateSyntaxTree());
         if (!schemaContent.isBlank()) {
             sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, TYPE_FILE_NAME,
                     (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + schemaContent));
         }
-        if (generateServiceType) {
+        if (generateServiceType && serviceSplit == null) {
             BallerinaServiceObjectGenerator ballerinaServiceObjectGenerator = new
                     BallerinaServiceObjectGenerator(ballerinaServiceGenerator.getFunctionList());
             String serviceType = Formatter.format(ballerinaServiceObjectGenerator.generateSyntaxTree()).toSourceCode();
@@ -453,9 +596,73 @@ public class BallerinaCodeGenerator {
                     "service_type.bal",
                     (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + serviceType));
         }
+        if (contractValidation) {
+            ValidationInterceptorGenerator validationGenerator = new ValidationInterceptorGenerator(openAPIDef,
+                    filter);
+            String validationContent = Formatter.format(validationGenerator.generateSyntaxTree()).toSourceCode();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                    concatTitle + "_validation.bal",
+                    (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + validationContent));
+        }
+        if (instrument) {
+            InstrumentationGenerator instrumentationGenerator = new InstrumentationGenerator(openAPIDef, filter);
+            String metricsContent = Formatter.format(instrumentationGenerator.generateSyntaxTree(true))
+                    .toSourceCode();
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, METRICS_FILE_NAME,
+                    (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + metricsContent));
+        }
         return sourceFiles;
     }
 
+    /**
+     * Add the source files of a split service. The shared listener is generated in the service file, and the service
+     * of each group of operations in a separate file along with its service type, hence an edit of a group only
+     * re-processes the file of that group.
+     *
+     * @return the concatenated content of the service files
+     */
+    private String addSplitServiceFiles(List<GenSrcFile> sourceFiles, BallerinaServiceGenerator serviceGenerator,
+                                        String concatTitle, boolean generateServiceType)
+            throws BallerinaOpenApiException, IOException, FormatterException {
+
+        StringBuilder serviceContent = new StringBuilder();
+        Set<String> fileNames = new HashSet<>();
+        for (Map.Entry<String, SyntaxTree> service : serviceGenerator.generateSplitSyntaxTrees().entrySet()) {
+            String groupFileName = service.getKey().isEmpty() ? "" : "_" + getGroupFileName(service.getKey(),
+                    fileNames);
+            String srcFile = concatTitle + groupFileName + "_service.bal";
+            String content = formatSource(srcFile, service.getValue());
+            serviceContent.append(content);
+            sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage, srcFile,
+                    (licenseHeader.isBlank() ? DEFAULT_FILE_HEADER : licenseHeader) + content));
+            if (generateServiceType && !service.getKey().isEmpty()) {
+                BallerinaServiceObjectGenerator serviceObjectGenerator = new BallerinaServiceObjectGenerator(
+                        serviceGenerator.getGroupFunctionLists().get(service.getKey()),
+                        BallerinaServiceGenerator.getServiceTypeName(service.getKey()));
+                String serviceType = Formatter.format(serviceObjectGenerator.generateSyntaxTree()).toSourceCode();
+                sourceFiles.add(new GenSrcFile(GenSrcFile.GenFileType.GEN_SRC, srcPackage,
+                        groupFileName.substring(1) + "_service_type.bal",
+                        (licenseHeader.isBlank() ? DO_NOT_MODIFY_FILE_HEADER : licenseHeader) + serviceType));
+            }
+        }
+        return serviceContent.toString();
+    }
+
+    /**
+     * Returns the unique file name of the given service group, in lower snake case.
+     */
+    private static String getGroupFileName(String group, Set<String> fileNames) {
+
+        String fileName = group.toLowerCase(Locale.ENGLISH).replaceAll("[^a-z0-9]+", "_")
+                .replaceAll("^_+|_+$", "");
+        String baseName = fileName.isEmpty() ? "group" : fileName;
+        fileName = baseName;
+        for (int i = 1; !fileNames.add(fileName); i++) {
+            fileName = baseName + "_" + i;
+        }
+        return fileName;
+    }
+
     /**
      * Set the content of license header.
      *
@@ -474,6 +681,211 @@ public class BallerinaCodeGenerator {
         this.includeTestFiles = includeTestFiles;
     }
 
+    /**
+     * Set the operations for which the batch client functions need to be generated.
+     *
+     * @param batchOperations value received from command line by "--batch-operations"
+     */
+    public void setBatchOperations(List<String> batchOperations) {
+        this.batchOperations = batchOperations;
+    }
+
+    /**
+     * Set the sparse projection used to generate slim response record types.
+     *
+     * @param projection projection configuration received from command line by "--projection"
+     */
+    public void setProjection(Projection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * Set the passthrough client mode, in which the client functions take pre-serialized payloads and return the raw
+     * `http:Response` without data binding.
+     *
+     * @param passthrough value received from command line by "--passthrough"
+     */
+    public void setPassthrough(boolean passthrough) {
+        this.passthrough = passthrough;
+    }
+
+    /**
+     * Set the listener tuning of the generated service, which overrides the `x-ballerina-listener` extension.
+     *
+     * @param listenerTuning listener configuration received from command line by "--listener-config"
+     */
+    public void setListenerTuning(ListenerTuning listenerTuning) {
+        this.listenerTuning = listenerTuning;
+    }
+
+    /**
+     * Set the streaming payload mode, in which the binary request bodies are taken as `http:Request` and read as a
+     * byte stream in the generated resources.
+     *
+     * @param streamingPayloads value received from command line by "--streaming-payloads"
+     */
+    public void setStreamingPayloads(boolean streamingPayloads) {
+        this.streamingPayloads = streamingPayloads;
+    }
+
+    /**
+     * Set the contract validation mode, in which the generated service engages interceptors that validate the
+     * requests and the responses against the contract.
+     *
+     * @param contractValidation value received from command line by "--with-validation"
+     */
+    public void setContractValidation(boolean contractValidation) {
+        this.contractValidation = contractValidation;
+    }
+
+    /**
+     * Set the instrumentation mode, in which the generated clients and services record the latency, the invocation
+     * count by status, and the request payload size of each operation as `ballerina/observe` metrics.
+     *
+     * @param instrument value received from command line by "--instrument"
+     */
+    public void setInstrument(boolean instrument) {
+        this.instrument = instrument;
+    }
+
+    /**
+     * Set the service split mode, in which the operations are generated in a service per tag or per path prefix,
+     * attached to the shared listener.
+     *
+     * @param serviceSplit value received from command line by "--split-services"
+     */
+    public void setServiceSplit(ServiceSplit serviceSplit) {
+        this.serviceSplit = serviceSplit;
+    }
+
+    /**
+     * Set the mock service mode, in which a mock service of the contract and the load tests of the generated client
+     * are generated as the test sources of the client package.
+     *
+     * @param mockService value received from command line by "--with-mock"
+     */
+    public void setMockService(boolean mockService) {
+        this.mockService = mockService;
+    }
+
+    /**
+     * Set the incremental generation mode, in which the sources of a previous generation are updated with only the
+     * functions and types of the operations and schemas changed since then.
+     *
+     * @param incremental value received from command line by "--incremental"
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Prepare the incremental generation by comparing the fingerprints of the definition with the ones recorded by the
+     * previous generation. All the sources are regenerated when there are no recorded fingerprints, or when the global
+     * fingerprint differs.
+     *
+     * @return false when the sources of the previous generation are up-to-date
+     */
+    private boolean prepareIncrementalGeneration(OpenAPI openAPIDef, String options)
+            throws IOException, BallerinaOpenApiException {
+
+        upToDate = false;
+        fingerprints = null;
+        sourceMerger = null;
+        mergedFiles.clear();
+        if (!incremental || outputPath == null) {
+            return true;
+        }
+        fingerprints = GenerationFingerprints.of(openAPIDef, options);
+        Path fingerprintsPath = outputPath.resolve(GenerationFingerprints.FILE_NAME);
+        if (!Files.exists(fingerprintsPath)) {
+            return true;
+        }
+        GenerationFingerprints previous;
+        try {
+            previous = GenerationFingerprints.fromJson(Files.readString(fingerprintsPath));
+        } catch (BallerinaOpenApiException e) {
+            outStream.println("WARNING: " + e.getMessage() + ". All the sources are regenerated.");
+            return true;
+        }
+        if (fingerprints.isUpToDate(previous) && hasGeneratedFiles(previous)) {
+            upToDate = true;
+            return false;
+        }
+        if (!fingerprints.requiresFullGeneration(previous)) {
+            sourceMerger = new IncrementalSourceMerger(previous, fingerprints);
+        }
+        return true;
+    }
+
+    /**
+     * Returns the source of the given syntax tree. In an incremental generation, the syntax tree is merged into the
+     * existing source of the file instead of formatting the whole tree.
+     */
+    private String formatSource(String fileName, SyntaxTree syntaxTree) throws IOException, FormatterException {
+
+        if (sourceMerger != null) {
+            Path existingPath = outputPath.resolve(fileName);
+            if (Files.exists(existingPath)) {
+                mergedFiles.add(fileName);
+                return sourceMerger.merge(Files.readString(existingPath), syntaxTree);
+            }
+        }
+        return Formatter.format(syntaxTree).toSourceCode();
+    }
+
+    /**
+     * Returns true when all the files generated with the given previous fingerprints still exist, hence a deleted
+     * source is regenerated even though the definition has not changed.
+     */
+    private boolean hasGeneratedFiles(GenerationFingerprints previous) {
+
+        if (previous.getFiles().isEmpty()) {
+            return false;
+        }
+        for (String file : previous.getFiles()) {
+            if (!Files.exists(outputPath.resolve(file))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void recordGeneratedFile(String file) {
+
+        if (fingerprints != null) {
+            fingerprints.addFile(file);
+        }
+    }
+
+    private void writeFingerprints(Path srcPath) throws IOException, BallerinaOpenApiException {
+
+        if (fingerprints != null) {
+            CodegenUtils.writeFile(srcPath.resolve(GenerationFingerprints.FILE_NAME), fingerprints.toJson());
+        }
+    }
+
+    /**
+     * Returns the generation options which affect all the generated sources, hence a change of any of them or of the
+     * version of the tool requires regenerating all the sources.
+     */
+    private String getGenerationOptions(CmdConstants.GenType type, String serviceName, Filter filter,
+                                        boolean nullable, boolean isResource, boolean generateServiceType,
+                                        boolean generateWithoutDataBinding) {
+
+        return String.join(";", String.valueOf(BallerinaCodeGenerator.class.getPackage().getImplementationVersion()),
+                type.name(), String.valueOf(serviceName), String.valueOf(filter.getTags()),
+                String.valueOf(filter.getOperations()), String.valueOf(nullable), String.valueOf(isResource),
+                String.valueOf(generateServiceType), String.valueOf(generateWithoutDataBinding),
+                String.valueOf(srcPackage), licenseHeader, String.valueOf(includeTestFiles),
+                String.valueOf(batchOperations), String.valueOf(projection.getOperations()),
+                String.valueOf(projection.getSchemas()), String.valueOf(listenerTuning.getHttpVersion()),
+                String.valueOf(listenerTuning.getTimeout()), String.valueOf(listenerTuning.getRequestLimits()),
+                String.valueOf(listenerTuning.getKeepAlive()),
+                String.valueOf(listenerTuning.getMaxPipelinedRequests()), String.valueOf(streamingPayloads),
+                String.valueOf(contractValidation), String.valueOf(instrument), String.valueOf(passthrough),
+                String.valueOf(mockService), String.valueOf(serviceSplit));
+    }
+
     private void checkOpenAPIVersion(OpenAPI openAPIDef) {
         if (!SUPPORTED_OPENAPI_VERSIONS.contains(openAPIDef.getOpenapi())) {
             outStream.printf("WARNING: The tool has not been tested with OpenAPI version %s. " +
@@ -81,9 +81,12 @@ public class CmdConstants {
     public static final String TYPE_FILE_NAME = "types.bal";
     public static final String CLIENT_FILE_NAME = "client.bal";
     public static final String UTIL_FILE_NAME = "utils.bal";
+    public static final String METRICS_FILE_NAME = "metrics.bal";
     public static final String TEST_FILE_NAME = "test.bal";
     public static final String SERVICE_FILE_NAME = "service.bal";
     public static final String CONFIG_FILE_NAME = "Config.toml";
+    public static final String MOCK_SERVICE_FILE_NAME = "mock_service.bal";
+    public static final String LOAD_TEST_FILE_NAME = "load_test.bal";
     public static final String BALLERINA_TOML = "Ballerina.toml";
     public static final String BALLERINA_TOML_CONTENT = "[package]\n" +
             "org= \"ballerina\"\n" +
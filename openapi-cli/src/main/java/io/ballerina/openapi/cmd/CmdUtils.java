@@ -17,13 +17,17 @@
  */
 package io.ballerina.openapi.cmd;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.openapi.converter.utils.ConverterCommonUtils;
 import io.ballerina.openapi.core.ErrorMessages;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.GenSrcFile;
+import io.ballerina.openapi.core.model.ListenerTuning;
+import io.ballerina.openapi.core.model.Projection;
 import io.ballerina.tools.diagnostics.DiagnosticInfo;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
 import io.ballerina.tools.diagnostics.Location;
+import io.swagger.v3.core.util.Yaml;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.parser.OpenAPIV3Parser;
 import io.swagger.v3.parser.core.models.ParseOptions;
@@ -33,10 +37,15 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.ballerina.openapi.core.GeneratorConstants.LINE_SEPARATOR;
+import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
 
 /**
  * Contains all the util functions used for openapi commands.
@@ -87,6 +96,89 @@ public class CmdUtils {
         return parseResult.getOpenAPI();
     }
 
+    /**
+     * Util for reading the sparse projection configuration from the given yaml/json file.
+     * <pre>
+     *     operations:
+     *       getIssue: [id, key, summary]
+     *     schemas:
+     *       Customer: [id, email]
+     * </pre>
+     */
+    public static Projection getProjectionFromFile(Path projectionPath) throws IOException,
+            BallerinaOpenApiException {
+
+        if (!Files.exists(projectionPath)) {
+            throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(projectionPath.toString()));
+        }
+        if (!(projectionPath.toString().endsWith(".yaml") || projectionPath.toString().endsWith(".json") ||
+                projectionPath.toString().endsWith(".yml"))) {
+            throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
+        }
+        JsonNode projectionNode = Yaml.mapper().readTree(Files.readString(projectionPath));
+        if (projectionNode == null || !projectionNode.isObject()) {
+            throw new BallerinaOpenApiException("Projection configuration must be a mapping with `operations` " +
+                    "and/or `schemas` entries: " + projectionPath);
+        }
+        return new Projection(getProjectedFields(projectionNode, "operations", true),
+                getProjectedFields(projectionNode, "schemas", false));
+    }
+
+    private static Map<String, List<String>> getProjectedFields(JsonNode projectionNode, String section,
+                                                                boolean isOperation)
+            throws BallerinaOpenApiException {
+
+        Map<String, List<String>> projectedFields = new LinkedHashMap<>();
+        JsonNode sectionNode = projectionNode.get(section);
+        if (sectionNode == null || sectionNode.isNull()) {
+            return projectedFields;
+        }
+        if (!sectionNode.isObject()) {
+            throw new BallerinaOpenApiException(String.format("`%s` in the projection configuration must be a " +
+                    "mapping of names to field lists.", section));
+        }
+        Iterator<Map.Entry<String, JsonNode>> entries = sectionNode.fields();
+        while (entries.hasNext()) {
+            Map.Entry<String, JsonNode> entry = entries.next();
+            if (!entry.getValue().isArray()) {
+                throw new BallerinaOpenApiException(String.format("Projected fields of `%s` must be a list of " +
+                        "field names.", entry.getKey()));
+            }
+            List<String> fields = new ArrayList<>();
+            for (JsonNode field : entry.getValue()) {
+                fields.add(field.asText().trim());
+            }
+            // Operation ids are normalized the same way as in the OpenAPI definition
+            String name = isOperation ? getValidName(entry.getKey().trim(), false) : entry.getKey().trim();
+            projectedFields.put(name, fields);
+        }
+        return projectedFields;
+    }
+
+    /**
+     * Read the listener tuning of the generated service from the given listener configuration file.
+     *
+     * @param listenerConfigPath path to the listener configuration file
+     * @return {@link ListenerTuning} of the configuration
+     */
+    public static ListenerTuning getListenerTuningFromFile(Path listenerConfigPath) throws IOException,
+            BallerinaOpenApiException {
+
+        if (!Files.exists(listenerConfigPath)) {
+            throw new BallerinaOpenApiException(ErrorMessages.invalidFilePath(listenerConfigPath.toString()));
+        }
+        if (!(listenerConfigPath.toString().endsWith(".yaml") || listenerConfigPath.toString().endsWith(".json") ||
+                listenerConfigPath.toString().endsWith(".yml"))) {
+            throw new BallerinaOpenApiException(ErrorMessages.invalidFileType());
+        }
+        Object listenerConfig = Yaml.mapper().readValue(Files.readString(listenerConfigPath), Object.class);
+        if (!(listenerConfig instanceof Map)) {
+            throw new BallerinaOpenApiException("Listener configuration must be a mapping of the listener tuning " +
+                    "values: " + listenerConfigPath);
+        }
+        return ListenerTuning.fromMap((Map<?, ?>) listenerConfig, "the listener configuration");
+    }
+
     /**
      * This method for setting the file name for generated file.
      *
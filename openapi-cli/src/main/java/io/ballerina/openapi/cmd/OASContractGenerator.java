@@ -24,6 +24,7 @@ import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
 import io.ballerina.openapi.converter.diagnostic.ExceptionDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.service.ListenerIndex;
 import io.ballerina.openapi.converter.utils.CodegenUtils;
 import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
 import io.ballerina.projects.DiagnosticResult;
@@ -36,16 +37,23 @@ import io.ballerina.projects.Project;
 import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import org.apache.commons.io.FilenameUtils;
 
 import java.io.IOException;
 import java.io.PrintStream;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import static io.ballerina.openapi.converter.utils.CodegenUtils.resolveContractFileName;
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.getNormalizedFileName;
 
 /**
  * OpenApi related utility classes.
@@ -59,6 +67,9 @@ public class OASContractGenerator {
     private Project project;
     private List<OpenAPIConverterDiagnostic> errors = new ArrayList<>();
     private PrintStream outStream = System.out;
+    private int parallelism = 1;
+    private boolean incremental;
+    private boolean compact;
 
     /**
      * Initialize constructor.
@@ -71,6 +82,36 @@ public class OASContractGenerator {
         return errors;
     }
 
+    /**
+     * Set the maximum number of services to be converted at a time. The services are converted one after the other
+     * by default.
+     *
+     * @param parallelism maximum number of concurrent conversions
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Enable skipping the services whose inputs are unchanged since the previous generation, which are recorded in
+     * the target directory of a build project.
+     *
+     * @param incremental whether the generation is incremental
+     */
+    public void setIncremental(boolean incremental) {
+        this.incremental = incremental;
+    }
+
+    /**
+     * Sets whether the inline record schemas repeated in the exported definitions are moved into their component
+     * schemas.
+     *
+     * @param compact whether the definitions are exported in the compact form
+     */
+    public void setCompact(boolean compact) {
+        this.compact = compact;
+    }
+
     /**
      * This util for generating OAS files.
      *
@@ -82,9 +123,29 @@ public class OASContractGenerator {
                                                   Boolean needJson) {
         // Load project instance for single ballerina file
         project = ProjectLoader.loadProject(servicePath);
-        DiagnosticResult diagnosticsFromCodeGenAndModify = project.currentPackage().runCodeGenAndModifyPlugins();
-        boolean hasErrorsFromCodeGenAndModify = diagnosticsFromCodeGenAndModify.diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        Optional<Path> cachePath = incremental ? OASGenerationCache.getCachePath(project, servicePath) :
+                Optional.empty();
+        OASGenerationCache cache = null;
+        OASGenerationCache previousCache = null;
+        if (cachePath.isPresent()) {
+            try {
+                cache = OASGenerationCache.of(project, getCacheOptions(servicePath, outPath, serviceName, needJson,
+                        compact));
+                previousCache = OASGenerationCache.read(cachePath.get()).orElse(null);
+            } catch (IOException e) {
+                cache = null;
+            }
+            if (cache != null && previousCache != null && cache.isUpToDate(previousCache, outPath)) {
+                // Neither the package nor the exported definitions are changed, hence the package is not compiled
+                printFileNames("OpenAPI definition(s) are up to date in :", previousCache.getFiles());
+                return;
+            }
+        }
+        Optional<PackageCompilation> compilation = compileProject();
+        if (compilation.isEmpty()) {
+            // if there are any compilation errors, do not proceed
+            return;
+        }
         DocumentId docId;
         Document doc;
         if (project.kind().equals(ProjectKind.BUILD_PROJECT)) {
@@ -103,33 +164,50 @@ public class OASContractGenerator {
         Path inputPath = path.orElse(null);
 
         syntaxTree = doc.syntaxTree();
-        PackageCompilation compilation = project.currentPackage().getCompilation();
-        boolean hasCompilationErrors = compilation.diagnosticResult()
-                .diagnostics().stream()
-                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
-        if (hasCompilationErrors || hasErrorsFromCodeGenAndModify) {
-            // if there are any compilation errors, do not proceed
-            return;
-        }
-        semanticModel = compilation.getSemanticModel(docId.moduleId());
-        List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project, syntaxTree,
-                semanticModel, serviceName, needJson, inputPath);
+        semanticModel = compilation.get().getSemanticModel(docId.moduleId());
+        List<String> fileNames = new ArrayList<>();
+        Map<String, String> serviceHashes = new HashMap<>();
+        final OASGenerationCache currentCache = cache;
+        final OASGenerationCache previousServices = previousCache;
+        List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project,
+                ListenerIndex.of(project), syntaxTree, semanticModel, serviceName, needJson, inputPath, parallelism,
+                compact, metaInfo -> {
+                    if (currentCache == null) {
+                        return true;
+                    }
+                    String serviceHash = currentCache.getServiceHash(metaInfo.getServiceDeclarationNode(),
+                            metaInfo.getBallerinaFilePath());
+                    serviceHashes.put(metaInfo.getOpenApiFileName(), serviceHash);
+                    Optional<String> unchangedFile = previousServices == null ? Optional.empty() :
+                            currentCache.getUpToDateFile(previousServices, metaInfo.getOpenApiFileName(),
+                                    serviceHash, outPath);
+                    if (unchangedFile.isEmpty()) {
+                        return true;
+                    }
+                    try {
+                        // The inputs of the service are unchanged, hence it is neither converted nor written
+                        currentCache.addService(metaInfo.getOpenApiFileName(), serviceHash,
+                                outPath.resolve(unchangedFile.get()));
+                        fileNames.add(unchangedFile.get());
+                        return false;
+                    } catch (IOException e) {
+                        return true;
+                    }
+                });
 
-        if (!openAPIDefinitions.isEmpty()) {
-            List<String> fileNames = new ArrayList<>();
+        if (!openAPIDefinitions.isEmpty() || !fileNames.isEmpty()) {
             for (OASResult definition : openAPIDefinitions) {
                 try {
                     this.errors.addAll(definition.getDiagnostics());
                     if (definition.getOpenAPI().isPresent()) {
-                        Optional<String> content;
-                        if (needJson) {
-                            content = definition.getJson();
-                        } else {
-                            content = definition.getYaml();
-                        }
                         String fileName = resolveContractFileName(outPath, definition.getServiceName(), needJson);
-                        CodegenUtils.writeFile(outPath.resolve(fileName), content.get());
+                        CodegenUtils.writeFile(outPath.resolve(fileName), definition,
+                                needJson ? OASResult.Format.JSON : OASResult.Format.YAML);
                         fileNames.add(fileName);
+                        if (currentCache != null) {
+                            currentCache.addService(definition.getServiceName(),
+                                    serviceHashes.get(definition.getServiceName()), outPath.resolve(fileName));
+                        }
                     }
                 } catch (IOException e) {
                     DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
@@ -142,11 +220,17 @@ public class OASContractGenerator {
             if (fileNames.isEmpty()) {
                 return;
             }
-            outStream.println("OpenAPI definition(s) generated successfully and copied to :");
-            Iterator<String> iterator = fileNames.iterator();
-            while (iterator.hasNext()) {
-                outStream.println("-- " + iterator.next());
+            if (currentCache != null && this.errors.stream()
+                    .noneMatch(d -> DiagnosticSeverity.ERROR.equals(d.getDiagnosticSeverity()))) {
+                try {
+                    currentCache.write(cachePath.get());
+                } catch (IOException e) {
+                    DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
+                    this.errors.add(new ExceptionDiagnostic(message.getCode(),
+                            message.getDescription(), null, e.getLocalizedMessage()));
+                }
             }
+            printFileNames("OpenAPI definition(s) generated successfully and copied to :", fileNames);
         } else {
             DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_115;
             ExceptionDiagnostic error = new ExceptionDiagnostic(message.getCode(),
@@ -154,4 +238,130 @@ public class OASContractGenerator {
             this.errors.add(error);
         }
     }
+
+    /**
+     * This util for generating the OAS files of all the services in the package of the given Ballerina file. The
+     * package is loaded and compiled once, and the documents of the default module and the submodules share the
+     * compilation, the semantic model of their module and the index of the listeners of the package. A definition
+     * whose name is already taken by another service is prefixed with its module and document names.
+     *
+     * @param servicePath The path to a ballerina file of the package.
+     * @param outPath     The output directory to which the OpenAPI specifications should be generated to.
+     * @param needJson    Flag for enabling the generated file format with json or YAML
+     */
+    public void generateOAS3DefinitionsForPackage(Path servicePath, Path outPath, Boolean needJson) {
+        project = ProjectLoader.loadProject(servicePath);
+        Optional<PackageCompilation> compilation = compileProject();
+        if (compilation.isEmpty()) {
+            // if there are any compilation errors, do not proceed
+            return;
+        }
+        ListenerIndex listenerIndex = ListenerIndex.of(project);
+        Set<String> openApiNames = new HashSet<>();
+        List<String> fileNames = new ArrayList<>();
+        List<Module> modules = new ArrayList<>();
+        project.currentPackage().modules().forEach(modules::add);
+        modules.sort(Comparator.comparing(module -> module.isDefaultModule() ? "" :
+                module.moduleName().moduleNamePart()));
+        for (Module module : modules) {
+            SemanticModel moduleSemanticModel = compilation.get().getSemanticModel(module.moduleId());
+            List<Document> documents = new ArrayList<>();
+            module.documentIds().forEach(documentId -> documents.add(module.document(documentId)));
+            documents.sort(Comparator.comparing(Document::name));
+            for (Document document : documents) {
+                List<OASResult> openAPIDefinitions = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project,
+                        listenerIndex, document.syntaxTree(), moduleSemanticModel, null, needJson,
+                        project.documentPath(document.documentId()).orElse(null), parallelism, compact,
+                        metaInfo -> true);
+                for (OASResult definition : openAPIDefinitions) {
+                    this.errors.addAll(definition.getDiagnostics());
+                    if (definition.getOpenAPI().isEmpty()) {
+                        continue;
+                    }
+                    String openApiName = getUniqueOpenApiName(definition.getServiceName(), module, document,
+                            openApiNames);
+                    try {
+                        String fileName = resolveContractFileName(outPath, openApiName, needJson);
+                        CodegenUtils.writeFile(outPath.resolve(fileName), definition,
+                                needJson ? OASResult.Format.JSON : OASResult.Format.YAML);
+                        fileNames.add(fileName);
+                    } catch (IOException e) {
+                        DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_108;
+                        this.errors.add(new ExceptionDiagnostic(message.getCode(),
+                                message.getDescription(), null, e.getLocalizedMessage()));
+                    }
+                }
+            }
+        }
+        if (fileNames.isEmpty()) {
+            if (this.errors.isEmpty()) {
+                DiagnosticMessages message = DiagnosticMessages.OAS_CONVERTOR_115;
+                this.errors.add(new ExceptionDiagnostic(message.getCode(), message.getDescription(), null));
+            }
+            return;
+        }
+        printFileNames("OpenAPI definition(s) generated successfully and copied to :", fileNames);
+    }
+
+    /**
+     * Runs the code generation and modification plugins of the loaded project and compiles its package.
+     *
+     * @return the compilation of the package, or empty if there are errors
+     */
+    private Optional<PackageCompilation> compileProject() {
+        DiagnosticResult diagnosticsFromCodeGenAndModify = project.currentPackage().runCodeGenAndModifyPlugins();
+        boolean hasErrorsFromCodeGenAndModify = diagnosticsFromCodeGenAndModify.diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        boolean hasCompilationErrors = compilation.diagnosticResult()
+                .diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()));
+        if (hasCompilationErrors || hasErrorsFromCodeGenAndModify) {
+            return Optional.empty();
+        }
+        return Optional.of(compilation);
+    }
+
+    /**
+     * Returns a name for the definition of a service which is not taken by the other services of the package. A
+     * taken name is prefixed with the module and document names of the service, and numbered if it is still taken.
+     */
+    private static String getUniqueOpenApiName(String openApiName, Module module, Document document,
+                                               Set<String> openApiNames) {
+        if (openApiNames.add(openApiName)) {
+            return openApiName;
+        }
+        String documentName = FilenameUtils.removeExtension(document.name());
+        String qualifiedName = getNormalizedFileName(module.isDefaultModule() ? documentName :
+                module.moduleName().moduleNamePart() + "_" + documentName) + "_" + openApiName;
+        if (openApiNames.add(qualifiedName)) {
+            return qualifiedName;
+        }
+        String baseName = FilenameUtils.removeExtension(qualifiedName);
+        String extension = qualifiedName.substring(baseName.length());
+        int count = 1;
+        while (!openApiNames.add(baseName + "_" + count + extension)) {
+            count++;
+        }
+        return baseName + "_" + count + extension;
+    }
+
+    private void printFileNames(String message, List<String> fileNames) {
+        outStream.println(message);
+        Iterator<String> iterator = fileNames.iterator();
+        while (iterator.hasNext()) {
+            outStream.println("-- " + iterator.next());
+        }
+    }
+
+    /**
+     * Returns the export options recorded in the generation cache, a change of which requires exporting all the
+     * definitions again.
+     */
+    private static String getCacheOptions(Path servicePath, Path outPath, String serviceName, Boolean needJson,
+                                          boolean compact) {
+        return String.join("|", String.valueOf(OASContractGenerator.class.getPackage().getImplementationVersion()),
+                servicePath.toAbsolutePath().toString(), outPath.toAbsolutePath().toString(),
+                String.valueOf(serviceName), String.valueOf(needJson), String.valueOf(compact));
+    }
 }
@@ -0,0 +1,399 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.cmd;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.ExpressionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.openapi.converter.Constants;
+import io.ballerina.projects.Document;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.ModuleId;
+import io.ballerina.projects.Package;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.ProjectKind;
+import io.swagger.v3.core.util.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * This model is used for storing the inputs of the OpenAPI definitions exported from a Ballerina file, which are
+ * recorded in the `target/openapi-cache` directory of the package and used for skipping the services whose inputs are
+ * unchanged since the previous export.
+ * <pre>
+ *     {
+ *       "version" : 1,
+ *       "package" : "9c1f...",
+ *       "services" : {
+ *         "hello_openapi.yaml" : { "hash" : "51e0...", "file" : "hello_openapi.yaml", "content" : "0d4a..." }
+ *       }
+ *     }
+ * </pre>
+ * The package hash covers all the documents and the manifests of the package along with the export options, and when
+ * it is unchanged the package is not compiled at all. The hash of a service covers the service declaration except
+ * the bodies of its functions, along with the module level declarations of the package other than the services and
+ * the functions, which contain the records, enums, constants and listeners referred by the service. Both hashes also
+ * cover the content of the contracts referred by the {@code openapi:ServiceInfo} annotations of the services, which
+ * are exported as they are.
+ *
+ * @since 1.8.0
+ */
+public class OASGenerationCache {
+
+    private static final String CACHE_DIRECTORY = "openapi-cache";
+    private static final String[] MANIFESTS = {"Ballerina.toml", "Dependencies.toml"};
+    private static final String TARGET_DIRECTORY = "target";
+    private static final int VERSION = 1;
+    private static final String VERSION_KEY = "version";
+    private static final String PACKAGE_KEY = "package";
+    private static final String SERVICES_KEY = "services";
+    private static final String HASH_KEY = "hash";
+    private static final String FILE_KEY = "file";
+    private static final String CONTENT_KEY = "content";
+
+    private final String packageHash;
+    private final String declarationsHash;
+    // Insertion ordered, hence the services are recorded in the order of the export
+    private final Map<String, CachedService> services = new LinkedHashMap<>();
+
+    private OASGenerationCache(String packageHash, String declarationsHash) {
+        this.packageHash = packageHash;
+        this.declarationsHash = declarationsHash;
+    }
+
+    /**
+     * Returns the path of the cache file of the given Ballerina file. The cache is kept only for build projects, as a
+     * single file project does not have a target directory of its own. The cache file mirrors the path of the file
+     * relative to the project root, hence the same named files of different modules have their own caches.
+     * <pre>
+     *     main.bal             -> target/openapi-cache/main.json
+     *     modules/foo/main.bal -> target/openapi-cache/modules/foo/main.json
+     * </pre>
+     *
+     * @param project     project of the Ballerina file
+     * @param servicePath path to the Ballerina file
+     * @return path of the cache file if the project is a build project
+     */
+    public static Optional<Path> getCachePath(Project project, Path servicePath) {
+        if (project.kind() != ProjectKind.BUILD_PROJECT) {
+            return Optional.empty();
+        }
+        Path sourceRoot = project.sourceRoot().toAbsolutePath().normalize();
+        Path relativePath = sourceRoot.relativize(servicePath.toAbsolutePath().normalize());
+        String fileName = Objects.requireNonNull(relativePath.getFileName()).toString();
+        Path cacheDirectory = sourceRoot.resolve(TARGET_DIRECTORY).resolve(CACHE_DIRECTORY);
+        if (relativePath.getParent() != null) {
+            cacheDirectory = cacheDirectory.resolve(relativePath.getParent());
+        }
+        return Optional.of(cacheDirectory.resolve(fileName.substring(0, fileName.lastIndexOf('.')) + ".json"));
+    }
+
+    /**
+     * Compute the package and declaration hashes of the given project.
+     *
+     * @param project project of the Ballerina file
+     * @param options export options, which affect all the exported definitions
+     * @return {@link OASGenerationCache} without any services
+     * @throws IOException when the manifests of the package cannot be read
+     */
+    public static OASGenerationCache of(Project project, String options) throws IOException {
+        Package currentPackage = project.currentPackage();
+        StringBuilder packageContent = new StringBuilder(options);
+        for (String manifest : MANIFESTS) {
+            Path manifestPath = project.sourceRoot().resolve(manifest);
+            if (Files.exists(manifestPath)) {
+                packageContent.append(manifest).append('\n').append(Files.readString(manifestPath));
+            }
+        }
+        StringBuilder declarations = new StringBuilder(packageContent);
+        List<ModuleId> moduleIds = new ArrayList<>(currentPackage.moduleIds());
+        moduleIds.sort(Comparator.comparing(moduleId -> moduleId.moduleName()));
+        for (ModuleId moduleId : moduleIds) {
+            Module module = currentPackage.module(moduleId);
+            List<DocumentId> documentIds = new ArrayList<>(module.documentIds());
+            documentIds.sort(Comparator.comparing(documentId -> module.document(documentId).name()));
+            for (DocumentId documentId : documentIds) {
+                Document document = module.document(documentId);
+                packageContent.append(moduleId.moduleName()).append('/').append(document.name()).append('\n')
+                        .append(document.syntaxTree().toSourceCode());
+                declarations.append(moduleId.moduleName()).append('/').append(document.name()).append('\n');
+                ModulePartNode modulePartNode = document.syntaxTree().rootNode();
+                declarations.append(modulePartNode.imports().toSourceCode());
+                Path documentPath = project.documentPath(documentId).orElse(null);
+                for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+                    if (member.kind() == SyntaxKind.SERVICE_DECLARATION) {
+                        packageContent.append(getContractHash((ServiceDeclarationNode) member, documentPath));
+                    } else if (member.kind() != SyntaxKind.FUNCTION_DEFINITION) {
+                        declarations.append(member.toSourceCode());
+                    }
+                }
+            }
+        }
+        return new OASGenerationCache(hash(packageContent.toString()), hash(declarations.toString()));
+    }
+
+    /**
+     * Read the cache recorded by a previous export.
+     *
+     * @param cachePath path of the cache file
+     * @return {@link OASGenerationCache} of the previous export, if there is a valid one
+     */
+    public static Optional<OASGenerationCache> read(Path cachePath) {
+        if (!Files.exists(cachePath)) {
+            return Optional.empty();
+        }
+        Map<?, ?> json;
+        try {
+            json = Json.mapper().readValue(Files.readString(cachePath), Map.class);
+        } catch (IOException e) {
+            return Optional.empty();
+        }
+        if (!Objects.equals(json.get(VERSION_KEY), VERSION) || !(json.get(PACKAGE_KEY) instanceof String) ||
+                !(json.get(SERVICES_KEY) instanceof Map)) {
+            return Optional.empty();
+        }
+        OASGenerationCache cache = new OASGenerationCache((String) json.get(PACKAGE_KEY), null);
+        for (Map.Entry<?, ?> service : ((Map<?, ?>) json.get(SERVICES_KEY)).entrySet()) {
+            if (!(service.getValue() instanceof Map)) {
+                return Optional.empty();
+            }
+            Map<?, ?> value = (Map<?, ?>) service.getValue();
+            cache.services.put(String.valueOf(service.getKey()), new CachedService(String.valueOf(
+                    value.get(HASH_KEY)), String.valueOf(value.get(FILE_KEY)), String.valueOf(value.get(CONTENT_KEY))));
+        }
+        return Optional.of(cache);
+    }
+
+    /**
+     * Write the cache to the given path.
+     *
+     * @param cachePath path of the cache file
+     * @throws IOException when the cache cannot be written
+     */
+    public void write(Path cachePath) throws IOException {
+        Map<String, Object> servicesJson = new LinkedHashMap<>();
+        for (Map.Entry<String, CachedService> service : services.entrySet()) {
+            Map<String, String> value = new LinkedHashMap<>();
+            value.put(HASH_KEY, service.getValue().hash);
+            value.put(FILE_KEY, service.getValue().file);
+            value.put(CONTENT_KEY, service.getValue().content);
+            servicesJson.put(service.getKey(), value);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(VERSION_KEY, VERSION);
+        json.put(PACKAGE_KEY, packageHash);
+        json.put(SERVICES_KEY, servicesJson);
+        try {
+            Files.createDirectories(Objects.requireNonNull(cachePath.getParent()));
+            Files.writeString(cachePath, Json.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(json));
+        } catch (JsonProcessingException e) {
+            throw new IOException("Failed to write the OpenAPI generation cache: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the hash of the given service, which covers the service declaration except the bodies of its functions,
+     * the contract referred by the service and the module level declarations of the package.
+     *
+     * @param serviceNode       service declaration
+     * @param ballerinaFilePath path to the Ballerina file of the service, which the contract path is relative to
+     * @return hash of the service
+     */
+    public String getServiceHash(ServiceDeclarationNode serviceNode, Path ballerinaFilePath) {
+        StringBuilder content = new StringBuilder(declarationsHash);
+        content.append(getContractHash(serviceNode, ballerinaFilePath));
+        serviceNode.metadata().ifPresent(metadata -> content.append(metadata.toSourceCode()));
+        content.append(serviceNode.qualifiers().toSourceCode())
+                .append(serviceNode.absoluteResourcePath().toSourceCode())
+                .append(serviceNode.expressions().toSourceCode());
+        for (Node member : serviceNode.members()) {
+            if (member instanceof FunctionDefinitionNode) {
+                FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+                function.metadata().ifPresent(metadata -> content.append(metadata.toSourceCode()));
+                content.append(function.qualifierList().toSourceCode())
+                        .append(function.functionName().toSourceCode())
+                        .append(function.relativeResourcePath().toSourceCode())
+                        .append(function.functionSignature().toSourceCode());
+            } else {
+                content.append(member.toSourceCode());
+            }
+        }
+        return hash(content.toString());
+    }
+
+    /**
+     * Returns true when the whole package is unchanged since the given previous export, and all the definitions
+     * exported then are unchanged in the given output location.
+     */
+    public boolean isUpToDate(OASGenerationCache previous, Path outPath) {
+        if (!packageHash.equals(previous.packageHash) || previous.services.isEmpty()) {
+            return false;
+        }
+        for (CachedService service : previous.services.values()) {
+            if (!service.isUpToDate(outPath)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the exported definition file of the given service if its inputs are unchanged since the given previous
+     * export, and the definition is unchanged in the given output location.
+     */
+    public Optional<String> getUpToDateFile(OASGenerationCache previous, String openApiFileName, String serviceHash,
+                                            Path outPath) {
+        CachedService service = previous.services.get(openApiFileName);
+        if (service == null || !service.hash.equals(serviceHash) || !service.isUpToDate(outPath)) {
+            return Optional.empty();
+        }
+        return Optional.of(service.file);
+    }
+
+    /**
+     * Record the definition file exported for a service.
+     *
+     * @param openApiFileName name of the definition of the service
+     * @param serviceHash     hash of the service
+     * @param file            path of the exported definition file
+     * @throws IOException when the exported file cannot be read
+     */
+    public void addService(String openApiFileName, String serviceHash, Path file) throws IOException {
+        services.put(openApiFileName, new CachedService(serviceHash,
+                Objects.requireNonNull(file.getFileName()).toString(), hash(Files.readAllBytes(file))));
+    }
+
+    /**
+     * Returns the definition files of the recorded services.
+     */
+    public List<String> getFiles() {
+        List<String> files = new ArrayList<>();
+        services.values().forEach(service -> files.add(service.file));
+        return files;
+    }
+
+    /**
+     * Returns the hash of the contract referred by the {@code openapi:ServiceInfo} annotation of the given service,
+     * resolved against the directory of the given Ballerina file as the converter does. An empty string is returned
+     * when the service does not refer a contract, and the path alone when the contract cannot be read.
+     */
+    private static String getContractHash(ServiceDeclarationNode serviceNode, Path ballerinaFilePath) {
+        if (serviceNode.metadata().isEmpty()) {
+            return "";
+        }
+        for (AnnotationNode annotation : serviceNode.metadata().get().annotations()) {
+            if (annotation.annotReference().kind() != SyntaxKind.QUALIFIED_NAME_REFERENCE ||
+                    annotation.annotValue().isEmpty()) {
+                continue;
+            }
+            QualifiedNameReferenceNode reference = (QualifiedNameReferenceNode) annotation.annotReference();
+            String annotationName = reference.modulePrefix().text() + ":" + reference.identifier().text();
+            if (!annotationName.equals(Constants.OPENAPI_ANNOTATION)) {
+                continue;
+            }
+            for (MappingFieldNode field : annotation.annotValue().get().fields()) {
+                if (!(field instanceof SpecificFieldNode) ||
+                        !((SpecificFieldNode) field).fieldName().toString().trim().equals(Constants.CONTRACT)) {
+                    continue;
+                }
+                Optional<ExpressionNode> value = ((SpecificFieldNode) field).valueExpr();
+                String contract = value.isPresent() ? value.get().toString().replaceAll("\"", "").trim() : "";
+                if (contract.isBlank()) {
+                    return "";
+                }
+                Path contractPath = Paths.get(contract);
+                if (!contractPath.isAbsolute() && ballerinaFilePath != null &&
+                        ballerinaFilePath.toAbsolutePath().getParent() != null) {
+                    contractPath = ballerinaFilePath.toAbsolutePath().getParent().resolve(contractPath);
+                }
+                contractPath = contractPath.normalize();
+                try {
+                    return contractPath + "\n" + hash(Files.readAllBytes(contractPath));
+                } catch (IOException e) {
+                    return contractPath.toString();
+                }
+            }
+        }
+        return "";
+    }
+
+    private static String hash(String content) {
+        return hash(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not supported: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Definition file exported for a service.
+     */
+    private static class CachedService {
+        private final String hash;
+        private final String file;
+        private final String content;
+
+        CachedService(String hash, String file, String content) {
+            this.hash = hash;
+            this.file = file;
+            this.content = content;
+        }
+
+        boolean isUpToDate(Path outPath) {
+            Path filePath = outPath.resolve(file);
+            try {
+                return Files.exists(filePath) && content.equals(hash(Files.readAllBytes(filePath)));
+            } catch (IOException e) {
+                return false;
+            }
+        }
+    }
+}
@@ -24,6 +24,7 @@ import io.ballerina.openapi.converter.diagnostic.IncompatibleResourceDiagnostic;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.ServiceSplit;
 import org.ballerinalang.formatter.core.FormatterException;
 import picocli.CommandLine;
 
@@ -118,6 +119,58 @@ public class OpenApiCmd implements BLauncherCmd {
             description = "Generate service without data binding")
     private boolean generateWithoutDataBinding;
 
+    @CommandLine.Option(names = {"--batch-operations"}, hidden = true, description = "Operations that need to " +
+            "generate the bounded-concurrency batch client functions")
+    private String batchOperations;
+
+    @CommandLine.Option(names = {"--projection"}, hidden = true, description = "Path to the sparse projection " +
+            "configuration which lists the response fields needed per operation or schema")
+    private String projectionPath;
+
+    @CommandLine.Option(names = {"--passthrough"}, hidden = true, description = "Generate a client which takes " +
+            "pre-serialized payloads and returns the raw responses without data binding")
+    private boolean passthrough;
+
+    @CommandLine.Option(names = {"--listener-config"}, hidden = true, description = "Path to the listener " +
+            "configuration with the tuning values of the generated service listener")
+    private String listenerConfigPath;
+
+    @CommandLine.Option(names = {"--streaming-payloads"}, hidden = true, description = "Generate resources which " +
+            "read the binary request payloads as byte streams")
+    private boolean streamingPayloads;
+
+    @CommandLine.Option(names = {"--with-validation"}, hidden = true, description = "Generate interceptors which " +
+            "validate the requests and the responses of the service against the contract")
+    private boolean contractValidation;
+
+    @CommandLine.Option(names = {"--instrument"}, hidden = true, description = "Generate clients and services " +
+            "which record the per-operation metrics with `ballerina/observe`")
+    private boolean instrument;
+
+    @CommandLine.Option(names = {"--incremental"}, hidden = true, description = "Regenerate only the functions and " +
+            "types of the operations and schemas changed since the previous generation")
+    private boolean incremental;
+
+    @CommandLine.Option(names = {"--with-mock"}, hidden = true, description = "Generate a mock service of the " +
+            "contract and the load tests of the client as the test sources of the client package")
+    private boolean mockService;
+
+    @CommandLine.Option(names = {"--split-services"}, hidden = true, description = "Generate a service per tag or " +
+            "per path prefix, attached to the shared listener")
+    private String serviceSplit;
+
+    @CommandLine.Option(names = {"--parallel"}, hidden = true, description = "Export the OpenAPI definitions of the " +
+            "services concurrently")
+    private boolean parallel;
+
+    @CommandLine.Option(names = {"--package"}, hidden = true, description = "Export the OpenAPI definitions of all " +
+            "the services in the package of the given Ballerina file")
+    private boolean packageExport;
+
+    @CommandLine.Option(names = {"--compact"}, hidden = true, description = "Move the inline record schemas " +
+            "repeated in the exported OpenAPI definitions into their component schemas")
+    private boolean compact;
+
     @CommandLine.Parameters
     private List<String> argList;
 
@@ -188,6 +241,110 @@ public class OpenApiCmd implements BLauncherCmd {
                     exitError(this.exitWhenFinish);
                 }
 
+                if (batchOperations != null && (clientResourceMode || (mode != null && mode.equals(SERVICE)))) {
+                    // Exit the code generation process
+                    outStream.println("'--batch-operations' option is only available in client generation with " +
+                            "`--client-methods remote`.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (projectionPath != null && mode != null && mode.equals(SERVICE)) {
+                    // Exit the code generation process
+                    outStream.println("'--projection' option is only available in client generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (passthrough && mode != null && mode.equals(SERVICE)) {
+                    // Exit the code generation process
+                    outStream.println("'--passthrough' option is only available in client generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (passthrough && projectionPath != null) {
+                    // Exit the code generation process
+                    outStream.println("'--projection' option cannot be used with the '--passthrough' option, as " +
+                            "passthrough clients do not bind the responses to types.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (listenerConfigPath != null && mode != null && mode.equals(CLIENT)) {
+                    // Exit the code generation process
+                    outStream.println("'--listener-config' option is only available in service generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (streamingPayloads && mode != null && mode.equals(CLIENT)) {
+                    // Exit the code generation process
+                    outStream.println("'--streaming-payloads' option is only available in service generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (contractValidation && mode != null && mode.equals(CLIENT)) {
+                    // Exit the code generation process
+                    outStream.println("'--with-validation' option is only available in service generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (contractValidation && generateServiceType) {
+                    // Exit the code generation process
+                    outStream.println("'--with-validation' option cannot be used with the '--with-service-type' " +
+                            "option, as the validated service is typed as `http:InterceptableService`.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (instrument && generateServiceType && (mode == null || !mode.equals(CLIENT))) {
+                    // Exit the code generation process
+                    outStream.println("'--instrument' option cannot be used with the '--with-service-type' " +
+                            "option, as the instrumented service is typed as `http:InterceptableService`.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (serviceSplit != null && ServiceSplit.fromString(serviceSplit).isEmpty()) {
+                    // Exit the code generation process
+                    outStream.println("'--split-services' only supports `tag` or `path` options.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (serviceSplit != null && mode != null && mode.equals(CLIENT)) {
+                    // Exit the code generation process
+                    outStream.println("'--split-services' option is only available in service generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (serviceSplit != null && (contractValidation || instrument)) {
+                    // Exit the code generation process
+                    outStream.println("'--split-services' option cannot be used with the '--with-validation' or " +
+                            "the '--instrument' options, as their interceptors match the paths of a single service.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (mockService && mode != null && mode.equals(SERVICE)) {
+                    // Exit the code generation process
+                    outStream.println("'--with-mock' option is only available in client generation mode.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (parallel) {
+                    // Exit the code generation process
+                    outStream.println("'--parallel' option is only available when exporting the OpenAPI " +
+                            "definitions of a Ballerina service.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (packageExport) {
+                    // Exit the code generation process
+                    outStream.println("'--package' option is only available when exporting the OpenAPI " +
+                            "definitions of a Ballerina service.");
+                    exitError(this.exitWhenFinish);
+                }
+
+                if (compact) {
+                    // Exit the code generation process
+                    outStream.println("'--compact' option is only available when exporting the OpenAPI " +
+                            "definitions of a Ballerina service.");
+                    exitError(this.exitWhenFinish);
+                }
+
                 if (generateWithoutDataBinding && mode != null && mode.equals(CLIENT)) {
                     // Exit the code generation process
                     outStream.println("'--without-data-binding' option is only available in service generation mode.");
@@ -206,6 +363,12 @@ public class OpenApiCmd implements BLauncherCmd {
                     outStream.println("'--client-methods' option is only available in client generation mode.");
                     exitError(this.exitWhenFinish);
                 }
+                if (packageExport && (service != null || incremental)) {
+                    // Exit the code generation process
+                    outStream.println("'--package' option cannot be used with the '--service' or the " +
+                            "'--incremental' options.");
+                    exitError(this.exitWhenFinish);
+                }
                 ballerinaToOpenApi(fileName);
             } else {
                 outStream.println(ErrorMessages.MISSING_CONTRACT_PATH);
@@ -242,8 +405,17 @@ public class OpenApiCmd implements BLauncherCmd {
         getTargetOutputPath();
         // Check service name it is mandatory
         OASContractGenerator openApiConverter = new OASContractGenerator();
-        openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
-                generatedFileType);
+        if (parallel) {
+            openApiConverter.setParallelism(Runtime.getRuntime().availableProcessors());
+        }
+        openApiConverter.setIncremental(incremental);
+        openApiConverter.setCompact(compact);
+        if (packageExport) {
+            openApiConverter.generateOAS3DefinitionsForPackage(balFilePath, targetOutputPath, generatedFileType);
+        } else {
+            openApiConverter.generateOAS3DefinitionsAllService(balFilePath, targetOutputPath, service,
+                    generatedFileType);
+        }
         errors.addAll(openApiConverter.getErrors());
         if (!errors.isEmpty()) {
             for (OpenAPIConverterDiagnostic error: errors) {
@@ -275,6 +447,40 @@ public class OpenApiCmd implements BLauncherCmd {
         BallerinaCodeGenerator generator = new BallerinaCodeGenerator();
         generator.setLicenseHeader(this.setLicenseHeader());
         generator.setIncludeTestFiles(this.includeTestFiles);
+        generator.setPassthrough(this.passthrough);
+        generator.setStreamingPayloads(this.streamingPayloads);
+        generator.setContractValidation(this.contractValidation);
+        generator.setInstrument(this.instrument);
+        generator.setIncremental(this.incremental);
+        generator.setMockService(this.mockService);
+        if (serviceSplit != null) {
+            generator.setServiceSplit(ServiceSplit.fromString(serviceSplit).orElse(null));
+        }
+        if (batchOperations != null) {
+            generator.setBatchOperations(Arrays.stream(batchOperations.split(","))
+                    .map(operationId -> getValidName(operationId.trim(), false))
+                    .collect(Collectors.toList()));
+        }
+        if (projectionPath != null) {
+            try {
+                generator.setProjection(CmdUtils.getProjectionFromFile(
+                        Paths.get(new File(projectionPath).getCanonicalPath())));
+            } catch (BallerinaOpenApiException e) {
+                outStream.println(e.getLocalizedMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        }
+        if (listenerConfigPath != null) {
+            try {
+                generator.setListenerTuning(CmdUtils.getListenerTuningFromFile(
+                        Paths.get(new File(listenerConfigPath).getCanonicalPath())));
+            } catch (BallerinaOpenApiException e) {
+                outStream.println(e.getLocalizedMessage());
+                exitError(this.exitWhenFinish);
+                return;
+            }
+        }
         final File openApiFile = new File(fileName);
         String serviceName;
         if (generatedServiceName != null) {
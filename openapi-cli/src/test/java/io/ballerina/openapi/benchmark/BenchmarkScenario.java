@@ -0,0 +1,180 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmark;
+
+import java.util.Locale;
+
+/**
+ * This enum synthesizes the Ballerina services measured by the {@link ConverterBenchmark}. Each scenario stresses a
+ * different part of the converter: the number of resources, the depth of the record graph returned by the resources,
+ * the width of the return unions and the number of listeners the services are attached to.
+ *
+ * @since 1.8.0
+ */
+public enum BenchmarkScenario {
+
+    RESOURCES_100 {
+        @Override
+        public String getSource() {
+            return getResourcesSource(100);
+        }
+    },
+    RESOURCES_1000 {
+        @Override
+        public String getSource() {
+            return getResourcesSource(1000);
+        }
+    },
+    RESOURCES_5000 {
+        @Override
+        public String getSource() {
+            return getResourcesSource(5000);
+        }
+    },
+    DEEP_RECORDS {
+        @Override
+        public String getSource() {
+            StringBuilder source = new StringBuilder(HTTP_IMPORT);
+            for (int level = 0; level < RECORD_DEPTH; level++) {
+                source.append("public type Level").append(level).append(" record {|\n")
+                        .append("    int id;\n")
+                        .append("    string name;\n")
+                        .append("    map<string> attributes;\n");
+                if (level + 1 < RECORD_DEPTH) {
+                    source.append("    Level").append(level + 1).append(" next;\n")
+                            .append("    Level").append(level + 1).append("[] children;\n");
+                }
+                source.append("|};\n\n");
+            }
+            source.append("service /graph on new http:Listener(9090) {\n");
+            for (int i = 0; i < 200; i++) {
+                source.append("    resource function get level").append(i).append("/[int id]() returns Level0 ")
+                        .append("{\n        return getLevel();\n    }\n\n")
+                        .append("    resource function post level").append(i)
+                        .append("(@http:Payload Level0 payload) returns Level0 {\n")
+                        .append("        return payload;\n    }\n\n");
+            }
+            source.append("}\n\n")
+                    .append("function getLevel() returns Level0 {\n")
+                    .append("    panic error(\"unimplemented\");\n")
+                    .append("}\n");
+            return source.toString();
+        }
+    },
+    WIDE_UNIONS {
+        @Override
+        public String getSource() {
+            StringBuilder source = new StringBuilder(HTTP_IMPORT);
+            StringBuilder union = new StringBuilder();
+            for (int variant = 0; variant < UNION_WIDTH; variant++) {
+                source.append("public type Variant").append(variant).append(" record {|\n")
+                        .append("    string kind = \"variant").append(variant).append("\";\n")
+                        .append("    int value").append(variant).append(";\n")
+                        .append("|};\n\n");
+                union.append(variant == 0 ? "" : "|").append("Variant").append(variant);
+            }
+            source.append("public type Variant ").append(union).append(";\n\n")
+                    .append(ERROR_RECORDS)
+                    .append("service /variants on new http:Listener(9090) {\n");
+            for (int i = 0; i < 500; i++) {
+                source.append("    resource function get variant").append(i).append("/[string id]() returns ")
+                        .append(union).append("|NotFoundError|BadRequestError|error {\n")
+                        .append("        return error(\"unimplemented\");\n    }\n\n");
+            }
+            return source.append("}\n").toString();
+        }
+    },
+    MANY_LISTENERS {
+        @Override
+        public String getSource() {
+            StringBuilder source = new StringBuilder(HTTP_IMPORT).append(ITEM_RECORDS);
+            for (int listener = 0; listener < LISTENER_COUNT; listener++) {
+                source.append("listener http:Listener ep").append(listener).append(" = new (")
+                        .append(9000 + listener).append(", config = {host: \"host").append(listener)
+                        .append(".example.com\"});\n");
+            }
+            for (int service = 0; service < LISTENER_COUNT; service++) {
+                source.append("\nservice /service").append(service).append(" on ep").append(service)
+                        .append(", ep").append((service + 1) % LISTENER_COUNT).append(" {\n");
+                for (int i = 0; i < 10; i++) {
+                    appendItemResources(source, i);
+                }
+                source.append("}\n");
+            }
+            return source.toString();
+        }
+    };
+
+    private static final String HTTP_IMPORT = "import ballerina/http;\n\n";
+    private static final int RECORD_DEPTH = 40;
+    private static final int UNION_WIDTH = 64;
+    private static final int LISTENER_COUNT = 200;
+    private static final String ERROR_RECORDS = "public type ErrorBody record {|\n" +
+            "    string message;\n" +
+            "    string code;\n" +
+            "|};\n\n" +
+            "public type NotFoundError record {|\n" +
+            "    *http:NotFound;\n" +
+            "    ErrorBody body;\n" +
+            "|};\n\n" +
+            "public type BadRequestError record {|\n" +
+            "    *http:BadRequest;\n" +
+            "    ErrorBody body;\n" +
+            "|};\n\n";
+    private static final String ITEM_RECORDS = "public type Item record {|\n" +
+            "    int id;\n" +
+            "    string name;\n" +
+            "    decimal price;\n" +
+            "    string[] tags;\n" +
+            "|};\n\n" + ERROR_RECORDS;
+
+    /**
+     * Returns the source of the Ballerina document of the scenario.
+     */
+    public abstract String getSource();
+
+    /**
+     * Returns the name of the scenario in the benchmark results.
+     */
+    public String getResultName() {
+        return name().toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Synthesizes a service with the given number of resources, half of which return a record or the error records,
+     * and the other half accept the record as the payload.
+     */
+    private static String getResourcesSource(int resourceCount) {
+        StringBuilder source = new StringBuilder(HTTP_IMPORT).append(ITEM_RECORDS)
+                .append("service /store on new http:Listener(9090) {\n");
+        for (int i = 0; i < resourceCount / 2; i++) {
+            appendItemResources(source, i);
+        }
+        return source.append("}\n").toString();
+    }
+
+    private static void appendItemResources(StringBuilder source, int index) {
+        source.append("    resource function get items").append(index)
+                .append("/[int id](string? filter, int 'limit = 10) returns Item|NotFoundError|error {\n")
+                .append("        return error(\"unimplemented\");\n    }\n\n")
+                .append("    resource function post items").append(index)
+                .append("(@http:Payload Item item) returns Item|BadRequestError|error {\n")
+                .append("        return item;\n    }\n\n");
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.projects.DocumentId;
+import io.ballerina.projects.PackageCompilation;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.swagger.v3.core.util.Json;
+import org.apache.commons.io.FileUtils;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * This harness benchmarks the conversion of the synthesized {@link BenchmarkScenario} services into OpenAPI
+ * definitions with {@link ServiceToOpenAPIConverterUtils#generateOAS3Definition}. The compilation of the package and
+ * the mapping of its services are measured separately: the wall-clock time, the bytes allocated by the benchmark
+ * thread and the peak heap usage of each are recorded over a number of iterations after the warm-up iterations.
+ * <p>
+ * The results are written as JSON, and compared against the results of a previous run when a baseline is given, in
+ * which case the harness exits with a failure if the mapping of any scenario regressed beyond the threshold. It is run
+ * offline with the Ballerina distribution of the tests by the {@code benchmark} task of this module.
+ * <pre>
+ *     ./gradlew :openapi-cli:benchmark -PbenchmarkBaseline=baseline.json -PbenchmarkScenarios=resources_1000
+ * </pre>
+ * Arguments: {@code --output <file> [--baseline <file>] [--threshold <percent>] [--warmups <count>]
+ * [--iterations <count>] [--scenarios <name,...>]}
+ *
+ * @since 1.8.0
+ */
+public class ConverterBenchmark {
+
+    private static final int RESULTS_VERSION = 1;
+    private static final String COMPILE_MILLIS = "compileMillis";
+    private static final String MAPPING_MILLIS = "mappingMillis";
+    private static final String COMPILE_ALLOCATED_BYTES = "compileAllocatedBytes";
+    private static final String MAPPING_ALLOCATED_BYTES = "mappingAllocatedBytes";
+    private static final String PEAK_HEAP_BYTES = "peakHeapBytes";
+    private static final String SCENARIOS = "scenarios";
+    private static final List<String> COMPARED_METRICS = List.of(MAPPING_MILLIS, MAPPING_ALLOCATED_BYTES);
+
+    private final PrintStream outStream = System.out;
+    private final com.sun.management.ThreadMXBean threadMXBean =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        if (!options.containsKey("output")) {
+            throw new IllegalArgumentException("the output file of the benchmark results is not given");
+        }
+        List<BenchmarkScenario> scenarios = Arrays.asList(BenchmarkScenario.values());
+        if (options.containsKey("scenarios")) {
+            List<String> names = Arrays.asList(options.get("scenarios").toLowerCase(Locale.ENGLISH).split(","));
+            scenarios = scenarios.stream().filter(scenario -> names.contains(scenario.getResultName()))
+                    .collect(Collectors.toList());
+        }
+        ConverterBenchmark benchmark = new ConverterBenchmark();
+        ObjectNode results = benchmark.run(scenarios, Integer.parseInt(options.getOrDefault("warmups", "3")),
+                Integer.parseInt(options.getOrDefault("iterations", "5")));
+        Path outputPath = Paths.get(options.get("output"));
+        if (outputPath.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(outputPath.toAbsolutePath().getParent());
+        }
+        Files.writeString(outputPath, Json.pretty(results), StandardCharsets.UTF_8);
+        benchmark.outStream.println("Benchmark results written to " + outputPath);
+
+        if (options.containsKey("baseline")) {
+            JsonNode baseline = Json.mapper().readTree(Files.readString(Paths.get(options.get("baseline"))));
+            double threshold = Double.parseDouble(options.getOrDefault("threshold", "20"));
+            if (!benchmark.compare(results, baseline, threshold)) {
+                Runtime.getRuntime().exit(1);
+            }
+        }
+    }
+
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("invalid benchmark option: " + args[i]);
+            }
+            options.put(args[i].substring(2), args[i + 1]);
+        }
+        return options;
+    }
+
+    /**
+     * Runs the given scenarios and returns their results.
+     */
+    public ObjectNode run(List<BenchmarkScenario> scenarios, int warmups, int iterations) throws IOException {
+        ObjectNode results = Json.mapper().createObjectNode();
+        results.put("version", RESULTS_VERSION);
+        results.put("jvm", System.getProperty("java.vm.name") + " " + System.getProperty("java.version"));
+        results.put("warmups", warmups);
+        results.put("iterations", iterations);
+        ObjectNode scenarioResults = results.putObject(SCENARIOS);
+        for (BenchmarkScenario scenario : scenarios) {
+            Path projectPath = Files.createTempDirectory("openapi-benchmark-" + scenario.getResultName());
+            try {
+                Path servicePath = createProject(projectPath, scenario);
+                for (int i = 0; i < warmups; i++) {
+                    measure(servicePath);
+                }
+                List<Measurement> measurements = new ArrayList<>();
+                for (int i = 0; i < iterations; i++) {
+                    measurements.add(measure(servicePath));
+                }
+                ObjectNode scenarioResult = scenarioResults.putObject(scenario.getResultName());
+                scenarioResult.put(COMPILE_MILLIS, median(measurements, m -> m.compileNanos) / 1_000_000.0);
+                scenarioResult.put(MAPPING_MILLIS, median(measurements, m -> m.mappingNanos) / 1_000_000.0);
+                scenarioResult.put(COMPILE_ALLOCATED_BYTES, median(measurements, m -> m.compileAllocatedBytes));
+                scenarioResult.put(MAPPING_ALLOCATED_BYTES, median(measurements, m -> m.mappingAllocatedBytes));
+                scenarioResult.put(PEAK_HEAP_BYTES, measurements.stream()
+                        .mapToLong(m -> m.peakHeapBytes).max().orElse(0));
+                outStream.println(scenario.getResultName() + ": " + scenarioResult);
+            } finally {
+                FileUtils.deleteQuietly(projectPath.toFile());
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Compares the mapping metrics of the given results with the baseline, and returns whether none of them regressed
+     * beyond the given threshold percentage. The scenarios missing in either of the results are skipped.
+     */
+    public boolean compare(JsonNode results, JsonNode baseline, double threshold) {
+        boolean passed = true;
+        JsonNode baselineScenarios = baseline.path(SCENARIOS);
+        Iterator<Map.Entry<String, JsonNode>> scenarios = results.path(SCENARIOS).fields();
+        while (scenarios.hasNext()) {
+            Map.Entry<String, JsonNode> scenario = scenarios.next();
+            JsonNode baselineScenario = baselineScenarios.path(scenario.getKey());
+            if (baselineScenario.isMissingNode()) {
+                continue;
+            }
+            for (String metric : COMPARED_METRICS) {
+                double current = scenario.getValue().path(metric).asDouble();
+                double previous = baselineScenario.path(metric).asDouble();
+                double change = previous == 0 ? 0 : (current - previous) * 100 / previous;
+                boolean regressed = change > threshold;
+                outStream.printf(Locale.ENGLISH, "%s %s: %.2f -> %.2f (%+.1f%%)%s%n", scenario.getKey(), metric,
+                        previous, current, change, regressed ? " REGRESSED" : "");
+                passed &= !regressed;
+            }
+        }
+        return passed;
+    }
+
+    private static Path createProject(Path projectPath, BenchmarkScenario scenario) throws IOException {
+        Files.writeString(projectPath.resolve("Ballerina.toml"), "[package]\n" +
+                "org = \"benchmark\"\n" +
+                "name = \"" + scenario.getResultName() + "\"\n" +
+                "version = \"0.1.0\"\n", StandardCharsets.UTF_8);
+        Path servicePath = projectPath.resolve("service.bal");
+        Files.writeString(servicePath, scenario.getSource(), StandardCharsets.UTF_8);
+        return servicePath;
+    }
+
+    /**
+     * Loads and compiles the package of the given service, and then converts its services. The mapping runs on the
+     * benchmark thread, so the bytes allocated by the thread are the bytes allocated by the mapping.
+     */
+    private Measurement measure(Path servicePath) {
+        Measurement measurement = new Measurement();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        long allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        Project project = ProjectLoader.loadProject(servicePath);
+        PackageCompilation compilation = project.currentPackage().getCompilation();
+        if (compilation.diagnosticResult().diagnostics().stream()
+                .anyMatch(d -> DiagnosticSeverity.ERROR.equals(d.diagnosticInfo().severity()))) {
+            throw new IllegalStateException("the benchmark service does not compile: " +
+                    compilation.diagnosticResult().errors());
+        }
+        DocumentId documentId = project.documentId(servicePath);
+        SemanticModel semanticModel = compilation.getSemanticModel(documentId.moduleId());
+        SyntaxTree syntaxTree = project.currentPackage().module(documentId.moduleId()).document(documentId)
+                .syntaxTree();
+        measurement.compileNanos = System.nanoTime() - start;
+        measurement.compileAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytes;
+
+        allocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes();
+        start = System.nanoTime();
+        List<OASResult> results = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project, syntaxTree,
+                semanticModel, null, false, servicePath);
+        measurement.mappingNanos = System.nanoTime() - start;
+        measurement.mappingAllocatedBytes = threadMXBean.getCurrentThreadAllocatedBytes() - allocatedBytes;
+        if (results.stream().anyMatch(result -> result.getOpenAPI().isEmpty())) {
+            throw new IllegalStateException("the benchmark service is not converted: " + results.stream()
+                    .flatMap(result -> result.getDiagnostics().stream())
+                    .map(diagnostic -> diagnostic.getMessage()).collect(Collectors.toList()));
+        }
+        measurement.peakHeapBytes = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+        return measurement;
+    }
+
+    private static long median(List<Measurement> measurements, ToLongFunction<Measurement> metric) {
+        List<Long> values = measurements.stream().map(metric::applyAsLong).sorted().collect(Collectors.toList());
+        return values.isEmpty() ? 0 : values.get(values.size() / 2);
+    }
+
+    /**
+     * Costs of an iteration of a scenario.
+     */
+    private static class Measurement {
+        private long compileNanos;
+        private long mappingNanos;
+        private long compileAllocatedBytes;
+        private long mappingAllocatedBytes;
+        private long peakHeapBytes;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the bounded-concurrency batch client function generation.
+ */
+public class BatchFunctionTests {
+    private static final Path RESDIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+    List<String> list1 = new ArrayList<>();
+    List<String> list2 = new ArrayList<>();
+    Filter filter = new Filter(list1, list2);
+
+    @Test(description = "Generate batch function for the selected remote function")
+    public void generateBatchFunction() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/path_parameter_valid.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withBatchOperations(List.of("operationId04")).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        String content = syntaxTree.toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("remote isolated function operationId04Batch(readonly & [int, string][] " +
+                "arguments, int maxConcurrency = 10) returns (string|error)[] {").replaceAll("\\s+", "")));
+        // The workers take the next argument tuple as soon as their previous request completes
+        Assert.assertTrue(content.contains(("foreach int i in 0 ..< int:min(int:max(maxConcurrency, 1), " +
+                "arguments.length()) {" +
+                "future<[int, string|error][]> worker = start self.operationId04BatchWorker(arguments, cursor);")
+                .replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("private isolated function operationId04BatchWorker(" +
+                "readonly & [int, string][] arguments, BatchCursor cursor) returns [int, string|error][] {")
+                .replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("while index is int {" +
+                "var [version, name] = arguments[index];" +
+                "string|error result = self->operationId04(version, name);" +
+                "results.push([index, result]);" +
+                "index = cursor.take();" +
+                "}").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("return from [int, string|error] [index, result] in results " +
+                "order by index ascending select result;").replaceAll("\\s+", "")));
+        Assert.assertFalse(content.contains("operationId03Batch"));
+        String utils = ballerinaClientGenerator.getBallerinaUtilGenerator().generateUtilSyntaxTree().toSourceCode()
+                .replaceAll("\\s+", "");
+        Assert.assertTrue(utils.contains("isolated class BatchCursor {".replaceAll("\\s+", "")));
+    }
+
+    @Test(description = "Batch functions are not generated for clients with resource methods")
+    public void skipBatchFunctionInResourceMode() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/path_parameter_valid.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withBatchOperations(List.of("operationId04")).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree syntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        Assert.assertFalse(syntaxTree.toSourceCode().contains("operationId04Batch"));
+    }
+}
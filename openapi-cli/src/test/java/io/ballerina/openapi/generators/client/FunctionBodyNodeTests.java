@@ -75,17 +75,23 @@ public class FunctionBodyNodeTests {
     public Object[][] dataProviderForFunctionBody() {
         return new Object[][]{
                 {"diagnostic_files/header_parameter.yaml", "/pets", "{string resourcePath=string`/pets`;" +
-                        "map<any>headerValues=" +
-                        "{\"X-Request-ID\":xRequestId,\"X-Request-Client\":xRequestClient};map<string|string[]>" +
-                        "httpHeaders=getMapForHeaders(headerValues);http:Response response =checkself.clientEp->get" +
+                        "map<string|string[]>httpHeaders=" +
+                        "{\"X-Request-ID\":xRequestId,\"X-Request-Client\":xRequestClient};" +
+                        "http:Response response =checkself.clientEp->get" +
+                        "(resourcePath,httpHeaders); return response;}"},
+                {"diagnostic_files/header_reference.yaml", "/pets", "{string resourcePath=string`/pets`;" +
+                        "map<string|string[]>httpHeaders={\"X-Trace-ID\":xTraceId};" +
+                        "if xRetry !is () {httpHeaders[\"X-Retry\"] = xRetry.toString();}" +
+                        "http:Response response =checkself.clientEp->get" +
                         "(resourcePath,httpHeaders); return response;}"},
                 {"diagnostic_files/head_operation.yaml", "/{filesystem}",
                         "{string resourcePath=string`/${getEncodedUri(filesystem)}`;" +
                         "map<anydata>queryParam={\"resource\":'resource,\"timeout\":timeout};" +
                         "resourcePath = resourcePath + check getPathForQueryParam(queryParam);" +
-                        "map<any>headerValues={\"x-ms-client-request-id\":xMsClientRequestId," +
-                        "\"x-ms-date\":xMsDate,\"x-ms-version\":xMsVersion};map<string|string[]> " +
-                        "httpHeaders = getMapForHeaders(headerValues);" +
+                        "map<string|string[]>httpHeaders={};" +
+                        "if xMsClientRequestId !is () {httpHeaders[\"x-ms-client-request-id\"] = xMsClientRequestId;}" +
+                        "if xMsDate !is () {httpHeaders[\"x-ms-date\"] = xMsDate;}" +
+                        "if xMsVersion !is () {httpHeaders[\"x-ms-version\"] = xMsVersion;}" +
                         "http:Responseresponse=check self.clientEp-> head(resourcePath, httpHeaders);returnresponse;}"},
                 {"diagnostic_files/operation_delete.yaml", "/pets/{petId}", "{string resourcePath = " +
                         "string `/pets/${getEncodedUri(petId)}`;" +
@@ -129,11 +135,37 @@ public class FunctionBodyNodeTests {
                         "return response;}"},
                 {"client/swagger/multipart_formdata_custom.yaml", "/pets", "{string resourcePath = string `/pets`;\n" +
                         "http:Request request = new;\n" +
-                        "map<Encoding> encodingMap = {\"profileImage\": {contentType: \"image/png\", headers: " +
-                        "{\"X-Custom-Header\": xCustomHeader}}, \"id\":{headers: {\"X-Custom-Header\": " +
-                        "xCustomHeader}}, \"address\": {headers:{\"X-Address-Header\":xAddressHeader}}, \"name\":" +
-                        "{contentType:\"text/plain\"}};\n" +
-                        "mime:Entity[] bodyParts = check createBodyParts(payload, encodingMap);\n" +
+                        "mime:Entity[] bodyParts = [];\n" +
+                        "mime:Entity idPart = new;\n" +
+                        "idPart.setContentDisposition(mime:getContentDispositionObject(\"form-data; name=id;\"));\n" +
+                        "idPart.setText(payload.id);\n" +
+                        "if xCustomHeader !is () {idPart.setHeader(\"X-Custom-Header\", xCustomHeader);}\n" +
+                        "bodyParts.push(idPart);\n" +
+                        "string? nameValue = payload?.name;\n" +
+                        "if nameValue !is () {mime:Entity namePart = new;\n" +
+                        "namePart.setContentDisposition(mime:getContentDispositionObject(" +
+                        "\"form-data; name=name;\"));\n" +
+                        "namePart.setText(nameValue);\n" +
+                        "check namePart.setContentType(\"text/plain\");\n" +
+                        "bodyParts.push(namePart);}\n" +
+                        "anydata addressValue = payload?.address;\n" +
+                        "if addressValue !is () {mime:Entity addressPart = new;\n" +
+                        "addressPart.setContentDisposition(mime:getContentDispositionObject(" +
+                        "\"form-data; name=address;\"));\n" +
+                        "addressPart.setJson(addressValue.toJson());\n" +
+                        "addressPart.setHeader(\"X-Address-Header\", xAddressHeader);\n" +
+                        "bodyParts.push(addressPart);}\n" +
+                        "record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;}? " +
+                        "profileImageValue = payload?.profileImage;\n" +
+                        "if profileImageValue !is () {mime:Entity profileImagePart = new;\n" +
+                        "profileImagePart.setContentDisposition(mime:getContentDispositionObject(" +
+                        "string `form-data; name=profileImage; filename=${profileImageValue.fileName}`));\n" +
+                        "if profileImageValue is record {string filePath; string fileName;} {" +
+                        "profileImagePart.setFileAsEntityBody(profileImageValue.filePath);} else {" +
+                        "profileImagePart.setByteArray(profileImageValue.fileContent);}\n" +
+                        "check profileImagePart.setContentType(\"image/png\");\n" +
+                        "if xCustomHeader !is () {profileImagePart.setHeader(\"X-Custom-Header\", xCustomHeader);}\n" +
+                        "bodyParts.push(profileImagePart);}\n" +
                         "request.setBodyParts(bodyParts);\n" +
                         "http:Response response = check self.clientEp->post(resourcePath, request);\n" +
                         "return response;}"},
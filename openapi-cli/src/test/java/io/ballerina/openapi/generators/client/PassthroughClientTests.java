@@ -0,0 +1,89 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tests for the passthrough (no data binding) client generation.
+ */
+public class PassthroughClientTests {
+    private static final Path RESDIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+    List<String> list1 = new ArrayList<>();
+    List<String> list2 = new ArrayList<>();
+    Filter filter = new Filter(list1, list2);
+
+    @Test(description = "Generate passthrough remote functions")
+    public void generatePassthroughRemoteFunctions() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/passthrough.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withPassthrough(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String content = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("remote isolated function createIssue(int projectId, byte[] payload, " +
+                "string contentType = \"application/json\", map<string|string[]> headers = {}, " +
+                "map<anydata> queries = {}) returns http:Response|error {" +
+                "string resourcePath = string `/projects/${getEncodedUri(projectId)}/issues`;" +
+                "resourcePath = resourcePath + check getPathForQueryParam(queries);" +
+                "http:Request request = new;" +
+                "request.setBinaryPayload(payload, contentType);" +
+                "http:Response response = check self.clientEp->post(resourcePath, request, headers);" +
+                "return response;}").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("remote isolated function getIssue(string id, " +
+                "map<string|string[]> headers = {}) returns http:Response|error {" +
+                "string resourcePath = string `/issues/${getEncodedUri(id)}`;" +
+                "http:Response response = check self.clientEp->get(resourcePath, headers);" +
+                "return response;}").replaceAll("\\s+", "")));
+        Assert.assertTrue(ballerinaClientGenerator.getTypeDefinitionNodeList().isEmpty());
+    }
+
+    @Test(description = "Generate passthrough resource functions")
+    public void generatePassthroughResourceFunctions() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/passthrough.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, false);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withPassthrough(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String content = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("resource isolated function post projects/[int projectId]/issues(" +
+                "byte[] payload, string contentType = \"application/json\", map<string|string[]> headers = {}, " +
+                "map<anydata> queries = {}) returns http:Response|error {").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("resource isolated function get issues/[string id](" +
+                "map<string|string[]> headers = {}) returns http:Response|error {").replaceAll("\\s+", "")));
+    }
+}
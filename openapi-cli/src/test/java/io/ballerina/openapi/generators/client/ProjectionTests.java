@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.client;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.Projection;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the sparse projection of the client response types.
+ */
+public class ProjectionTests {
+    private static final Path RESDIR = Paths.get("src/test/resources/generators/client").toAbsolutePath();
+    List<String> list1 = new ArrayList<>();
+    List<String> list2 = new ArrayList<>();
+    Filter filter = new Filter(list1, list2);
+
+    @Test(description = "Generate slim response record for the projected operation")
+    public void generateOperationProjection() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/projection.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withProjection(new Projection(Map.of("getIssue", List.of("id", "key")), Map.of())).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        String types = ballerinaClientGenerator.getTypeDefinitionNodeList().stream()
+                .map(typeDef -> typeDef.toSourceCode().replaceAll("\\s+", ""))
+                .collect(Collectors.joining());
+        Assert.assertTrue(client.contains("remoteisolatedfunctiongetIssue(stringid)returnsGetIssueProjection|error"));
+        Assert.assertTrue(client.contains("remoteisolatedfunctionlistIssues()returnsIssue[]|error"));
+        Assert.assertTrue(types.contains("publictypeGetIssueProjectionrecord{stringid;stringkey;};"));
+        Assert.assertFalse(types.contains("typeIssueProjection"));
+    }
+
+    @Test(description = "Generate slim response record for every response of the projected schema")
+    public void generateSchemaProjection() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/projection.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withProjection(new Projection(Map.of(), Map.of("Issue", List.of("key", "summary")))).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        String types = ballerinaClientGenerator.getTypeDefinitionNodeList().stream()
+                .map(typeDef -> typeDef.toSourceCode().replaceAll("\\s+", ""))
+                .collect(Collectors.joining());
+        Assert.assertTrue(client.contains("returnsIssueProjection|error"));
+        Assert.assertTrue(client.contains("returnsIssueProjection[]|error"));
+        Assert.assertTrue(types.contains("publictypeIssueProjectionrecord{stringkey;stringsummary?;};"));
+        Assert.assertFalse(types.contains("reporter"));
+    }
+
+    @Test(description = "Generate a slim record per response schema of the projected operation")
+    public void generateOperationProjectionForResponses() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RESDIR.resolve("swagger/projection_responses.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withProjection(new Projection(Map.of("createIssue", List.of("id", "key")), Map.of())).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        String types = ballerinaClientGenerator.getTypeDefinitionNodeList().stream()
+                .map(typeDef -> typeDef.toSourceCode().replaceAll("\\s+", ""))
+                .collect(Collectors.joining());
+        Assert.assertTrue(client.contains("CreateIssueIssueProjection"));
+        Assert.assertTrue(client.contains("CreateIssueJobProjection"));
+        Assert.assertTrue(types.contains("publictypeCreateIssueIssueProjectionrecord{stringid;stringkey;};"));
+        Assert.assertTrue(types.contains("publictypeCreateIssueJobProjectionrecord{stringid;stringkey?;};"));
+        Assert.assertFalse(types.contains("typeCreateIssueProjection"));
+    }
+}
@@ -23,8 +23,10 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.Test;
 
@@ -305,6 +307,32 @@ public class RequestBodyTests {
         compareGeneratedSyntaxTreeWithExpectedSyntaxTree(expectedPath, syntaxTree);
     }
 
+    @Test(description = "A multipart payload schema with binary fields referred elsewhere gets a separate record")
+    public void testRequestBodyWithSharedMultipartSchema() throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(
+                RES_DIR.resolve("swagger/multipart_shared_schema.yaml"), true);
+        OASClientConfig.Builder clientMetaDataBuilder = new OASClientConfig.Builder();
+        OASClientConfig oasClientConfig = clientMetaDataBuilder
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String client = ballerinaClientGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+        Assert.assertTrue(client.contains("uploadAttachment(AttachmentMultipartPayloadpayload)"));
+        Assert.assertTrue(client.contains("getAttachment(stringid)returnsAttachment|error"));
+
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, false,
+                ballerinaClientGenerator.getTypeDefinitionNodeList());
+        ballerinaSchemaGenerator.setGenerateMultipartPayloads(true);
+        String types = ballerinaSchemaGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+        // The response keeps the in-memory type, and only the payload record takes a file path
+        Assert.assertTrue(types.contains(("public type Attachment record { string name?; " +
+                "record {byte[] fileContent; string fileName;} file;};").replaceAll("\\s+", "")));
+        Assert.assertTrue(types.contains(("public type AttachmentMultipartPayload record { string name?; " +
+                "record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;} file;};")
+                .replaceAll("\\s+", "")));
+    }
+
     @Test(description = "Test for generating request body when schema is empty")
     public void testRequestBodyWithoutSchema() throws IOException, BallerinaOpenApiException {
         Path expectedPath = RES_DIR.resolve("ballerina/request_body_without_schema.bal");
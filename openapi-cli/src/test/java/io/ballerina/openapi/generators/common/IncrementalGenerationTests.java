@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.cmd.BallerinaCodeGenerator;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.incremental.IncrementalSourceMerger;
+import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationFingerprints;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_FILE_HEADER;
+
+/**
+ * Tests for the incremental regeneration of the sources by the fingerprints of the operations and schemas.
+ */
+public class IncrementalGenerationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/service/swagger/incremental")
+            .toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Compare the fingerprints of the operations and schemas of two definitions")
+    public void compareFingerprints() throws IOException, BallerinaOpenApiException {
+        GenerationFingerprints previous = GenerationFingerprints.of(getOpenAPI("petstore_v1.yaml"), "");
+        GenerationFingerprints current = GenerationFingerprints.of(getOpenAPI("petstore_v2.yaml"), "");
+        Assert.assertFalse(current.isUpToDate(previous));
+        Assert.assertFalse(current.requiresFullGeneration(previous));
+        Assert.assertEquals(current.getChangedOperations(previous), Set.of("get /pets", "post /pets"));
+        Assert.assertEquals(current.getRemovedOperations(previous), Set.of("delete /pets/{petId}"));
+        // The properties of `Error` are only reordered
+        Assert.assertEquals(current.getChangedSchemas(previous), Set.of("Pet"));
+        Assert.assertTrue(GenerationFingerprints.fromJson(previous.toJson()).isUpToDate(previous));
+        Assert.assertTrue(GenerationFingerprints.of(getOpenAPI("petstore_v2.yaml"), "nullable")
+                .requiresFullGeneration(current));
+    }
+
+    @Test(description = "Regenerate the changed resource functions, keeping the hand-written bodies")
+    public void mergeService() throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI previousOpenAPI = getOpenAPI("petstore_v1.yaml");
+        OpenAPI currentOpenAPI = getOpenAPI("petstore_v2.yaml");
+        String existingSource = DEFAULT_FILE_HEADER + implementService(
+                Formatter.format(generateService(previousOpenAPI))).toSourceCode();
+
+        IncrementalSourceMerger merger = new IncrementalSourceMerger(GenerationFingerprints.of(previousOpenAPI, ""),
+                GenerationFingerprints.of(currentOpenAPI, ""));
+        String merged = merger.merge(existingSource, generateService(currentOpenAPI));
+        Assert.assertFalse(merged.startsWith("//"));
+        String content = merged.replaceAll("\\s+", "");
+        // Unchanged operation
+        Assert.assertTrue(content.contains("stringimplementation=\"getpets/[intpetId]\";"));
+        // Changed operation, of which the signature is regenerated
+        Assert.assertTrue(content.contains("stringimplementation=\"getpets\";"));
+        Assert.assertTrue(content.contains("string?owner"));
+        Assert.assertEquals(content.split("resourcefunctiongetpets\\(", -1).length, 2);
+        // Added and removed operations
+        Assert.assertTrue(content.contains("resourcefunctionpostpets"));
+        Assert.assertFalse(content.contains("deletepets"));
+    }
+
+    @Test(description = "Keep the sources of a definition without changed operations and schemas")
+    public void mergeUnchangedService() throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI openAPI = getOpenAPI("petstore_v1.yaml");
+        String existingSource = implementService(Formatter.format(generateService(openAPI))).toSourceCode();
+        GenerationFingerprints fingerprints = GenerationFingerprints.of(openAPI, "");
+        IncrementalSourceMerger merger = new IncrementalSourceMerger(fingerprints, fingerprints);
+        Assert.assertEquals(merger.merge(existingSource, generateService(openAPI)), existingSource);
+    }
+
+    @Test(description = "Regenerate the types of the changed schemas")
+    public void mergeTypes() throws IOException, BallerinaOpenApiException, FormatterException {
+        OpenAPI previousOpenAPI = getOpenAPI("petstore_v1.yaml");
+        OpenAPI currentOpenAPI = getOpenAPI("petstore_v2.yaml");
+        String existingSource = Formatter.format(new BallerinaTypesGenerator(previousOpenAPI, false,
+                new ArrayList<>()).generateSyntaxTree()).toSourceCode();
+
+        IncrementalSourceMerger merger = new IncrementalSourceMerger(GenerationFingerprints.of(previousOpenAPI, ""),
+                GenerationFingerprints.of(currentOpenAPI, ""));
+        String content = merger.merge(existingSource, new BallerinaTypesGenerator(currentOpenAPI, false,
+                new ArrayList<>()).generateSyntaxTree()).replaceAll("\\s+", "");
+        int pet = content.indexOf("publictypePet");
+        int error = content.indexOf("publictypeError");
+        Assert.assertTrue(pet >= 0 && error >= 0);
+        Assert.assertTrue(content.indexOf("owner", pet) > pet);
+        // The unchanged `Error` type is kept as it was generated
+        Assert.assertTrue(content.indexOf("code", error) < content.indexOf("message", error));
+    }
+
+    @Test(description = "Regenerate the sources of an unchanged definition when a generated file is deleted")
+    public void regenerateDeletedFile() throws IOException, BallerinaOpenApiException, FormatterException {
+        Path outPath = Files.createTempDirectory("openapi-incremental-out-" + System.nanoTime());
+        String definitionPath = RES_DIR.resolve("petstore_v1.yaml").toString();
+        BallerinaCodeGenerator codeGenerator = new BallerinaCodeGenerator();
+        codeGenerator.setIncremental(true);
+        codeGenerator.generateClient(definitionPath, outPath.toString(), filter, false, false);
+        Assert.assertTrue(GenerationFingerprints.fromJson(Files.readString(
+                outPath.resolve(GenerationFingerprints.FILE_NAME))).getFiles().containsAll(
+                        Set.of("client.bal", "types.bal")));
+
+        // The sources are up-to-date, hence they are not rewritten
+        Path typesPath = outPath.resolve("types.bal");
+        String editedTypes = Files.readString(typesPath) + "\n// edited\n";
+        Files.writeString(typesPath, editedTypes);
+        codeGenerator.generateClient(definitionPath, outPath.toString(), filter, false, false);
+        Assert.assertEquals(Files.readString(typesPath), editedTypes);
+
+        Files.delete(outPath.resolve("client.bal"));
+        codeGenerator.generateClient(definitionPath, outPath.toString(), filter, false, false);
+        Assert.assertTrue(Files.exists(outPath.resolve("client.bal")));
+    }
+
+    private OpenAPI getOpenAPI(String fileName) throws IOException, BallerinaOpenApiException {
+        return GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve(fileName));
+    }
+
+    private SyntaxTree generateService(OpenAPI openAPI) throws BallerinaOpenApiException {
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        return new BallerinaServiceGenerator(oasServiceMetadata).generateSyntaxTree();
+    }
+
+    /**
+     * Replace the bodies of the generated resource functions with implementations naming the resource functions.
+     */
+    private SyntaxTree implementService(SyntaxTree syntaxTree) {
+        ModulePartNode modulePartNode = syntaxTree.rootNode();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (!(member instanceof ServiceDeclarationNode)) {
+                members.add(member);
+                continue;
+            }
+            ServiceDeclarationNode service = (ServiceDeclarationNode) member;
+            List<Node> functions = new ArrayList<>();
+            for (Node function : service.members()) {
+                if (!(function instanceof FunctionDefinitionNode)) {
+                    functions.add(function);
+                    continue;
+                }
+                FunctionDefinitionNode resource = (FunctionDefinitionNode) function;
+                StringBuilder name = new StringBuilder(resource.functionName().text());
+                resource.relativeResourcePath().forEach(segment -> name.append(segment.toSourceCode()));
+                String implementation = "{\n        string implementation = \"" +
+                        name.toString().replaceAll("\\s+", "") + "\";\n    }\n";
+                functions.add(resource.modify().withFunctionBody(
+                        NodeParser.parseFunctionBodyBlock(implementation)).apply());
+            }
+            members.add(service.modify().withMembers(createNodeList(functions)).apply());
+        }
+        return syntaxTree.modifyWith(modulePartNode.modify().withMembers(
+                createNodeList(members)).apply());
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.instrumentation.InstrumentationGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Tests for the per-operation instrumentation of the generated clients and services.
+ */
+public class InstrumentationTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate instrumented client functions")
+    public void generateInstrumentedClient() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("client/swagger/passthrough.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withInstrument(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String content = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains("import ballerina/time;".replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("returns Issue|error {" +
+                "decimal startTime = time:monotonicNow();" +
+                "do {" +
+                "string resourcePath = string `/issues/${getEncodedUri(id)}`;").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("recordOperationMetrics(\"getIssue\", \"/issues/{id}\", \"GET\", " +
+                "startTime, \"2XX\", ());" +
+                "return response;" +
+                "} on fail error err {" +
+                "recordOperationMetrics(\"getIssue\", \"/issues/{id}\", \"GET\", startTime, " +
+                "getInvocationStatus(err), ());" +
+                "return err;" +
+                "}").replaceAll("\\s+", "")));
+    }
+
+    @Test(description = "Generate instrumented passthrough client functions")
+    public void generateInstrumentedPassthroughClient() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("client/swagger/passthrough.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(false)
+                .withPassthrough(true)
+                .withInstrument(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        String content = ballerinaClientGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("http:Response response = check self.clientEp->post(resourcePath, " +
+                "request, headers);" +
+                "recordOperationMetrics(\"createIssue\", \"/projects/{projectId}/issues\", \"POST\", startTime, " +
+                "response.statusCode.toString(), payload.length());" +
+                "return response;").replaceAll("\\s+", "")));
+    }
+
+    @Test(description = "Generate the service which engages the metrics interceptors")
+    public void generateInstrumentedService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("service/swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withInstrument(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String content = ballerinaServiceGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("service http:InterceptableService /v1 on ep0 {" +
+                "public function createInterceptors() returns http:Interceptor[] {" +
+                "return [new MetricsRequestInterceptor(), new MetricsResponseInterceptor()];" +
+                "}").replaceAll("\\s+", "")));
+    }
+
+    @Test(description = "Generate the metrics helpers and the metrics interceptors")
+    public void generateMetricsInterceptors() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("service/swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        InstrumentationGenerator instrumentationGenerator = new InstrumentationGenerator(openAPI, filter);
+        String content = instrumentationGenerator.generateSyntaxTree(true).toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("import ballerina/http;" +
+                "import ballerina/log;" +
+                "import ballerina/observe;" +
+                "import ballerina/time;").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("final readonly & map<[string, string, string]> operationTags = {" +
+                "\"GET /pets\": [\"listPets\", \"/pets\", \"GET\"], " +
+                "\"POST /pets\": [\"createPet\", \"/pets\", \"POST\"], " +
+                "\"GET /pets/{petId}\": [\"showPetById\", \"/pets/{petId}\", \"GET\"]};").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("if req.method == \"GET\" && path.length() == 1 && path[0] == \"pets\" {" +
+                "ctx.set(METRICS_OPERATION_KEY, \"GET /pets\");" +
+                "} else if req.method == \"POST\" && path.length() == 1 && path[0] == \"pets\" {" +
+                "ctx.set(METRICS_OPERATION_KEY, \"POST /pets\");" +
+                "} else if req.method == \"GET\" && path.length() == 2 && path[0] == \"pets\" {" +
+                "ctx.set(METRICS_OPERATION_KEY, \"GET /pets/{petId}\");" +
+                "}" +
+                "ctx.set(METRICS_START_TIME_KEY, time:monotonicNow());").replaceAll("\\s+", "")));
+
+        // The metrics are looked up by their name and tags before they are registered
+        Assert.assertTrue(content.contains(("observe:Counter|observe:Gauge? metric = " +
+                "observe:lookupMetric(name, tags);" +
+                "if metric is observe:Gauge {" +
+                "return metric;" +
+                "}" +
+                "observe:Gauge gauge = new (name, description, tags, [{percentiles: [0.5, 0.9, 0.99]}]);")
+                .replaceAll("\\s+", "")));
+        Assert.assertFalse(content.contains("latencyRegistration"));
+
+        String clientContent = instrumentationGenerator.generateSyntaxTree(false).toSourceCode();
+        Assert.assertTrue(clientContent.contains("isolated function getInvocationStatus(error err)"));
+        Assert.assertFalse(clientContent.contains("MetricsRequestInterceptor"));
+    }
+}
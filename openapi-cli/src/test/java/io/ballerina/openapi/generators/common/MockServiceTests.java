@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.common;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.client.BallerinaClientGenerator;
+import io.ballerina.openapi.core.generators.client.LoadTestGenerator;
+import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
+import io.ballerina.openapi.core.generators.service.MockServiceGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * Tests for the mock services of the contracts and the load tests of the generated clients.
+ */
+public class MockServiceTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators").toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate the mock service which returns the mock payloads of the responses")
+    public void generateMockService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("service/swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        MockServiceGenerator mockServiceGenerator = new MockServiceGenerator(openAPI, filter);
+        String content = mockServiceGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertEquals(mockServiceGenerator.getBasePath(), "/v1");
+        Assert.assertTrue(content.contains(("import ballerina/http;" +
+                "import ballerina/lang.runtime;" +
+                "import ballerina/random;").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("service /v1 on mockEp {" +
+                "isolated resource function 'default [string... path](http:Request req) returns http:Response {" +
+                "decimal latency = mockLatency + mockLatencyJitter * <decimal>random:createDecimal();" +
+                "if latency > 0d {" +
+                "runtime:sleep(latency);" +
+                "}").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("if req.method == \"GET\" && path.length() == 1 && path[0] == \"pets\" {" +
+                "return getMockResponse(200, \"application/json\", \"[{\\\"id\\\":1,\\\"name\\\":\\\"mock\\\"}]\");" +
+                "}" +
+                "if req.method == \"POST\" && path.length() == 1 && path[0] == \"pets\" {" +
+                "return getMockResponse(201, (), ());" +
+                "}" +
+                "if req.method == \"GET\" && path.length() == 2 && path[0] == \"pets\" {" +
+                "return getMockResponse(200, \"application/json\", \"{\\\"id\\\":1,\\\"name\\\":\\\"mock\\\"}\");" +
+                "}" +
+                "return getMockResponse(404, (), ());").replaceAll("\\s+", "")));
+    }
+
+    @Test(description = "Generate the load tests of the client resource functions")
+    public void generateLoadTests() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("service/swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        OASClientConfig oasClientConfig = new OASClientConfig.Builder()
+                .withFilters(filter)
+                .withOpenAPI(openAPI)
+                .withResourceMode(true).build();
+        BallerinaClientGenerator ballerinaClientGenerator = new BallerinaClientGenerator(oasClientConfig);
+        SyntaxTree clientSyntaxTree = ballerinaClientGenerator.generateSyntaxTree();
+        LoadTestGenerator loadTestGenerator = new LoadTestGenerator(ballerinaClientGenerator, openAPI, "/v1");
+        String content = loadTestGenerator.generateSyntaxTree(clientSyntaxTree).toSourceCode()
+                .replaceAll("\\s+", "");
+        Assert.assertTrue(content.contains(("import ballerina/io;" +
+                "import ballerina/test;" +
+                "import ballerina/time;").replaceAll("\\s+", "")));
+        Assert.assertFalse(content.contains("import ballerina/http;".replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains("final string mockServiceUrl = string `http://localhost:${mockPort}/v1`;"
+                .replaceAll("\\s+", "")));
+        // The load tests are opt-in
+        Assert.assertTrue(content.contains("configurable boolean enableLoadTests = false;".replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("@test:Config {groups: [\"load\"]}" +
+                "function loadTestShowPetById() returns error? {" +
+                "Client loadClient = check new (serviceUrl = mockServiceUrl);" +
+                "int petId = check \"1\".fromJsonStringWithType();" +
+                "runLoad(\"showPetById\", function() returns error? {" +
+                "any|error result = loadClient->/pets/[petId].get();" +
+                "if result is error {" +
+                "return result;" +
+                "}" +
+                "});" +
+                "}").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("Pet payload = check \"{\\\"id\\\":1,\\\"name\\\":\\\"mock\\\"}\"" +
+                ".fromJsonStringWithType();" +
+                "runLoad(\"createPet\", function() returns error? {" +
+                "any|error result = loadClient->/pets.post(payload);").replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("function runLoad(string operation, function () returns error? request) {" +
+                "if !enableLoadTests {" +
+                "return;" +
+                "}").replaceAll("\\s+", "")));
+        // Each worker sends its next request as soon as its previous one completes
+        Assert.assertTrue(content.contains(("future<[decimal[], int]> worker = start sendRequests(request, progress);")
+                .replaceAll("\\s+", "")));
+        Assert.assertTrue(content.contains(("while progress.sent < loadRequests {" +
+                "progress.sent += 1;" +
+                "decimal|error latency = sendRequest(request);").replaceAll("\\s+", "")));
+    }
+}
@@ -19,6 +19,7 @@ package io.ballerina.openapi.generators.openapi;
 
 import io.ballerina.openapi.cmd.OASContractGenerator;
 import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.swagger.v3.oas.models.OpenAPI;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
@@ -31,6 +32,8 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.List;
 
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.parseOpenAPIFile;
+
 /**
  * This Test class for storing all the endpoint related tests
  * {@link io.ballerina.openapi.converter.service.OpenAPIEndpointMapper}.
@@ -90,6 +93,24 @@ public class ListenerTests {
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, "listeners/with_check_key_word.yaml");
     }
 
+    @Test(description = "Resolve the same-named listeners declared in the modules of a package by their modules")
+    public void testSameNamedListenersInModules() {
+        Path ballerinaFilePath = RES_DIR.resolve("listeners/multi_module/main.bal");
+        OASContractGenerator openApiConverter = new OASContractGenerator();
+        openApiConverter.generateOAS3DefinitionsForPackage(ballerinaFilePath, tempDir, false);
+        Assert.assertTrue(openApiConverter.getErrors().isEmpty());
+
+        assertSingleServerPort(tempDir.resolve("greeting_openapi.yaml"), "9090");
+        assertSingleServerPort(tempDir.resolve("admin_openapi.yaml"), "9091");
+    }
+
+    private static void assertSingleServerPort(Path definitionPath, String port) {
+        Assert.assertTrue(Files.exists(definitionPath), definitionPath.toString());
+        OpenAPI openAPI = parseOpenAPIFile(definitionPath.toString()).getOpenAPI().orElseThrow();
+        Assert.assertEquals(openAPI.getServers().size(), 1);
+        Assert.assertEquals(openAPI.getServers().get(0).getVariables().get("port").getDefault(), port);
+    }
+
     @AfterMethod
     public void cleanUp() {
         TestUtils.deleteDirectory(this.tempDir);
@@ -17,11 +17,17 @@
  */
 package io.ballerina.openapi.generators.openapi;
 
+import io.ballerina.openapi.cmd.OASContractGenerator;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This test class for the resolve reference in the other module in ballerina package.
@@ -90,4 +96,23 @@ public class ModuleReferenceTests {
                 : "listeners_in_separate_file.yaml";
         TestUtils.compareWithGeneratedFile(ballerinaFilePath, yamlFile);
     }
+
+    @Test(description = "Export the services of all the documents in the package with unique names")
+    public void testPackageExport() throws IOException {
+        Path tempDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+        try {
+            OASContractGenerator openApiConverter = new OASContractGenerator();
+            openApiConverter.generateOAS3DefinitionsForPackage(RES_DIR.resolve("snowpeak.bal"), tempDir, false);
+            List<String> fileNames;
+            try (Stream<Path> files = Files.list(tempDir)) {
+                fileNames = files.map(file -> file.getFileName().toString()).collect(Collectors.toList());
+            }
+            Assert.assertTrue(fileNames.size() > 1);
+            Assert.assertTrue(fileNames.contains("payloadV_openapi.yaml"));
+            Assert.assertTrue(fileNames.contains("snowpeak_payloadV_openapi.yaml"));
+            Assert.assertTrue(fileNames.contains("snowpeak_request_body_payloadV_openapi.yaml"));
+        } finally {
+            TestUtils.deleteDirectory(tempDir);
+        }
+    }
 }
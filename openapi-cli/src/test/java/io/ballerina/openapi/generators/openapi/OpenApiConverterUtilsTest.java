@@ -18,18 +18,59 @@
 
 package io.ballerina.openapi.generators.openapi;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.compiler.api.SemanticModel;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
 import io.ballerina.openapi.cmd.OASContractGenerator;
+import io.ballerina.openapi.cmd.OASGenerationCache;
+import io.ballerina.openapi.converter.diagnostic.DiagnosticMessages;
+import io.ballerina.openapi.converter.diagnostic.OpenAPIConverterDiagnostic;
+import io.ballerina.openapi.converter.model.OASResult;
+import io.ballerina.openapi.converter.service.InlineSchemaDeduplicator;
+import io.ballerina.openapi.converter.service.ListenerIndex;
+import io.ballerina.openapi.converter.service.TypeResolutionCache;
+import io.ballerina.openapi.converter.utils.ServiceToOpenAPIConverterUtils;
+import io.ballerina.projects.Module;
+import io.ballerina.projects.Project;
+import io.ballerina.projects.directory.ProjectLoader;
+import io.ballerina.tools.diagnostics.DiagnosticSeverity;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.info.Info;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.testng.Assert;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterTest;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.parseOpenAPIFile;
 import static io.ballerina.openapi.converter.utils.ConverterCommonUtils.unescapeIdentifier;
 import static io.ballerina.openapi.generators.common.TestUtils.getStringFromGivenBalFile;
 import static io.ballerina.openapi.generators.openapi.TestUtils.compareWithGeneratedFile;
@@ -155,6 +196,72 @@ public class OpenApiConverterUtilsTest {
         Assert.assertTrue(Files.exists(this.tempDir.resolve("payloadV_openapi.yaml")));
     }
 
+    @Test(description = "Incremental export of a build project keeps the definitions of the unchanged services")
+    public void testIncrementalExport() throws IOException {
+        Path projectPath = RES_DIR.resolve("project_bal");
+        Path ballerinaFilePath = projectPath.resolve("record_payload_service.bal");
+        try {
+            OASContractGenerator openApiConverter = new OASContractGenerator();
+            openApiConverter.setIncremental(true);
+            openApiConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, this.tempDir, null, false);
+            Assert.assertTrue(Files.exists(projectPath.resolve("target/openapi-cache/record_payload_service.json")));
+            String generatedYaml = Files.readString(this.tempDir.resolve("payloadV_openapi.yaml"));
+
+            OASContractGenerator nextConverter = new OASContractGenerator();
+            nextConverter.setIncremental(true);
+            nextConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, this.tempDir, null, false);
+            Assert.assertFalse(Files.exists(this.tempDir.resolve("payloadV_openapi_1.yaml")));
+            Assert.assertEquals(Files.readString(this.tempDir.resolve("payloadV_openapi.yaml")), generatedYaml);
+        } finally {
+            deleteDirectory(projectPath.resolve("target"));
+        }
+    }
+
+    @Test(description = "Incremental export exports a service again when the contract it refers is changed")
+    public void testIncrementalExportContractChange() throws IOException {
+        Path projectPath = this.tempDir.resolve("contract_project");
+        Path outPath = this.tempDir.resolve("contract_out");
+        Files.createDirectories(projectPath);
+        Files.writeString(projectPath.resolve("Ballerina.toml"), "[package]\norg = \"foo\"\nname = \"contract\"\n" +
+                "version = \"0.1.0\"\n");
+        Files.writeString(projectPath.resolve("main.bal"), "import ballerina/http;\nimport ballerina/openapi;\n\n" +
+                "@openapi:ServiceInfo {\n    contract: \"petstore.yaml\"\n}\n" +
+                "service /pets on new http:Listener(9090) {\n" +
+                "    resource function get pets() returns string {\n        return \"pets\";\n    }\n}\n");
+        String contract = "openapi: 3.0.1\ninfo:\n  title: Petstore\n  version: 1.0.0\npaths:\n" +
+                "  /pets:\n    get:\n      responses:\n        '200':\n          description: Ok\n";
+        Files.writeString(projectPath.resolve("petstore.yaml"), contract);
+        Path ballerinaFilePath = projectPath.resolve("main.bal");
+
+        OASContractGenerator openApiConverter = new OASContractGenerator();
+        openApiConverter.setIncremental(true);
+        openApiConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, outPath, null, false);
+        Path definitionPath = outPath.resolve("pets_openapi.yaml");
+        Assert.assertFalse(Files.readString(definitionPath).contains("/animals"));
+
+        // Only the contract is changed, which the previous export is not up to date with
+        Files.writeString(projectPath.resolve("petstore.yaml"), contract + "  /animals:\n    get:\n" +
+                "      responses:\n        '200':\n          description: Ok\n");
+        OASContractGenerator nextConverter = new OASContractGenerator();
+        nextConverter.setIncremental(true);
+        nextConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, outPath, null, false);
+        Assert.assertTrue(Files.readString(definitionPath).contains("/animals"));
+        Assert.assertFalse(Files.exists(outPath.resolve("pets_openapi_1.yaml")));
+    }
+
+    @Test(description = "Same named files of different modules have their own export caches")
+    public void testIncrementalExportCachePaths() {
+        Path projectPath = RES_DIR.resolve("ballerina-project/service");
+        Project project = ProjectLoader.loadProject(projectPath.resolve("modules/types/types.bal"));
+        Optional<Path> moduleCachePath = OASGenerationCache.getCachePath(project,
+                projectPath.resolve("modules/types/types.bal"));
+        Optional<Path> rootCachePath = OASGenerationCache.getCachePath(project, projectPath.resolve("types.bal"));
+        Assert.assertTrue(moduleCachePath.isPresent() && rootCachePath.isPresent());
+        Path cacheDirectory = project.sourceRoot().toAbsolutePath().normalize().resolve("target/openapi-cache");
+        Assert.assertEquals(moduleCachePath.get(), cacheDirectory.resolve("modules/types/types.json"));
+        Assert.assertEquals(rootCachePath.get(), cacheDirectory.resolve("types.json"));
+    }
+
     @Test(description = "Generate OpenAPI spec for build project")
     public void testForResponse01() throws IOException {
         Path ballerinaFilePath = RES_DIR.resolve("scenario01.bal");
@@ -232,6 +339,178 @@ public class OpenApiConverterUtilsTest {
         Assert.assertEquals(unescapeIdentifier("ชื่\\u{E2D}"), "ชื่อ");
     }
 
+    @Test(description = "Serialized OpenAPI definition is cached per format and streamed as it is serialized")
+    public void testSerializeOASResult() throws IOException {
+        OpenAPI openAPI = new OpenAPI().info(new Info().title("Hello").version("1.0.0"));
+        OASResult oasResult = new OASResult(openAPI, new ArrayList<>());
+        ByteArrayOutputStream yamlStream = new ByteArrayOutputStream();
+        oasResult.writeTo(yamlStream, OASResult.Format.YAML);
+        String yaml = oasResult.getYaml().orElseThrow();
+        Assert.assertEquals(yamlStream.toString(StandardCharsets.UTF_8), yaml);
+        Assert.assertSame(oasResult.getYaml().orElseThrow(), yaml);
+
+        ByteArrayOutputStream jsonStream = new ByteArrayOutputStream();
+        oasResult.writeTo(jsonStream, OASResult.Format.JSON);
+        Assert.assertEquals(jsonStream.toString(StandardCharsets.UTF_8), oasResult.getJson().orElseThrow());
+
+        oasResult.setOpenAPI(new OpenAPI().info(new Info().title("Bye").version("1.0.0")));
+        Assert.assertTrue(oasResult.getYaml().orElseThrow().contains("Bye"));
+    }
+
+    @Test(description = "Responses cached for a type are handed out as copies with their response headers")
+    public void testTypeResolutionCacheResponses() {
+        TypeResolutionCache typeCache = new TypeResolutionCache();
+        Map<String, Header> headers = new LinkedHashMap<>();
+        headers.put("x-rate-limit", new Header().schema(new IntegerSchema()));
+        ComposedSchema composedSchema = new ComposedSchema();
+        composedSchema.addOneOfItem(new Schema<>().$ref("User"));
+        composedSchema.addOneOfItem(new StringSchema());
+        ApiResponses apiResponses = new ApiResponses();
+        apiResponses.addApiResponse("200", new ApiResponse().description("Ok").headers(headers).content(
+                new Content().addMediaType("application/json", new MediaType().schema(composedSchema))));
+        apiResponses.addApiResponse("404", new ApiResponse().description("NotFound"));
+        Assert.assertFalse(typeCache.hasResponses("200  UserOk"));
+        typeCache.putResponses("200  UserOk", Optional.of(apiResponses), headers);
+        Assert.assertTrue(typeCache.hasResponses("200  UserOk"));
+
+        Map<String, Header> returnHeaders = new LinkedHashMap<>();
+        ApiResponses cachedResponses = typeCache.getResponses("200  UserOk", returnHeaders).orElseThrow();
+        Assert.assertEquals(returnHeaders.keySet(), headers.keySet());
+        Assert.assertEquals(cachedResponses, apiResponses);
+        Assert.assertNotSame(cachedResponses.get("200"), apiResponses.get("200"));
+        Assert.assertSame(cachedResponses.get("200").getHeaders(), returnHeaders);
+        Assert.assertNull(cachedResponses.get("404").getHeaders());
+
+        Schema<?> cachedSchema = cachedResponses.get("200").getContent().get("application/json").getSchema();
+        cachedSchema.getOneOf().add(new ObjectSchema());
+        Assert.assertEquals(typeCache.getResponses("200  UserOk", new LinkedHashMap<>()).orElseThrow()
+                .get("200").getContent().get("application/json").getSchema().getOneOf().size(), 2);
+    }
+
+    @Test(description = "Parsed contracts are cached until the contract file changes")
+    public void testContractParseCache() throws IOException {
+        Path contractPath = this.tempDir.resolve("petstore.yaml");
+        String contract = "openapi: 3.0.1\ninfo:\n  title: Petstore\n  version: 1.0.0\npaths:\n" +
+                "  /pets:\n    get:\n      responses:\n        '200':\n          description: Ok\n";
+        Files.writeString(contractPath, contract);
+        OpenAPI firstParse = parseOpenAPIFile(contractPath.toString()).getOpenAPI().orElseThrow();
+        OpenAPI secondParse = parseOpenAPIFile(contractPath.toString()).getOpenAPI().orElseThrow();
+        Assert.assertNotSame(secondParse, firstParse);
+        Assert.assertNotSame(secondParse.getInfo(), firstParse.getInfo());
+        // Every parse gets its own paths map, sharing the resolved path items of the cached model
+        Assert.assertNotSame(secondParse.getPaths(), firstParse.getPaths());
+        Assert.assertSame(secondParse.getPaths().get("/pets"), firstParse.getPaths().get("/pets"));
+        secondParse.getInfo().setTitle("Changed");
+        secondParse.getPaths().remove("/pets");
+        OpenAPI thirdParse = parseOpenAPIFile(contractPath.toString()).getOpenAPI().orElseThrow();
+        Assert.assertEquals(thirdParse.getInfo().getTitle(), "Petstore");
+        Assert.assertTrue(thirdParse.getPaths().containsKey("/pets"));
+
+        Files.writeString(contractPath, contract.replace("/pets", "/animals"));
+        OpenAPI changedParse = parseOpenAPIFile(contractPath.toString()).getOpenAPI().orElseThrow();
+        Assert.assertTrue(changedParse.getPaths().containsKey("/animals"));
+    }
+
+    @Test(description = "Repeated inline records are moved into the component schemas with stable names")
+    public void testInlineSchemaDeduplication() throws JsonProcessingException {
+        OpenAPI openAPI = createUsersDefinition(false);
+        Operation postUser = openAPI.getPaths().get("/users").getPost();
+        Operation putUser = openAPI.getPaths().get("/users/{id}").getPut();
+
+        Assert.assertEquals(new InlineSchemaDeduplicator(openAPI).deduplicate(), 2);
+        Map<String, Schema> schemas = openAPI.getComponents().getSchemas();
+        String userRecord = schemas.keySet().stream().filter(name -> name.startsWith("InlineRecord")).findFirst()
+                .orElseThrow();
+        Assert.assertTrue(userRecord.matches("InlineRecord[0-9a-f]{8}"), userRecord);
+        // The nested record is named after the component owning it, and the other record after its structure
+        Assert.assertEquals(schemas.keySet(), Set.of("User", "UserAddress", userRecord));
+        Assert.assertEquals(schemas.get("User").getProperties().get("address").get$ref(),
+                "#/components/schemas/UserAddress");
+        Assert.assertEquals(schemas.get(userRecord).getProperties().get("address").get$ref(),
+                "#/components/schemas/UserAddress");
+        Assert.assertEquals(getJsonSchema(postUser.getRequestBody().getContent()).get$ref(),
+                "#/components/schemas/" + userRecord);
+        Assert.assertEquals(getJsonSchema(postUser.getResponses().get("201").getContent()).get$ref(),
+                "#/components/schemas/" + userRecord);
+        Assert.assertEquals(getJsonSchema(putUser.getRequestBody().getContent()).get$ref(),
+                "#/components/schemas/" + userRecord);
+        // The record differing in its documentation is kept inline, with a reference to the nested record
+        Schema<?> updatedUser = getJsonSchema(putUser.getResponses().get("200").getContent());
+        Assert.assertNull(updatedUser.get$ref());
+        Assert.assertEquals(updatedUser.getProperties().get("address").get$ref(),
+                "#/components/schemas/UserAddress");
+        Assert.assertEquals(new InlineSchemaDeduplicator(openAPI).deduplicate(), 0);
+
+        // The names do not depend on the order the operations are visited in
+        OpenAPI reversedOpenAPI = createUsersDefinition(true);
+        Assert.assertEquals(new InlineSchemaDeduplicator(reversedOpenAPI).deduplicate(), 2);
+        Assert.assertEquals(Json.mapper().writeValueAsString(reversedOpenAPI.getComponents()),
+                Json.mapper().writeValueAsString(openAPI.getComponents()));
+    }
+
+    @Test(description = "Compact export reports the inline records moved into the components")
+    public void testCompactExportDiagnostic() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("compact/repeated_records.bal");
+        Project project = ProjectLoader.loadProject(ballerinaFilePath);
+        Module module = project.currentPackage().getDefaultModule();
+        SyntaxTree syntaxTree = module.document(module.documentIds().iterator().next()).syntaxTree();
+        SemanticModel semanticModel = project.currentPackage().getCompilation().getSemanticModel(module.moduleId());
+        List<OASResult> results = ServiceToOpenAPIConverterUtils.generateOAS3Definition(project,
+                ListenerIndex.of(project), syntaxTree, semanticModel, null, false, ballerinaFilePath, 1, true,
+                metaInfo -> true);
+
+        Assert.assertEquals(results.size(), 1);
+        Assert.assertTrue(results.get(0).getOpenAPI().isPresent());
+        Optional<OpenAPIConverterDiagnostic> compactDiagnostic = results.get(0).getDiagnostics().stream()
+                .filter(diagnostic -> diagnostic.getCode().equals(DiagnosticMessages.OAS_CONVERTOR_116.getCode()))
+                .findFirst();
+        Assert.assertTrue(compactDiagnostic.isPresent());
+        Assert.assertEquals(compactDiagnostic.get().getDiagnosticSeverity(), DiagnosticSeverity.INFO);
+        Assert.assertTrue(compactDiagnostic.get().getMessage().startsWith("Moved 1 repeated inline record"),
+                compactDiagnostic.get().getMessage());
+    }
+
+    /**
+     * Creates a definition with a `User` component, where an inline user record is repeated across the operations.
+     */
+    private static OpenAPI createUsersDefinition(boolean reversed) {
+        OpenAPI openAPI = new OpenAPI().components(new Components().addSchemas("User", new ObjectSchema()
+                .addProperty("address", createAddressSchema())));
+        Operation postUser = new Operation().operationId("postUser")
+                .requestBody(new RequestBody().content(createJsonContent(createUserSchema())))
+                .responses(new ApiResponses().addApiResponse("201", new ApiResponse().description("Created")
+                        .content(createJsonContent(createUserSchema()))));
+        Operation putUser = new Operation().operationId("putUser")
+                .requestBody(new RequestBody().content(createJsonContent(createUserSchema())))
+                .responses(new ApiResponses().addApiResponse("200", new ApiResponse().description("Ok")
+                        .content(createJsonContent(createUserSchema().description("Updated user")))));
+        io.swagger.v3.oas.models.Paths paths = new io.swagger.v3.oas.models.Paths();
+        if (reversed) {
+            paths.addPathItem("/users/{id}", new PathItem().put(putUser)).addPathItem("/users",
+                    new PathItem().post(postUser));
+        } else {
+            paths.addPathItem("/users", new PathItem().post(postUser)).addPathItem("/users/{id}",
+                    new PathItem().put(putUser));
+        }
+        return openAPI.paths(paths);
+    }
+
+    private static Schema<?> createUserSchema() {
+        return new ObjectSchema().addProperty("name", new StringSchema()).addProperty("address", createAddressSchema());
+    }
+
+    private static Schema<?> createAddressSchema() {
+        return new ObjectSchema().addProperty("city", new StringSchema()).addProperty("zip", new IntegerSchema());
+    }
+
+    private static Content createJsonContent(Schema<?> schema) {
+        return new Content().addMediaType("application/json", new MediaType().schema(schema));
+    }
+
+    private static Schema<?> getJsonSchema(Content content) {
+        return content.get("application/json").getSchema();
+    }
+
     @AfterMethod
     public void cleanUp() {
         deleteDirectory(this.tempDir);
@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -69,6 +70,37 @@ public class ServiceDeclarationNodesTests {
                 "multiple_services_no_base_path_");
     }
 
+    @Test(description = "Multiple services converted concurrently give the definitions of the sequential conversion")
+    public void multipleServiceConcurrently() throws IOException {
+        Path ballerinaFilePath = RES_DIR.resolve("multiple_services.bal");
+        Path parallelDir = Files.createTempDirectory("bal-to-openapi-test-out-" + System.nanoTime());
+        try {
+            new OASContractGenerator().generateOAS3DefinitionsAllService(ballerinaFilePath, tempDir, null, false);
+            OASContractGenerator openApiConverter = new OASContractGenerator();
+            openApiConverter.setParallelism(4);
+            openApiConverter.generateOAS3DefinitionsAllService(ballerinaFilePath, parallelDir, null, false);
+
+            // The services sharing a base path are told apart by the hash code of their symbols, which differs
+            // between the compilations, hence the files are paired in their sorted order
+            String[] sequentialFiles = Objects.requireNonNull(tempDir.toFile().list());
+            String[] parallelFiles = Objects.requireNonNull(parallelDir.toFile().list());
+            Arrays.sort(sequentialFiles);
+            Arrays.sort(parallelFiles);
+            Assert.assertEquals(parallelFiles.length, sequentialFiles.length);
+            Assert.assertTrue(sequentialFiles.length > 1);
+            for (int i = 0; i < sequentialFiles.length; i++) {
+                Assert.assertEquals(parallelFiles[i].replaceAll("\\d", ""),
+                        sequentialFiles[i].replaceAll("\\d", ""));
+                Assert.assertEquals(getStringFromGivenBalFile(parallelDir, parallelFiles[i]),
+                        getStringFromGivenBalFile(tempDir, sequentialFiles[i]), parallelFiles[i]);
+            }
+        } finally {
+            deleteDirectory(tempDir);
+            deleteDirectory(parallelDir);
+            System.gc();
+        }
+    }
+
     private static String getStringFromGivenBalFile(Path expectedServiceFile, String s) throws IOException {
         Stream<String> expectedServiceLines = Files.lines(expectedServiceFile.resolve(s));
         String expectedServiceContent = expectedServiceLines.collect(Collectors.joining("\n"));
@@ -110,6 +110,22 @@ public class PrimitiveDataTypeTests {
                 "schema/ballerina/invalid_formats.bal", syntaxTree);
     }
 
+    @Test(description = "Binary fields take a file path only in the parts of multipart payloads")
+    public void generateSchemaForMultipartBinaryFields() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/multipart_binary.yaml");
+        OpenAPI openAPI = GeneratorUtils.normalizeOpenAPI(definitionPath, true);
+        BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI);
+        // The schema is referred only by a multipart payload, hence the client takes a file path in its own type
+        ballerinaSchemaGenerator.setGenerateMultipartPayloads(true);
+        syntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
+        String generatedTypes = syntaxTree.toString().replaceAll("\\s+", "");
+        Assert.assertTrue(generatedTypes.contains(("public type DocumentUpload record { string name?; " +
+                "record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;} file;};")
+                .replaceAll("\\s+", "")));
+        Assert.assertTrue(generatedTypes.contains(("public type Document record { string name?; " +
+                "record {byte[] fileContent; string fileName;} content?;};").replaceAll("\\s+", "")));
+    }
+
     @AfterTest
     public void clean() {
         System.setErr(null);
@@ -24,6 +24,7 @@ import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.ListenerTuning;
 import io.swagger.v3.oas.models.OpenAPI;
 import org.ballerinalang.formatter.core.FormatterException;
 import org.testng.annotations.Test;
@@ -32,7 +33,9 @@ import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * All the tests related to the {@code io.ballerina.openapi.generators.service.ListenerGenerator} util.
@@ -110,4 +113,52 @@ public class ListenerTests {
         syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listeners05.bal", syntaxTree);
     }
+
+    @Test(description = "Generate the listener configuration with the `x-ballerina-listener` extension values")
+    public void generateTunedListener() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("generators/service/swagger/listeners/listener_tuning.yaml");
+        OpenAPI openAPI = CmdUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("listeners/listener_tuning.bal",
+                syntaxTree);
+    }
+
+    @Test(description = "Override the `x-ballerina-listener` extension values with the listener configuration")
+    public void generateTunedListenerWithOverride() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("generators/service/swagger/listeners/listener_tuning.yaml");
+        OpenAPI openAPI = CmdUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        Map<String, Object> requestLimits = new LinkedHashMap<>();
+        requestLimits.put("maxHeaderSize", 16384);
+        Map<String, Object> http1Settings = new LinkedHashMap<>();
+        http1Settings.put("keepAlive", "never");
+        Map<String, Object> listenerConfig = new LinkedHashMap<>();
+        listenerConfig.put("httpVersion", "1.1");
+        listenerConfig.put("requestLimits", requestLimits);
+        listenerConfig.put("http1Settings", http1Settings);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withListenerTuning(ListenerTuning.fromMap(listenerConfig, "the listener configuration"))
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                "listeners/listener_tuning_override.bal", syntaxTree);
+    }
+
+    @Test(description = "Listener configuration with an invalid value", expectedExceptions =
+            BallerinaOpenApiException.class, expectedExceptionsMessageRegExp = "Invalid value for " +
+            "`http1Settings.keepAlive` in the listener configuration, expected one of `AUTO`, `ALWAYS` or `NEVER`.")
+    public void generateTunedListenerWithInvalidValue() throws BallerinaOpenApiException {
+        Map<String, Object> http1Settings = new LinkedHashMap<>();
+        http1Settings.put("keepAlive", "sometimes");
+        Map<String, Object> listenerConfig = new LinkedHashMap<>();
+        listenerConfig.put("http1Settings", http1Settings);
+        ListenerTuning.fromMap(listenerConfig, "the listener configuration");
+    }
 }
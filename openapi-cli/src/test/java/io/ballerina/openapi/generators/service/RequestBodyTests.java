@@ -27,6 +27,7 @@ import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -241,4 +242,37 @@ public class RequestBodyTests {
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
                 "requestBody/additional_prop_types.bal", typeSyntaxTree);
     }
+
+    @Test(description = "Binary request bodies are read as byte streams with the streaming payloads option")
+    public void testForStreamingPayload() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/requestBody/streaming_payload.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withStreamingPayloads(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                "requestBody/streaming_payload.bal", syntaxTree);
+    }
+
+    @Test(description = "Binary fields of the multipart payload schemas keep their type in the types of a service")
+    public void testForMultipartBinaryPayloadTypes() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/requestBody/multipart_binary.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        BallerinaTypesGenerator ballerinaTypesGenerator = new BallerinaTypesGenerator(openAPI, false,
+                ballerinaServiceGenerator.getTypeInclusionRecords());
+        String generatedTypes = ballerinaTypesGenerator.generateSyntaxTree().toString().replaceAll("\\s+", "");
+        Assert.assertTrue(generatedTypes.contains(("public type DocumentUpload record { string name?; " +
+                "record {byte[] fileContent; string fileName;} file;};").replaceAll("\\s+", "")));
+        Assert.assertFalse(generatedTypes.contains("filePath"));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.service;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.ServiceSplit;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.Paths;
+import io.swagger.v3.oas.models.media.Content;
+import io.swagger.v3.oas.models.media.IntegerSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.ObjectSchema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+import io.swagger.v3.oas.models.responses.ApiResponses;
+import io.swagger.v3.oas.models.servers.Server;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Tests for the generation of the resource functions of large definitions, which are generated concurrently.
+ */
+public class ResourceFunctionGenerationTests {
+
+    private static final int PATH_COUNT = 40;
+
+    @Test(description = "Resource functions of a large definition are generated in the order of the definition")
+    public void generateResourceFunctionsInOrder() throws BallerinaOpenApiException {
+        String first = generateService();
+        String second = generateService();
+        Assert.assertEquals(first, second);
+        int previousIndex = -1;
+        for (int i = 0; i < PATH_COUNT; i++) {
+            int index = first.indexOf("resourcefunctiongetitems" + i + "()");
+            Assert.assertTrue(index > previousIndex, "Resource function of `/items" + i + "` is out of order");
+            previousIndex = index;
+        }
+    }
+
+    @Test(description = "Inline response records of the operations of the same path have distinct names")
+    public void generateDistinctInlineResponseRecords() throws BallerinaOpenApiException {
+        BallerinaServiceGenerator serviceGenerator = getServiceGenerator();
+        String service = serviceGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(service.contains("resourcefunctiongetitems0()returnsItems0Response{"));
+        Assert.assertTrue(service.contains("resourcefunctionpostitems0()returnsItems0PostResponse{"));
+        List<String> recordNames = serviceGenerator.getTypeInclusionRecords().stream()
+                .map(typeDefinitionNode -> typeDefinitionNode.typeName().text())
+                .collect(Collectors.toList());
+        Assert.assertEquals(recordNames.size(), PATH_COUNT * 2);
+        Assert.assertTrue(recordNames.contains("Items0Response"));
+        Assert.assertTrue(recordNames.contains("Items0PostResponse"));
+    }
+
+    @Test(description = "Services generated concurrently are the same as the services generated sequentially")
+    public void generateSplitServicesConcurrently() throws BallerinaOpenApiException {
+        Map<String, SyntaxTree> sequential = getServiceGenerator(ServiceSplit.PATH, 1).generateSplitSyntaxTrees();
+        Map<String, SyntaxTree> concurrent = getServiceGenerator(ServiceSplit.PATH, 4).generateSplitSyntaxTrees();
+        Assert.assertEquals(sequential.size(), PATH_COUNT + 1);
+        Assert.assertEquals(new ArrayList<>(concurrent.keySet()), new ArrayList<>(sequential.keySet()));
+        for (Map.Entry<String, SyntaxTree> service : sequential.entrySet()) {
+            Assert.assertEquals(concurrent.get(service.getKey()).toSourceCode(), service.getValue().toSourceCode(),
+                    "Service `" + service.getKey() + "` differs");
+        }
+        Assert.assertEquals(getServiceGenerator(null, 4).generateSyntaxTree().toSourceCode(),
+                getServiceGenerator(null, 1).generateSyntaxTree().toSourceCode());
+    }
+
+    private static String generateService() throws BallerinaOpenApiException {
+        SyntaxTree syntaxTree = getServiceGenerator().generateSyntaxTree();
+        return syntaxTree.toSourceCode().replaceAll("\\s+", "");
+    }
+
+    private static BallerinaServiceGenerator getServiceGenerator() {
+        return getServiceGenerator(null, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static BallerinaServiceGenerator getServiceGenerator(ServiceSplit serviceSplit, int parallelism) {
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(getOpenAPI())
+                .withFilters(new Filter(new ArrayList<>(), new ArrayList<>()))
+                .withServiceSplit(serviceSplit)
+                .withParallelism(parallelism)
+                .build();
+        return new BallerinaServiceGenerator(oasServiceMetadata);
+    }
+
+    /**
+     * Create a definition with more operations than the concurrent generation threshold, where both the GET and the
+     * POST operations of each path return inline response records without a status code.
+     */
+    private static OpenAPI getOpenAPI() {
+        Paths paths = new Paths();
+        for (int i = 0; i < PATH_COUNT; i++) {
+            paths.addPathItem("/items" + i, new PathItem()
+                    .get(getOperation("200", new ObjectSchema().addProperty("name", new StringSchema())))
+                    .post(getOperation("201", new ObjectSchema().addProperty("id", new IntegerSchema()))));
+        }
+        return new OpenAPI().addServersItem(new Server().url("http://localhost:9090/v1")).paths(paths);
+    }
+
+    private static Operation getOperation(String statusCode, ObjectSchema schema) {
+        ApiResponse response = new ApiResponse().description("Successful")
+                .content(new Content().addMediaType("application/json", new MediaType().schema(schema)));
+        return new Operation().responses(new ApiResponses().addApiResponse(statusCode, response));
+    }
+}
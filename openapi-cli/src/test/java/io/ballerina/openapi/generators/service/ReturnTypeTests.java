@@ -19,12 +19,14 @@
 package io.ballerina.openapi.generators.service;
 
 import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
 import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
 import java.io.IOException;
@@ -32,6 +34,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * All the tests related to the {@code io.ballerina.openapi.generators.service.RequestBodyGenerator} util.
@@ -470,4 +473,63 @@ public class ReturnTypeTests {
         CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
                 "response/multiline_return_description.bal", syntaxTree);
     }
+
+    @Test(description = "Generate cache annotations for GET resources from the caching headers and `x-cache`")
+    public void generateCacheAnnotations() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/cache_config.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree("response/cache_config.bal", syntaxTree);
+    }
+
+    @Test(description = "Generate the status code records by the structure of the records")
+    public void generateStatusCodeRecords() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/status_code_records.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String service = ballerinaServiceGenerator.generateSyntaxTree().toSourceCode();
+        List<String> recordNames = ballerinaServiceGenerator.getTypeInclusionRecords().stream()
+                .map(typeDefinitionNode -> typeDefinitionNode.typeName().text())
+                .collect(Collectors.toList());
+        Assert.assertEquals(recordNames, List.of("BadRequestPetArrayBody", "NotFoundError", "BadRequestPet",
+                "BadRequestPetOrXml", "BadRequestPetArray"));
+        String compactService = service.replaceAll("\\s+", "");
+        Assert.assertTrue(compactService.contains("returnsPet|BadRequestPet|NotFoundError"));
+        Assert.assertTrue(compactService.contains("returnsPet[]|BadRequestPetArrayBody|NotFoundError"));
+        Assert.assertTrue(compactService.contains("returnsPetArray|BadRequestPetArray"));
+
+        BallerinaServiceGenerator regeneratedServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        Assert.assertEquals(regeneratedServiceGenerator.generateSyntaxTree().toSourceCode(), service);
+    }
+
+    @Test(description = "Rename the different status code records of the operations which are given the same name")
+    public void generateStatusCodeRecordsWithSameName() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/response/status_code_record_names.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        String service = ballerinaServiceGenerator.generateSyntaxTree().toSourceCode();
+        List<TypeDefinitionNode> records = ballerinaServiceGenerator.getTypeInclusionRecords();
+        // `(Pet|Error)[]` and `Pet|Error[]` are both named after the same tokens
+        Assert.assertEquals(records.stream()
+                .map(typeDefinitionNode -> typeDefinitionNode.typeName().text())
+                .collect(Collectors.toList()), List.of("BadRequestPetOrErrorArray", "BadRequestPetOrErrorArray_1"));
+        Assert.assertNotEquals(records.get(0).typeDescriptor().toSourceCode().replaceAll("\\s+", ""),
+                records.get(1).typeDescriptor().toSourceCode().replaceAll("\\s+", ""));
+        String compactService = service.replaceAll("\\s+", "");
+        Assert.assertTrue(compactService.contains("pets()returnsPet|BadRequestPetOrErrorArray{"));
+        Assert.assertTrue(compactService.contains("owners()returnsPet|BadRequestPetOrErrorArray_1{"));
+    }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.service;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceObjectGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.ServiceSplit;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tests for the services split by the tags or the path prefixes of the operations.
+ */
+public class ServiceSplitTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/service/swagger/split")
+            .toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate a service per tag, where the tags with the same base path are merged")
+    public void generateServicePerTag() throws IOException, BallerinaOpenApiException {
+        BallerinaServiceGenerator serviceGenerator = getServiceGenerator(ServiceSplit.TAG);
+        Map<String, SyntaxTree> syntaxTrees = serviceGenerator.generateSplitSyntaxTrees();
+        Assert.assertEquals(new ArrayList<>(syntaxTrees.keySet()), List.of("", "pets_owners", "stores", "default"));
+
+        String listener = syntaxTrees.get("").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(listener.contains("listenerhttp:Listenerep0="));
+        Assert.assertFalse(listener.contains("service"));
+
+        String pets = syntaxTrees.get("pets_owners").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(pets.contains("service /v1/pets on ep0 {".replaceAll("\\s+", "")));
+        Assert.assertTrue(pets.contains("resource function get .()".replaceAll("\\s+", "")));
+        Assert.assertTrue(pets.contains("resource function get [int petId]()".replaceAll("\\s+", "")));
+        Assert.assertTrue(pets.contains("resource function get [int petId]/owner()".replaceAll("\\s+", "")));
+        Assert.assertFalse(pets.contains("orders"));
+
+        String stores = syntaxTrees.get("stores").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(stores.contains("service /v1/stores on ep0 {".replaceAll("\\s+", "")));
+        Assert.assertTrue(stores.contains("resource function get [string storeId]/orders()"
+                .replaceAll("\\s+", "")));
+        Assert.assertTrue(stores.contains("resource function delete [string storeId]/orders/[string orderId]()"
+                .replaceAll("\\s+", "")));
+
+        String health = syntaxTrees.get("default").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(health.contains("service /v1/health on ep0 {".replaceAll("\\s+", "")));
+        Assert.assertEquals(serviceGenerator.getFunctionList().size(), 6);
+    }
+
+    @Test(description = "Generate a service per path prefix with the service types")
+    public void generateServicePerPath() throws IOException, BallerinaOpenApiException {
+        BallerinaServiceGenerator serviceGenerator = getServiceGenerator(ServiceSplit.PATH);
+        Map<String, SyntaxTree> syntaxTrees = serviceGenerator.generateSplitSyntaxTrees();
+        Assert.assertEquals(new ArrayList<>(syntaxTrees.keySet()), List.of("", "pets", "stores", "health"));
+
+        String pets = syntaxTrees.get("pets").toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(pets.contains("service PetsServiceType /v1/pets on ep0 {".replaceAll("\\s+", "")));
+        Assert.assertTrue(pets.contains("resource function get [int petId]/owner()".replaceAll("\\s+", "")));
+
+        BallerinaServiceObjectGenerator serviceObjectGenerator = new BallerinaServiceObjectGenerator(
+                serviceGenerator.getGroupFunctionLists().get("pets"),
+                BallerinaServiceGenerator.getServiceTypeName("pets"));
+        String serviceType = serviceObjectGenerator.generateSyntaxTree().toSourceCode().replaceAll("\\s+", "");
+        Assert.assertTrue(serviceType.contains("type PetsServiceType service object {".replaceAll("\\s+", "")));
+        Assert.assertTrue(serviceType.contains("resource function get [int petId]/owner()".replaceAll("\\s+", "")));
+        Assert.assertFalse(serviceType.contains("orders"));
+    }
+
+    private BallerinaServiceGenerator getServiceGenerator(ServiceSplit serviceSplit)
+            throws IOException, BallerinaOpenApiException {
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(RES_DIR.resolve("petstore_split.yaml"));
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withGenerateServiceType(serviceSplit == ServiceSplit.PATH)
+                .withServiceSplit(serviceSplit)
+                .build();
+        return new BallerinaServiceGenerator(oasServiceMetadata);
+    }
+}
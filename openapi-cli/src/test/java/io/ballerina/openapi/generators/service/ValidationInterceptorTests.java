@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.generators.service;
+
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.service.BallerinaServiceGenerator;
+import io.ballerina.openapi.core.generators.service.ValidationInterceptorGenerator;
+import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+
+/**
+ * All the tests related to the {@code io.ballerina.openapi.core.generators.service.ValidationInterceptorGenerator}.
+ */
+public class ValidationInterceptorTests {
+    private static final Path RES_DIR = Paths.get("src/test/resources/generators/service").toAbsolutePath();
+    private final Filter filter = new Filter(new ArrayList<>(), new ArrayList<>());
+
+    @Test(description = "Generate the service which engages the validation interceptors")
+    public void generateValidatedService() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        OASServiceMetadata oasServiceMetadata = new OASServiceMetadata.Builder()
+                .withOpenAPI(openAPI)
+                .withFilters(filter)
+                .withContractValidation(true)
+                .build();
+        BallerinaServiceGenerator ballerinaServiceGenerator = new BallerinaServiceGenerator(oasServiceMetadata);
+        SyntaxTree syntaxTree = ballerinaServiceGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                "validation/validation_service.bal", syntaxTree);
+    }
+
+    @Test(description = "Generate the request and response validation interceptors")
+    public void generateValidationInterceptors() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/validation/petstore_validation.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        ValidationInterceptorGenerator validationGenerator = new ValidationInterceptorGenerator(openAPI, filter);
+        SyntaxTree syntaxTree = validationGenerator.generateSyntaxTree();
+        CommonTestFunctions.compareGeneratedSyntaxTreewithExpectedSyntaxTree(
+                "validation/validation_interceptors.bal", syntaxTree);
+    }
+
+    @Test(description = "Validate the parameters of the path along with the ones of the operation")
+    public void generateValidationOfPathLevelParameters() throws IOException, BallerinaOpenApiException {
+        Path definitionPath = RES_DIR.resolve("swagger/validation/path_parameters.yaml");
+        OpenAPI openAPI = GeneratorUtils.getOpenAPIFromOpenAPIV3Parser(definitionPath);
+        ValidationInterceptorGenerator validationGenerator = new ValidationInterceptorGenerator(openAPI, filter);
+        String content = validationGenerator.generateSyntaxTree().toSourceCode();
+        Assert.assertTrue(content.contains("Header `X-Tenant` is required"));
+        // The optional `limit` of the operation overrides the required one of the path
+        Assert.assertTrue(content.contains("getQueryParamValue(\"limit\")"));
+        Assert.assertFalse(content.contains("Query parameter `limit` is required"));
+    }
+}
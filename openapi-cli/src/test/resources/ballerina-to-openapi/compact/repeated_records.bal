@@ -0,0 +1,13 @@
+import ballerina/http;
+
+service /users on new http:Listener(9090) {
+    resource function post .(@http:Payload record {|string name; int age;|} user)
+            returns record {|string name; int age;|} {
+        return user;
+    }
+
+    resource function put [int id](@http:Payload record {|string name; int age;|} user)
+            returns record {|string name; int age;|} {
+        return user;
+    }
+}
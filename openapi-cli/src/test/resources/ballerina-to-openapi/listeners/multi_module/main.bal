@@ -0,0 +1,9 @@
+import ballerina/http;
+
+listener http:Listener ep = new (9090);
+
+service /greeting on ep {
+    resource function get hello() returns string {
+        return "hello";
+    }
+}
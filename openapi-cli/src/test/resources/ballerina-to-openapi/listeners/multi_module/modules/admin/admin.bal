@@ -0,0 +1,9 @@
+import ballerina/http;
+
+listener http:Listener ep = new (9091);
+
+service /admin on ep {
+    resource function get health() returns string {
+        return "ok";
+    }
+}
@@ -48,13 +48,12 @@ public isolated client class Client {
     # + return - successful operation 
     resource isolated function get \*(int petId) returns Pet|error {
         string resourcePath = string `/*`;
-        map<any> headerValues = {};
+        map<string|string[]> httpHeaders = {};
         map<anydata> queryParam = {"petId": petId};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api_key"] = self.apiKeyConfig?.api_key;
+            httpHeaders["api_key"] = <string>self.apiKeyConfig?.api_key;
         }
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         Pet response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
@@ -100,11 +100,10 @@ public isolated client class Client {
     # + return - successful operation
     remote isolated function getPetById(int petId) returns Pet|error {
         string resourcePath = string `/pet/${getEncodedUri(petId)}`;
-        map<any> headerValues = {};
+        map<string|string[]> httpHeaders = {};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api_key"] = self.apiKeyConfig?.api_key;
+            httpHeaders["api_key"] = <string>self.apiKeyConfig?.api_key;
         }
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         Pet response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
@@ -126,8 +125,10 @@ public isolated client class Client {
     # + return - Invalid ID supplied
     remote isolated function deletePet(int petId, string? api_key = ()) returns http:Response|error {
         string resourcePath = string `/pet/${getEncodedUri(petId)}`;
-        map<any> headerValues = {"api_key": api_key};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {};
+        if api_key !is () {
+            httpHeaders["api_key"] = api_key;
+        }
         http:Response response = check self.clientEp->delete(resourcePath, headers = httpHeaders);
         return response;
     }
@@ -138,7 +139,25 @@ public isolated client class Client {
     remote isolated function uploadFile(int petId, PetId_uploadImage_body payload) returns ApiResponse|error {
         string resourcePath = string `/pet/${getEncodedUri(petId)}/uploadImage`;
         http:Request request = new;
-        mime:Entity[] bodyParts = check createBodyParts(payload);
+        mime:Entity[] bodyParts = [];
+        string? additionalMetadataValue = payload?.additionalMetadata;
+        if additionalMetadataValue !is () {
+            mime:Entity additionalMetadataPart = new;
+            additionalMetadataPart.setContentDisposition(mime:getContentDispositionObject("form-data; name=additionalMetadata;"));
+            additionalMetadataPart.setText(additionalMetadataValue);
+            bodyParts.push(additionalMetadataPart);
+        }
+        record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;}? fileValue = payload?.file;
+        if fileValue !is () {
+            mime:Entity filePart = new;
+            filePart.setContentDisposition(mime:getContentDispositionObject(string `form-data; name=file; filename=${fileValue.fileName}`));
+            if fileValue is record {string filePath; string fileName;} {
+                filePart.setFileAsEntityBody(fileValue.filePath);
+            } else {
+                filePart.setByteArray(fileValue.fileContent);
+            }
+            bodyParts.push(filePart);
+        }
         request.setBodyParts(bodyParts);
         ApiResponse response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -148,11 +167,10 @@ public isolated client class Client {
     # + return - successful operation
     remote isolated function getInventory() returns json|error {
         string resourcePath = string `/store/inventory`;
-        map<any> headerValues = {};
+        map<string|string[]> httpHeaders = {};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api_key"] = self.apiKeyConfig?.api_key;
+            httpHeaders["api_key"] = <string>self.apiKeyConfig?.api_key;
         }
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         json response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
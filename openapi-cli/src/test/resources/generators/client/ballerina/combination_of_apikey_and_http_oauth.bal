@@ -48,14 +48,13 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function getPetInfo(string petId, string headerX) returns Pet|error {
         string resourcePath = string `/pets/management`;
-        map<any> headerValues = {"headerX": headerX};
+        map<string|string[]> httpHeaders = {"headerX": headerX};
         map<anydata> queryParam = {"petId": petId};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api-key"] = self.apiKeyConfig?.apiKey;
+            httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;
             queryParam["api-key-2"] = self.apiKeyConfig?.apiKey2;
         }
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         Pet response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
@@ -64,14 +63,13 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function votePet() returns Pet|error {
         string resourcePath = string `/pets/management`;
-        map<any> headerValues = {};
+        map<string|string[]> httpHeaders = {};
         map<anydata> queryParam = {};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api-key"] = self.apiKeyConfig?.apiKey;
+            httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;
             queryParam["api-key-2"] = self.apiKeyConfig?.apiKey2;
         }
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         http:Request request = new;
         Pet response = check self.clientEp->post(resourcePath, request, httpHeaders);
         return response;
@@ -82,14 +80,13 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function deletePetInfo(string petId) returns Pet|error {
         string resourcePath = string `/pets/management`;
-        map<any> headerValues = {};
+        map<string|string[]> httpHeaders = {};
         map<anydata> queryParam = {"petId": petId};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api-key"] = self.apiKeyConfig?.apiKey;
+            httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;
             queryParam["api-key-2"] = self.apiKeyConfig?.apiKey2;
         }
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         Pet response = check self.clientEp->delete(resourcePath, headers = httpHeaders);
         return response;
     }
@@ -99,14 +96,13 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function deletePetInfo2(string petId) returns Pet|error {
         string resourcePath = string `/pets/management2`;
-        map<any> headerValues = {"petId": petId};
+        map<string|string[]> httpHeaders = {"petId": petId};
         map<anydata> queryParam = {};
         if self.apiKeyConfig is ApiKeysConfig {
-            headerValues["api-key"] = self.apiKeyConfig?.apiKey;
+            httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;
             queryParam["api-key-2"] = self.apiKeyConfig?.apiKey2;
         }
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
         Pet response = check self.clientEp->delete(resourcePath, headers = httpHeaders);
         return response;
     }
@@ -60,8 +60,7 @@ public isolated client class Client {
     # + return - Status OK
     remote isolated function deleteHeader(string xRequestId) returns http:Response|error {
         string resourcePath = string `/header`;
-        map<any> headerValues = {"X-Request-ID": xRequestId};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"X-Request-ID": xRequestId};
         http:Response response = check self.clientEp->delete(resourcePath, headers = httpHeaders);
         return response;
     }
@@ -71,8 +70,7 @@ public isolated client class Client {
     # + return - Status OK
     remote isolated function deleteHeaderRequestBody(string xRequestId, json payload) returns http:Response|error {
         string resourcePath = string `/header-with-request-body`;
-        map<any> headerValues = {"X-Request-ID": xRequestId};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"X-Request-ID": xRequestId};
         http:Request request = new;
         request.setPayload(payload, "application/json");
         http:Response response = check self.clientEp->delete(resourcePath, request, httpHeaders);
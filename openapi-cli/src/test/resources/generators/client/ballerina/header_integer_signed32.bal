@@ -56,8 +56,10 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function showPetById(int:Signed32 xRequestId, int:Signed32[] xRequestClient, Pet[] xRequestPet, int? xRequestHeader=()) returns http:Response|error {
         string resourcePath = string `/pets`;
-        map<any> headerValues = {"X-Request-ID": xRequestId, "X-Request-Client": xRequestClient, "X-Request-Pet": xRequestPet, "X-Request-Header": xRequestHeader, "X-API-KEY": self.apiKeyConfig.xApiKey};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"X-Request-ID": xRequestId.toString(), "X-Request-Client": xRequestClient.map(item => item.toString()), "X-API-KEY": self.apiKeyConfig.xApiKey};
+        if xRequestHeader !is () {
+            httpHeaders["X-Request-Header"] = xRequestHeader.toString();
+        }
         http:Response response = check self.clientEp-> get(resourcePath, httpHeaders);
         return response;
     }
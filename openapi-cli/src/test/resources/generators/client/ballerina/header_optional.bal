@@ -62,8 +62,16 @@ public isolated client class Client {
         string resourcePath = string `/onecall`;
         map<anydata> queryParam = {"lat": lat, "lon": lon, "appid": self.apiKeyConfig.appid};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<any> headerValues = {"exclude": exclude, "units": units, "idList": idList, "locationList": locationList};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {};
+        if exclude !is () {
+            httpHeaders["exclude"] = exclude;
+        }
+        if units !is () {
+            httpHeaders["units"] = units.toString();
+        }
+        if idList !is () {
+            httpHeaders["idList"] = idList.map(item => item.toString());
+        }
         WeatherForecast response = check self.clientEp-> get(resourcePath, httpHeaders);
         return response;
     }
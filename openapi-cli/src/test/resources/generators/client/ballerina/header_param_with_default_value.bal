@@ -60,8 +60,7 @@ public isolated client class Client {
         string resourcePath = string `/onecall`;
         map<anydata> queryParam = {"lat": lat, "lon": lon, "appid": self.apiKeyConfig.appid};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<any> headerValues = {"exclude": exclude, "units": units};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"exclude": exclude, "units": units.toString()};
         WeatherForecast response = check self.clientEp-> get(resourcePath, httpHeaders);
         return response;
     }
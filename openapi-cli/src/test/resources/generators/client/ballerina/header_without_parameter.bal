@@ -51,8 +51,7 @@ public isolated client class Client {
     # + return - Expected response to a valid request
     remote isolated function showPetById() returns http:Response|error {
         string resourcePath = string `/pets`;
-        map<any> headerValues = {"X-API-KEY": self.apiKeyConfig.xApiKey};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"X-API-KEY": self.apiKeyConfig.xApiKey};
         http:Response response = check self.clientEp-> get(resourcePath, httpHeaders);
         return response;
     }
@@ -42,7 +42,32 @@ public isolated client class Client {
     remote isolated function createPet(Pets_body payload) returns http:Response|error {
         string resourcePath = string `/pets`;
         http:Request request = new;
-        mime:Entity[] bodyParts = check createBodyParts(payload);
+        mime:Entity[] bodyParts = [];
+        string? idValue = payload?.id;
+        if idValue !is () {
+            mime:Entity idPart = new;
+            idPart.setContentDisposition(mime:getContentDispositionObject("form-data; name=id;"));
+            idPart.setText(idValue);
+            bodyParts.push(idPart);
+        }
+        anydata addressValue = payload?.address;
+        if addressValue !is () {
+            mime:Entity addressPart = new;
+            addressPart.setContentDisposition(mime:getContentDispositionObject("form-data; name=address;"));
+            addressPart.setJson(addressValue.toJson());
+            bodyParts.push(addressPart);
+        }
+        record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;}? profileImageValue = payload?.profileImage;
+        if profileImageValue !is () {
+            mime:Entity profileImagePart = new;
+            profileImagePart.setContentDisposition(mime:getContentDispositionObject(string `form-data; name=profileImage; filename=${profileImageValue.fileName}`));
+            if profileImageValue is record {string filePath; string fileName;} {
+                profileImagePart.setFileAsEntityBody(profileImageValue.filePath);
+            } else {
+                profileImagePart.setByteArray(profileImageValue.fileContent);
+            }
+            bodyParts.push(profileImagePart);
+        }
         request.setBodyParts(bodyParts);
         http:Response response = check self.clientEp->post(resourcePath, request);
         return response;
@@ -55,7 +80,18 @@ public isolated client class Client {
     remote isolated function createUser(User_body payload) returns http:Response|error {
         string resourcePath = string `/user`;
         http:Request request = new;
-        mime:Entity[] bodyParts = check createBodyParts(payload);
+        mime:Entity[] bodyParts = [];
+        record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;}? fileValue = payload?.File;
+        if fileValue !is () {
+            mime:Entity filePart = new;
+            filePart.setContentDisposition(mime:getContentDispositionObject(string `form-data; name=File; filename=${fileValue.fileName}`));
+            if fileValue is record {string filePath; string fileName;} {
+                filePart.setFileAsEntityBody(fileValue.filePath);
+            } else {
+                filePart.setByteArray(fileValue.fileContent);
+            }
+            bodyParts.push(filePart);
+        }
         request.setBodyParts(bodyParts);
         http:Response response = check self.clientEp->post(resourcePath, request);
         return response;
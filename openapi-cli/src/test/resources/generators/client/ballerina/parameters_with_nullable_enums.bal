@@ -57,8 +57,10 @@ public isolated client class Client {
         map<anydata> queryParam = {"type": 'type, "status": status, "location": location, "format": format};
         map<Encoding> queryParamEncoding = {"status": {style: FORM, explode: true}};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam, queryParamEncoding);
-        map<any> headerValues = {"X-Date-Format": xDateFormat};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {};
+        if xDateFormat !is () {
+            httpHeaders["X-Date-Format"] = xDateFormat;
+        }
         MeetingList response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
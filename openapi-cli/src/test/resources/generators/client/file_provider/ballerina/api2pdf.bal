@@ -53,8 +53,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function chromeFromHtmlPost(ChromeHtmlToPdfRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/chrome/html`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -79,8 +78,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function chromeFromUrlPost(ChromeUrlToPdfRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/chrome/url`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -93,8 +91,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function libreConvertPost(LibreOfficeConvertRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/libreoffice/convert`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -107,8 +104,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function mergePost(MergeRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/merge`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -121,8 +117,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function wkhtmltopdfFromHtmlPost(WkHtmlToPdfHtmlToPdfRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/wkhtmltopdf/html`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -147,8 +142,7 @@ public isolated client class Client {
     # + return - A JSON object containing the url to the PDF and other meta data
     remote isolated function wkhtmltopdfFromUrlPost(WkHtmlToPdfUrlToPdfRequest payload) returns ApiResponseSuccess|error {
         string resourcePath = string `/wkhtmltopdf/url`;
-        map<any> headerValues = {"Authorization": self.apiKeyConfig.authorization};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"Authorization": self.apiKeyConfig.authorization};
         http:Request request = new;
         json jsonBody = payload.toJson();
         request.setPayload(jsonBody, "application/json");
@@ -40,8 +40,10 @@ public isolated client class Client {
     # + return - successful operation
     remote isolated function getInventory(("X"|"Y"|"Z")[]? xClient = ()) returns json|error {
         string resourcePath = string `/store/inventory`;
-        map<any> headerValues = {"X-CLIENT": xClient};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {};
+        if xClient !is () {
+            httpHeaders["X-CLIENT"] = xClient;
+        }
         json response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
@@ -52,8 +52,7 @@ public isolated client class Client {
         string resourcePath = string `/fine-tunes/${getEncodedUri(fineTuneId)}/events`;
         map<anydata> queryParam = {"stream": 'stream, "api-version": apiVersion};
         resourcePath = resourcePath + check getPathForQueryParam(queryParam);
-        map<any> headerValues = {"api-key": self.apiKeyConfig.apiKey};
-        map<string|string[]> httpHeaders = getMapForHeaders(headerValues);
+        map<string|string[]> httpHeaders = {"api-key": self.apiKeyConfig.apiKey};
         EventList response = check self.clientEp->get(resourcePath, httpHeaders);
         return response;
     }
@@ -0,0 +1,20 @@
+import ballerina/http;
+
+# HTTP version supported by the listener
+configurable http:HttpVersion listenerHttpVersion = http:HTTP_2_0;
+# Period of time in seconds that a connection waits for a read/write operation
+configurable decimal listenerTimeout = 30;
+# Inbound request size limits
+configurable http:RequestLimitConfigs listenerRequestLimits = {maxUriLength: 4096, maxEntityBodySize: 1048576};
+# HTTP/1.x settings of the listener
+configurable http:ListenerHttp1Settings listenerHttp1Settings = {keepAlive: http:KEEPALIVE_AUTO, maxPipelinedRequests: 10};
+
+listener http:Listener ep0 = new (9090, config = {host: "localhost", httpVersion: listenerHttpVersion, timeout: listenerTimeout, requestLimits: listenerRequestLimits, http1Settings: listenerHttp1Settings});
+
+service /v1 on ep0 {
+    # List all pets
+    #
+    # + return - Successful
+    resource function get pets() returns string {
+    }
+}
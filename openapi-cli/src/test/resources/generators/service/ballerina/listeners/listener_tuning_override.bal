@@ -0,0 +1,10 @@
+# HTTP version supported by the listener
+configurable http:HttpVersion listenerHttpVersion = http:HTTP_1_1;
+# Period of time in seconds that a connection waits for a read/write operation
+configurable decimal listenerTimeout = 30;
+# Inbound request size limits
+configurable http:RequestLimitConfigs listenerRequestLimits = {maxUriLength: 4096, maxEntityBodySize: 1048576, maxHeaderSize: 16384};
+# HTTP/1.x settings of the listener
+configurable http:ListenerHttp1Settings listenerHttp1Settings = {keepAlive: http:KEEPALIVE_NEVER, maxPipelinedRequests: 10};
+
+listener http:Listener ep0 = new (9090, config = {host: "localhost", httpVersion: listenerHttpVersion, timeout: listenerTimeout, requestLimits: listenerRequestLimits, http1Settings: listenerHttp1Settings});
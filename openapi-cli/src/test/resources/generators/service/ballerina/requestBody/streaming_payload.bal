@@ -0,0 +1,39 @@
+import ballerina/http;
+import ballerina/io;
+
+listener http:Listener ep0 = new (9090, config = {host: "localhost"});
+
+service /v1 on ep0 {
+    # Upload a file
+    #
+    # + request - File content
+    # + return - Uploaded
+    resource function post upload(http:Request request) returns http:Created|error {
+        stream<byte[], io:Error?> payloadStream = check request.getByteStream();
+        record {|byte[] value;|}? chunk = check payloadStream.next();
+        while chunk is record {|byte[] value;|} {
+            // Process the `chunk.value` bytes of the payload
+            chunk = check payloadStream.next();
+        }
+        check payloadStream.close();
+    }
+    # Replace the image
+    #
+    # + request - Image content
+    # + return - Replaced
+    resource function put images(http:Request request) returns http:Ok|error {
+        stream<byte[], io:Error?> payloadStream = check request.getByteStream();
+        record {|byte[] value;|}? chunk = check payloadStream.next();
+        while chunk is record {|byte[] value;|} {
+            // Process the `chunk.value` bytes of the payload
+            chunk = check payloadStream.next();
+        }
+        check payloadStream.close();
+    }
+    # Add a note
+    #
+    # + payload - Note content
+    # + return - Added
+    resource function post notes(@http:Payload string payload) returns http:Created {
+    }
+}
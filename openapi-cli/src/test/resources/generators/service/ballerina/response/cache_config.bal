@@ -0,0 +1,36 @@
+import ballerina/http;
+
+listener http:Listener ep0 = new (9090, config = {host: "localhost"});
+
+service /v1 on ep0 {
+    # List products
+    #
+    # + return - Ok
+    resource function get products() returns @http:Cache {maxAge: 5, mustRevalidate: true, setETag: true, setLastModified: false} string {
+    }
+    # List reviews
+    #
+    # + return - Ok
+    resource function get reviews() returns @http:Cache {maxAge: -1, mustRevalidate: false, noTransform: true, isPrivate: true, privateFields: ["Set-Cookie"], setETag: false, setLastModified: true} string {
+    }
+    # List offers
+    #
+    # + return - Ok
+    resource function get offers() returns @http:Cache {maxAge: 60, noCacheFields: ["Authorization"], setLastModified: false} string {
+    }
+    # Add an offer
+    #
+    # + return - Created
+    resource function post offers() returns http:Created {
+    }
+    # Get the stock
+    #
+    # + return - Ok
+    resource function get stock() returns string {
+    }
+    # Get the catalog
+    #
+    # + return - Ok
+    resource function get catalog() returns @http:Cache {maxAge: -1, mustRevalidate: false, setETag: true, setLastModified: false} string {
+    }
+}
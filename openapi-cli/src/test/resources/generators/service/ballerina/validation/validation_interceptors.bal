@@ -0,0 +1,99 @@
+import ballerina/http;
+
+# Enables the validation of the requests and the responses of the service against the contract
+configurable boolean enableContractValidation = true;
+
+const string OPERATION_KEY = "openapi.operation";
+
+# Status codes declared for the operations which do not have a default or a range response
+final readonly & map<int[]> responseStatusCodes = {"GET /pets": [200], "POST /pets": [201]};
+
+# Validates the requests against the contract before they are dispatched to the service
+service class RequestValidationInterceptor {
+    *http:RequestInterceptor;
+
+    resource function 'default [string... path](http:RequestContext ctx, http:Request req)
+            returns http:NextService|http:BadRequest|error? {
+        string? violation = ();
+        if req.method == "GET" && path.length() == 1 && path[0] == "pets" {
+            ctx.set(OPERATION_KEY, "GET /pets");
+            violation = validateListPets(path, req);
+        } else if req.method == "POST" && path.length() == 1 && path[0] == "pets" {
+            ctx.set(OPERATION_KEY, "POST /pets");
+            violation = validateCreatePet(path, req);
+        } else if req.method == "GET" && path.length() == 2 && path[0] == "pets" {
+            ctx.set(OPERATION_KEY, "GET /pets/{petId}");
+            violation = validateShowPetById(path, req);
+        }
+        if violation is string {
+            return <http:BadRequest>{body: violation};
+        }
+        return ctx.next();
+    }
+}
+
+# Validates the status codes of the responses against the contract
+service class ResponseValidationInterceptor {
+    *http:ResponseInterceptor;
+
+    remote function interceptResponse(http:RequestContext ctx, http:Response res) returns http:NextService|error? {
+        if ctx.hasKey(OPERATION_KEY) {
+            any operation = ctx.get(OPERATION_KEY);
+            int[]? statusCodes = operation is string ? responseStatusCodes[operation] : ();
+            if statusCodes is int[] && statusCodes.indexOf(res.statusCode) is () {
+                return error(string `Status code ${res.statusCode} is not declared in the contract for ${operation.toString()}`);
+            }
+        }
+        return ctx.next();
+    }
+}
+
+# Validates the `GET /pets` requests
+isolated function validateListPets(string[] path, http:Request req) returns string? {
+    string? query0 = req.getQueryParamValue("limit");
+    if query0 is string {
+        if int:fromString(query0) is error {
+            return "Query parameter `limit` must be an integer";
+        }
+    }
+    string|http:HeaderNotFoundError header1 = req.getHeader("x-status");
+    if header1 is http:HeaderNotFoundError {
+        return "Header `x-status` is required";
+    }
+    if header1 is string {
+        if header1 != "available" && header1 != "sold" {
+            return "Header `x-status` must be one of the declared values";
+        }
+    }
+    return;
+}
+
+# Validates the `POST /pets` requests
+isolated function validateCreatePet(string[] path, http:Request req) returns string? {
+    string contentType = req.getContentType();
+    if contentType == "" {
+        return "Request body is required";
+    }
+    if contentType != "" && !isDeclaredMediaType(contentType, ["application/json"]) {
+        return string `Media type ${contentType} is not declared for the request body`;
+    }
+    if isDeclaredMediaType(contentType, ["application/json"]) {
+        json|http:ClientError payload = req.getJsonPayload();
+        if payload is http:ClientError {
+            return "Request body is not a valid JSON";
+        }
+        Pet|error body = payload.cloneWithType();
+        if body is error {
+            return "Request body does not conform to the `Pet` schema";
+        }
+    }
+    return;
+}
+
+# Validates the `GET /pets/{petId}` requests
+isolated function validateShowPetById(string[] path, http:Request req) returns string? {
+    if int:fromString(path[1]) is error {
+        return "Path parameter `petId` must be an integer";
+    }
+    return;
+}
@@ -0,0 +1,6 @@
+service http:InterceptableService /v1 on ep0 {
+    public function createInterceptors() returns http:Interceptor[] {
+        return enableContractValidation ? [new RequestValidationInterceptor(), new ResponseValidationInterceptor()] : [];
+    }
+    # List all pets
+    #
@@ -232,6 +232,7 @@ public class OpenAPIClientGenerator extends IDLClientGenerator {
                 .getBallerinaAuthConfigGenerator().getAuthRelatedTypeDefinitionNodes());
         BallerinaTypesGenerator ballerinaSchemaGenerator = new BallerinaTypesGenerator(oasClientConfig.getOpenAPI(),
                 oasClientConfig.isNullable(), typeDefinitionNodeList);
+        ballerinaSchemaGenerator.setGenerateMultipartPayloads(true);
         SyntaxTree schemaSyntaxTree = ballerinaSchemaGenerator.generateSyntaxTree();
         String schemaContent = Formatter.format(schemaSyntaxTree).toString();
 
@@ -98,8 +98,23 @@ public class GeneratorConstants {
     public static final String URL = "url";
     public static final String MODULE_TEST = "test";
     public static final String BALLERINA = "ballerina";
+    public static final String IO = "io";
+    public static final String LOG = "log";
+    public static final String OBSERVE = "observe";
+    public static final String TIME = "time";
+    public static final String RANDOM = "random";
+    public static final String LANG_RUNTIME = "lang.runtime";
     public static final String CLIENT_CLASS = "Client";
     public static final String CLIENT_EP = "clientEp";
+    public static final String BATCH_FUNCTION_SUFFIX = "Batch";
+    public static final String BATCH_WORKER_SUFFIX = "BatchWorker";
+    public static final String BATCH_CURSOR = "BatchCursor";
+    public static final String BATCH_ARGUMENTS = "arguments";
+    public static final String MAX_CONCURRENCY = "maxConcurrency";
+    public static final int DEFAULT_BATCH_CONCURRENCY = 10;
+    public static final String PASSTHROUGH_HEADERS = "headers";
+    public static final String PASSTHROUGH_QUERIES = "queries";
+    public static final String CONTENT_TYPE_PARAM = "contentType";
     public static final String EQUAL = "=";
     public static final String CONFIG = "config";
     public static final String FUNCTION = "function";
@@ -114,6 +129,10 @@ public class GeneratorConstants {
     public static final String IDENTIFIER = "identifier";
     public static final String TYPE_NAME = "typeName";
     public static final String BINARY = "binary";
+    public static final String BINARY_CONTENT_TYPE = "record {byte[] fileContent; string fileName;}";
+    public static final String BINARY_FILE_PATH_TYPE = "record {string filePath; string fileName;}";
+    public static final String MULTIPART_PAYLOAD_SUFFIX = "MultipartPayload";
+    public static final String SCHEMA_REFERENCE_PREFIX = "#/components/schemas/";
     public static final String DOUBLE = "double";
     public static final String FLOAT = "float";
     public static final String HEADER = "header";
@@ -210,6 +229,8 @@ public class GeneratorConstants {
     public static final String X_BALLERINA_DISPLAY = "x-ballerina-display";
     public static final String X_BALLERINA_DEPRECATED_REASON = "x-ballerina-deprecated-reason";
     public static final String X_BALLERINA_HTTP_CONFIGURATIONS = "x-ballerina-http-configurations";
+    public static final String X_BALLERINA_LISTENER = "x-ballerina-listener";
+    public static final String X_CACHE = "x-cache";
 
     //Service related
     public static final String HOST = "host";
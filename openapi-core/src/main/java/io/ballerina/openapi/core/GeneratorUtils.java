@@ -18,6 +18,7 @@
 
 package io.ballerina.openapi.core;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.ballerina.compiler.api.SemanticModel;
 import io.ballerina.compiler.api.symbols.Symbol;
 import io.ballerina.compiler.api.symbols.SymbolKind;
@@ -71,6 +72,7 @@ import io.ballerina.projects.ProjectKind;
 import io.ballerina.projects.directory.ProjectLoader;
 import io.ballerina.tools.diagnostics.Location;
 import io.swagger.parser.OpenAPIParser;
+import io.swagger.v3.core.util.Json;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
@@ -97,6 +99,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
@@ -137,6 +140,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.ARRAY;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA_TOML_CONTENT;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY;
 import static io.ballerina.openapi.core.GeneratorConstants.BOOLEAN;
 import static io.ballerina.openapi.core.GeneratorConstants.CLIENT_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.CLOSE_CURLY_BRACE;
@@ -160,6 +164,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.REGEX_ONLY_NUMBERS_OR_NUMBERS_WITH_SPECIAL_CHARACTERS;
 import static io.ballerina.openapi.core.GeneratorConstants.REGEX_WITHOUT_SPECIAL_CHARACTERS;
 import static io.ballerina.openapi.core.GeneratorConstants.REGEX_WORDS_STARTING_WITH_NUMBERS;
+import static io.ballerina.openapi.core.GeneratorConstants.SCHEMA_REFERENCE_PREFIX;
 import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_FILE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
 import static io.ballerina.openapi.core.GeneratorConstants.SPECIAL_CHARACTERS_REGEX;
@@ -475,6 +480,68 @@ public class GeneratorUtils {
         }
     }
 
+    /**
+     * Returns the names of the component schemas which are referred only as the schemas of multipart/form-data request
+     * bodies, either of the operations or of the component request bodies. The types of these schemas are used only
+     * by the multipart payloads of the clients.
+     *
+     * @param openAPI OpenAPI definition
+     * @return names of the component schemas referred only by multipart/form-data request bodies
+     */
+    public static Set<String> getMultipartPayloadSchemaNames(OpenAPI openAPI) {
+        // Whether each referred component schema is referred only by multipart/form-data request bodies
+        Map<String, Boolean> references = new HashMap<>();
+        collectSchemaReferences(Json.mapper().valueToTree(openAPI), new ArrayList<>(), references);
+        Set<String> schemaNames = new HashSet<>();
+        references.forEach((schemaName, isMultipartPayload) -> {
+            if (isMultipartPayload) {
+                schemaNames.add(schemaName);
+            }
+        });
+        return schemaNames;
+    }
+
+    private static void collectSchemaReferences(JsonNode node, List<String> path, Map<String, Boolean> references) {
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                path.add("");
+                collectSchemaReferences(element, path, references);
+                path.remove(path.size() - 1);
+            }
+            return;
+        }
+        Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            String reference = field.getValue().asText();
+            if (field.getKey().equals("$ref") && reference.startsWith(SCHEMA_REFERENCE_PREFIX)) {
+                references.merge(reference.substring(SCHEMA_REFERENCE_PREFIX.length()),
+                        isMultipartRequestBodySchema(path), Boolean::logicalAnd);
+            } else {
+                path.add(field.getKey());
+                collectSchemaReferences(field.getValue(), path, references);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    /**
+     * Check whether the given path of a schema is the schema of a multipart/form-data request body.
+     * <pre>
+     *     paths/{path}/{method}/requestBody/content/multipart~1form-data/schema
+     *     components/requestBodies/{name}/content/multipart~1form-data/schema
+     * </pre>
+     */
+    private static boolean isMultipartRequestBodySchema(List<String> path) {
+        int size = path.size();
+        if (size < 6 || !path.subList(size - 3, size).equals(List.of("content", MediaType.MULTIPART_FORM_DATA,
+                "schema"))) {
+            return false;
+        }
+        return (size == 7 && path.get(0).equals("paths") && path.get(3).equals("requestBody")) ||
+                (size == 6 && path.get(0).equals("components") && path.get(1).equals("requestBodies"));
+    }
+
     public static boolean hasTags(List<String> tags, List<String> filterTags) {
 
         return !Collections.disjoint(filterTags, tags);
@@ -1091,6 +1158,10 @@ public class GeneratorUtils {
         return getOpenAPIType(schema) != null && Objects.equals(getOpenAPIType(schema), STRING);
     }
 
+    public static boolean isBinarySchema(Schema<?> schema) {
+        return isStringSchema(schema) && Objects.equals(schema.getFormat(), BINARY);
+    }
+
     public static boolean isBooleanSchema(Schema<?> schema) {
         return getOpenAPIType(schema) != null && Objects.equals(getOpenAPIType(schema), BOOLEAN);
     }
@@ -53,6 +53,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.model.OASClientConfig;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
+import io.ballerina.openapi.core.generators.instrumentation.InstrumentationGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.model.Filter;
 import io.ballerina.tools.text.TextDocument;
@@ -138,6 +139,9 @@ public class BallerinaClientGenerator {
     private String serverURL;
     private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
     private final boolean resourceMode;
+    private final List<String> batchOperations;
+    private final boolean passthrough;
+    private final boolean instrument;
 
     /**
      * Returns a list of type definition nodes.
@@ -187,11 +191,15 @@ public class BallerinaClientGenerator {
         this.openAPI = oasClientConfig.getOpenAPI();
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI,
                 oasClientConfig.isNullable(), new LinkedList<>());
+        this.ballerinaSchemaGenerator.setProjection(oasClientConfig.getProjection());
         this.ballerinaUtilGenerator = new BallerinaUtilGenerator();
         this.remoteFunctionNameList = new ArrayList<>();
         this.serverURL = "/";
         this.ballerinaAuthConfigGenerator = new BallerinaAuthConfigGenerator(false, false);
         this.resourceMode = oasClientConfig.isResourceMode();
+        this.batchOperations = oasClientConfig.getBatchOperations();
+        this.passthrough = oasClientConfig.isPassthrough();
+        this.instrument = oasClientConfig.isInstrument();
     }
 
     /**
@@ -206,6 +214,11 @@ public class BallerinaClientGenerator {
         ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA
                 , HTTP);
         imports.add(importForHttp);
+        if (instrument) {
+            // `ballerina/time` is required to measure the latency of the instrumented functions
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                    GeneratorConstants.TIME));
+        }
         List<ModuleMemberDeclarationNode> nodes = new ArrayList<>();
         // Add authentication related records
         ballerinaAuthConfigGenerator.addAuthRelatedRecords(openAPI);
@@ -494,6 +507,7 @@ public class BallerinaClientGenerator {
                                         getClientMethodFunctionDefinitionNode(
                                                 functionLevelAnnotationNodes, path.getKey(), operation);
                                 functionDefinitionNodeList.add(functionDefinitionNode);
+                                addBatchFunction(functionDefinitionNodeList, functionDefinitionNode, operationId);
                             }
                         }
                     } else {
@@ -501,6 +515,7 @@ public class BallerinaClientGenerator {
                         FunctionDefinitionNode functionDefinitionNode = getClientMethodFunctionDefinitionNode(
                                 functionLevelAnnotationNodes, path.getKey(), operation);
                         functionDefinitionNodeList.add(functionDefinitionNode);
+                        addBatchFunction(functionDefinitionNodeList, functionDefinitionNode, operationId);
                     }
                 }
             }
@@ -508,6 +523,32 @@ public class BallerinaClientGenerator {
         return functionDefinitionNodeList;
     }
 
+    /**
+     * Add the bounded-concurrency batch variant of the given remote function when the operation is selected for batch
+     * generation. Batch functions invoke the remote function with `start`, hence they are only generated for clients
+     * with remote methods.
+     */
+    private void addBatchFunction(List<FunctionDefinitionNode> functionDefinitionNodeList,
+                                  FunctionDefinitionNode functionDefinitionNode, String operationId) {
+
+        if (resourceMode || operationId == null || !batchOperations.contains(operationId.trim())) {
+            return;
+        }
+        String functionName = functionDefinitionNode.functionName().text();
+        String batchFunctionName = BatchFunctionGenerator.getBatchFunctionName(functionName);
+        if (remoteFunctionNameList.contains(batchFunctionName) ||
+                remoteFunctionNameList.contains(BatchFunctionGenerator.getBatchWorkerName(functionName))) {
+            return;
+        }
+        BatchFunctionGenerator batchFunctionGenerator = new BatchFunctionGenerator();
+        functionDefinitionNodeList.add(batchFunctionGenerator.generateBatchFunction(functionName,
+                functionDefinitionNode.functionSignature()));
+        functionDefinitionNodeList.add(batchFunctionGenerator.generateBatchWorkerFunction(functionName,
+                functionDefinitionNode.functionSignature()));
+        // The workers of the batch functions share the `BatchCursor` class of the util file
+        ballerinaUtilGenerator.setBatchFunctionsFound(true);
+    }
+
     /**
      * Generate function definition node.
      * <pre>
@@ -556,6 +597,10 @@ public class BallerinaClientGenerator {
                         operation.getValue().getOperationId());
 
         remoteFunctionNameList.add(operation.getValue().getOperationId());
+        if (passthrough) {
+            return getPassthroughFunctionDefinitionNode(annotationNodes, path, operation, remoteFunctionDocs,
+                    qualifierList, functionKeyWord, functionName);
+        }
 
         FunctionSignatureGenerator functionSignatureGenerator = new FunctionSignatureGenerator(openAPI,
                 ballerinaSchemaGenerator, typeDefinitionNodeList, resourceMode);
@@ -577,6 +622,10 @@ public class BallerinaClientGenerator {
                 openAPI, ballerinaSchemaGenerator, ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
         FunctionBodyNode functionBodyNode = functionBodyGenerator.getFunctionBodyNode(path, operation);
         imports = functionBodyGenerator.getImports();
+        if (instrument) {
+            functionBodyNode = InstrumentationGenerator.getInstrumentedFunctionBody(functionBodyNode,
+                    functionSignatureNode, operation.getValue().getOperationId(), operation.getKey(), path, false);
+        }
 
         //Generate relative path
         NodeList<Node> relativeResourcePath = resourceMode ?
@@ -587,6 +636,44 @@ public class BallerinaClientGenerator {
                 functionSignatureNode, functionBodyNode);
     }
 
+    /**
+     * Generate the function definition node of the passthrough client mode, which takes the pre-serialized payload
+     * and returns the raw `http:Response` without any data binding.
+     */
+    private FunctionDefinitionNode getPassthroughFunctionDefinitionNode(List<AnnotationNode> annotationNodes,
+                                                                        String path,
+                                                                        Map.Entry<PathItem.HttpMethod, Operation>
+                                                                                operation,
+                                                                        List<Node> remoteFunctionDocs,
+                                                                        NodeList<Token> qualifierList,
+                                                                        Token functionKeyWord,
+                                                                        IdentifierToken functionName)
+            throws BallerinaOpenApiException {
+
+        PassthroughFunctionGenerator passthroughFunctionGenerator = new PassthroughFunctionGenerator(openAPI,
+                ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
+        NodeList<Node> relativeResourcePath = resourceMode ?
+                createNodeList(passthroughFunctionGenerator.getRelativeResourcePath(path, operation.getValue(),
+                        remoteFunctionDocs)) :
+                createEmptyNodeList();
+        FunctionSignatureNode functionSignatureNode = passthroughFunctionGenerator.getFunctionSignatureNode(
+                operation.getValue(), remoteFunctionDocs);
+        if (operation.getValue().getDeprecated() != null && operation.getValue().getDeprecated()) {
+            DocCommentsGenerator.extractDeprecatedAnnotation(operation.getValue().getExtensions(),
+                    remoteFunctionDocs, annotationNodes);
+        }
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(
+                createNodeList(remoteFunctionDocs)), createNodeList(annotationNodes));
+        FunctionBodyNode functionBodyNode = passthroughFunctionGenerator.getFunctionBodyNode(path, operation);
+        if (instrument) {
+            functionBodyNode = InstrumentationGenerator.getInstrumentedFunctionBody(functionBodyNode,
+                    functionSignatureNode, operation.getValue().getOperationId(), operation.getKey(), path, true);
+        }
+        return createFunctionDefinitionNode(null,
+                metadataNode, qualifierList, functionKeyWord, functionName, relativeResourcePath,
+                functionSignatureNode, functionBodyNode);
+    }
+
     /**
      * Generate serverUrl for client default value.
      */
@@ -31,6 +31,7 @@ import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.ModuleVariableDeclarationNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.RecordFieldNode;
 import io.ballerina.compiler.syntax.tree.RecordFieldWithDefaultValueNode;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
@@ -102,6 +103,7 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.STRING_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.TYPE_KEYWORD;
 import static io.ballerina.openapi.core.GeneratorConstants.BALLERINA;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_CURSOR;
 import static io.ballerina.openapi.core.GeneratorConstants.DEEP_OBJECT;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.ENCODING_STYLE;
@@ -120,11 +122,11 @@ import static io.ballerina.openapi.core.GeneratorConstants.URL;
  */
 public class BallerinaUtilGenerator {
 
-    private boolean headersFound = false;
     private boolean pathParametersFound = false;
     private boolean queryParamsFound = false;
     private boolean requestBodyEncodingFound = false;
     private boolean requestBodyMultipartFormDatafound = false;
+    private boolean batchFunctionsFound = false;
     private static final Logger LOGGER = LoggerFactory.getLogger(BallerinaUtilGenerator.class);
 
     private static final String CREATE_FORM_URLENCODED_REQUEST_BODY = "createFormURLEncodedRequestBody";
@@ -134,7 +136,6 @@ public class BallerinaUtilGenerator {
     private static final String GET_ENCODED_URI = "getEncodedUri";
     private static final String GET_ORIGINAL_KEY = "getOriginalKey";
     private static final String GET_PATH_FOR_QUERY_PARAM = "getPathForQueryParam";
-    private static final String GET_MAP_FOR_HEADERS = "getMapForHeaders";
     private static final String GET_SERIALIZED_RECORD_ARRAY = "getSerializedRecordArray";
     private static final String CREATE_MULTIPART_BODY_PARTS = "createBodyParts";
 
@@ -147,16 +148,6 @@ public class BallerinaUtilGenerator {
         this.queryParamsFound = flag;
     }
 
-    /**
-     * Set `headersFound` flag to `true` when at least one header found.
-     *
-     * @param flag Function will be called only in the occasions where flag needs to be set to `true`
-     */
-    public void setHeadersFound(boolean flag) {
-
-        this.headersFound = flag;
-    }
-
     /**
      * Set `pathParametersFound` flag to `true` when at least one path parameter found.
      *
@@ -185,6 +176,15 @@ public class BallerinaUtilGenerator {
         this.requestBodyMultipartFormDatafound = flag;
     }
 
+    /**
+     * Set `batchFunctionsFound` flag to `true` when at least one batch function is generated.
+     *
+     * @param flag Function will be called only in the occasions where value needs to be set to `true`.
+     */
+    public void setBatchFunctionsFound(boolean flag) {
+        this.batchFunctionsFound = flag;
+    }
+
     /**
      * Generates util file syntax tree.
      *
@@ -205,9 +205,6 @@ public class BallerinaUtilGenerator {
                     GET_SERIALIZED_RECORD_ARRAY
                                                  ));
         }
-        if (headersFound) {
-            functionNameList.add(GET_MAP_FOR_HEADERS);
-        }
         if (pathParametersFound) {
             functionNameList.add(GET_ENCODED_URI);
         }
@@ -263,7 +260,7 @@ public class BallerinaUtilGenerator {
      * @param memberDeclarationNodes {@link ModuleMemberDeclarationNode}
      */
     private void getUtilTypeDeclarationNodes(List<ModuleMemberDeclarationNode> memberDeclarationNodes) {
-        if (requestBodyEncodingFound || queryParamsFound || headersFound || requestBodyMultipartFormDatafound) {
+        if (requestBodyEncodingFound || queryParamsFound || requestBodyMultipartFormDatafound) {
             memberDeclarationNodes.add(getSimpleBasicTypeDefinitionNode());
         }
         if (requestBodyEncodingFound || queryParamsFound || requestBodyMultipartFormDatafound) {
@@ -272,6 +269,61 @@ public class BallerinaUtilGenerator {
         if (requestBodyEncodingFound || queryParamsFound) {
             memberDeclarationNodes.add(getDefaultEncoding());
         }
+        if (batchFunctionsFound) {
+            memberDeclarationNodes.add(getBatchCursorClass());
+        }
+    }
+
+    /**
+     * Generates the `BatchCursor` class, which hands out the indexes of the argument tuples of a batch function to its
+     * workers.
+     * <pre>
+     *     # Hands out the indexes of the argument tuples of a batch function to its workers.
+     *     isolated class BatchCursor {
+     *         private int next = 0;
+     *         private final int length;
+     *
+     *         isolated function init(int length) {
+     *             self.length = length;
+     *         }
+     *
+     *         # Returns the index of the next argument tuple, or nil when all the tuples are taken.
+     *         isolated function take() returns int? {
+     *             lock {
+     *                 if self.next >= self.length {
+     *                     return ();
+     *                 }
+     *                 int index = self.next;
+     *                 self.next += 1;
+     *                 return index;
+     *             }
+     *         }
+     *     }
+     * </pre>
+     *
+     * @return {@link ModuleMemberDeclarationNode}
+     */
+    private ModuleMemberDeclarationNode getBatchCursorClass() {
+        return NodeParser.parseModuleMemberDeclaration("# Hands out the indexes of the argument tuples of a batch " +
+                "function to its workers.\n" +
+                "isolated class " + BATCH_CURSOR + " {" +
+                "private int next = 0;" +
+                "private final int length;" +
+                "isolated function init(int length) {" +
+                "self.length = length;" +
+                "}" +
+                "# Returns the index of the next argument tuple, or nil when all the tuples are taken.\n" +
+                "isolated function take() returns int? {" +
+                "lock {" +
+                "if self.next >= self.length {" +
+                "return ();" +
+                "}" +
+                "int index = self.next;" +
+                "self.next += 1;" +
+                "return index;" +
+                "}" +
+                "}" +
+                "}");
     }
 
     /**
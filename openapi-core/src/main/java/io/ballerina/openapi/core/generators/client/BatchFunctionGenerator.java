@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionDefinitionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMarkdownDocumentationNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createMetadataNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.FUNCTION_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.ISOLATED_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.PRIVATE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.REMOTE_KEYWORD;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_ARGUMENTS;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_CURSOR;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_FUNCTION_SUFFIX;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_WORKER_SUFFIX;
+import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_BATCH_CONCURRENCY;
+import static io.ballerina.openapi.core.GeneratorConstants.MAX_CONCURRENCY;
+
+/**
+ * This class generates the bounded-concurrency batch variants of the client remote functions. A batch function starts
+ * `maxConcurrency` workers, each of which takes the next argument tuple from a shared `BatchCursor` as soon as its
+ * previous request completes, hence `maxConcurrency` requests are kept in flight until the tuples run out.
+ * <pre>
+ *     remote isolated function getUserBatch(readonly & [int, string?][] arguments, int maxConcurrency = 10)
+ *             returns (User|error)[] {
+ *         BatchCursor cursor = new (arguments.length());
+ *         future<[int, User|error][]>[] workers = [];
+ *         foreach int i in 0 ..< int:min(int:max(maxConcurrency, 1), arguments.length()) {
+ *             future<[int, User|error][]> worker = start self.getUserBatchWorker(arguments, cursor);
+ *             workers.push(worker);
+ *         }
+ *         [int, User|error][] results = [];
+ *         foreach future<[int, User|error][]> worker in workers {
+ *             [int, User|error][]|error workerResults = wait worker;
+ *             if workerResults is error {
+ *                 panic workerResults;
+ *             }
+ *             results.push(...workerResults);
+ *         }
+ *         return from [int, User|error] [index, result] in results order by index ascending select result;
+ *     }
+ *
+ *     private isolated function getUserBatchWorker(readonly & [int, string?][] arguments, BatchCursor cursor)
+ *             returns [int, User|error][] {
+ *         [int, User|error][] results = [];
+ *         int? index = cursor.take();
+ *         while index is int {
+ *             var [id, name] = arguments[index];
+ *             User|error result = self->getUser(id, name);
+ *             results.push([index, result]);
+ *             index = cursor.take();
+ *         }
+ *         return results;
+ *     }
+ * </pre>
+ *
+ * @since 1.8.0
+ */
+public class BatchFunctionGenerator {
+
+    /**
+     * Returns the name of the batch variant of the given remote function.
+     *
+     * @param functionName name of the remote function
+     * @return name of the batch function
+     */
+    public static String getBatchFunctionName(String functionName) {
+        return functionName + BATCH_FUNCTION_SUFFIX;
+    }
+
+    /**
+     * Generate the batch variant of a client remote function. Requests are sent through the shared client endpoint
+     * with at most `maxConcurrency` requests in flight, and the result (or error) of every request is returned in the
+     * order of the given argument tuples.
+     *
+     * @param functionName      name of the remote function to be invoked for each argument tuple
+     * @param functionSignature signature of the remote function
+     * @return {@link FunctionDefinitionNode} of the batch function
+     */
+    public FunctionDefinitionNode generateBatchFunction(String functionName, FunctionSignatureNode functionSignature) {
+
+        List<String> paramTypes = new ArrayList<>();
+        collectParameters(functionSignature, paramTypes, new ArrayList<>());
+        String tupleType = "[" + String.join(", ", paramTypes) + "]";
+        String returnType = getReturnType(functionSignature);
+
+        RequiredParameterNode argumentsParam = createRequiredParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(
+                        "readonly & " + tupleType + "[]")), createIdentifierToken(BATCH_ARGUMENTS));
+        DefaultableParameterNode concurrencyParam = createDefaultableParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createIdentifierToken("int")),
+                createIdentifierToken(MAX_CONCURRENCY), createToken(EQUAL_TOKEN),
+                createRequiredExpressionNode(createIdentifierToken(String.valueOf(DEFAULT_BATCH_CONCURRENCY))));
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), createBuiltinSimpleNameReferenceNode(null,
+                        createIdentifierToken("(" + returnType + ")[]")));
+        FunctionSignatureNode batchSignature = createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(argumentsParam, createToken(COMMA_TOKEN), concurrencyParam),
+                createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+
+        String resultType = "[int, " + returnType + "]";
+        String body = "{" +
+                BATCH_CURSOR + " cursor = new (" + BATCH_ARGUMENTS + ".length());" +
+                "future<" + resultType + "[]>[] workers = [];" +
+                "foreach int i in 0 ..< int:min(int:max(" + MAX_CONCURRENCY + ", 1), " + BATCH_ARGUMENTS +
+                ".length()) {" +
+                "future<" + resultType + "[]> worker = start self." + getBatchWorkerName(functionName) +
+                "(" + BATCH_ARGUMENTS + ", cursor);" +
+                "workers.push(worker);" +
+                "}" +
+                resultType + "[] results = [];" +
+                "foreach future<" + resultType + "[]> worker in workers {" +
+                resultType + "[]|error workerResults = wait worker;" +
+                "if workerResults is error {" +
+                "panic workerResults;" +
+                "}" +
+                "results.push(...workerResults);" +
+                "}" +
+                "return from " + resultType + " [index, result] in results order by index ascending select result;" +
+                "}";
+        FunctionBodyNode functionBodyNode = NodeParser.parseFunctionBodyBlock(body);
+
+        return createFunctionDefinitionNode(null, getBatchFunctionDocComment(functionName),
+                createNodeList(createToken(REMOTE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), createIdentifierToken(getBatchFunctionName(functionName)),
+                createEmptyNodeList(), batchSignature, functionBodyNode);
+    }
+
+    /**
+     * Generate the worker of the batch variant of a client remote function, which sends the requests of the argument
+     * tuples taken from the shared cursor one after the other, and returns their results with the tuple indexes.
+     *
+     * @param functionName      name of the remote function to be invoked for each argument tuple
+     * @param functionSignature signature of the remote function
+     * @return {@link FunctionDefinitionNode} of the batch worker function
+     */
+    public FunctionDefinitionNode generateBatchWorkerFunction(String functionName,
+                                                              FunctionSignatureNode functionSignature) {
+
+        List<String> paramTypes = new ArrayList<>();
+        List<String> paramNames = new ArrayList<>();
+        collectParameters(functionSignature, paramTypes, paramNames);
+        String tupleType = "[" + String.join(", ", paramTypes) + "]";
+        String returnType = getReturnType(functionSignature);
+        String resultType = "[int, " + returnType + "]";
+
+        String destructure = paramNames.isEmpty() ? "" :
+                "var [" + String.join(", ", paramNames) + "] = " + BATCH_ARGUMENTS + "[index];";
+        String worker = "function " + getBatchWorkerName(functionName) + "(readonly & " + tupleType + "[] " +
+                BATCH_ARGUMENTS + ", " + BATCH_CURSOR + " cursor) returns " + resultType + "[] {" +
+                resultType + "[] results = [];" +
+                "int? index = cursor.take();" +
+                "while index is int {" +
+                destructure +
+                returnType + " result = self->" + functionName + "(" + String.join(", ", paramNames) + ");" +
+                "results.push([index, result]);" +
+                "index = cursor.take();" +
+                "}" +
+                "return results;" +
+                "}";
+        FunctionDefinitionNode workerFunction = (FunctionDefinitionNode) NodeParser.parseModuleMemberDeclaration(
+                worker);
+
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc("Sends the requests of the " +
+                "argument tuples taken from the given cursor, one after the other.", false));
+        MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)),
+                createEmptyNodeList());
+        return createFunctionDefinitionNode(null, metadataNode,
+                createNodeList(createToken(PRIVATE_KEYWORD), createToken(ISOLATED_KEYWORD)),
+                createToken(FUNCTION_KEYWORD), workerFunction.functionName(), createEmptyNodeList(),
+                workerFunction.functionSignature(), workerFunction.functionBody());
+    }
+
+    /**
+     * Returns the name of the worker of the batch variant of the given remote function.
+     *
+     * @param functionName name of the remote function
+     * @return name of the batch worker function
+     */
+    public static String getBatchWorkerName(String functionName) {
+        return functionName + BATCH_WORKER_SUFFIX;
+    }
+
+    private static void collectParameters(FunctionSignatureNode functionSignature, List<String> paramTypes,
+                                          List<String> paramNames) {
+        for (ParameterNode parameterNode : functionSignature.parameters()) {
+            if (parameterNode instanceof RequiredParameterNode) {
+                RequiredParameterNode requiredParam = (RequiredParameterNode) parameterNode;
+                paramTypes.add(requiredParam.typeName().toSourceCode().trim());
+                paramNames.add(getParamName(requiredParam.paramName()));
+            } else if (parameterNode instanceof DefaultableParameterNode) {
+                DefaultableParameterNode defaultableParam = (DefaultableParameterNode) parameterNode;
+                paramTypes.add(defaultableParam.typeName().toSourceCode().trim());
+                paramNames.add(getParamName(defaultableParam.paramName()));
+            }
+        }
+    }
+
+    private static String getReturnType(FunctionSignatureNode functionSignature) {
+        return functionSignature.returnTypeDesc()
+                .map(returnTypeDesc -> returnTypeDesc.type().toSourceCode().trim())
+                .orElse("error?");
+    }
+
+    private static String getParamName(Optional<Token> paramName) {
+        return paramName.map(token -> token.text().trim()).orElse("");
+    }
+
+    /**
+     * Generate the documentation of the batch function.
+     */
+    private MetadataNode getBatchFunctionDocComment(String functionName) {
+
+        List<Node> docs = new ArrayList<>(DocCommentsGenerator.createAPIDescriptionDoc(
+                "Batch variant of `" + functionName + "`. Sends a request for each of the given argument tuples " +
+                        "with at most `" + MAX_CONCURRENCY + "` requests in flight.", true));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(BATCH_ARGUMENTS,
+                "Argument tuples of the requests, in the parameter order of `" + functionName + "`"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(MAX_CONCURRENCY,
+                "Maximum number of requests to be in flight at a time"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc("return",
+                "Result of each request in the order of the given argument tuples"));
+        return createMetadataNode(createMarkdownDocumentationNode(createNodeList(docs)), createEmptyNodeList());
+    }
+}
@@ -32,6 +32,7 @@ import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
@@ -106,7 +107,6 @@ import static io.ballerina.openapi.core.GeneratorConstants.ENCODING;
 import static io.ballerina.openapi.core.GeneratorConstants.EXECUTE;
 import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
 import static io.ballerina.openapi.core.GeneratorConstants.HEADER;
-import static io.ballerina.openapi.core.GeneratorConstants.HEADER_VALUES;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.NEW;
@@ -120,11 +120,17 @@ import static io.ballerina.openapi.core.GeneratorConstants.REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.RESOURCE_PATH;
 import static io.ballerina.openapi.core.GeneratorConstants.RESPONSE;
 import static io.ballerina.openapi.core.GeneratorConstants.SELF;
+import static io.ballerina.openapi.core.GeneratorUtils.convertOpenAPITypeToBallerina;
 import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
 import static io.ballerina.openapi.core.GeneratorUtils.getOpenAPIType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+import static io.ballerina.openapi.core.GeneratorUtils.isArraySchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isBooleanSchema;
 import static io.ballerina.openapi.core.GeneratorUtils.isComplexURL;
 import static io.ballerina.openapi.core.GeneratorUtils.isComposedSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isIntegerSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isNumberSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isStringSchema;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.extractReferenceType;
 
 /**
@@ -276,12 +282,8 @@ public class FunctionBodyGenerator {
                 getUpdatedPathHandlingQueryParamEncoding(statementsList, queryParameters);
             }
             if (!headerParameters.isEmpty() || !headerApiKeyNameList.isEmpty()) {
-                statementsList.add(getMapForParameters(headerParameters, "map<any>",
-                        HEADER_VALUES, headerApiKeyNameList));
-                statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
-                        "map<string|string[]> " + HTTP_HEADERS + " = getMapForHeaders(headerValues)"));
+                addHeaderMapStatements(headerParameters, headerApiKeyNameList, statementsList);
                 isHeader = true;
-                ballerinaUtilGenerator.setHeadersFound(true);
             }
         }
     }
@@ -297,22 +299,13 @@ public class FunctionBodyGenerator {
         List<StatementNode> ifBodyStatementsList = new ArrayList<>();
 
         if (!headerParameters.isEmpty() || !headerApiKeyNameList.isEmpty()) {
-            if (!headerParameters.isEmpty()) {
-                statementsList.add(getMapForParameters(headerParameters, "map<any>",
-                        HEADER_VALUES, new ArrayList<>()));
-            } else {
-                ExpressionStatementNode headerMapCreation = GeneratorUtils.getSimpleExpressionStatementNode(
-                        "map<any> " + HEADER_VALUES + " = {}");
-                statementsList.add(headerMapCreation);
-            }
-
+            addHeaderMapStatements(headerParameters, new ArrayList<>(), statementsList);
             if (!headerApiKeyNameList.isEmpty()) {
-                // update headerValues Map within the if block
-                // `headerValues["api-key"] = self.apiKeyConfig?.apiKey;`
-                addApiKeysToMap(HEADER_VALUES, headerApiKeyNameList, ifBodyStatementsList);
+                // update httpHeaders Map within the if block
+                // `httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;`
+                addHeaderApiKeysToMap(headerApiKeyNameList, ifBodyStatementsList);
             }
             isHeader = true;
-            ballerinaUtilGenerator.setHeadersFound(true);
         }
 
         if (!queryParameters.isEmpty() || !queryApiKeyNameList.isEmpty()) {
@@ -338,17 +331,130 @@ public class FunctionBodyGenerator {
         if (!queryParameters.isEmpty() || !queryApiKeyNameList.isEmpty()) {
             getUpdatedPathHandlingQueryParamEncoding(statementsList, queryParameters);
         }
-        if (!headerParameters.isEmpty() || !headerApiKeyNameList.isEmpty()) {
-            statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode(
-                    "map<string|string[]> " + HTTP_HEADERS + " = getMapForHeaders(headerValues)"));
+    }
+
+    /**
+     * Generate the statements which build the `httpHeaders` map. The conversion of each header value to `string` or
+     * `string[]` is selected from the header schema at generation time, and optional headers are only added when a
+     * value is given. Headers of unsupported types (ex: records) are not sent.
+     * <pre>
+     *     map<string|string[]> httpHeaders = {"X-Request-ID": xRequestId, "X-Limit": xLimit.toString(),
+     *                                         "X-API-KEY": self.apiKeyConfig.xApiKey};
+     *     if xRequestClient !is () {
+     *         httpHeaders["X-Request-Client"] = xRequestClient;
+     *     }
+     * </pre>
+     */
+    private void addHeaderMapStatements(List<Parameter> headerParameters, List<String> apiKeyNames,
+                                        List<StatementNode> statementsList) throws BallerinaOpenApiException {
+
+        List<String> headerFields = new ArrayList<>();
+        List<StatementNode> optionalHeaderStatements = new ArrayList<>();
+        for (Parameter parameter : headerParameters) {
+            String headerName = parameter.getName().trim();
+            String paramName = getValidName(headerName, false);
+            String headerValue = getHeaderValueExpression(parameter.getSchema(), paramName);
+            if (headerValue == null) {
+                continue;
+            }
+            if (isNillableHeader(parameter)) {
+                optionalHeaderStatements.add(NodeParser.parseStatement("if " + paramName + " !is () {" +
+                        HTTP_HEADERS + "[\"" + headerName + "\"] = " + headerValue + ";}"));
+            } else {
+                headerFields.add("\"" + headerName + "\": " + headerValue);
+            }
+        }
+        for (String apiKey : apiKeyNames) {
+            headerFields.add("\"" + apiKey.trim() + "\": " + SELF + "." + API_KEY_CONFIG_PARAM + "." +
+                    getValidName(apiKey, false));
+        }
+        statementsList.add(GeneratorUtils.getSimpleExpressionStatementNode("map<string|string[]> " + HTTP_HEADERS +
+                " = {" + String.join(", ", headerFields) + "}"));
+        statementsList.addAll(optionalHeaderStatements);
+    }
+
+    /**
+     * Provide the expression which converts the given header parameter to `string` or `string[]`.
+     *
+     * @param schema    header schema, or a reference to the component schema of the header
+     * @param paramName name of the header parameter in the function signature
+     * @return conversion expression, or null when the header type can not be sent as a header value
+     */
+    private String getHeaderValueExpression(Schema<?> schema, String paramName) throws BallerinaOpenApiException {
+
+        schema = resolveHeaderSchema(schema);
+        if (schema == null) {
+            return null;
+        }
+        if (isArraySchema(schema)) {
+            Schema<?> itemSchema = resolveHeaderSchema(schema.getItems());
+            if (itemSchema == null) {
+                return null;
+            } else if (isStringSchema(itemSchema)) {
+                return paramName;
+            } else if (isIntegerSchema(itemSchema) || isNumberSchema(itemSchema) || isBooleanSchema(itemSchema)) {
+                return paramName + ".map(item => item.toString())";
+            }
+            return null;
+        } else if (isStringSchema(schema)) {
+            return paramName;
+        } else if (isIntegerSchema(schema) || isNumberSchema(schema) || isBooleanSchema(schema)) {
+            return paramName + ".toString()";
         }
+        return null;
+    }
+
+    /**
+     * Resolve a referred header schema to its component schema.
+     */
+    private Schema<?> resolveHeaderSchema(Schema<?> schema) throws BallerinaOpenApiException {
+
+        if (schema == null || schema.get$ref() == null) {
+            return schema;
+        }
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return null;
+        }
+        return openAPI.getComponents().getSchemas().get(extractReferenceType(schema.get$ref()));
     }
 
     /**
-     * Add apiKeys to a given map (queryParam or headerValues).
+     * Check whether the generated header parameter is nil-able. This aligns with the header parameter types generated
+     * in {@link FunctionSignatureGenerator}.
+     */
+    private boolean isNillableHeader(Parameter parameter) throws BallerinaOpenApiException {
+
+        Schema<?> schema = parameter.getSchema();
+        boolean isRequired = parameter.getRequired() != null && parameter.getRequired();
+        if (schema.get$ref() != null) {
+            // a header of a referred type is typed with the name of the type, which is nil-able when optional
+            return !isRequired;
+        }
+        if (!isRequired && schema.getDefault() == null) {
+            return true;
+        }
+        return !isArraySchema(schema) && convertOpenAPITypeToBallerina(schema).endsWith(NILLABLE);
+    }
+
+    /**
+     * Add header api keys to the `httpHeaders` map within the if block which checks the availability of the api key
+     * configuration.
+     * <p>
+     * `httpHeaders["api-key"] = <string>self.apiKeyConfig?.apiKey;`
+     */
+    private void addHeaderApiKeysToMap(List<String> apiKeyNames, List<StatementNode> statementNodeList) {
+
+        for (String apiKey : apiKeyNames) {
+            statementNodeList.add(GeneratorUtils.getSimpleExpressionStatementNode(HTTP_HEADERS + "[\"" +
+                    apiKey.trim() + "\"] = <string>" + SELF + "." + API_KEY_CONFIG_PARAM +
+                    QUESTION_MARK_TOKEN.stringValue() + "." + getValidName(apiKey, false)));
+        }
+    }
+
+    /**
+     * Add apiKeys to a given map (queryParam).
      * <p>
      * `queryParam["api-key"] = self.apiKeyConfig?.apiKey;`
-     * `headerValues["api-key"] = self.apiKeyConfig?.apiKey;`
      */
     private void addApiKeysToMap(String mapName, List<String> apiKeyNames, List<StatementNode> statementNodeList) {
 
@@ -361,7 +467,7 @@ public class FunctionBodyGenerator {
                         createSimpleNameReferenceNode(createIdentifierToken(API_KEY_CONFIG_PARAM +
                                 QUESTION_MARK_TOKEN.stringValue())));
                 SimpleNameReferenceNode valueExpr = createSimpleNameReferenceNode(createIdentifierToken(
-                        getValidName(getValidName(apiKey, false), false)));
+                        getValidName(apiKey, false)));
                 ExpressionNode apiKeyExpr = createFieldAccessExpressionNode(
                         fieldExpr, createToken(DOT_TOKEN), valueExpr);
                 statementNodeList.add(createAssignmentStatementNode(fieldName, equal, apiKeyExpr, createToken(
@@ -698,7 +804,7 @@ public class FunctionBodyGenerator {
                                                   Map.Entry<String, MediaType> mediaTypeEntry)
             throws BallerinaOpenApiException {
         MimeFactory factory = new MimeFactory();
-        MimeType mimeType = factory.getMimeType(mediaTypeEntry, ballerinaUtilGenerator, imports);
+        MimeType mimeType = factory.getMimeType(mediaTypeEntry, ballerinaUtilGenerator, imports, openAPI);
         mimeType.setPayload(statementsList, mediaTypeEntry);
     }
 
@@ -24,6 +24,7 @@ import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
 import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
+import io.ballerina.openapi.core.model.Projection;
 import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.Operation;
 import io.swagger.v3.oas.models.media.Content;
@@ -32,12 +33,14 @@ import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.responses.ApiResponse;
 import io.swagger.v3.oas.models.responses.ApiResponses;
 
+import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
@@ -65,6 +68,9 @@ import static io.ballerina.openapi.core.GeneratorUtils.isObjectSchema;
  * @since 1.3.0
  */
 public class FunctionReturnTypeGenerator {
+    private static final PrintStream OUT_STREAM = System.err;
+    private static final String PROJECTION_SUFFIX = "Projection";
+
     private OpenAPI openAPI;
     private BallerinaTypesGenerator ballerinaSchemaGenerator;
     private List<TypeDefinitionNode> typeDefinitionNodeList = new LinkedList<>();
@@ -105,7 +111,8 @@ public class FunctionReturnTypeGenerator {
                             String type = "";
                             if (media.getValue().getSchema() != null) {
                                 Schema schema = media.getValue().getSchema();
-                                type = getDataType(operation, isSignature, response, media, type, schema);
+                                type = getDataType(operation, statusCode, isSignature, response, media, type,
+                                        schema);
                             } else {
                                 type = GeneratorUtils.getBallerinaMediaType(media.getKey().trim(), false);
                             }
@@ -136,10 +143,14 @@ public class FunctionReturnTypeGenerator {
     /**
      * Get return data type by traversing OAS schemas.
      */
-    private String getDataType(Operation operation, boolean isSignature, ApiResponse response,
+    private String getDataType(Operation operation, String statusCode, boolean isSignature, ApiResponse response,
                                Map.Entry<String, MediaType> media, String type, Schema schema)
             throws BallerinaOpenApiException {
 
+        String projectedType = getProjectedType(operation, statusCode, response, schema, isSignature);
+        if (projectedType != null) {
+            return projectedType;
+        }
         if (isComposedSchema(schema)) {
             type = generateReturnDataTypeForComposedSchema(operation, type, schema, isSignature);
         } else if (isObjectSchema(schema)) {
@@ -175,6 +186,99 @@ public class FunctionReturnTypeGenerator {
         return type;
     }
 
+    /**
+     * Get the return data type when the fields of the response are projected for the operation, or for the schema of
+     * the response. A slim record which only has the projected fields is generated, so that the data binding only
+     * materializes the projected fields. When the successful responses of a projected operation have different
+     * schemas, the record of each response is named after its schema, or its status code for an inline schema.
+     *
+     * @return projected type, or null if the response is not projected
+     */
+    private String getProjectedType(Operation operation, String statusCode, ApiResponse response, Schema<?> schema,
+                                    boolean isSignature) throws BallerinaOpenApiException {
+
+        Projection projection = ballerinaSchemaGenerator == null ? null : ballerinaSchemaGenerator.getProjection();
+        if (projection == null || projection.isEmpty()) {
+            return null;
+        }
+        boolean isArray = isArraySchema(schema) && schema.getItems() != null;
+        Schema<?> projectedSchema = isArray ? schema.getItems() : schema;
+        String referenceName = projectedSchema.get$ref() != null ?
+                extractReferenceType(projectedSchema.get$ref()) : null;
+
+        Optional<List<String>> fields = projection.getOperationFields(operation.getOperationId());
+        String typeName = getValidName(operation.getOperationId(), true) + PROJECTION_SUFFIX;
+        if (fields.isPresent() && hasDifferentResponseSchemas(operation)) {
+            typeName = getValidName(operation.getOperationId(), true) + (referenceName != null ?
+                    getValidName(referenceName, true) : statusCode) + PROJECTION_SUFFIX;
+        }
+        if (fields.isEmpty() && referenceName != null) {
+            fields = projection.getSchemaFields(referenceName);
+            typeName = getValidName(referenceName, true) + PROJECTION_SUFFIX;
+        }
+        if (fields.isEmpty()) {
+            return null;
+        }
+        if (referenceName != null) {
+            projectedSchema = openAPI.getComponents().getSchemas().get(referenceName);
+        }
+        if (projectedSchema == null || projectedSchema.getProperties() == null) {
+            OUT_STREAM.printf("WARNING: projection of the response of the operation `%s` is skipped as the response " +
+                    "is not an object%n", operation.getOperationId());
+            return null;
+        }
+
+        String projectedTypeName = typeName;
+        boolean isGenerated = typeDefinitionNodeList.stream()
+                .anyMatch(typeDef -> typeDef.typeName().text().equals(projectedTypeName));
+        if (!isGenerated) {
+            for (String field : fields.get()) {
+                if (!projectedSchema.getProperties().containsKey(field)) {
+                    OUT_STREAM.printf("WARNING: projected field `%s` is not found in the response of the operation " +
+                            "`%s`%n", field, operation.getOperationId());
+                }
+            }
+            List<Node> responseDocs = new ArrayList<>();
+            if (response.getDescription() != null && !response.getDescription().isBlank()) {
+                responseDocs.addAll(DocCommentsGenerator.createAPIDescriptionDoc(response.getDescription(), false));
+            }
+            TypeDefinitionNode typeDefinitionNode = ballerinaSchemaGenerator.getProjectedTypeDefinitionNode(
+                    projectedSchema, fields.get(), typeName, responseDocs);
+            GeneratorUtils.updateTypeDefNodeList(typeName, typeDefinitionNode, typeDefinitionNodeList);
+        }
+        if (isArray) {
+            return generateCustomTypeDefine(typeName + "[]", typeName + "Arr", isSignature);
+        }
+        return typeName;
+    }
+
+    /**
+     * Check whether the successful responses of the given operation have different schemas. Responses referring the
+     * same component schema, or having structurally equal inline schemas, are projected into the same record.
+     */
+    private static boolean hasDifferentResponseSchemas(Operation operation) {
+
+        Set<Object> responseSchemas = new HashSet<>();
+        if (operation.getResponses() == null) {
+            return false;
+        }
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            Content content = response.getValue().getContent();
+            if (!response.getKey().startsWith("2") || content == null || content.isEmpty()) {
+                continue;
+            }
+            Schema<?> schema = content.values().iterator().next().getSchema();
+            if (schema == null) {
+                continue;
+            }
+            if (isArraySchema(schema) && schema.getItems() != null) {
+                schema = schema.getItems();
+            }
+            responseSchemas.add(schema.get$ref() != null ? schema.get$ref() : schema);
+        }
+        return responseSchemas.size() > 1;
+    }
+
     /**
      * Get the return data type according to the OAS ArraySchema.
      */
@@ -87,6 +87,7 @@ import static io.ballerina.openapi.core.GeneratorConstants.BOOLEAN;
 import static io.ballerina.openapi.core.GeneratorConstants.EMPTY_RECORD;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.INTEGER;
+import static io.ballerina.openapi.core.GeneratorConstants.MULTIPART_PAYLOAD_SUFFIX;
 import static io.ballerina.openapi.core.GeneratorConstants.NILLABLE;
 import static io.ballerina.openapi.core.GeneratorConstants.NUMBER;
 import static io.ballerina.openapi.core.GeneratorConstants.OBJECT;
@@ -437,6 +438,18 @@ public class FunctionSignatureGenerator {
     private Node getHeader(boolean isRequiredHeader, Schema schema, IdentifierToken paramName,
                            NodeList<AnnotationNode> parameterAnnotationNodeList) throws BallerinaOpenApiException {
 
+        if (schema.get$ref() != null) {
+            // a header of a referred type is typed with the name of its type definition
+            String type = getValidName(extractReferenceType(schema.get$ref()), true);
+            if (isRequiredHeader) {
+                return createRequiredParameterNode(parameterAnnotationNodeList,
+                        createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(type)), paramName);
+            }
+            return createDefaultableParameterNode(parameterAnnotationNodeList,
+                    createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(type + NILLABLE)), paramName,
+                    createToken(EQUAL_TOKEN), createNilLiteralNode(createToken(OPEN_PAREN_TOKEN),
+                            createToken(CLOSE_PAREN_TOKEN)));
+        }
         if (isRequiredHeader) {
             String type = convertOpenAPITypeToBallerina(schema);
             if (isArraySchema(schema)) {
@@ -529,8 +542,10 @@ public class FunctionSignatureGenerator {
                         mediaTypeEntryKey.matches("application/.*\\+octet-stream")) {
                      paramType = getBallerinaMediaType(mediaTypeEntryKey, true);
                 } else {
+                    boolean isMultipart = mediaTypeEntryKey.equals(javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA);
                     if (schema.get$ref() != null) {
-                        paramType = getValidName(extractReferenceType(schema.get$ref().trim()), true);
+                        String schemaName = extractReferenceType(schema.get$ref().trim());
+                        paramType = isMultipart ? getMultipartPayloadType(schemaName) : getValidName(schemaName, true);
                     } else if (getOpenAPIType(schema) != null && !getOpenAPIType(schema).equals(ARRAY) &&
                             !getOpenAPIType(schema).equals(
                             OBJECT)) {
@@ -539,7 +554,8 @@ public class FunctionSignatureGenerator {
                         //TODO: handle nested array - this is impossible to handle
                         paramType = getRequestBodyParameterForArraySchema(operationId, mediaTypeEntry, schema);
                     } else if (isObjectSchema(schema) || schema.getProperties() != null) {
-                        paramType = getRequestBodyParameterForObjectSchema(referencedRequestBodyName, schema);
+                        paramType = getRequestBodyParameterForObjectSchema(referencedRequestBodyName, schema,
+                                isMultipart);
                     } else { // composed and object schemas are handled by the flatten
                         paramType = getBallerinaMediaType(mediaTypeEntryKey, true);
                     }
@@ -591,18 +607,40 @@ public class FunctionSignatureGenerator {
         }
     }
 
-    private String getRequestBodyParameterForObjectSchema (String recordName, Schema objectSchema)
-            throws BallerinaOpenApiException {
+    private String getRequestBodyParameterForObjectSchema (String recordName, Schema objectSchema,
+                                                           boolean isMultipart) throws BallerinaOpenApiException {
         recordName = getValidName(recordName + "_RequestBody", true);
         if (objectSchema.getProperties() == null || objectSchema.getProperties().isEmpty()) {
             return EMPTY_RECORD;
         }
-        TypeDefinitionNode record =
+        TypeDefinitionNode record = isMultipart ?
+                ballerinaSchemaGenerator.getMultipartTypeDefinitionNode(objectSchema, recordName, new ArrayList<>()) :
                 ballerinaSchemaGenerator.getTypeDefinitionNode(objectSchema, recordName, new ArrayList<>());
         GeneratorUtils.updateTypeDefNodeList(recordName, record, typeDefinitionNodeList);
         return recordName;
     }
 
+    /**
+     * Returns the type of a multipart/form-data payload of the given component schema. A schema referred only by
+     * multipart payloads takes the file paths of its binary fields in its own type. A schema with binary fields which
+     * is also referred elsewhere keeps its type, hence a separate payload record is generated for the client.
+     */
+    private String getMultipartPayloadType(String schemaName) throws BallerinaOpenApiException {
+        String typeName = getValidName(schemaName, true);
+        Schema<?> schema = openAPI.getComponents() != null && openAPI.getComponents().getSchemas() != null ?
+                openAPI.getComponents().getSchemas().get(schemaName) : null;
+        if (schema == null || schema.getProperties() == null ||
+                ballerinaSchemaGenerator.isMultipartPayloadSchema(schemaName) ||
+                schema.getProperties().values().stream().noneMatch(GeneratorUtils::isBinarySchema)) {
+            return typeName;
+        }
+        String payloadTypeName = typeName + MULTIPART_PAYLOAD_SUFFIX;
+        TypeDefinitionNode record = ballerinaSchemaGenerator.getMultipartTypeDefinitionNode(schema, payloadTypeName,
+                new ArrayList<>());
+        GeneratorUtils.updateTypeDefNodeList(payloadTypeName, record, typeDefinitionNodeList);
+        return payloadTypeName;
+    }
+
     /**
      * Generate RequestBody for array type schema.
      */
@@ -0,0 +1,451 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ResourcePathParameterNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.MockValueGenerator;
+import io.ballerina.openapi.core.generators.service.MockServiceGenerator;
+import io.ballerina.openapi.core.generators.service.ServiceGenerationUtils;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.openapi.core.GeneratorConstants.API_KEY;
+import static io.ballerina.openapi.core.GeneratorConstants.BASIC;
+import static io.ballerina.openapi.core.GeneratorConstants.BEARER;
+import static io.ballerina.openapi.core.GeneratorConstants.PAYLOAD;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getStringLiteral;
+
+/**
+ * This class generates the load tests of a generated client, which send the requests of every operation to the mock
+ * service generated by {@link MockServiceGenerator} with at most `loadConcurrency` requests in flight, and report the
+ * latency percentiles of each operation. The load tests are in the `load` group and are opt-in, as they would
+ * otherwise slow down every `bal test` run; they send the requests only when the `enableLoadTests` configurable is
+ * set, ex: `bal test --groups load` with `enableLoadTests = true` in the `Config.toml` of the tests.
+ * <pre>
+ *     &#64;test:Config {groups: ["load"]}
+ *     function loadTestShowPetById() returns error? {
+ *         Client loadClient = check new (serviceUrl = mockServiceUrl);
+ *         int petId = check "1".fromJsonStringWithType();
+ *         runLoad("showPetById", function() returns error? {
+ *             any|error result = loadClient->/pets/[petId].get();
+ *             if result is error {
+ *                 return result;
+ *             }
+ *         });
+ *     }
+ * </pre>
+ * The arguments of the requests are the mock values of the schemas of the parameters and the request bodies.
+ *
+ * @since 1.8.0
+ */
+public class LoadTestGenerator {
+
+    private static final String LOAD_CLIENT = "loadClient";
+    private static final String MOCK_VALUE = "mock";
+
+    private final BallerinaClientGenerator clientGenerator;
+    private final OpenAPI openAPI;
+    private final MockValueGenerator mockValueGenerator;
+    private final String basePath;
+    private boolean isHttpImportRequired = false;
+
+    /**
+     * Create the load test generator of a client.
+     *
+     * @param clientGenerator generator of the client, of which the authentication is mocked
+     * @param openAPI         OpenAPI definition of the client
+     * @param basePath        base path of the mock service
+     */
+    public LoadTestGenerator(BallerinaClientGenerator clientGenerator, OpenAPI openAPI, String basePath) {
+        this.clientGenerator = clientGenerator;
+        this.openAPI = openAPI;
+        this.mockValueGenerator = new MockValueGenerator(openAPI);
+        this.basePath = basePath;
+    }
+
+    /**
+     * Generate the syntax tree of the load tests of the functions of the given client.
+     *
+     * @param clientSyntaxTree syntax tree of the generated client
+     * @return {@link SyntaxTree} of the load test file
+     * @throws BallerinaOpenApiException when the client authenticates with an OAuth 2.0 grant, which cannot be
+     *                                   mocked, or the mock value of a schema cannot be generated
+     */
+    public SyntaxTree generateSyntaxTree(SyntaxTree clientSyntaxTree) throws BallerinaOpenApiException {
+
+        String clientInit = getClientInitialization();
+        Map<String, OperationDetails> operations = getOperations();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration("# Enables the load tests, which are skipped by default\n" +
+                "configurable boolean enableLoadTests = false;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Number of requests sent to each operation\n" +
+                "configurable int loadRequests = 1000;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Maximum number of requests in flight at a time\n" +
+                "configurable int loadConcurrency = 10;"));
+        String path = basePath.equals(GeneratorConstants.OAS_PATH_SEPARATOR) ? "" : basePath.replaceAll("/+$", "");
+        members.add(NodeParser.parseModuleMemberDeclaration("final string mockServiceUrl = " +
+                "string `http://localhost:${" + MockServiceGenerator.MOCK_PORT + "}" + path.replace("`", "") +
+                "`;"));
+
+        Set<String> testNames = new HashSet<>();
+        ModulePartNode clientModule = clientSyntaxTree.rootNode();
+        for (ModuleMemberDeclarationNode member : clientModule.members()) {
+            if (!(member instanceof ClassDefinitionNode)) {
+                continue;
+            }
+            for (Node classMember : ((ClassDefinitionNode) member).members()) {
+                if (!(classMember instanceof FunctionDefinitionNode)) {
+                    continue;
+                }
+                FunctionDefinitionNode function = (FunctionDefinitionNode) classMember;
+                OperationDetails operation = operations.get(getFunctionKey(function));
+                if (operation == null) {
+                    continue;
+                }
+                String testName = "loadTest" + GeneratorUtils.getValidName(operation.name, true);
+                String uniqueName = testName;
+                for (int i = 1; testNames.contains(uniqueName); i++) {
+                    uniqueName = testName + i;
+                }
+                testNames.add(uniqueName);
+                members.add(NodeParser.parseModuleMemberDeclaration(
+                        getLoadTest(uniqueName, clientInit, function, operation)));
+            }
+        }
+        members.add(NodeParser.parseModuleMemberDeclaration(getRunLoadFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(getSendRequestsFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration("function sendRequest(function () returns error? " +
+                "request) returns decimal|error {" +
+                "decimal startTime = time:monotonicNow();" +
+                "check request();" +
+                "return time:monotonicNow() - startTime;" +
+                "}"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Returns the given percentile of the sorted " +
+                "latencies in milliseconds\n" +
+                "function getPercentile(decimal[] sorted, int percentile) returns decimal {" +
+                "if sorted.length() == 0 {" +
+                "return 0;" +
+                "}" +
+                "int index = int:max((sorted.length() * percentile + 99) / 100 - 1, 0);" +
+                "return sorted[index] * 1000;" +
+                "}"));
+
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        if (isHttpImportRequired) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                    GeneratorConstants.HTTP));
+        }
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.IO));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                GeneratorConstants.MODULE_TEST));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.TIME));
+        Token eofToken = createIdentifierToken("");
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(imports), createNodeList(members),
+                eofToken);
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Returns the initialization of the client, where the credentials are mocked as the mock service does not
+     * authenticate the requests.
+     */
+    private String getClientInitialization() throws BallerinaOpenApiException {
+
+        Set<String> authTypes = clientGenerator.getAuthType();
+        String serviceUrl = GeneratorConstants.SERVICE_URL + " = mockServiceUrl";
+        if (authTypes.isEmpty()) {
+            return "check new (" + serviceUrl + ")";
+        }
+        BallerinaAuthConfigGenerator authConfigGenerator = clientGenerator.getBallerinaAuthConfigGenerator();
+        if (authConfigGenerator.isApiKey() && !authConfigGenerator.isHttpOROAuth() && authTypes.contains(API_KEY)) {
+            List<String> apiKeys = new ArrayList<>();
+            for (String apiKey : clientGenerator.getApiKeyNameList()) {
+                apiKeys.add(GeneratorUtils.getValidName(apiKey, false) + ": " + getStringLiteral(MOCK_VALUE));
+            }
+            return "check new ({" + String.join(", ", apiKeys) + "}, " + serviceUrl + ")";
+        } else if (!authConfigGenerator.isApiKey() && authTypes.contains(BASIC)) {
+            isHttpImportRequired = true;
+            return "check new ({auth: <http:CredentialsConfig>{username: \"mock\", password: \"mock\"}}, " +
+                    serviceUrl + ")";
+        } else if (!authConfigGenerator.isApiKey() && authTypes.contains(BEARER)) {
+            isHttpImportRequired = true;
+            return "check new ({auth: <http:BearerTokenConfig>{token: \"mock\"}}, " + serviceUrl + ")";
+        }
+        throw new BallerinaOpenApiException("Load tests cannot be generated for the clients which authenticate " +
+                "with OAuth 2.0 grants or combined schemes, as the mock service does not issue the credentials.");
+    }
+
+    private String getLoadTest(String testName, String clientInit, FunctionDefinitionNode function,
+                               OperationDetails operation) throws BallerinaOpenApiException {
+
+        StringBuilder arguments = new StringBuilder();
+        List<String> argumentNames = new ArrayList<>();
+        StringBuilder target = new StringBuilder();
+        if (function.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+            target.append("/");
+            for (Node segment : function.relativeResourcePath()) {
+                if (segment instanceof ResourcePathParameterNode) {
+                    ResourcePathParameterNode pathParam = (ResourcePathParameterNode) segment;
+                    String name = pathParam.paramName().map(token -> token.text().trim()).orElse("");
+                    arguments.append(getArgument(pathParam.typeDescriptor().toSourceCode().trim(), name,
+                            operation.schemas.get(getName(name))));
+                    target.append("[").append(name).append("]");
+                } else if (segment.kind() != SyntaxKind.DOT_TOKEN) {
+                    target.append(segment.toSourceCode().trim());
+                }
+            }
+            target.append(".").append(function.functionName().text().trim());
+        } else {
+            target.append(function.functionName().text().trim());
+        }
+        for (ParameterNode parameterNode : function.functionSignature().parameters()) {
+            if (!(parameterNode instanceof RequiredParameterNode)) {
+                continue;
+            }
+            RequiredParameterNode parameter = (RequiredParameterNode) parameterNode;
+            String name = parameter.paramName().map(token -> token.text().trim()).orElse("");
+            arguments.append(getArgument(parameter.typeName().toSourceCode().trim(), name,
+                    operation.schemas.get(getName(name))));
+            argumentNames.add(name);
+        }
+        return "@test:Config {groups: [\"load\"]}\n" +
+                "function " + testName + "() returns error? {" +
+                "Client " + LOAD_CLIENT + " = " + clientInit + ";" +
+                arguments +
+                "runLoad(" + getStringLiteral(operation.name) + ", function() returns error? {" +
+                "any|error result = " + LOAD_CLIENT + "->" + target + "(" + String.join(", ", argumentNames) + ");" +
+                "if result is error {" +
+                "return result;" +
+                "}" +
+                "});" +
+                "}";
+    }
+
+    /**
+     * Returns the declaration of an argument, of which the value is the mock value of the given schema, or a value of
+     * the type when the schema is unknown.
+     */
+    private String getArgument(String type, String name, Schema<?> schema) throws BallerinaOpenApiException {
+
+        if (type.equals("http:Request")) {
+            isHttpImportRequired = true;
+            return "http:Request " + name + " = new;";
+        } else if (type.equals("byte[]")) {
+            return "byte[] " + name + " = " + getStringLiteral(MOCK_VALUE) + ".toBytes();";
+        }
+        String value;
+        if (schema != null) {
+            value = MockValueGenerator.toJsonString(mockValueGenerator.getMockValue(schema));
+        } else if (type.startsWith("int")) {
+            value = "1";
+        } else if (type.equals("float") || type.equals("decimal")) {
+            value = "1.5";
+        } else if (type.equals("boolean")) {
+            value = "true";
+        } else if (type.startsWith("string")) {
+            value = "\"" + MOCK_VALUE + "\"";
+        } else if (type.endsWith("[]")) {
+            value = "[]";
+        } else {
+            value = "{}";
+        }
+        return type + " " + name + " = check " + getStringLiteral(value) + ".fromJsonStringWithType();";
+    }
+
+    /**
+     * Collect the operations of the definition by the key of the client function, which is the operation id of a
+     * remote function, or the accessor and the path of a resource function.
+     */
+    private Map<String, OperationDetails> getOperations() throws BallerinaOpenApiException {
+
+        Map<String, OperationDetails> operations = new HashMap<>();
+        if (openAPI.getPaths() == null) {
+            return operations;
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                    path.getValue().readOperationsMap().entrySet()) {
+                String method = operation.getKey().name().toLowerCase(Locale.ENGLISH);
+                String name = operation.getValue().getOperationId() != null ?
+                        operation.getValue().getOperationId() : method + path.getKey();
+                OperationDetails details = new OperationDetails(name);
+                List<Parameter> parameters = new ArrayList<>();
+                if (path.getValue().getParameters() != null) {
+                    parameters.addAll(path.getValue().getParameters());
+                }
+                if (operation.getValue().getParameters() != null) {
+                    parameters.addAll(operation.getValue().getParameters());
+                }
+                for (Parameter parameter : parameters) {
+                    if (parameter.get$ref() != null && openAPI.getComponents() != null &&
+                            openAPI.getComponents().getParameters() != null) {
+                        parameter = openAPI.getComponents().getParameters().get(
+                                GeneratorUtils.extractReferenceType(parameter.get$ref()));
+                    }
+                    if (parameter != null && parameter.getName() != null && parameter.getSchema() != null) {
+                        details.schemas.put(getName(GeneratorUtils.getValidName(parameter.getName().trim(), false)),
+                                parameter.getSchema());
+                    }
+                }
+                RequestBody requestBody = operation.getValue().getRequestBody();
+                if (requestBody != null && requestBody.get$ref() != null && openAPI.getComponents() != null &&
+                        openAPI.getComponents().getRequestBodies() != null) {
+                    requestBody = openAPI.getComponents().getRequestBodies().get(
+                            GeneratorUtils.extractReferenceType(requestBody.get$ref()));
+                }
+                if (requestBody != null && requestBody.getContent() != null &&
+                        !requestBody.getContent().isEmpty()) {
+                    MediaType mediaType = requestBody.getContent().values().iterator().next();
+                    if (mediaType != null && mediaType.getSchema() != null) {
+                        details.schemas.put(PAYLOAD, mediaType.getSchema());
+                    }
+                }
+                if (operation.getValue().getOperationId() != null) {
+                    operations.put(getName(operation.getValue().getOperationId()), details);
+                }
+                StringBuilder resourcePath = new StringBuilder();
+                for (String segment : ServiceGenerationUtils.getPathSegments(path.getKey())) {
+                    resourcePath.append("/").append(segment.contains("{") ? "{}" : getName(segment));
+                }
+                operations.put(method + " " + (resourcePath.length() == 0 ? "/" : resourcePath), details);
+            }
+        }
+        return operations;
+    }
+
+    private static String getFunctionKey(FunctionDefinitionNode function) {
+
+        String name = getName(function.functionName().text());
+        if (function.kind() != SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+            return name;
+        }
+        StringBuilder path = new StringBuilder();
+        for (Node segment : function.relativeResourcePath()) {
+            if (segment instanceof ResourcePathParameterNode) {
+                path.append("/{}");
+            } else if (segment.kind() != SyntaxKind.DOT_TOKEN && segment.kind() != SyntaxKind.SLASH_TOKEN) {
+                path.append("/").append(getName(segment.toSourceCode()));
+            }
+        }
+        return name + " " + (path.length() == 0 ? "/" : path);
+    }
+
+    private static String getName(String identifier) {
+        return identifier.trim().replace("'", "").replace("\\", "");
+    }
+
+    private static String getRunLoadFunction() {
+        return "# Sends the requests of an operation with at most `loadConcurrency` requests in flight, and reports " +
+                "the latency percentiles\n" +
+                "function runLoad(string operation, function () returns error? request) {" +
+                "if !enableLoadTests {" +
+                "return;" +
+                "}" +
+                "record {|int sent;|} progress = {sent: 0};" +
+                "future<[decimal[], int]>[] workers = [];" +
+                "foreach int i in 0 ..< int:min(int:max(loadConcurrency, 1), loadRequests) {" +
+                "future<[decimal[], int]> worker = start sendRequests(request, progress);" +
+                "workers.push(worker);" +
+                "}" +
+                "decimal[] latencies = [];" +
+                "int failures = 0;" +
+                "foreach future<[decimal[], int]> worker in workers {" +
+                "[decimal[], int] [workerLatencies, workerFailures] = wait worker;" +
+                "latencies.push(...workerLatencies);" +
+                "failures += workerFailures;" +
+                "}" +
+                "decimal[] sorted = latencies.sort();" +
+                "io:println(string `${operation}: requests=${loadRequests}, failures=${failures}, ` +" +
+                "string `p50=${getPercentile(sorted, 50)}ms, p90=${getPercentile(sorted, 90)}ms, ` +" +
+                "string `p99=${getPercentile(sorted, 99)}ms, max=${getPercentile(sorted, 100)}ms`);" +
+                "}";
+    }
+
+    /**
+     * The workers are not isolated, hence they run on the strand group of `runLoad` and update the shared progress
+     * without a lock, as a strand only yields while its request is in flight.
+     */
+    private static String getSendRequestsFunction() {
+        return "# Sends a request whenever the previous one completes, until `loadRequests` requests are sent by all " +
+                "the workers, and returns the latencies and the number of failures\n" +
+                "function sendRequests(function () returns error? request, record {|int sent;|} progress) " +
+                "returns [decimal[], int] {" +
+                "decimal[] latencies = [];" +
+                "int failures = 0;" +
+                "while progress.sent < loadRequests {" +
+                "progress.sent += 1;" +
+                "decimal|error latency = sendRequest(request);" +
+                "if latency is error {" +
+                "failures += 1;" +
+                "} else {" +
+                "latencies.push(latency);" +
+                "}" +
+                "}" +
+                "return [latencies, failures];" +
+                "}";
+    }
+
+    /**
+     * Details of an operation, which are used to generate its load test.
+     */
+    private static class OperationDetails {
+
+        private final String name;
+        private final Map<String, Schema<?>> schemas = new HashMap<>();
+
+        OperationDetails(String name) {
+            this.name = name;
+        }
+    }
+}
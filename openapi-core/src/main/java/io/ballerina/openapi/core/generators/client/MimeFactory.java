@@ -28,6 +28,7 @@ import io.ballerina.openapi.core.generators.client.mime.MultipartFormData;
 import io.ballerina.openapi.core.generators.client.mime.OctetStreamType;
 import io.ballerina.openapi.core.generators.client.mime.UrlEncodedType;
 import io.ballerina.openapi.core.generators.client.mime.XmlType;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 
@@ -56,11 +57,13 @@ public class MimeFactory {
      * @param mediaTypeEntry         - Media type entry
      * @param ballerinaUtilGenerator - Ballerina util generator
      * @param imports                - Ballerina imports
+     * @param openAPI                - OpenAPI definition used to resolve the referenced payload schemas
      * @return mimetype
      * @throws BallerinaOpenApiException throws an exception on unsupported mime types.
      */
     public MimeType getMimeType(Map.Entry<String, MediaType> mediaTypeEntry,
-                                BallerinaUtilGenerator ballerinaUtilGenerator, List<ImportDeclarationNode> imports)
+                                BallerinaUtilGenerator ballerinaUtilGenerator, List<ImportDeclarationNode> imports,
+                                OpenAPI openAPI)
             throws BallerinaOpenApiException {
 
         Schema requestBodySchema = mediaTypeEntry.getValue().getSchema();
@@ -80,7 +83,7 @@ public class MimeFactory {
                     mediaType.matches("application/.*\\+octet-stream")) {
                 return new OctetStreamType();
             } else if (mediaType.equals(MULTIPART_FORM_DATA)) {
-                return new MultipartFormData(imports, ballerinaUtilGenerator);
+                return new MultipartFormData(imports, ballerinaUtilGenerator, openAPI);
             } else if (mediaType.contains(VENDOR_SPECIFIC_TYPE)) {
                 return new CustomType();
             } else {
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.client;
+
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.document.DocCommentsGenerator;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.media.StringSchema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+import io.swagger.v3.oas.models.security.SecurityRequirement;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createDefaultableParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createFunctionSignatureNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredExpressionNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createRequiredParameterNode;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createReturnTypeDescriptorNode;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.CLOSE_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_PAREN_TOKEN;
+import static io.ballerina.compiler.syntax.tree.SyntaxKind.RETURNS_KEYWORD;
+import static io.ballerina.openapi.core.GeneratorConstants.API_KEYS_CONFIG;
+import static io.ballerina.openapi.core.GeneratorConstants.API_KEY_CONFIG_PARAM;
+import static io.ballerina.openapi.core.GeneratorConstants.APPLICATION_OCTET_STREAM;
+import static io.ballerina.openapi.core.GeneratorConstants.CONTENT_TYPE_PARAM;
+import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_RETURN;
+import static io.ballerina.openapi.core.GeneratorConstants.DELETE;
+import static io.ballerina.openapi.core.GeneratorConstants.GET;
+import static io.ballerina.openapi.core.GeneratorConstants.HEAD;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_HEADERS;
+import static io.ballerina.openapi.core.GeneratorConstants.HTTP_RESPONSE;
+import static io.ballerina.openapi.core.GeneratorConstants.OPTIONS;
+import static io.ballerina.openapi.core.GeneratorConstants.PASSTHROUGH_HEADERS;
+import static io.ballerina.openapi.core.GeneratorConstants.PASSTHROUGH_QUERIES;
+import static io.ballerina.openapi.core.GeneratorConstants.PATCH;
+import static io.ballerina.openapi.core.GeneratorConstants.PAYLOAD;
+import static io.ballerina.openapi.core.GeneratorConstants.POST;
+import static io.ballerina.openapi.core.GeneratorConstants.PUT;
+import static io.ballerina.openapi.core.GeneratorConstants.QUERY;
+import static io.ballerina.openapi.core.GeneratorConstants.QUERY_PARAM;
+import static io.ballerina.openapi.core.GeneratorConstants.REQUEST;
+import static io.ballerina.openapi.core.GeneratorConstants.RESOURCE_PATH;
+import static io.ballerina.openapi.core.GeneratorConstants.RESPONSE;
+import static io.ballerina.openapi.core.GeneratorConstants.SELF;
+import static io.ballerina.openapi.core.GeneratorConstants.STRING;
+import static io.ballerina.openapi.core.GeneratorUtils.convertOpenAPITypeToBallerina;
+import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
+import static io.ballerina.openapi.core.GeneratorUtils.generateBodyStatementForComplexUrl;
+import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+import static io.ballerina.openapi.core.GeneratorUtils.isComplexURL;
+
+/**
+ * This class generates the client functions of the passthrough (no data binding) client mode. Passthrough functions
+ * take the pre-serialized payload as it is and return the raw {@code http:Response}, hence no record types are needed
+ * for the payloads and the responses.
+ * <pre>
+ *     remote isolated function createIssue(string projectId, byte[] payload, string contentType = "application/json",
+ *             map<string|string[]> headers = {}, map<anydata> queries = {}) returns http:Response|error {
+ *         string resourcePath = string `/projects/${getEncodedUri(projectId)}/issues`;
+ *         resourcePath = resourcePath + check getPathForQueryParam(queries);
+ *         http:Request request = new;
+ *         request.setBinaryPayload(payload, contentType);
+ *         http:Response response = check self.clientEp->post(resourcePath, request, headers);
+ *         return response;
+ *     }
+ * </pre>
+ *
+ * @since 1.8.0
+ */
+public class PassthroughFunctionGenerator {
+
+    private final OpenAPI openAPI;
+    private final BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator;
+    private final BallerinaUtilGenerator ballerinaUtilGenerator;
+    private final FunctionBodyGenerator functionBodyGenerator;
+    private final boolean resourceMode;
+
+    public PassthroughFunctionGenerator(OpenAPI openAPI, BallerinaAuthConfigGenerator ballerinaAuthConfigGenerator,
+                                        BallerinaUtilGenerator ballerinaUtilGenerator, boolean resourceMode) {
+
+        this.openAPI = openAPI;
+        this.ballerinaAuthConfigGenerator = ballerinaAuthConfigGenerator;
+        this.ballerinaUtilGenerator = ballerinaUtilGenerator;
+        this.functionBodyGenerator = new FunctionBodyGenerator(new ArrayList<>(), new ArrayList<>(), openAPI, null,
+                ballerinaAuthConfigGenerator, ballerinaUtilGenerator, resourceMode);
+        this.resourceMode = resourceMode;
+    }
+
+    /**
+     * Generate the relative resource path of a passthrough resource function. Path parameters referring to component
+     * schemas are typed with the referred primitive type, as the component schemas are not generated in this mode.
+     *
+     * @param path      resource path
+     * @param operation OpenAPI operation
+     * @param docs      documentation of the function to add the path parameter documentation
+     * @return relative resource path nodes
+     * @throws BallerinaOpenApiException when the path parameters are invalid
+     */
+    public List<Node> getRelativeResourcePath(String path, Operation operation, List<Node> docs)
+            throws BallerinaOpenApiException {
+
+        Operation pathOperation = new Operation();
+        pathOperation.setParameters(getPathParameters(operation));
+        return GeneratorUtils.getRelativeResourcePath(path, pathOperation, docs);
+    }
+
+    /**
+     * Generate the signature of a passthrough function. The path parameters (only for remote functions) are followed
+     * by the pre-serialized payload, its media type, the headers and the queries.
+     *
+     * @param operation OpenAPI operation
+     * @param docs      documentation of the function to add the parameter documentation
+     * @return {@link FunctionSignatureNode}
+     * @throws BallerinaOpenApiException when the parameters are invalid
+     */
+    public FunctionSignatureNode getFunctionSignatureNode(Operation operation, List<Node> docs)
+            throws BallerinaOpenApiException {
+
+        List<Node> parameters = new ArrayList<>();
+        if (!resourceMode) {
+            for (Parameter parameter : getPathParameters(operation)) {
+                String paramName = getValidName(parameter.getName().trim(), false);
+                parameters.add(createRequiredParameterNode(createEmptyNodeList(),
+                        createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(
+                                convertOpenAPITypeToBallerina(parameter.getSchema()))),
+                        createIdentifierToken(paramName)));
+                docs.add(DocCommentsGenerator.createAPIParamDoc(paramName, parameter.getDescription() != null &&
+                        !parameter.getDescription().isBlank() ? parameter.getDescription() : "Path parameter"));
+            }
+        }
+        RequestBody requestBody = getRequestBody(operation);
+        List<Node> defaultableParameters = new ArrayList<>();
+        if (requestBody != null) {
+            boolean isRequired = requestBody.getRequired() != null && requestBody.getRequired();
+            if (isRequired) {
+                parameters.add(createRequiredParameterNode(createEmptyNodeList(),
+                        createBuiltinSimpleNameReferenceNode(null, createIdentifierToken("byte[]")),
+                        createIdentifierToken(PAYLOAD)));
+            } else {
+                defaultableParameters.add(getDefaultableParameterNode("byte[]?", PAYLOAD, "()"));
+            }
+            docs.add(DocCommentsGenerator.createAPIParamDoc(PAYLOAD, "Pre-serialized request payload"));
+            defaultableParameters.add(getDefaultableParameterNode(STRING, CONTENT_TYPE_PARAM,
+                    "\"" + getContentType(requestBody) + "\""));
+            docs.add(DocCommentsGenerator.createAPIParamDoc(CONTENT_TYPE_PARAM, "Media type of the payload"));
+        }
+        defaultableParameters.add(getDefaultableParameterNode("map<string|string[]>", PASSTHROUGH_HEADERS, "{}"));
+        docs.add(DocCommentsGenerator.createAPIParamDoc(PASSTHROUGH_HEADERS, "Headers to be sent with the request"));
+        if (hasQueryParameters(operation)) {
+            defaultableParameters.add(getDefaultableParameterNode("map<anydata>", PASSTHROUGH_QUERIES, "{}"));
+            docs.add(DocCommentsGenerator.createAPIParamDoc(PASSTHROUGH_QUERIES,
+                    "Queries to be sent with the request"));
+        }
+        parameters.addAll(defaultableParameters);
+        docs.add(DocCommentsGenerator.createAPIParamDoc("return", "Raw response of the request"));
+
+        List<Node> parameterList = new ArrayList<>();
+        for (Node parameter : parameters) {
+            if (!parameterList.isEmpty()) {
+                parameterList.add(createToken(COMMA_TOKEN));
+            }
+            parameterList.add(parameter);
+        }
+        ReturnTypeDescriptorNode returnTypeDescriptorNode = createReturnTypeDescriptorNode(
+                createToken(RETURNS_KEYWORD), createEmptyNodeList(), createBuiltinSimpleNameReferenceNode(null,
+                        createIdentifierToken(DEFAULT_RETURN)));
+        return createFunctionSignatureNode(createToken(OPEN_PAREN_TOKEN),
+                createSeparatedNodeList(parameterList), createToken(CLOSE_PAREN_TOKEN), returnTypeDescriptorNode);
+    }
+
+    /**
+     * Generate the body of a passthrough function. The payload is set to the request as it is and the response is
+     * returned without binding it to a type.
+     *
+     * @param path      resource path
+     * @param operation OpenAPI operation with its HTTP method
+     * @return {@link FunctionBodyNode}
+     * @throws BallerinaOpenApiException when the parameters are invalid
+     */
+    public FunctionBodyNode getFunctionBodyNode(String path, Map.Entry<PathItem.HttpMethod, Operation> operation)
+            throws BallerinaOpenApiException {
+
+        StringBuilder body = new StringBuilder("{");
+        if (resourceMode && isComplexURL(path)) {
+            for (StatementNode statementNode : generateBodyStatementForComplexUrl(path)) {
+                body.append(statementNode.toSourceCode());
+            }
+        }
+        body.append("string ").append(RESOURCE_PATH).append(" = string `")
+                .append(functionBodyGenerator.generatePathWithPathParameter(path)).append("`;");
+
+        List<String> queryApiKeys = new ArrayList<>();
+        List<String> headerApiKeys = new ArrayList<>();
+        Set<String> securitySchemes = getSecurityRequirementForOperation(operation.getValue());
+        for (String securityScheme : securitySchemes) {
+            if (ballerinaAuthConfigGenerator.getQueryApiKeyNameList().containsKey(securityScheme)) {
+                queryApiKeys.add(ballerinaAuthConfigGenerator.getQueryApiKeyNameList().get(securityScheme));
+            } else if (ballerinaAuthConfigGenerator.getHeaderApiKeyNameList().containsKey(securityScheme)) {
+                headerApiKeys.add(ballerinaAuthConfigGenerator.getHeaderApiKeyNameList().get(securityScheme));
+            }
+        }
+        boolean hasQueries = hasQueryParameters(operation.getValue());
+        String headers = PASSTHROUGH_HEADERS;
+        if (!queryApiKeys.isEmpty() || !headerApiKeys.isEmpty()) {
+            StringBuilder apiKeyStatements = new StringBuilder();
+            if (!headerApiKeys.isEmpty()) {
+                headers = HTTP_HEADERS;
+                body.append("map<string|string[]> ").append(HTTP_HEADERS).append(" = {...")
+                        .append(PASSTHROUGH_HEADERS).append("};");
+                apiKeyStatements.append(getApiKeyStatements(HTTP_HEADERS, headerApiKeys));
+            }
+            if (!queryApiKeys.isEmpty()) {
+                body.append("map<anydata> ").append(QUERY_PARAM).append(" = ")
+                        .append(hasQueries ? "{..." + PASSTHROUGH_QUERIES + "}" : "{}").append(";");
+                apiKeyStatements.append(getApiKeyStatements(QUERY_PARAM, queryApiKeys));
+            }
+            if (ballerinaAuthConfigGenerator.isHttpOROAuth()) {
+                body.append("if ").append(SELF).append(".").append(API_KEY_CONFIG_PARAM).append(" is ")
+                        .append(API_KEYS_CONFIG).append(" {").append(apiKeyStatements).append("}");
+            } else {
+                body.append(apiKeyStatements);
+            }
+        }
+        if (hasQueries || !queryApiKeys.isEmpty()) {
+            ballerinaUtilGenerator.setQueryParamsFound(true);
+            body.append(RESOURCE_PATH).append(" = ").append(RESOURCE_PATH).append(" + check getPathForQueryParam(")
+                    .append(queryApiKeys.isEmpty() ? PASSTHROUGH_QUERIES : QUERY_PARAM).append(");");
+        }
+
+        String method = operation.getKey().name().trim().toLowerCase(Locale.ENGLISH);
+        RequestBody requestBody = getRequestBody(operation.getValue());
+        String clientCall;
+        if (requestBody != null || method.equals(POST) || method.equals(PUT) || method.equals(PATCH)) {
+            body.append("http:Request ").append(REQUEST).append(" = new;");
+            if (requestBody != null) {
+                boolean isRequired = requestBody.getRequired() != null && requestBody.getRequired();
+                String setPayload = REQUEST + ".setBinaryPayload(" + PAYLOAD + ", " + CONTENT_TYPE_PARAM + ");";
+                body.append(isRequired ? setPayload : "if " + PAYLOAD + " is byte[] {" + setPayload + "}");
+            }
+            if (method.equals(POST) || method.equals(PUT) || method.equals(PATCH) || method.equals(DELETE)) {
+                clientCall = "self.clientEp->" + method + "(" + RESOURCE_PATH + ", " + REQUEST + ", " + headers + ")";
+            } else {
+                clientCall = "self.clientEp->execute(\"" + method.toUpperCase(Locale.ENGLISH) + "\", " +
+                        RESOURCE_PATH + ", " + REQUEST + ", " + headers + ")";
+            }
+        } else if (method.equals(DELETE)) {
+            clientCall = "self.clientEp->delete(" + RESOURCE_PATH + ", headers = " + headers + ")";
+        } else if (method.equals(GET) || method.equals(HEAD) || method.equals(OPTIONS)) {
+            clientCall = "self.clientEp->" + method + "(" + RESOURCE_PATH + ", " + headers + ")";
+        } else {
+            clientCall = "self.clientEp->execute(\"" + method.toUpperCase(Locale.ENGLISH) + "\", " +
+                    RESOURCE_PATH + ", (), " + headers + ")";
+        }
+        body.append(HTTP_RESPONSE).append(" ").append(RESPONSE).append(" = check ").append(clientCall).append(";")
+                .append("return ").append(RESPONSE).append(";")
+                .append("}");
+        return NodeParser.parseFunctionBodyBlock(body.toString());
+    }
+
+    /**
+     * Provides the path parameters of the operation. Parameter references are resolved and the path parameters which
+     * refer to component schemas are given the referred primitive type, or `string` otherwise.
+     */
+    private List<Parameter> getPathParameters(Operation operation) throws BallerinaOpenApiException {
+
+        List<Parameter> pathParameters = new ArrayList<>();
+        if (operation.getParameters() == null) {
+            return pathParameters;
+        }
+        for (Parameter parameter : operation.getParameters()) {
+            if (parameter.get$ref() != null) {
+                parameter = openAPI.getComponents().getParameters().get(extractReferenceType(parameter.get$ref()));
+            }
+            if (parameter == null || parameter.getIn() == null || !parameter.getIn().trim().equals("path")) {
+                continue;
+            }
+            Schema<?> schema = parameter.getSchema();
+            if (schema != null && schema.get$ref() != null) {
+                schema = openAPI.getComponents().getSchemas().get(extractReferenceType(schema.get$ref()));
+            }
+            if (schema == null || schema.getType() == null || schema.getType().equals("object") ||
+                    schema.getType().equals("array")) {
+                schema = new StringSchema();
+            }
+            Parameter pathParameter = new Parameter();
+            pathParameter.setName(parameter.getName());
+            pathParameter.setIn(parameter.getIn());
+            pathParameter.setRequired(true);
+            pathParameter.setDescription(parameter.getDescription());
+            pathParameter.setSchema(schema);
+            pathParameters.add(pathParameter);
+        }
+        return pathParameters;
+    }
+
+    private boolean hasQueryParameters(Operation operation) {
+
+        if (operation.getParameters() == null) {
+            return false;
+        }
+        for (Parameter parameter : operation.getParameters()) {
+            if (parameter.get$ref() != null) {
+                parameter = openAPI.getComponents().getParameters().get(extractReferenceType(parameter.get$ref()));
+            }
+            if (parameter != null && parameter.getIn() != null && parameter.getIn().trim().equals(QUERY)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private RequestBody getRequestBody(Operation operation) {
+
+        RequestBody requestBody = operation.getRequestBody();
+        if (requestBody != null && requestBody.get$ref() != null) {
+            String[] splits = requestBody.get$ref().split("/");
+            requestBody = openAPI.getComponents().getRequestBodies().get(splits[splits.length - 1]);
+        }
+        return requestBody;
+    }
+
+    /**
+     * Provides the first media type of the request body, which is the default media type of the payload.
+     */
+    private String getContentType(RequestBody requestBody) {
+
+        if (requestBody.getContent() == null || requestBody.getContent().isEmpty()) {
+            return APPLICATION_OCTET_STREAM;
+        }
+        return requestBody.getContent().keySet().iterator().next();
+    }
+
+    private String getApiKeyStatements(String mapName, List<String> apiKeyNames) {
+
+        StringBuilder statements = new StringBuilder();
+        boolean isOptionalConfig = ballerinaAuthConfigGenerator.isHttpOROAuth();
+        for (String apiKey : apiKeyNames) {
+            statements.append(mapName).append("[\"").append(apiKey.trim()).append("\"] = ")
+                    .append(isOptionalConfig && mapName.equals(HTTP_HEADERS) ? "<string>" : "")
+                    .append(SELF).append(".").append(API_KEY_CONFIG_PARAM).append(isOptionalConfig ? "?." : ".")
+                    .append(getValidName(apiKey, false)).append(";");
+        }
+        return statements.toString();
+    }
+
+    private DefaultableParameterNode getDefaultableParameterNode(String type, String name, String defaultValue) {
+
+        return createDefaultableParameterNode(createEmptyNodeList(),
+                createBuiltinSimpleNameReferenceNode(null, createIdentifierToken(type)),
+                createIdentifierToken(name), createToken(EQUAL_TOKEN),
+                createRequiredExpressionNode(createIdentifierToken(defaultValue)));
+    }
+
+    /**
+     * Provides the list of security schemes available for the given operation.
+     */
+    private Set<String> getSecurityRequirementForOperation(Operation operation) {
+
+        Set<String> securitySchemes = new LinkedHashSet<>();
+        List<SecurityRequirement> securityRequirements = operation.getSecurity() != null ?
+                operation.getSecurity() : openAPI.getSecurity();
+        if (securityRequirements != null) {
+            for (SecurityRequirement requirement : securityRequirements) {
+                securitySchemes.addAll(requirement.keySet());
+            }
+        }
+        return securitySchemes;
+    }
+}
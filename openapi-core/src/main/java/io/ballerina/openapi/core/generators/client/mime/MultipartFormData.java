@@ -27,6 +27,7 @@ import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
 import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.SeparatedNodeList;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.SpecificFieldNode;
@@ -34,12 +35,17 @@ import io.ballerina.compiler.syntax.tree.StatementNode;
 import io.ballerina.compiler.syntax.tree.TypedBindingPatternNode;
 import io.ballerina.compiler.syntax.tree.VariableDeclarationNode;
 import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.client.BallerinaUtilGenerator;
+import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.swagger.v3.oas.models.OpenAPI;
 import io.swagger.v3.oas.models.headers.Header;
 import io.swagger.v3.oas.models.media.Encoding;
 import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -63,49 +69,234 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.COMMA_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.EQUAL_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY_CONTENT_TYPE;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY_FILE_PATH_TYPE;
 import static io.ballerina.openapi.core.GeneratorConstants.MIME;
+import static io.ballerina.openapi.core.GeneratorConstants.NULL;
+import static io.ballerina.openapi.core.GeneratorConstants.PAYLOAD;
 import static io.ballerina.openapi.core.GeneratorUtils.addImport;
 import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
+import static io.ballerina.openapi.core.GeneratorUtils.extractReferenceType;
 import static io.ballerina.openapi.core.GeneratorUtils.getValidName;
+import static io.ballerina.openapi.core.GeneratorUtils.isArraySchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isBooleanSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isIntegerSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isNumberSchema;
+import static io.ballerina.openapi.core.GeneratorUtils.isStringSchema;
 
 /**
  * Defines the payload structure of multipart form-data mime type.
+ * <p>
+ * When the properties of the payload are known, a body part is built for each payload field according to the field
+ * schema. Binary fields can be given either in memory or as a path of a file which is streamed to the request.
+ * <pre>
+ *     mime:Entity[] bodyParts = [];
+ *     mime:Entity idPart = new;
+ *     idPart.setContentDisposition(mime:getContentDispositionObject("form-data; name=id;"));
+ *     idPart.setText(payload.id);
+ *     bodyParts.push(idPart);
+ *     record {byte[] fileContent; string fileName;}|record {string filePath; string fileName;}? profileImageValue =
+ *             payload?.profileImage;
+ *     if profileImageValue !is () {
+ *         mime:Entity profileImagePart = new;
+ *         ...
+ *         if profileImageValue is record {string filePath; string fileName;} {
+ *             profileImagePart.setFileAsEntityBody(profileImageValue.filePath);
+ *         } else {
+ *             profileImagePart.setByteArray(profileImageValue.fileContent);
+ *         }
+ *         bodyParts.push(profileImagePart);
+ *     }
+ *     request.setBodyParts(bodyParts);
+ * </pre>
  *
  * @since 1.3.0
  */
 public class MultipartFormData extends MimeType {
 
+    private static final String BODY_PARTS = "bodyParts";
+    private static final String PART_SUFFIX = "Part";
+    private static final String VALUE_SUFFIX = "Value";
+
     BallerinaUtilGenerator ballerinaUtilGenerator;
     List<ImportDeclarationNode> imports;
+    OpenAPI openAPI;
 
     public MultipartFormData(List<ImportDeclarationNode> imports,
-                             BallerinaUtilGenerator ballerinaUtilGenerator) {
+                             BallerinaUtilGenerator ballerinaUtilGenerator, OpenAPI openAPI) {
         this.imports = imports;
         this.ballerinaUtilGenerator = ballerinaUtilGenerator;
+        this.openAPI = openAPI;
     }
 
     @Override
     public void setPayload(List<StatementNode> statementsList, Map.Entry<String, MediaType> mediaTypeEntry) {
-        ballerinaUtilGenerator.setRequestBodyMultipartFormDatafound(true);
         addImport(imports, MIME);
-        VariableDeclarationNode encodingMap = getMultipartMap(mediaTypeEntry);
-
-        VariableDeclarationNode bodyPartsVariable;
-        if (encodingMap == null) {
-            bodyPartsVariable = GeneratorUtils.getSimpleStatement("mime:Entity[]", "bodyParts",
-                    "check createBodyParts(payload)");
+        Schema<?> payloadSchema = resolveSchema(mediaTypeEntry.getValue().getSchema());
+        if (payloadSchema != null && payloadSchema.getProperties() != null &&
+                !payloadSchema.getProperties().isEmpty()) {
+            statementsList.add(GeneratorUtils.getSimpleStatement("mime:Entity[]", BODY_PARTS, "[]"));
+            Map<String, Encoding> encodings = mediaTypeEntry.getValue().getEncoding() == null ? new HashMap<>() :
+                    mediaTypeEntry.getValue().getEncoding();
+            List<String> required = payloadSchema.getRequired() == null ? new ArrayList<>() :
+                    payloadSchema.getRequired();
+            for (Map.Entry<String, Schema> property : payloadSchema.getProperties().entrySet()) {
+                addBodyPartStatements(statementsList, property.getKey().trim(), property.getValue(),
+                        required.contains(property.getKey().trim()), encodings.get(property.getKey()));
+            }
         } else {
-            statementsList.add(encodingMap);
-            bodyPartsVariable = GeneratorUtils.getSimpleStatement("mime:Entity[]", "bodyParts",
-                    "check createBodyParts(payload, encodingMap)");
+            // The fields of a free-form payload are only known at runtime
+            ballerinaUtilGenerator.setRequestBodyMultipartFormDatafound(true);
+            VariableDeclarationNode encodingMap = getMultipartMap(mediaTypeEntry);
+            VariableDeclarationNode bodyPartsVariable;
+            if (encodingMap == null) {
+                bodyPartsVariable = GeneratorUtils.getSimpleStatement("mime:Entity[]", BODY_PARTS,
+                        "check createBodyParts(payload)");
+            } else {
+                statementsList.add(encodingMap);
+                bodyPartsVariable = GeneratorUtils.getSimpleStatement("mime:Entity[]", BODY_PARTS,
+                        "check createBodyParts(payload, encodingMap)");
+            }
+            statementsList.add(bodyPartsVariable);
         }
-        statementsList.add(bodyPartsVariable);
 
         ExpressionStatementNode setPayloadExpression = GeneratorUtils.getSimpleExpressionStatementNode(
                 "request.setBodyParts(bodyParts)");
         statementsList.add(setPayloadExpression);
     }
 
+    /**
+     * Generate the statements which create the body part of a payload field. The content of the part is set
+     * according to the field schema: binary fields as bytes or files, primitive fields (and their arrays) as text
+     * and other fields as JSON. Fields which may not have a value are only added when a value is given.
+     */
+    private void addBodyPartStatements(List<StatementNode> statementsList, String fieldName, Schema<?> fieldSchema,
+                                       boolean isRequired, Encoding encoding) {
+
+        Schema<?> resolvedSchema = resolveSchema(fieldSchema);
+        String validName = getValidName(fieldName, false);
+        String partName = validName + PART_SUFFIX;
+        String valueName = validName + VALUE_SUFFIX;
+        String fieldAccess = PAYLOAD + "." + escapeIdentifier(fieldName);
+        boolean isBinary = resolvedSchema != null && isStringSchema(resolvedSchema) &&
+                BINARY.equals(resolvedSchema.getFormat());
+        boolean isNillable = !isRequired || isNillableSchema(fieldSchema) || isNillableSchema(resolvedSchema);
+
+        List<String> partStatements = new ArrayList<>();
+        partStatements.add("mime:Entity " + partName + " = new;");
+        String value = isNillable || isBinary ? valueName : fieldAccess;
+        if (isBinary) {
+            partStatements.add(partName + ".setContentDisposition(mime:getContentDispositionObject(string " +
+                    "`form-data; name=" + fieldName + "; filename=${" + valueName + ".fileName}`));");
+            partStatements.add("if " + valueName + " is " + BINARY_FILE_PATH_TYPE + " {" +
+                    partName + ".setFileAsEntityBody(" + valueName + ".filePath);" +
+                    "} else {" + partName + ".setByteArray(" + valueName + ".fileContent);}");
+        } else {
+            partStatements.add(partName + ".setContentDisposition(mime:getContentDispositionObject(\"form-data; name=" +
+                    fieldName + ";\"));");
+            if (resolvedSchema != null && isStringSchema(resolvedSchema)) {
+                partStatements.add(partName + ".setText(" + value + ");");
+            } else if (resolvedSchema != null && isTextSchema(resolvedSchema)) {
+                partStatements.add(partName + ".setText(" + value + ".toString());");
+            } else {
+                partStatements.add(partName + ".setJson(" + value + ".toJson());");
+            }
+        }
+        if (encoding != null) {
+            addEncodingStatements(partStatements, partName, encoding);
+        }
+        partStatements.add(BODY_PARTS + ".push(" + partName + ");");
+
+        if (isNillable || isBinary) {
+            String valueType = isBinary ? BINARY_CONTENT_TYPE + "|" + BINARY_FILE_PATH_TYPE + "?" :
+                    resolvedSchema != null && isStringSchema(resolvedSchema) ? "string?" : "anydata";
+            statementsList.add(GeneratorUtils.getSimpleStatement(valueType, valueName, PAYLOAD + "?." +
+                    escapeIdentifier(fieldName)));
+            statementsList.add(NodeParser.parseStatement("if " + valueName + " !is () {" +
+                    String.join("", partStatements) + "}"));
+        } else {
+            for (String partStatement : partStatements) {
+                statementsList.add(NodeParser.parseStatement(partStatement));
+            }
+        }
+    }
+
+    /**
+     * Generate the statements which set the content type and the headers given in the encoding of a body part.
+     */
+    private void addEncodingStatements(List<String> partStatements, String partName, Encoding encoding) {
+
+        if (encoding.getContentType() != null) {
+            partStatements.add("check " + partName + ".setContentType(\"" +
+                    encoding.getContentType().split(",")[0].trim() + "\");");
+        }
+        if (encoding.getHeaders() == null) {
+            return;
+        }
+        for (Map.Entry<String, Header> header : encoding.getHeaders().entrySet()) {
+            Schema<?> headerSchema = header.getValue().getSchema();
+            if (headerSchema == null || !isTextSchema(headerSchema) || isArraySchema(headerSchema)) {
+                // only the primitive headers can be set on a body part
+                continue;
+            }
+            String paramName = getValidName(header.getKey(), false);
+            String headerValue = isStringSchema(headerSchema) ? paramName : paramName + ".toString()";
+            String setHeader = partName + ".setHeader(\"" + header.getKey() + "\", " + headerValue + ");";
+            boolean isRequired = header.getValue().getRequired() != null && header.getValue().getRequired();
+            if ((!isRequired && headerSchema.getDefault() == null) || isNillableSchema(headerSchema)) {
+                partStatements.add("if " + paramName + " !is () {" + setHeader + "}");
+            } else {
+                partStatements.add(setHeader);
+            }
+        }
+    }
+
+    /**
+     * Check whether the given schema is converted to a text body part. These are the primitive schemas and the arrays
+     * of primitive schemas.
+     */
+    private boolean isTextSchema(Schema<?> schema) {
+
+        if (isArraySchema(schema)) {
+            Schema<?> itemSchema = resolveSchema(schema.getItems());
+            return itemSchema != null && !isArraySchema(itemSchema) && isTextSchema(itemSchema);
+        }
+        return isStringSchema(schema) || isIntegerSchema(schema) || isNumberSchema(schema) ||
+                isBooleanSchema(schema);
+    }
+
+    private boolean isNillableSchema(Schema<?> schema) {
+
+        if (schema == null) {
+            return false;
+        }
+        GeneratorMetaData generatorMetaData = GeneratorMetaData.getInstance();
+        return Boolean.TRUE.equals(schema.getNullable()) ||
+                (schema.getTypes() != null && schema.getTypes().contains(NULL)) ||
+                (schema.getEnum() != null && schema.getEnum().contains(null)) ||
+                (schema.getNullable() == null && generatorMetaData != null && generatorMetaData.isNullable());
+    }
+
+    private Schema<?> resolveSchema(Schema<?> schema) {
+
+        if (schema == null || schema.get$ref() == null) {
+            return schema;
+        }
+        if (openAPI == null || openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return null;
+        }
+        String referenceName;
+        try {
+            referenceName = extractReferenceType(schema.get$ref());
+        } catch (BallerinaOpenApiException e) {
+            return null;
+        }
+        Schema<?> refSchema = openAPI.getComponents().getSchemas().get(referenceName);
+        return refSchema == null ?
+                openAPI.getComponents().getSchemas().get(getValidName(referenceName, true)) : refSchema;
+    }
+
     private VariableDeclarationNode getMultipartMap(Map.Entry<String, MediaType> mediaTypeEntry) {
         if (mediaTypeEntry.getValue().getEncoding() != null) {
             List<Node> mapFields = new LinkedList<>();
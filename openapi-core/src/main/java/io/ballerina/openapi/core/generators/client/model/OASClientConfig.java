@@ -18,8 +18,12 @@
 package io.ballerina.openapi.core.generators.client.model;
 
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.Projection;
 import io.swagger.v3.oas.models.OpenAPI;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * This class stores metadata that related to client code generations.
  *
@@ -31,7 +35,10 @@ public class OASClientConfig {
     private final boolean nullable;
     private final boolean resourceMode;
     private final boolean isPlugin;
-
+    private final List<String> batchOperations;
+    private final Projection projection;
+    private final boolean passthrough;
+    private final boolean instrument;
 
     private OASClientConfig(Builder clientConfigBuilder) {
         this.openAPI = clientConfigBuilder.openAPI;
@@ -39,6 +46,10 @@ public class OASClientConfig {
         this.nullable = clientConfigBuilder.nullable;
         this.isPlugin = clientConfigBuilder.isPlugin;
         this.resourceMode = clientConfigBuilder.resourceMode;
+        this.batchOperations = clientConfigBuilder.batchOperations;
+        this.projection = clientConfigBuilder.projection;
+        this.passthrough = clientConfigBuilder.passthrough;
+        this.instrument = clientConfigBuilder.instrument;
     }
 
     public OpenAPI getOpenAPI() {
@@ -61,6 +72,22 @@ public class OASClientConfig {
         return isPlugin;
     }
 
+    public List<String> getBatchOperations() {
+        return batchOperations;
+    }
+
+    public Projection getProjection() {
+        return projection;
+    }
+
+    public boolean isPassthrough() {
+        return passthrough;
+    }
+
+    public boolean isInstrument() {
+        return instrument;
+    }
+
     /**
      * Client IDL plugin meta data builder class.
      */
@@ -70,6 +97,10 @@ public class OASClientConfig {
         private boolean nullable = false;
         private boolean resourceMode = true;
         private boolean isPlugin = false;
+        private List<String> batchOperations = new ArrayList<>();
+        private Projection projection = new Projection();
+        private boolean passthrough = false;
+        private boolean instrument = false;
 
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
@@ -96,6 +127,26 @@ public class OASClientConfig {
             return this;
         }
 
+        public Builder withBatchOperations(List<String> batchOperations) {
+            this.batchOperations = batchOperations;
+            return this;
+        }
+
+        public Builder withProjection(Projection projection) {
+            this.projection = projection;
+            return this;
+        }
+
+        public Builder withPassthrough(boolean passthrough) {
+            this.passthrough = passthrough;
+            return this;
+        }
+
+        public Builder withInstrument(boolean instrument) {
+            this.instrument = instrument;
+            return this;
+        }
+
         public OASClientConfig build() {
             return new OASClientConfig(this);
         }
@@ -0,0 +1,405 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.incremental;
+
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ConstantDeclarationNode;
+import io.ballerina.compiler.syntax.tree.EnumDeclarationNode;
+import io.ballerina.compiler.syntax.tree.FunctionDefinitionNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.ServiceDeclarationNode;
+import io.ballerina.compiler.syntax.tree.SyntaxKind;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.TypeDefinitionNode;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.model.GenerationFingerprints;
+import io.ballerina.tools.text.TextDocuments;
+import org.ballerinalang.formatter.core.Formatter;
+import org.ballerinalang.formatter.core.FormatterException;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.openapi.core.GeneratorConstants.BATCH_FUNCTION_SUFFIX;
+
+/**
+ * This class merges the syntax tree regenerated for a changed definition into the sources of a previous generation.
+ * Only the members generated for the operations and schemas whose fingerprints changed are replaced, appended or
+ * removed, and only those are formatted, hence the cost of a regeneration depends on the size of the change.
+ * <ul>
+ *     <li>Resource functions are matched by the accessor and path, remote functions by the operation id and types by
+ *     the name of the schema.</li>
+ *     <li>The bodies of the resource functions of a service are kept, hence the hand-written implementations of the
+ *     changed operations are preserved.</li>
+ *     <li>The members not generated for an operation or a schema are replaced when their source differs.</li>
+ * </ul>
+ *
+ * @since 1.8.0
+ */
+public class IncrementalSourceMerger {
+
+    private static final String RESOURCE_KEY = "resource:";
+    private static final String FUNCTION_KEY = "function:";
+    private static final String TYPE_KEY = "type:";
+
+    private final Set<String> changedResources = new HashSet<>();
+    private final Set<String> changedFunctions = new HashSet<>();
+    private final Set<String> operationFunctions = new HashSet<>();
+    private final Set<String> changedTypes = new HashSet<>();
+    private final Set<String> schemaTypes = new HashSet<>();
+
+    public IncrementalSourceMerger(GenerationFingerprints previous, GenerationFingerprints current) {
+
+        Set<String> changedOperations = new HashSet<>(current.getChangedOperations(previous));
+        changedOperations.addAll(current.getRemovedOperations(previous));
+        for (String operation : changedOperations) {
+            changedResources.add(getResourceKey(operation));
+            addOperationFunction(changedFunctions, previous.getOperationIds().get(operation));
+            addOperationFunction(changedFunctions, current.getOperationIds().get(operation));
+        }
+        previous.getOperationIds().values().forEach(operationId -> addOperationFunction(operationFunctions,
+                operationId));
+        current.getOperationIds().values().forEach(operationId -> addOperationFunction(operationFunctions,
+                operationId));
+        current.getChangedSchemas(previous).forEach(schema -> changedTypes.add(getTypeName(schema)));
+        previous.getSchemas().forEach(schema -> schemaTypes.add(getTypeName(schema)));
+        current.getSchemas().forEach(schema -> schemaTypes.add(getTypeName(schema)));
+    }
+
+    /**
+     * Merge the regenerated syntax tree into the given source of the previous generation.
+     *
+     * @param existingSource source of the previous generation
+     * @param generated      syntax tree regenerated for the changed definition
+     * @return merged source, without the file header of the previous generation
+     * @throws FormatterException when formatting the replaced members fails
+     */
+    public String merge(String existingSource, SyntaxTree generated) throws FormatterException {
+
+        ModulePartNode existingModule = SyntaxTree.from(TextDocuments.from(stripFileHeader(existingSource)))
+                .rootNode();
+        ModulePartNode generatedModule = generated.rootNode();
+
+        // Imports are added when a changed operation requires a new module, and never removed as the unchanged
+        // members may still refer to them.
+        Set<String> existingImports = new HashSet<>();
+        existingModule.imports().forEach(importNode -> existingImports.add(getSource(importNode)));
+        List<ImportDeclarationNode> newImports = new ArrayList<>();
+        for (ImportDeclarationNode importNode : generatedModule.imports()) {
+            if (!existingImports.contains(getSource(importNode))) {
+                newImports.add(importNode);
+            }
+        }
+
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        Map<Integer, ModuleMemberDeclarationNode> replacements = new LinkedHashMap<>();
+        Map<String, Node> generatedMembers = getKeyedMembers(generatedModule.members());
+        Set<String> mergedKeys = new HashSet<>();
+        for (ModuleMemberDeclarationNode member : existingModule.members()) {
+            if (member instanceof ClassDefinitionNode) {
+                ClassDefinitionNode classNode = (ClassDefinitionNode) member;
+                Node generatedClass = generatedMembers.get(getMemberKey(classNode));
+                if (generatedClass instanceof ClassDefinitionNode) {
+                    mergedKeys.add(getMemberKey(classNode));
+                    members.add(mergeClass(classNode, (ClassDefinitionNode) generatedClass));
+                    continue;
+                }
+            } else if (member instanceof ServiceDeclarationNode) {
+                ServiceDeclarationNode generatedService = getServiceDeclaration(generatedModule);
+                if (generatedService != null) {
+                    members.add(mergeService((ServiceDeclarationNode) member, generatedService));
+                    continue;
+                }
+            }
+            String key = getMemberKey(member);
+            Node generatedMember = key == null ? null : generatedMembers.get(key);
+            if (key != null) {
+                mergedKeys.add(key);
+            }
+            if (key == null || !isChanged(key, member, generatedMember)) {
+                members.add(member);
+            } else if (generatedMember != null) {
+                replacements.put(members.size(), (ModuleMemberDeclarationNode) generatedMember);
+                members.add(member);
+            }
+        }
+        List<ModuleMemberDeclarationNode> newMembers = new ArrayList<>(replacements.values());
+        for (Map.Entry<String, Node> generatedMember : generatedMembers.entrySet()) {
+            if (!mergedKeys.contains(generatedMember.getKey()) &&
+                    !(generatedMember.getValue() instanceof ServiceDeclarationNode)) {
+                newMembers.add((ModuleMemberDeclarationNode) generatedMember.getValue());
+            }
+        }
+
+        ModulePartNode formattedModule = format(createModulePartNode(createNodeList(newImports),
+                createNodeList(newMembers), createToken(SyntaxKind.EOF_TOKEN)));
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        existingModule.imports().forEach(imports::add);
+        formattedModule.imports().forEach(imports::add);
+        int index = 0;
+        for (Integer position : replacements.keySet()) {
+            members.set(position, formattedModule.members().get(index++));
+        }
+        for (; index < formattedModule.members().size(); index++) {
+            members.add(formattedModule.members().get(index));
+        }
+        return existingModule.modify()
+                .withImports(createNodeList(imports))
+                .withMembers(createNodeList(members))
+                .apply().toSourceCode();
+    }
+
+    private ClassDefinitionNode mergeClass(ClassDefinitionNode existing, ClassDefinitionNode generated)
+            throws FormatterException {
+
+        MergedMembers mergedMembers = mergeMembers(existing.members(), generated.members(), false);
+        if (mergedMembers.formatted.isEmpty()) {
+            return existing;
+        }
+        ModulePartNode formattedModule = format(createModulePartNode(createNodeList(),
+                createNodeList(generated.modify().withMembers(createNodeList(mergedMembers.formatted)).apply()),
+                createToken(SyntaxKind.EOF_TOKEN)));
+        NodeList<Node> formatted = ((ClassDefinitionNode) formattedModule.members().get(0)).members();
+        return existing.modify().withMembers(createNodeList(mergedMembers.apply(formatted))).apply();
+    }
+
+    private ServiceDeclarationNode mergeService(ServiceDeclarationNode existing, ServiceDeclarationNode generated)
+            throws FormatterException {
+
+        MergedMembers mergedMembers = mergeMembers(existing.members(), generated.members(), true);
+        if (mergedMembers.formatted.isEmpty()) {
+            return existing;
+        }
+        ModulePartNode formattedModule = format(createModulePartNode(createNodeList(),
+                createNodeList(generated.modify().withMembers(createNodeList(mergedMembers.formatted)).apply()),
+                createToken(SyntaxKind.EOF_TOKEN)));
+        NodeList<Node> formatted = ((ServiceDeclarationNode) formattedModule.members().get(0)).members();
+        return existing.modify().withMembers(createNodeList(mergedMembers.apply(formatted))).apply();
+    }
+
+    /**
+     * Merge the members of a class or a service. The replaced and the added members are collected to be formatted
+     * together in a single pass.
+     */
+    private MergedMembers mergeMembers(NodeList<Node> existing, NodeList<Node> generated, boolean keepBodies) {
+
+        MergedMembers mergedMembers = new MergedMembers();
+        Map<String, Node> generatedMembers = getKeyedMembers(generated);
+        Set<String> mergedKeys = new HashSet<>();
+        for (Node member : existing) {
+            String key = getMemberKey(member);
+            Node generatedMember = key == null ? null : generatedMembers.get(key);
+            if (key != null) {
+                mergedKeys.add(key);
+            }
+            if (key == null || !isChanged(key, member, generatedMember)) {
+                mergedMembers.members.add(member);
+            } else if (generatedMember != null) {
+                if (keepBodies && member instanceof FunctionDefinitionNode) {
+                    mergedMembers.keptBodies.put(mergedMembers.members.size(), (FunctionDefinitionNode) member);
+                }
+                mergedMembers.replaced.add(mergedMembers.members.size());
+                mergedMembers.members.add(member);
+                mergedMembers.formatted.add(generatedMember);
+            }
+        }
+        for (Map.Entry<String, Node> generatedMember : generatedMembers.entrySet()) {
+            if (!mergedKeys.contains(generatedMember.getKey())) {
+                mergedMembers.formatted.add(generatedMember.getValue());
+            }
+        }
+        return mergedMembers;
+    }
+
+    /**
+     * Returns true when the given existing member has to be replaced or removed. The members generated for the
+     * operations and schemas are decided by the fingerprints, and the rest by comparing the source.
+     */
+    private boolean isChanged(String key, Node existing, Node generated) {
+
+        if (key.startsWith(RESOURCE_KEY)) {
+            return changedResources.contains(key.substring(RESOURCE_KEY.length()));
+        }
+        String name = key.substring(key.indexOf(':') + 1);
+        if (key.startsWith(FUNCTION_KEY) && operationFunctions.contains(name)) {
+            return changedFunctions.contains(name);
+        } else if (key.startsWith(TYPE_KEY) && schemaTypes.contains(name)) {
+            return changedTypes.contains(name);
+        }
+        return generated == null || !getSource(existing).equals(getSource(generated));
+    }
+
+    private static Map<String, Node> getKeyedMembers(NodeList<? extends Node> members) {
+
+        Map<String, Node> keyedMembers = new LinkedHashMap<>();
+        for (Node member : members) {
+            String key = getMemberKey(member);
+            if (key != null) {
+                keyedMembers.putIfAbsent(key, member);
+            }
+        }
+        return keyedMembers;
+    }
+
+    /**
+     * Returns the key by which the given member is matched with the regenerated members, or null when the member is
+     * always kept.
+     */
+    private static String getMemberKey(Node member) {
+
+        if (member instanceof FunctionDefinitionNode) {
+            FunctionDefinitionNode function = (FunctionDefinitionNode) member;
+            if (function.kind() == SyntaxKind.RESOURCE_ACCESSOR_DEFINITION) {
+                StringBuilder path = new StringBuilder();
+                for (Node segment : function.relativeResourcePath()) {
+                    if (segment.kind() == SyntaxKind.RESOURCE_PATH_SEGMENT_PARAM ||
+                            segment.kind() == SyntaxKind.RESOURCE_PATH_REST_PARAM) {
+                        path.append("{}");
+                    } else if (segment.kind() != SyntaxKind.DOT_TOKEN) {
+                        path.append(getName(segment.toSourceCode()));
+                    }
+                }
+                return RESOURCE_KEY + getName(function.functionName().text()) + " /" + path;
+            }
+            return FUNCTION_KEY + getName(function.functionName().text());
+        } else if (member instanceof TypeDefinitionNode) {
+            return TYPE_KEY + getName(((TypeDefinitionNode) member).typeName().text());
+        } else if (member instanceof EnumDeclarationNode) {
+            return TYPE_KEY + getName(((EnumDeclarationNode) member).identifier().text());
+        } else if (member instanceof ClassDefinitionNode) {
+            return TYPE_KEY + getName(((ClassDefinitionNode) member).className().text());
+        } else if (member instanceof ConstantDeclarationNode) {
+            return "const:" + getName(((ConstantDeclarationNode) member).variableName().text());
+        } else if (member instanceof ServiceDeclarationNode) {
+            return "service:";
+        }
+        return null;
+    }
+
+    /**
+     * Returns the key of the resource function of an operation, e.g. `get /pets/{}` for `get /pets/{petId}`.
+     */
+    private static String getResourceKey(String operationKey) {
+
+        int separator = operationKey.indexOf(' ');
+        String path = operationKey.substring(separator + 1).replaceAll("\\{[^}]*}", "{}")
+                .replaceAll("(^|/)\\*$", "$1{}");
+        path = path.endsWith("/") && path.length() > 1 ? path.substring(0, path.length() - 1) : path;
+        return operationKey.substring(0, separator) + " " + (path.startsWith("/") ? path : "/" + path);
+    }
+
+    private static void addOperationFunction(Set<String> functions, String operationId) {
+
+        if (operationId != null) {
+            functions.add(getName(operationId));
+            functions.add(getName(operationId) + BATCH_FUNCTION_SUFFIX);
+        }
+    }
+
+    private static String getTypeName(String schemaName) {
+        return getName(GeneratorUtils.getValidName(schemaName.trim(), true));
+    }
+
+    private static String getName(String identifier) {
+        return identifier.trim().replace("'", "").replace("\\", "");
+    }
+
+    private static String getSource(Node node) {
+        return node.toSourceCode().replaceAll("\\s+", "");
+    }
+
+    private static ServiceDeclarationNode getServiceDeclaration(ModulePartNode modulePartNode) {
+
+        for (ModuleMemberDeclarationNode member : modulePartNode.members()) {
+            if (member instanceof ServiceDeclarationNode) {
+                return (ServiceDeclarationNode) member;
+            }
+        }
+        return null;
+    }
+
+    private static ModulePartNode format(ModulePartNode modulePartNode) throws FormatterException {
+
+        if (modulePartNode.imports().isEmpty() && modulePartNode.members().isEmpty()) {
+            return modulePartNode;
+        }
+        SyntaxTree syntaxTree = SyntaxTree.from(TextDocuments.from("")).modifyWith(modulePartNode);
+        return Formatter.format(syntaxTree).rootNode();
+    }
+
+    /**
+     * Removes the leading comment lines of a generated source, which are added again with the file header of the
+     * regenerated source.
+     */
+    private static String stripFileHeader(String source) {
+
+        int start = 0;
+        while (start < source.length()) {
+            int end = source.indexOf('\n', start);
+            end = end < 0 ? source.length() : end + 1;
+            String line = source.substring(start, end).trim();
+            if (!line.isEmpty() && !line.startsWith("//")) {
+                break;
+            }
+            start = end;
+        }
+        return source.substring(start);
+    }
+
+    /**
+     * Members of a class or a service being merged, where the members at the replaced positions and the added ones
+     * are taken from the formatted members, in order.
+     */
+    private static class MergedMembers {
+
+        private final List<Node> members = new ArrayList<>();
+        private final List<Integer> replaced = new ArrayList<>();
+        private final Map<Integer, FunctionDefinitionNode> keptBodies = new LinkedHashMap<>();
+        private final List<Node> formatted = new ArrayList<>();
+
+        List<Node> apply(NodeList<Node> formattedMembers) {
+
+            int index = 0;
+            for (Integer position : replaced) {
+                Node member = formattedMembers.get(index++);
+                FunctionDefinitionNode existing = keptBodies.get(position);
+                if (existing != null && member instanceof FunctionDefinitionNode) {
+                    member = ((FunctionDefinitionNode) member).modify()
+                            .withFunctionBody(existing.functionBody()).apply();
+                }
+                members.set(position, member);
+            }
+            for (; index < formattedMembers.size(); index++) {
+                members.add(formattedMembers.get(index));
+            }
+            return members;
+        }
+    }
+}
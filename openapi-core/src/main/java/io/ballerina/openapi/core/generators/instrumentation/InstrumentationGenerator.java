@@ -0,0 +1,408 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.instrumentation;
+
+import io.ballerina.compiler.syntax.tree.BlockStatementNode;
+import io.ballerina.compiler.syntax.tree.DefaultableParameterNode;
+import io.ballerina.compiler.syntax.tree.DoStatementNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyBlockNode;
+import io.ballerina.compiler.syntax.tree.FunctionBodyNode;
+import io.ballerina.compiler.syntax.tree.FunctionSignatureNode;
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.Node;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.ParameterNode;
+import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
+import io.ballerina.compiler.syntax.tree.ReturnStatementNode;
+import io.ballerina.compiler.syntax.tree.StatementNode;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getPathParamCount;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getRequestMatchCondition;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getStringLiteral;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.isSelectedOperation;
+
+/**
+ * This class generates the per-operation instrumentation of the generated clients and services, which records the
+ * latency, the invocation count by status, and the request payload size of each operation as `ballerina/observe`
+ * metrics tagged by the operation ID, the path template, and the method. The latency and the payload size are gauges
+ * which summarize the percentiles of the recorded values, and each metric is registered once for a set of tags and
+ * looked up by its name and tags afterwards.
+ * <p>
+ * The client functions record the metrics around their body, while the services engage a pair of metrics
+ * interceptors. The instrumentation is only generated with the `--instrument` option, hence the clients and the
+ * services generated without it do not carry any of these calls. The metrics are published only when the package
+ * is built with observability included.
+ *
+ * @since 1.8.0
+ */
+public class InstrumentationGenerator {
+
+    private static final String START_TIME = "startTime";
+    private static final String RECORD_METRICS = "recordOperationMetrics";
+    private static final String PAYLOAD = "payload";
+    private static final String BINARY_PAYLOAD = "byte[]";
+
+    private final OpenAPI openAPI;
+    private final Filter filter;
+
+    public InstrumentationGenerator(OpenAPI openAPI, Filter filter) {
+        this.openAPI = openAPI;
+        this.filter = filter;
+    }
+
+    /**
+     * Generate the instrumented body of a client function. The original statements are run within a `do` block, so
+     * that the failed invocations are recorded as well.
+     * <pre>
+     *     decimal startTime = time:monotonicNow();
+     *     do {
+     *         string resourcePath = string `/pets/${getEncodedUri(petId)}`;
+     *         Pet response = check self.clientEp->get(resourcePath);
+     *         recordOperationMetrics("showPetById", "/pets/{petId}", "GET", startTime, "2XX", ());
+     *         return response;
+     *     } on fail error err {
+     *         recordOperationMetrics("showPetById", "/pets/{petId}", "GET", startTime, getInvocationStatus(err), ());
+     *         return err;
+     *     }
+     * </pre>
+     *
+     * @param functionBodyNode  body of the client function
+     * @param functionSignature signature of the client function
+     * @param operationId       operation ID of the operation
+     * @param method            HTTP method of the operation
+     * @param path              path template of the operation
+     * @param passthrough       whether the function returns the raw `http:Response`
+     * @return instrumented {@link FunctionBodyNode}, or the given body if it does not end with a return statement
+     */
+    public static FunctionBodyNode getInstrumentedFunctionBody(FunctionBodyNode functionBodyNode,
+                                                               FunctionSignatureNode functionSignature,
+                                                               String operationId, PathItem.HttpMethod method,
+                                                               String path, boolean passthrough) {
+
+        if (!(functionBodyNode instanceof FunctionBodyBlockNode)) {
+            return functionBodyNode;
+        }
+        FunctionBodyBlockNode functionBodyBlockNode = (FunctionBodyBlockNode) functionBodyNode;
+        NodeList<StatementNode> statements = functionBodyBlockNode.statements();
+        if (statements.isEmpty() || !(statements.get(statements.size() - 1) instanceof ReturnStatementNode)) {
+            return functionBodyNode;
+        }
+        ReturnStatementNode returnStatement = (ReturnStatementNode) statements.get(statements.size() - 1);
+        String status = passthrough && returnStatement.expression().isPresent() ?
+                returnStatement.expression().get().toSourceCode().trim() + ".statusCode.toString()" : "\"2XX\"";
+        String metricsArgs = getStringLiteral(operationId == null ? method.name() + " " + path : operationId) + ", " +
+                getStringLiteral(path) + ", " + getStringLiteral(method.name()) + ", " + START_TIME;
+        String payloadSize = passthrough ? getPayloadSize(functionSignature) : "()";
+
+        FunctionBodyBlockNode template = NodeParser.parseFunctionBodyBlock("{" +
+                "decimal " + START_TIME + " = time:monotonicNow();" +
+                "do {" +
+                RECORD_METRICS + "(" + metricsArgs + ", " + status + ", " + payloadSize + ");" +
+                "} on fail error err {" +
+                RECORD_METRICS + "(" + metricsArgs + ", getInvocationStatus(err), " + payloadSize + ");" +
+                "return err;" +
+                "}" +
+                "}");
+        DoStatementNode doStatement = (DoStatementNode) template.statements().get(1);
+        List<StatementNode> doStatements = new ArrayList<>();
+        for (int i = 0; i < statements.size() - 1; i++) {
+            doStatements.add(statements.get(i));
+        }
+        doStatements.add(doStatement.blockStatement().statements().get(0));
+        doStatements.add(returnStatement);
+        BlockStatementNode doBlock = doStatement.blockStatement().modify()
+                .withStatements(createNodeList(doStatements)).apply();
+        doStatement = doStatement.modify().withBlockStatement(doBlock).apply();
+        return functionBodyBlockNode.modify()
+                .withStatements(createNodeList(template.statements().get(0), doStatement)).apply();
+    }
+
+    /**
+     * Returns the expression of the request payload size of a passthrough function, which takes the pre-serialized
+     * payload as `byte[]`.
+     */
+    private static String getPayloadSize(FunctionSignatureNode functionSignature) {
+        for (ParameterNode parameterNode : functionSignature.parameters()) {
+            Optional<Token> paramName = Optional.empty();
+            Node paramType = null;
+            if (parameterNode instanceof RequiredParameterNode) {
+                paramName = ((RequiredParameterNode) parameterNode).paramName();
+                paramType = ((RequiredParameterNode) parameterNode).typeName();
+            } else if (parameterNode instanceof DefaultableParameterNode) {
+                paramName = ((DefaultableParameterNode) parameterNode).paramName();
+                paramType = ((DefaultableParameterNode) parameterNode).typeName();
+            }
+            if (paramName.isEmpty() || paramType == null || !paramName.get().text().trim().equals(PAYLOAD)) {
+                continue;
+            }
+            String type = paramType.toSourceCode().trim();
+            if (type.equals(BINARY_PAYLOAD)) {
+                return PAYLOAD + ".length()";
+            } else if (type.equals(BINARY_PAYLOAD + "?")) {
+                return PAYLOAD + " is byte[] ? " + PAYLOAD + ".length() : ()";
+            }
+        }
+        return "()";
+    }
+
+    /**
+     * Generate the syntax tree of the metrics helpers, and the metrics interceptors when the service is generated.
+     *
+     * @param isServiceRequired whether the metrics interceptors of the service are required
+     * @return {@link SyntaxTree} of the metrics file
+     */
+    public SyntaxTree generateSyntaxTree(boolean isServiceRequired) {
+
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration(getRecordMetricsFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(getGaugeFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(getCounterFunction()));
+        members.add(NodeParser.parseModuleMemberDeclaration(getInvocationStatusFunction()));
+        if (isServiceRequired) {
+            List<String[]> operations = getOperations();
+            members.add(NodeParser.parseModuleMemberDeclaration(
+                    "const string METRICS_OPERATION_KEY = \"openapi.metrics.operation\";"));
+            members.add(NodeParser.parseModuleMemberDeclaration(
+                    "const string METRICS_START_TIME_KEY = \"openapi.metrics.startTime\";"));
+            members.add(NodeParser.parseModuleMemberDeclaration(
+                    "const string METRICS_PAYLOAD_SIZE_KEY = \"openapi.metrics.payloadSize\";"));
+            members.add(NodeParser.parseModuleMemberDeclaration(getOperationTags(operations)));
+            members.add(NodeParser.parseModuleMemberDeclaration(getRequestInterceptor(operations)));
+            members.add(NodeParser.parseModuleMemberDeclaration(getResponseInterceptor()));
+        }
+
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.HTTP));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.LOG));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.OBSERVE));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.TIME));
+        Token eofToken = createIdentifierToken("");
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(imports), createNodeList(members),
+                eofToken);
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Collect the method, the path template, and the operation ID of the operations selected by the filter, where the
+     * operations with more static path segments are dispatched first, as the service does.
+     */
+    private List<String[]> getOperations() {
+
+        List<String[]> operations = new ArrayList<>();
+        if (openAPI.getPaths() == null) {
+            return operations;
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                    path.getValue().readOperationsMap().entrySet()) {
+                if (!isSelectedOperation(operation.getValue(), filter)) {
+                    continue;
+                }
+                String operationId = operation.getValue().getOperationId() != null ?
+                        operation.getValue().getOperationId().trim() : operation.getKey().name() + " " + path.getKey();
+                operations.add(new String[]{operation.getKey().name(), path.getKey(), operationId});
+            }
+        }
+        operations.sort(Comparator.comparingInt(operation -> getPathParamCount(operation[1])));
+        return operations;
+    }
+
+    private static String getRecordMetricsFunction() {
+        return "# Records the latency, the invocation count by status, and the request payload size of an " +
+                "invocation of an operation\n" +
+                "#\n" +
+                "# + operationId - Operation ID of the operation\n" +
+                "# + path - Path template of the operation\n" +
+                "# + method - HTTP method of the operation\n" +
+                "# + startTime - Monotonic time in seconds at the start of the invocation\n" +
+                "# + status - Status code of the response, `2XX` for a data bound response, or `error`\n" +
+                "# + payloadSize - Size of the request payload in bytes, if it is known\n" +
+                "isolated function " + RECORD_METRICS + "(string operationId, string path, string method, " +
+                "decimal startTime, string status, int? payloadSize) {" +
+                "map<string> tags = {\"operationId\": operationId, \"path\": path, \"method\": method};" +
+                "observe:Gauge? latency = getGauge(\"openapi_operation_latency_seconds\", " +
+                "\"Latency of the invocations of the operation\", tags);" +
+                "if latency is observe:Gauge {" +
+                "latency.setValue(<float>(time:monotonicNow() - startTime));" +
+                "}" +
+                "observe:Counter? invocations = getCounter(\"openapi_operation_invocations_total\", " +
+                "\"Number of invocations of the operation by status\", {...tags, \"status\": status});" +
+                "if invocations is observe:Counter {" +
+                "invocations.increment();" +
+                "}" +
+                "if payloadSize is int {" +
+                "observe:Gauge? payload = getGauge(\"openapi_operation_payload_size_bytes\", " +
+                "\"Size of the request payloads of the operation\", tags);" +
+                "if payload is observe:Gauge {" +
+                "payload.setValue(<float>payloadSize);" +
+                "}" +
+                "}" +
+                "}";
+    }
+
+    /**
+     * Returns the function which looks up the registered gauge of the given name and tags, or registers a new one
+     * with the percentiles of its values, hence a gauge is created once for each set of tags.
+     */
+    private static String getGaugeFunction() {
+        return "# Returns the registered gauge of the given name and tags, which summarizes the percentiles of the " +
+                "recorded values\n" +
+                "#\n" +
+                "# + name - Name of the gauge\n" +
+                "# + description - Description of the gauge\n" +
+                "# + tags - Tags of the gauge\n" +
+                "# + return - Gauge, or `()` if it cannot be registered\n" +
+                "isolated function getGauge(string name, string description, map<string> tags) " +
+                "returns observe:Gauge? {" +
+                "observe:Counter|observe:Gauge? metric = observe:lookupMetric(name, tags);" +
+                "if metric is observe:Gauge {" +
+                "return metric;" +
+                "}" +
+                "observe:Gauge gauge = new (name, description, tags, [{percentiles: [0.5, 0.9, 0.99]}]);" +
+                "error? registration = gauge.register();" +
+                "if registration is error {" +
+                "log:printError(string `Failed to register the metric ${name}`, registration);" +
+                "return;" +
+                "}" +
+                "return gauge;" +
+                "}";
+    }
+
+    private static String getCounterFunction() {
+        return "# Returns the registered counter of the given name and tags\n" +
+                "#\n" +
+                "# + name - Name of the counter\n" +
+                "# + description - Description of the counter\n" +
+                "# + tags - Tags of the counter\n" +
+                "# + return - Counter, or `()` if it cannot be registered\n" +
+                "isolated function getCounter(string name, string description, map<string> tags) " +
+                "returns observe:Counter? {" +
+                "observe:Counter|observe:Gauge? metric = observe:lookupMetric(name, tags);" +
+                "if metric is observe:Counter {" +
+                "return metric;" +
+                "}" +
+                "observe:Counter counter = new (name, description, tags);" +
+                "error? registration = counter.register();" +
+                "if registration is error {" +
+                "log:printError(string `Failed to register the metric ${name}`, registration);" +
+                "return;" +
+                "}" +
+                "return counter;" +
+                "}";
+    }
+
+    private static String getInvocationStatusFunction() {
+        return "# Returns the status of a failed invocation, which is the status code of the response, or `error` " +
+                "if no response is received\n" +
+                "#\n" +
+                "# + err - Error of the invocation\n" +
+                "# + return - Status of the invocation\n" +
+                "isolated function getInvocationStatus(error err) returns string {" +
+                "if err is http:ApplicationResponseError {" +
+                "return err.detail().statusCode.toString();" +
+                "}" +
+                "return \"error\";" +
+                "}";
+    }
+
+    private static String getOperationTags(List<String[]> operations) {
+        List<String> entries = new ArrayList<>();
+        for (String[] operation : operations) {
+            entries.add(getStringLiteral(operation[0] + " " + operation[1]) + ": [" + getStringLiteral(operation[2]) +
+                    ", " + getStringLiteral(operation[1]) + ", " + getStringLiteral(operation[0]) + "]");
+        }
+        return "# Operation ID, path template, and method of the operations of the service\n" +
+                "final readonly & map<[string, string, string]> operationTags = {" + String.join(", ", entries) +
+                "};";
+    }
+
+    private static String getRequestInterceptor(List<String[]> operations) {
+        StringBuilder dispatch = new StringBuilder();
+        for (String[] operation : operations) {
+            dispatch.append(dispatch.length() == 0 ? "if " : " else if ")
+                    .append(getRequestMatchCondition(PathItem.HttpMethod.valueOf(operation[0]), operation[1]))
+                    .append(" {")
+                    .append("ctx.set(METRICS_OPERATION_KEY, ").append(getStringLiteral(operation[0] + " " +
+                            operation[1])).append(");")
+                    .append("}");
+        }
+        return "# Starts the measurement of the requests of the service operations\n" +
+                "service class MetricsRequestInterceptor {" +
+                "*http:RequestInterceptor;" +
+                "resource function 'default [string... path](http:RequestContext ctx, http:Request req) " +
+                "returns http:NextService|error? {" +
+                dispatch +
+                "ctx.set(METRICS_START_TIME_KEY, time:monotonicNow());" +
+                "string|http:HeaderNotFoundError contentLength = req.getHeader(\"content-length\");" +
+                "if contentLength is string {" +
+                "int|error payloadSize = int:fromString(contentLength);" +
+                "if payloadSize is int {" +
+                "ctx.set(METRICS_PAYLOAD_SIZE_KEY, payloadSize);" +
+                "}" +
+                "}" +
+                "return ctx.next();" +
+                "}" +
+                "}";
+    }
+
+    private static String getResponseInterceptor() {
+        return "# Records the metrics of the responses of the service operations\n" +
+                "service class MetricsResponseInterceptor {" +
+                "*http:ResponseInterceptor;" +
+                "remote function interceptResponse(http:RequestContext ctx, http:Response res) " +
+                "returns http:NextService|error? {" +
+                "if ctx.hasKey(METRICS_OPERATION_KEY) && ctx.hasKey(METRICS_START_TIME_KEY) {" +
+                "any operation = ctx.get(METRICS_OPERATION_KEY);" +
+                "any startTime = ctx.get(METRICS_START_TIME_KEY);" +
+                "[string, string, string]? tags = operation is string ? operationTags[operation] : ();" +
+                "if tags is [string, string, string] && startTime is decimal {" +
+                "any payloadSize = ctx.hasKey(METRICS_PAYLOAD_SIZE_KEY) ? ctx.get(METRICS_PAYLOAD_SIZE_KEY) : ();" +
+                RECORD_METRICS + "(tags[0], tags[1], tags[2], startTime, res.statusCode.toString(), " +
+                "payloadSize is int ? payloadSize : ());" +
+                "}" +
+                "}" +
+                "return ctx.next();" +
+                "}" +
+                "}";
+    }
+}
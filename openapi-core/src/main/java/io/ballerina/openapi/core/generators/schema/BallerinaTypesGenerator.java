@@ -43,18 +43,22 @@ import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.Recor
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.TypeGenerator;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.UnionTypeGenerator;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
+import io.ballerina.openapi.core.model.Projection;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.Components;
 import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.media.ObjectSchema;
 import io.swagger.v3.oas.models.media.Schema;
 
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
@@ -69,8 +73,14 @@ import static io.ballerina.openapi.core.GeneratorConstants.CONNECTION_CONFIG;
  */
 public class BallerinaTypesGenerator {
 
+    private final OpenAPI openAPI;
     private final List<TypeDefinitionNode> typeDefinitionNodeList;
     private final Set<String> imports = new LinkedHashSet<>();
+    private Projection projection = new Projection();
+    private boolean generateComponentSchemas = true;
+    private boolean generateMultipartPayloads = false;
+    // Component schemas referred only by multipart/form-data request bodies, collected when they are first needed
+    private Set<String> multipartPayloadSchemaNames;
 
     /**
      * This public constructor is used to generate record and other relevant data type when the nullable flag is
@@ -83,6 +93,7 @@ public class BallerinaTypesGenerator {
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable,
                                    List<TypeDefinitionNode> typeDefinitionNodeList) {
         GeneratorMetaData.createInstance(openAPI, isNullable, false);
+        this.openAPI = openAPI;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
     }
 
@@ -119,16 +130,64 @@ public class BallerinaTypesGenerator {
     public BallerinaTypesGenerator(OpenAPI openAPI, boolean isNullable, List<TypeDefinitionNode> typeDefinitionNodeList,
                                    boolean generateServiceType) {
         GeneratorMetaData.createInstance(openAPI, isNullable, generateServiceType);
+        this.openAPI = openAPI;
         this.typeDefinitionNodeList = typeDefinitionNodeList;
     }
 
+    public Projection getProjection() {
+        return projection;
+    }
+
+    /**
+     * Set the response fields to be projected per operation and per schema.
+     *
+     * @param projection projected fields
+     */
+    public void setProjection(Projection projection) {
+        this.projection = projection;
+    }
+
+    /**
+     * Set whether the types of the component schemas are generated. Passthrough clients do not bind the payloads to
+     * types, hence only the pre-generated types (ex: client configurations) are needed for them.
+     *
+     * @param generateComponentSchemas true to generate the types of the component schemas
+     */
+    public void setGenerateComponentSchemas(boolean generateComponentSchemas) {
+        this.generateComponentSchemas = generateComponentSchemas;
+    }
+
+    /**
+     * Set whether the binary fields of the component schemas referred only by multipart/form-data request bodies can
+     * also be given as file paths. Only the generated clients stream these files, hence this is set only for the
+     * types of a client.
+     *
+     * @param generateMultipartPayloads true to generate the multipart payload types of a client
+     */
+    public void setGenerateMultipartPayloads(boolean generateMultipartPayloads) {
+        this.generateMultipartPayloads = generateMultipartPayloads;
+    }
+
+    /**
+     * Returns whether the given component schema is referred only by multipart/form-data request bodies.
+     *
+     * @param schemaName name of the component schema
+     * @return true if the schema is used only as a multipart payload
+     */
+    public boolean isMultipartPayloadSchema(String schemaName) {
+        if (multipartPayloadSchemaNames == null) {
+            multipartPayloadSchemaNames = GeneratorUtils.getMultipartPayloadSchemaNames(openAPI);
+        }
+        return multipartPayloadSchemaNames.contains(schemaName);
+    }
+
     /**
      * Generate syntaxTree for component schema.
      */
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
         OpenAPI openAPI = GeneratorMetaData.getInstance().getOpenAPI();
         List<TypeDefinitionNode> typeDefinitionNodeListForSchema = new ArrayList<>();
-        if (openAPI.getComponents() != null) {
+        if (generateComponentSchemas && openAPI.getComponents() != null) {
             // Create typeDefinitionNode
             Components components = openAPI.getComponents();
             Map<String, Schema> schemas = components.getSchemas();
@@ -137,8 +196,10 @@ public class BallerinaTypesGenerator {
                     String schemaKey = schema.getKey().trim();
                     if (GeneratorUtils.isValidSchemaName(schemaKey)) {
                         List<Node> schemaDoc = new ArrayList<>();
+                        boolean multipartPayload = generateMultipartPayloads &&
+                                isMultipartPayloadSchema(schema.getKey());
                         typeDefinitionNodeListForSchema.add(getTypeDefinitionNode(schema.getValue(), schemaKey,
-                                schemaDoc));
+                                schemaDoc, multipartPayload));
                     }
                 }
             }
@@ -220,10 +281,33 @@ public class BallerinaTypesGenerator {
      */
     public TypeDefinitionNode getTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs)
             throws BallerinaOpenApiException {
+        return getTypeDefinitionNode(schema, typeName, schemaDocs, false);
+    }
+
+    /**
+     * Create Type Definition Node of the payload of a multipart/form-data request sent by a client, whose binary fields
+     * can be given either in memory or as a path of a file to be streamed.
+     *
+     * @param schema     OpenAPI object schema of the payload
+     * @param typeName   name of the type
+     * @param schemaDocs documentation of the type
+     * @return {@link TypeDefinitionNode}
+     * @throws BallerinaOpenApiException when unsupported schema type is found
+     */
+    public TypeDefinitionNode getMultipartTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs)
+            throws BallerinaOpenApiException {
+        return getTypeDefinitionNode(schema, typeName, schemaDocs, true);
+    }
+
+    private TypeDefinitionNode getTypeDefinitionNode(Schema schema, String typeName, List<Node> schemaDocs,
+                                                     boolean multipartPayload) throws BallerinaOpenApiException {
         IdentifierToken typeNameToken = AbstractNodeFactory.createIdentifierToken(GeneratorUtils.getValidName(
                 typeName.trim(), true));
         TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(schema, GeneratorUtils.getValidName(
                 typeName.trim(), true), null);
+        if (multipartPayload && typeGenerator instanceof RecordTypeGenerator) {
+            ((RecordTypeGenerator) typeGenerator).setMultipartPayload(true);
+        }
         List<AnnotationNode> typeAnnotations = new ArrayList<>();
         if (TypeGeneratorUtils.isConstraintAllowed(typeName, schema)) {
             AnnotationNode constraintNode = TypeGeneratorUtils.generateConstraintNode(typeName, schema);
@@ -251,6 +335,37 @@ public class BallerinaTypesGenerator {
         return typeDefinitionNode;
     }
 
+    /**
+     * Create Type Definition Node of an open record which only has the given fields of an object schema. The fields
+     * are kept in the order of the schema properties, and the fields not in the schema are ignored.
+     *
+     * @param schema     OpenAPI object schema
+     * @param fields     names of the fields to be projected
+     * @param typeName   name of the projected type
+     * @param schemaDocs documentation of the type
+     * @return {@link TypeDefinitionNode}
+     * @throws BallerinaOpenApiException when unsupported schema type is found
+     */
+    public TypeDefinitionNode getProjectedTypeDefinitionNode(Schema<?> schema, List<String> fields, String typeName,
+                                                             List<Node> schemaDocs)
+            throws BallerinaOpenApiException {
+        Map<String, Schema> projectedProperties = new LinkedHashMap<>();
+        for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+            if (fields.contains(property.getKey().trim())) {
+                projectedProperties.put(property.getKey(), property.getValue());
+            }
+        }
+        ObjectSchema projectedSchema = new ObjectSchema();
+        projectedSchema.setDescription(schema.getDescription());
+        projectedSchema.setProperties(projectedProperties);
+        if (schema.getRequired() != null) {
+            projectedSchema.setRequired(schema.getRequired().stream()
+                    .filter(projectedProperties::containsKey)
+                    .collect(Collectors.toList()));
+        }
+        return getTypeDefinitionNode(projectedSchema, typeName, schemaDocs);
+    }
+
     /**
      * Remove duplicate of the TypeDefinitionNode.
      */
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.schema;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.examples.Example;
+import io.swagger.v3.oas.models.media.ArraySchema;
+import io.swagger.v3.oas.models.media.ComposedSchema;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This class generates the mock values of the schemas of a definition, which are used as the payloads of the mock
+ * services and the arguments of the load tests. The examples given in the definition take precedence, and the values
+ * of the other schemas are synthesized from the type, the format and the constraints of the schema.
+ * <pre>
+ *     Pet:
+ *       type: object
+ *       properties:
+ *         id:
+ *           type: integer
+ *         name:
+ *           type: string
+ *           example: Tom
+ * </pre>
+ * The mock value of the above schema is {@code {"id": 1, "name": "Tom"}}.
+ *
+ * @since 1.8.0
+ */
+public class MockValueGenerator {
+
+    private static final String MOCK_STRING = "mock";
+    private static final int MAX_DEPTH = 8;
+
+    private final OpenAPI openAPI;
+
+    public MockValueGenerator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Returns the mock value of the given media type, which is the example of the media type when given, and the mock
+     * value of its schema otherwise.
+     *
+     * @param mediaType media type of a request body or a response
+     * @return mock value, which is null when the media type has neither an example nor a schema
+     * @throws BallerinaOpenApiException when a reference of the schema cannot be resolved
+     */
+    public Object getMockValue(MediaType mediaType) throws BallerinaOpenApiException {
+
+        if (mediaType.getExample() != null) {
+            return mediaType.getExample();
+        }
+        if (mediaType.getExamples() != null) {
+            for (Example example : mediaType.getExamples().values()) {
+                if (example.getValue() != null) {
+                    return example.getValue();
+                }
+            }
+        }
+        return mediaType.getSchema() == null ? null : getMockValue(mediaType.getSchema());
+    }
+
+    /**
+     * Returns the mock value of the given schema as a JSON compatible value.
+     *
+     * @param schema schema of which the mock value is generated
+     * @return mock value of the schema
+     * @throws BallerinaOpenApiException when a reference of the schema cannot be resolved
+     */
+    public Object getMockValue(Schema<?> schema) throws BallerinaOpenApiException {
+        return getMockValue(schema, new HashSet<>(), 0);
+    }
+
+    /**
+     * Returns the given mock value as a JSON string.
+     */
+    public static String toJsonString(Object value) throws BallerinaOpenApiException {
+        try {
+            return Json.mapper().writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("Failed to serialize the mock value: " + e.getMessage(), e);
+        }
+    }
+
+    private Object getMockValue(Schema<?> schema, Set<String> references, int depth)
+            throws BallerinaOpenApiException {
+
+        if (schema.get$ref() != null) {
+            String reference = GeneratorUtils.extractReferenceType(schema.get$ref());
+            Schema<?> referredSchema = openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null
+                    ? null : openAPI.getComponents().getSchemas().get(reference);
+            if (referredSchema == null) {
+                throw new BallerinaOpenApiException("Undefined schema reference: " + schema.get$ref());
+            }
+            // The recursive references are cut off with an empty value
+            if (references.contains(reference) || depth > MAX_DEPTH) {
+                return "array".equals(referredSchema.getType()) ? new ArrayList<>() : new LinkedHashMap<>();
+            }
+            references.add(reference);
+            Object value = getMockValue(referredSchema, references, depth + 1);
+            references.remove(reference);
+            return value;
+        }
+        if (schema.getExample() != null) {
+            return schema.getExample();
+        } else if (schema.getDefault() != null) {
+            return schema.getDefault();
+        } else if (schema.getEnum() != null && !schema.getEnum().isEmpty()) {
+            return schema.getEnum().get(0);
+        }
+
+        if (schema instanceof ComposedSchema) {
+            ComposedSchema composedSchema = (ComposedSchema) schema;
+            if (composedSchema.getAllOf() != null) {
+                Map<Object, Object> value = new LinkedHashMap<>();
+                for (Schema<?> member : composedSchema.getAllOf()) {
+                    Object memberValue = getMockValue(member, references, depth + 1);
+                    if (memberValue instanceof Map) {
+                        value.putAll((Map<?, ?>) memberValue);
+                    }
+                }
+                return value;
+            }
+            List<Schema> members = composedSchema.getOneOf() != null ? composedSchema.getOneOf() :
+                    composedSchema.getAnyOf();
+            if (members != null && !members.isEmpty()) {
+                return getMockValue(members.get(0), references, depth + 1);
+            }
+        }
+        if (schema instanceof ArraySchema || "array".equals(schema.getType())) {
+            List<Object> value = new ArrayList<>();
+            Schema<?> items = schema.getItems();
+            if (items != null && depth <= MAX_DEPTH) {
+                value.add(getMockValue(items, references, depth + 1));
+            }
+            return value;
+        }
+        if (schema.getType() == null || "object".equals(schema.getType())) {
+            Map<String, Object> value = new LinkedHashMap<>();
+            if (schema.getProperties() != null && depth <= MAX_DEPTH) {
+                for (Map.Entry<String, Schema> property : schema.getProperties().entrySet()) {
+                    value.put(property.getKey(), getMockValue(property.getValue(), references, depth + 1));
+                }
+            }
+            return value;
+        }
+        switch (schema.getType()) {
+            case "integer":
+                return schema.getMinimum() != null ? schema.getMinimum().longValue() : 1L;
+            case "number":
+                return schema.getMinimum() != null ? schema.getMinimum() : new BigDecimal("1.5");
+            case "boolean":
+                return true;
+            default:
+                return getMockString(schema);
+        }
+    }
+
+    private static String getMockString(Schema<?> schema) {
+
+        String format = schema.getFormat() == null ? "" : schema.getFormat();
+        switch (format) {
+            case "date":
+                return "2023-01-01";
+            case "date-time":
+                return "2023-01-01T00:00:00Z";
+            case "time":
+                return "00:00:00";
+            case "uuid":
+                return "123e4567-e89b-12d3-a456-426614174000";
+            case "email":
+                return "mock@example.com";
+            case "uri":
+            case "url":
+                return "http://example.com";
+            case "byte":
+                return "bW9jaw==";
+            default:
+                StringBuilder value = new StringBuilder(MOCK_STRING);
+                while (schema.getMinLength() != null && value.length() < schema.getMinLength()) {
+                    value.append(MOCK_STRING);
+                }
+                return schema.getMaxLength() != null && value.length() > schema.getMaxLength() ?
+                        value.substring(0, schema.getMaxLength()) : value.toString();
+        }
+    }
+}
@@ -51,6 +51,8 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_PIPE_TOKEN
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.OPEN_BRACE_TOKEN;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.RECORD_KEYWORD;
 import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY_CONTENT_TYPE;
+import static io.ballerina.openapi.core.GeneratorConstants.BINARY_FILE_PATH_TYPE;
 
 /**
  * Generate TypeDefinitionNode and TypeDescriptorNode for object type schema.
@@ -89,10 +91,22 @@ import static io.ballerina.compiler.syntax.tree.SyntaxKind.SEMICOLON_TOKEN;
 public class RecordTypeGenerator extends TypeGenerator {
 
     public static final PrintStream OUT_STREAM = System.err;
+    private boolean multipartPayload = false;
+
     public RecordTypeGenerator(Schema schema, String typeName) {
         super(schema, typeName);
     }
 
+    /**
+     * Set whether the record is the payload of a multipart/form-data request sent by a client, whose binary fields can
+     * be given either in memory or as a path of a file to be streamed.
+     *
+     * @param multipartPayload whether the record is a multipart payload of a client
+     */
+    public void setMultipartPayload(boolean multipartPayload) {
+        this.multipartPayload = multipartPayload;
+    }
+
     /**
      * Generate TypeDescriptorNode for object type schemas.
      */
@@ -240,6 +254,13 @@ public class RecordTypeGenerator extends TypeGenerator {
             IdentifierToken fieldName = AbstractNodeFactory.createIdentifierToken(fieldNameStr);
             TypeGenerator typeGenerator = TypeGeneratorUtils.getTypeGenerator(fieldSchema, fieldNameStr, recordName);
             TypeDescriptorNode fieldTypeName = typeGenerator.generateTypeDescriptorNode();
+            if (typeGenerator instanceof PrimitiveTypeGenerator && isMultipartFileField(fieldSchema)) {
+                // binary parts of a multipart payload can be given either in memory or as a path of a file to be
+                // streamed
+                fieldTypeName = TypeGeneratorUtils.getNullableType(fieldSchema,
+                        NodeFactory.createSimpleNameReferenceNode(createIdentifierToken(
+                                BINARY_CONTENT_TYPE + "|" + BINARY_FILE_PATH_TYPE)));
+            }
             if (typeGenerator instanceof RecordTypeGenerator) {
                 fieldTypeName = TypeGeneratorUtils.getNullableType(fieldSchema, fieldTypeName);
             }
@@ -259,4 +280,11 @@ public class RecordTypeGenerator extends TypeGenerator {
         }
         return recordFieldList;
     }
+
+    /**
+     * Returns whether the given field is a binary part of a multipart/form-data payload.
+     */
+    private boolean isMultipartFileField(Schema<?> fieldSchema) {
+        return multipartPayload && GeneratorUtils.isBinarySchema(fieldSchema);
+    }
 }
@@ -33,6 +33,7 @@ import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.ModulePartNode;
 import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParameterNode;
 import io.ballerina.compiler.syntax.tree.RequiredParameterNode;
 import io.ballerina.compiler.syntax.tree.ReturnTypeDescriptorNode;
@@ -53,6 +54,9 @@ import io.ballerina.openapi.core.generators.schema.BallerinaTypesGenerator;
 import io.ballerina.openapi.core.generators.schema.model.GeneratorMetaData;
 import io.ballerina.openapi.core.generators.service.model.OASServiceMetadata;
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.GenerationFingerprints;
+import io.ballerina.openapi.core.model.ListenerTuning;
+import io.ballerina.openapi.core.model.ServiceSplit;
 import io.ballerina.tools.text.TextDocument;
 import io.ballerina.tools.text.TextDocuments;
 import io.swagger.v3.oas.models.OpenAPI;
@@ -63,14 +67,25 @@ import io.swagger.v3.oas.models.parameters.RequestBody;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
@@ -96,12 +111,15 @@ import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_FUNC_COMMENT;
 import static io.ballerina.openapi.core.GeneratorConstants.DEFAULT_PARAM_COMMENT;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_CALLER;
 import static io.ballerina.openapi.core.GeneratorConstants.HTTP_REQUEST;
+import static io.ballerina.openapi.core.GeneratorConstants.OPEN_CURLY_BRACE;
 import static io.ballerina.openapi.core.GeneratorConstants.REQUEST;
 import static io.ballerina.openapi.core.GeneratorConstants.SERVICE_TYPE_NAME;
 import static io.ballerina.openapi.core.GeneratorConstants.SLASH;
+import static io.ballerina.openapi.core.GeneratorConstants.X_BALLERINA_LISTENER;
 import static io.ballerina.openapi.core.GeneratorUtils.escapeIdentifier;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.createImportDeclarationNodes;
 import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.generateServiceConfigAnnotation;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getCreateInterceptorsFunction;
 
 /**
  * This Util class use for generating ballerina service file according to given yaml file.
@@ -110,6 +128,12 @@ import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtil
  */
 public class BallerinaServiceGenerator {
 
+    // Resource functions of smaller definitions are generated sequentially, as the tasks are cheaper than the threads
+    private static final int CONCURRENT_GENERATION_THRESHOLD = 32;
+    // Idle threads of the executor are released after this time, hence an unused generator does not hold them
+    private static final long EXECUTOR_KEEP_ALIVE_SECONDS = 1;
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+
     private boolean isNullableRequired;
     private final OpenAPI openAPI;
     private final Filter filter;
@@ -117,8 +141,19 @@ public class BallerinaServiceGenerator {
     private final boolean generateWithoutDataBinding;
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private List<Node> functionList = new ArrayList<>();
-    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
-    private final Set<String> paths = new LinkedHashSet<>();
+    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new LinkedHashMap<>();
+    private final ListenerTuning listenerTuning;
+    private final boolean streamingPayloads;
+    private final boolean contractValidation;
+    private final boolean instrument;
+    private final ServiceSplit serviceSplit;
+    private boolean isIoImportRequired = false;
+    // Service group of each operation, and the path prefix of each group, when the service is split
+    private final Map<String, String> operationGroups = new HashMap<>();
+    private final Map<String, List<String>> groupPrefixes = new LinkedHashMap<>();
+    private final Map<String, List<Node>> groupFunctionLists = new LinkedHashMap<>();
+    private final int parallelism;
+    private ExecutorService executor;
 
     public BallerinaServiceGenerator(OASServiceMetadata oasServiceMetadata) {
         this.openAPI = oasServiceMetadata.getOpenAPI();
@@ -126,6 +161,12 @@ public class BallerinaServiceGenerator {
         this.isNullableRequired = false;
         this.isServiceTypeRequired = oasServiceMetadata.isServiceTypeRequired();
         this.generateWithoutDataBinding = oasServiceMetadata.generateWithoutDataBinding();
+        this.listenerTuning = oasServiceMetadata.getListenerTuning();
+        this.streamingPayloads = oasServiceMetadata.isStreamingPayloads();
+        this.contractValidation = oasServiceMetadata.isContractValidation();
+        this.instrument = oasServiceMetadata.isInstrument();
+        this.serviceSplit = oasServiceMetadata.getServiceSplit();
+        this.parallelism = oasServiceMetadata.getParallelism();
         this.ballerinaSchemaGenerator = new BallerinaTypesGenerator(openAPI, oasServiceMetadata.isNullable(),
                 new LinkedList<>());
         GeneratorMetaData.createInstance(openAPI, oasServiceMetadata.isNullable(),
@@ -149,12 +190,10 @@ public class BallerinaServiceGenerator {
     }
 
     public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
-        // Create imports http and openapi
-        NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes();
         // Need to Generate Base path
-        ListenerGenerator listener = new ListenerGenerator();
+        ListenerGenerator listener = new ListenerGenerator(getListenerTuning());
         ListenerDeclarationNode listenerDeclarationNode = listener.getListenerDeclarationNodes(openAPI.getServers());
-        NodeList<Node> absoluteResourcePath = createBasePathNodeList(listener);
+        NodeList<Node> absoluteResourcePath = createBasePathNodeList(listener.getBasePath());
 
         SimpleNameReferenceNode listenerName = createSimpleNameReferenceNode(listenerDeclarationNode.variableName());
         SeparatedNodeList<ExpressionNode> expressions = createSeparatedNodeList(listenerName);
@@ -162,31 +201,144 @@ public class BallerinaServiceGenerator {
         // Fill the members with function
         List<Node> functions = createResourceFunctions(openAPI, filter);
         this.setFunctionList(functions);
+        // Create imports http and io, where io is required by the resources which read streaming payloads
+        NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes(isIoImportRequired);
+
+        TypeDescriptorNode serviceType = isServiceTypeRequired ?
+                createSimpleNameReferenceNode(createIdentifierToken(SERVICE_TYPE_NAME)) : null;
+        ServiceDeclarationNode serviceDeclarationNode = createServiceDeclaration(isNullableRequired, serviceType,
+                absoluteResourcePath, expressions, functions);
+
+        // Create module member declaration
+        List<ModuleMemberDeclarationNode> moduleMemberList = new ArrayList<>(
+                listener.getConfigurableDeclarationNodes());
+        moduleMemberList.add(listenerDeclarationNode);
+        moduleMemberList.add(serviceDeclarationNode);
+        return createSyntaxTree(imports, moduleMemberList);
+    }
+
+    /**
+     * Generate the syntax trees of the services split by the tags or the path prefixes of the operations, which keeps
+     * the sources of large definitions in smaller files. The first syntax tree declares the shared listener, and each
+     * of the others declares the service of a group of operations attached to it. The base path of a service is the
+     * common static path prefix of its operations.
+     *
+     * @return syntax trees by the name of the service group, where the listener is keyed by the empty name
+     * @throws BallerinaOpenApiException when the process failure occur
+     */
+    public Map<String, SyntaxTree> generateSplitSyntaxTrees() throws BallerinaOpenApiException {
+
+        if (serviceSplit == null) {
+            throw new BallerinaOpenApiException("The service split mode is not given.");
+        }
+        ListenerGenerator listener = new ListenerGenerator(getListenerTuning());
+        ListenerDeclarationNode listenerDeclarationNode = listener.getListenerDeclarationNodes(openAPI.getServers());
+        SimpleNameReferenceNode listenerName = createSimpleNameReferenceNode(listenerDeclarationNode.variableName());
+        SeparatedNodeList<ExpressionNode> expressions = createSeparatedNodeList(listenerName);
+
+        Map<String, SyntaxTree> syntaxTrees = new LinkedHashMap<>();
+        List<ModuleMemberDeclarationNode> listenerMembers = new ArrayList<>(
+                listener.getConfigurableDeclarationNodes());
+        listenerMembers.add(listenerDeclarationNode);
+        syntaxTrees.put("", createSyntaxTree(createImportDeclarationNodes(), listenerMembers));
+
+        assignServiceGroups();
+        Map<String, List<ResourceFunction>> groupFunctions = new LinkedHashMap<>();
+        groupPrefixes.keySet().forEach(group -> groupFunctions.put(group, new ArrayList<>()));
+        List<Node> functions = new ArrayList<>();
+        for (ResourceFunction generatedFunction : collectResourceFunctions(openAPI, filter)) {
+            ResourceFunction resourceFunction = mergeTypeInclusionRecords(generatedFunction);
+            functions.add(resourceFunction.getFunctionDefinitionNode());
+            groupFunctions.get(resourceFunction.getServiceGroup()).add(resourceFunction);
+        }
+        this.setFunctionList(functions);
+
+        String basePath = listener.getBasePath().replaceAll("/+$", "");
+        for (Map.Entry<String, List<ResourceFunction>> group : groupFunctions.entrySet()) {
+            List<Node> serviceFunctions = new ArrayList<>();
+            boolean nullableRequired = false;
+            boolean ioImportRequired = false;
+            for (ResourceFunction resourceFunction : group.getValue()) {
+                serviceFunctions.add(resourceFunction.getFunctionDefinitionNode());
+                nullableRequired = nullableRequired || resourceFunction.isNullableRequired();
+                ioImportRequired = ioImportRequired || resourceFunction.isStreamingPayload();
+            }
+            groupFunctionLists.put(group.getKey(), serviceFunctions);
+            List<String> prefix = groupPrefixes.get(group.getKey());
+            NodeList<Node> servicePath = createBasePathNodeList(prefix.isEmpty() && basePath.isEmpty() ? SLASH :
+                    basePath + SLASH + String.join(SLASH, prefix));
+            TypeDescriptorNode serviceType = isServiceTypeRequired ?
+                    createSimpleNameReferenceNode(createIdentifierToken(getServiceTypeName(group.getKey()))) : null;
+            ServiceDeclarationNode serviceDeclarationNode = createServiceDeclaration(nullableRequired, serviceType,
+                    servicePath, expressions, serviceFunctions);
+
+            // The services of the groups without any `http` types do not import the module, as it is unused
+            List<ImportDeclarationNode> imports = new ArrayList<>();
+            if (serviceDeclarationNode.toSourceCode().contains(GeneratorConstants.HTTP + ":")) {
+                imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                        GeneratorConstants.HTTP));
+            }
+            if (ioImportRequired) {
+                imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                        GeneratorConstants.IO));
+            }
+            syntaxTrees.put(group.getKey(), createSyntaxTree(createNodeList(imports),
+                    Collections.singletonList(serviceDeclarationNode)));
+        }
+        return syntaxTrees;
+    }
+
+    /**
+     * Returns the resource functions of each service group generated by {@link #generateSplitSyntaxTrees()}, which
+     * are used to generate the service type of each group.
+     */
+    public Map<String, List<Node>> getGroupFunctionLists() {
+        return groupFunctionLists;
+    }
+
+    /**
+     * Returns the name of the service type of the given service group.
+     */
+    public static String getServiceTypeName(String group) {
+        return GeneratorUtils.getValidName(group, true) + "ServiceType";
+    }
+
+    private ServiceDeclarationNode createServiceDeclaration(boolean nullableRequired, TypeDescriptorNode serviceType,
+                                                            NodeList<Node> absoluteResourcePath,
+                                                            SeparatedNodeList<ExpressionNode> expressions,
+                                                            List<Node> functions) {
 
-        NodeList<Node> members = createNodeList(functions);
+        List<Node> memberList = new ArrayList<>();
+        if (contractValidation || instrument) {
+            // Engage the interceptors generated by the ValidationInterceptorGenerator and the InstrumentationGenerator
+            memberList.add(getCreateInterceptorsFunction(contractValidation, instrument));
+        }
+        memberList.addAll(functions);
+        NodeList<Node> members = createNodeList(memberList);
         // Create annotation if nullable property is enabled
         // @http:ServiceConfig {
         //     treatNilableAsOptional : false
         //}
         MetadataNode metadataNode = null;
-        if (isNullableRequired) {
+        if (nullableRequired) {
             metadataNode = generateServiceConfigAnnotation();
         }
-        TypeDescriptorNode serviceType = null;
-        if (isServiceTypeRequired) {
-            serviceType = createSimpleNameReferenceNode(createIdentifierToken(SERVICE_TYPE_NAME));
+        if (serviceType == null && (contractValidation || instrument)) {
+            serviceType = GeneratorUtils.getQualifiedNameReferenceNode(GeneratorConstants.HTTP,
+                    "InterceptableService");
         }
-        ServiceDeclarationNode serviceDeclarationNode = createServiceDeclarationNode(
+        return createServiceDeclarationNode(
                 metadataNode, createEmptyNodeList(), createToken(SyntaxKind.SERVICE_KEYWORD,
                         GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE),
                 serviceType, absoluteResourcePath, createToken(SyntaxKind.ON_KEYWORD,
                         GeneratorUtils.SINGLE_WS_MINUTIAE, GeneratorUtils.SINGLE_WS_MINUTIAE), expressions,
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN), members, createToken(SyntaxKind.CLOSE_BRACE_TOKEN), null);
+    }
 
-        // Create module member declaration
-        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(
-                listenerDeclarationNode, serviceDeclarationNode);
+    private static SyntaxTree createSyntaxTree(NodeList<ImportDeclarationNode> imports,
+                                               List<ModuleMemberDeclarationNode> moduleMemberList) {
 
+        NodeList<ModuleMemberDeclarationNode> moduleMembers = createNodeList(moduleMemberList);
         Token eofToken = createIdentifierToken("");
         ModulePartNode modulePartNode = createModulePartNode(imports, moduleMembers, eofToken);
 
@@ -195,28 +347,307 @@ public class BallerinaServiceGenerator {
         return syntaxTree.modifyWith(modulePartNode);
     }
 
+    /**
+     * Assign the selected operations to the service groups of the split mode. As the listener dispatches a request to
+     * the service with the longest matching base path, the groups of which the base paths would capture the requests
+     * of another group are merged, until the base path of each group only matches the paths of its own operations.
+     */
+    private void assignServiceGroups() {
+
+        Map<String, List<String[]>> groupPaths = new LinkedHashMap<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                String[] segments = ServiceGenerationUtils.getPathSegments(path.getKey());
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    if (!ServiceGenerationUtils.isSelectedOperation(operation.getValue(), filter)) {
+                        continue;
+                    }
+                    String group = serviceSplit.getDefaultGroup();
+                    List<String> tags = operation.getValue().getTags();
+                    if (serviceSplit == ServiceSplit.TAG && tags != null && !tags.isEmpty() &&
+                            !tags.get(0).isBlank()) {
+                        group = tags.get(0).trim();
+                    } else if (serviceSplit == ServiceSplit.PATH && segments.length > 0 &&
+                            !segments[0].contains(OPEN_CURLY_BRACE)) {
+                        group = segments[0];
+                    }
+                    operationGroups.put(GenerationFingerprints.getOperationKey(operation.getKey(), path.getKey()),
+                            group);
+                    groupPaths.computeIfAbsent(group, key -> new ArrayList<>()).add(segments);
+                }
+            }
+        }
+
+        boolean merged = true;
+        while (merged) {
+            merged = false;
+            groupPrefixes.clear();
+            groupPaths.forEach((group, paths) -> groupPrefixes.put(group, getCommonPrefix(paths)));
+            for (String group : groupPaths.keySet()) {
+                String capturingGroup = groupPaths.keySet().stream()
+                        .filter(other -> !other.equals(group) &&
+                                capturesPaths(groupPrefixes.get(other), groupPrefixes.get(group),
+                                        groupPaths.get(group)))
+                        .findFirst().orElse(null);
+                if (capturingGroup != null) {
+                    mergeServiceGroups(groupPaths, group, capturingGroup);
+                    merged = true;
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns true when the given base path of another group is the same as the one of the group, or is longer and
+     * matches any of the paths of the group, where a path parameter matches any segment.
+     */
+    private static boolean capturesPaths(List<String> otherPrefix, List<String> prefix, List<String[]> paths) {
+
+        if (otherPrefix.equals(prefix)) {
+            return true;
+        } else if (otherPrefix.size() <= prefix.size()) {
+            return false;
+        }
+        for (String[] path : paths) {
+            boolean matches = path.length >= otherPrefix.size();
+            for (int i = 0; matches && i < otherPrefix.size(); i++) {
+                matches = path[i].contains(OPEN_CURLY_BRACE) || path[i].equals(otherPrefix.get(i));
+            }
+            if (matches) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Merge the two service groups into a group in the position of the first of them.
+     */
+    private void mergeServiceGroups(Map<String, List<String[]>> groupPaths, String group, String otherGroup) {
+
+        List<String> names = new ArrayList<>(groupPaths.keySet());
+        String first = names.indexOf(group) < names.indexOf(otherGroup) ? group : otherGroup;
+        String second = first.equals(group) ? otherGroup : group;
+        String mergedGroup = first + "_" + second;
+        Map<String, List<String[]>> mergedPaths = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String[]>> entry : groupPaths.entrySet()) {
+            if (entry.getKey().equals(first)) {
+                List<String[]> paths = new ArrayList<>(entry.getValue());
+                paths.addAll(groupPaths.get(second));
+                mergedPaths.put(mergedGroup, paths);
+            } else if (!entry.getKey().equals(second)) {
+                mergedPaths.put(entry.getKey(), entry.getValue());
+            }
+        }
+        groupPaths.clear();
+        groupPaths.putAll(mergedPaths);
+        operationGroups.replaceAll((operation, operationGroup) ->
+                operationGroup.equals(first) || operationGroup.equals(second) ? mergedGroup : operationGroup);
+    }
+
+    /**
+     * Returns the static path segments which all the given paths start with.
+     */
+    private static List<String> getCommonPrefix(List<String[]> paths) {
+
+        List<String> prefix = new ArrayList<>();
+        for (int i = 0; ; i++) {
+            String segment = null;
+            for (String[] path : paths) {
+                if (path.length <= i || path[i].contains(OPEN_CURLY_BRACE) ||
+                        (segment != null && !segment.equals(path[i]))) {
+                    return prefix;
+                }
+                segment = path[i];
+            }
+            if (segment == null) {
+                return prefix;
+            }
+            prefix.add(segment);
+        }
+    }
+
+    /**
+     * Returns the tuning values of the listener, where the values given in the `x-ballerina-listener` extension of the
+     * definition are overridden by the values given with the service generation options.
+     */
+    private ListenerTuning getListenerTuning() throws BallerinaOpenApiException {
+
+        ListenerTuning tuning = new ListenerTuning();
+        if (openAPI.getExtensions() != null && openAPI.getExtensions().get(X_BALLERINA_LISTENER) != null) {
+            Object extension = openAPI.getExtensions().get(X_BALLERINA_LISTENER);
+            if (!(extension instanceof Map)) {
+                throw new BallerinaOpenApiException("The `" + X_BALLERINA_LISTENER + "` extension must be a mapping " +
+                        "of the listener tuning values.");
+            }
+            tuning = ListenerTuning.fromMap((Map<?, ?>) extension, "the `" + X_BALLERINA_LISTENER + "` extension");
+        }
+        return tuning.override(listenerTuning);
+    }
+
     private List<Node> createResourceFunctions(OpenAPI openApi, Filter filter) throws BallerinaOpenApiException {
 
         List<Node> functions = new ArrayList<>();
+        for (ResourceFunction generatedFunction : collectResourceFunctions(openApi, filter)) {
+            ResourceFunction resourceFunction = mergeTypeInclusionRecords(generatedFunction);
+            functions.add(resourceFunction.getFunctionDefinitionNode());
+            isNullableRequired = isNullableRequired || resourceFunction.isNullableRequired();
+            isIoImportRequired = isIoImportRequired || resourceFunction.isStreamingPayload();
+        }
+        return functions;
+    }
+
+    /**
+     * Merges the type inclusion records of the given resource function into the records of the service. The records
+     * of each operation are generated on their own, hence a name may already be taken by a different record of an
+     * earlier operation. Such a record is renamed with a numeric suffix, and the references to it in the return type
+     * and the other records of the function are updated. The identical records of the operations share one type.
+     */
+    private ResourceFunction mergeTypeInclusionRecords(ResourceFunction resourceFunction) {
+
+        Map<String, String> renamedRecords = new HashMap<>();
+        for (Map.Entry<String, TypeDefinitionNode> inclusionRecord :
+                resourceFunction.getTypeInclusionRecords().entrySet()) {
+            String body = renameTypeReferences(inclusionRecord.getValue().typeDescriptor().toSourceCode(),
+                    renamedRecords);
+            String recordName = inclusionRecord.getKey();
+            for (int count = 1; typeInclusionRecords.containsKey(recordName) &&
+                    !getRecordBody(typeInclusionRecords.get(recordName)).equals(body.replaceAll("\\s+", ""));
+                 count++) {
+                recordName = inclusionRecord.getKey() + "_" + count;
+            }
+            if (!recordName.equals(inclusionRecord.getKey())) {
+                renamedRecords.put(inclusionRecord.getKey(), recordName);
+            }
+            if (!typeInclusionRecords.containsKey(recordName)) {
+                typeInclusionRecords.put(recordName, renamedRecords.isEmpty() ? inclusionRecord.getValue() :
+                        inclusionRecord.getValue().modify()
+                                .withTypeName(createIdentifierToken(recordName))
+                                .withTypeDescriptor(NodeParser.parseTypeDescriptor(body))
+                                .apply());
+            }
+        }
+        FunctionDefinitionNode functionDefinitionNode = resourceFunction.getFunctionDefinitionNode();
+        Optional<ReturnTypeDescriptorNode> returnTypeDesc = functionDefinitionNode.functionSignature().returnTypeDesc();
+        if (renamedRecords.isEmpty() || returnTypeDesc.isEmpty()) {
+            return resourceFunction;
+        }
+        TypeDescriptorNode returnType = NodeParser.parseTypeDescriptor(
+                renameTypeReferences(returnTypeDesc.get().type().toSourceCode(), renamedRecords));
+        FunctionSignatureNode functionSignature = functionDefinitionNode.functionSignature().modify()
+                .withReturnTypeDesc(returnTypeDesc.get().modify().withType(returnType).apply())
+                .apply();
+        return resourceFunction.withFunctionDefinitionNode(functionDefinitionNode.modify()
+                .withFunctionSignature(functionSignature)
+                .apply());
+    }
+
+    private static String getRecordBody(TypeDefinitionNode typeDefinitionNode) {
+        return typeDefinitionNode.typeDescriptor().toSourceCode().replaceAll("\\s+", "");
+    }
+
+    /**
+     * Replaces the references to the renamed records in the given type source.
+     */
+    private static String renameTypeReferences(String typeSource, Map<String, String> renamedRecords) {
+        if (renamedRecords.isEmpty()) {
+            return typeSource;
+        }
+        Matcher matcher = IDENTIFIER.matcher(typeSource);
+        StringBuilder renamedSource = new StringBuilder();
+        while (matcher.find()) {
+            matcher.appendReplacement(renamedSource,
+                    Matcher.quoteReplacement(renamedRecords.getOrDefault(matcher.group(), matcher.group())));
+        }
+        matcher.appendTail(renamedSource);
+        return renamedSource.toString();
+    }
+
+    private List<ResourceFunction> collectResourceFunctions(OpenAPI openApi, Filter filter)
+            throws BallerinaOpenApiException {
+
+        List<Callable<ResourceFunction>> tasks = new ArrayList<>();
         if (!openApi.getPaths().isEmpty()) {
             Paths paths = openApi.getPaths();
             Set<Map.Entry<String, PathItem>> pathsItems = paths.entrySet();
             for (Map.Entry<String, PathItem> path : pathsItems) {
                 if (!path.getValue().readOperationsMap().isEmpty()) {
                     Map<PathItem.HttpMethod, Operation> operationMap = path.getValue().readOperationsMap();
-                    functions.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
+                    tasks.addAll(applyFiltersForOperations(filter, path.getKey(), operationMap));
                 }
             }
         }
-        return functions;
+        // The results are merged in the order of the operations in the definition, hence the generated service is
+        // the same regardless of the order in which the tasks are completed.
+        return generateResourceFunctions(tasks);
+    }
+
+    /**
+     * Run the resource function generation tasks. The tasks of larger definitions are run concurrently on the
+     * executor of the generator, as each task only reads the OpenAPI definition and returns its own results.
+     */
+    private List<ResourceFunction> generateResourceFunctions(List<Callable<ResourceFunction>> tasks)
+            throws BallerinaOpenApiException {
+
+        List<ResourceFunction> resourceFunctions = new ArrayList<>();
+        if (tasks.size() < CONCURRENT_GENERATION_THRESHOLD || parallelism < 2) {
+            for (Callable<ResourceFunction> task : tasks) {
+                try {
+                    resourceFunctions.add(task.call());
+                } catch (BallerinaOpenApiException | RuntimeException e) {
+                    throw e;
+                } catch (Exception e) {
+                    throw new BallerinaOpenApiException(e.getMessage(), e);
+                }
+            }
+            return resourceFunctions;
+        }
+
+        try {
+            for (Future<ResourceFunction> result : getExecutor().invokeAll(tasks)) {
+                resourceFunctions.add(result.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BallerinaOpenApiException("Resource function generation was interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof BallerinaOpenApiException) {
+                throw (BallerinaOpenApiException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new BallerinaOpenApiException(cause.getMessage(), cause);
+        }
+        return resourceFunctions;
+    }
+
+    /**
+     * Returns the executor of the generator, which is created on the first concurrent generation and shared by the
+     * later ones. Its daemon threads time out when idle, so the executor needs not be shut down.
+     */
+    private ExecutorService getExecutor() {
+        if (executor == null) {
+            ThreadPoolExecutor threadPool = new ThreadPoolExecutor(parallelism, parallelism,
+                    EXECUTOR_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                        Thread thread = new Thread(runnable, "openapi-service-generator");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            threadPool.allowCoreThreadTimeOut(true);
+            executor = threadPool;
+        }
+        return executor;
     }
 
-    private NodeList<Node> createBasePathNodeList(ListenerGenerator listener) {
+    private NodeList<Node> createBasePathNodeList(String basePath) {
 
-        if (GeneratorConstants.OAS_PATH_SEPARATOR.equals(listener.getBasePath())) {
-            return createNodeList(createIdentifierToken(listener.getBasePath()));
+        if (GeneratorConstants.OAS_PATH_SEPARATOR.equals(basePath)) {
+            return createNodeList(createIdentifierToken(basePath));
         } else {
-            String[] basePathNode = listener.getBasePath().split(GeneratorConstants.OAS_PATH_SEPARATOR);
+            String[] basePathNode = basePath.split(GeneratorConstants.OAS_PATH_SEPARATOR);
             List<Node> basePath = Arrays.stream(basePathNode).filter(node -> !node.isBlank())
                     .map(node -> createIdentifierToken(GeneratorConstants.OAS_PATH_SEPARATOR +
                             GeneratorUtils.escapeIdentifier(node))).collect(Collectors.toList());
@@ -224,14 +655,20 @@ public class BallerinaServiceGenerator {
         }
     }
 
-    private List<Node> applyFiltersForOperations(Filter filter, String path,
-                                                 Map<PathItem.HttpMethod, Operation> operationMap)
-            throws BallerinaOpenApiException {
+    /**
+     * Create the resource function generation tasks of the operations of the given path, which are selected by the
+     * filter. The inline response records of the first operation of the path are named after the path, and the ones
+     * of the other operations after both the path and the method, hence the names do not depend on the generation
+     * order.
+     */
+    private List<Callable<ResourceFunction>> applyFiltersForOperations(Filter filter, String path,
+                                                                       Map<PathItem.HttpMethod, Operation>
+                                                                               operationMap) {
 
-        List<Node> functions = new ArrayList<>();
+        List<Callable<ResourceFunction>> tasks = new ArrayList<>();
+        String pathForRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
+                GeneratorUtils.getValidName(path, true);
         for (Map.Entry<PathItem.HttpMethod, Operation> operation : operationMap.entrySet()) {
-            List<Node> resourceFunctionDocs = new ArrayList<>();
-            addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
             //Add filter availability
             //1.Tag filter
             //2.Operation filter
@@ -240,37 +677,59 @@ public class BallerinaServiceGenerator {
             List<String> operationTags = operation.getValue().getTags();
             List<String> filterOperations = filter.getOperations();
             if (!filterTags.isEmpty() || !filterOperations.isEmpty()) {
-                if (operationTags != null || ((!filterOperations.isEmpty())
-                        && (operation.getValue().getOperationId() != null))) {
-                    if ((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
-                            ((operation.getValue().getOperationId() != null) &&
-                                    filterOperations.contains(operation.getValue().getOperationId().trim()))) {
-                        // getRelative resource path
-                        List<Node> functionRelativeResourcePath = GeneratorUtils.getRelativeResourcePath(path,
-                                operation.getValue(), resourceFunctionDocs);
-                        // function call
-
-                        FunctionDefinitionNode functionDefinitionNode = generateWithoutDataBinding ?
-                                generateGenericResourceFunctions(operation,
-                                        functionRelativeResourcePath, path, resourceFunctionDocs) :
-                                getResourceFunction(operation, functionRelativeResourcePath, path,
-                                        resourceFunctionDocs);
-                        functions.add(functionDefinitionNode);
-                    }
+                if (operationTags == null && (filterOperations.isEmpty() ||
+                        operation.getValue().getOperationId() == null)) {
+                    continue;
+                }
+                if (!((operationTags != null && GeneratorUtils.hasTags(operationTags, filterTags)) ||
+                        ((operation.getValue().getOperationId() != null) &&
+                                filterOperations.contains(operation.getValue().getOperationId().trim())))) {
+                    continue;
                 }
-            } else {
-                // getRelative resource path
-                List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(path, operation.getValue(),
-                        resourceFunctionDocs);
-                // function call
-                FunctionDefinitionNode resourceFunction = generateWithoutDataBinding ?
-                        generateGenericResourceFunctions(operation,
-                                relativeResourcePath, path, resourceFunctionDocs) : getResourceFunction(operation,
-                        relativeResourcePath, path, resourceFunctionDocs);
-                functions.add(resourceFunction);
             }
+            String recordName = tasks.isEmpty() ? pathForRecord : pathForRecord +
+                    GeneratorUtils.getValidName(operation.getKey().name().toLowerCase(Locale.ENGLISH), true);
+            String serviceGroup = operationGroups.get(GenerationFingerprints.getOperationKey(operation.getKey(), path));
+            String resourcePath = getResourcePath(path, serviceGroup);
+            tasks.add(() -> generateResourceFunction(operation, path, resourcePath, recordName)
+                    .inServiceGroup(serviceGroup));
         }
-        return functions;
+        return tasks;
+    }
+
+    /**
+     * Returns the resource path of an operation of the given service group, which is relative to the path prefix of
+     * the group when the service is split.
+     */
+    private String getResourcePath(String path, String serviceGroup) {
+
+        if (serviceGroup == null) {
+            return path;
+        }
+        String[] segments = ServiceGenerationUtils.getPathSegments(path);
+        int prefixLength = groupPrefixes.get(serviceGroup).size();
+        return SLASH + String.join(SLASH, Arrays.copyOfRange(segments, prefixLength, segments.length));
+    }
+
+    /**
+     * Generate the resource function of the given operation, of which the resource path is relative to the base path
+     * of its service.
+     */
+    private ResourceFunction generateResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                      String path, String resourcePath, String recordName)
+            throws BallerinaOpenApiException {
+
+        List<Node> resourceFunctionDocs = new ArrayList<>();
+        addFunctionDescToAPIDocs(operation, resourceFunctionDocs);
+        // getRelative resource path
+        List<Node> relativeResourcePath = GeneratorUtils.getRelativeResourcePath(resourcePath, operation.getValue(),
+                resourceFunctionDocs);
+        // function call
+        if (generateWithoutDataBinding) {
+            return new ResourceFunction(generateGenericResourceFunctions(operation, relativeResourcePath, path,
+                    resourceFunctionDocs), new HashMap<>(), false, false);
+        }
+        return getResourceFunction(operation, relativeResourcePath, path, resourceFunctionDocs, recordName);
     }
 
     private FunctionDefinitionNode generateGenericResourceFunctions(Map.Entry<PathItem.HttpMethod, Operation> operation,
@@ -324,14 +783,15 @@ public class BallerinaServiceGenerator {
     /**
      * Generate resource function for given operation.
      *
-     * @param operation -  OAS operation
-     * @param pathNodes -  Relative path nodes
-     * @return - {@link FunctionDefinitionNode} relevant resource
+     * @param operation  -  OAS operation
+     * @param pathNodes  -  Relative path nodes
+     * @param recordName -  Prefix of the names of the inline response records
+     * @return - {@link ResourceFunction} relevant resource with its inline response records
      * @throws BallerinaOpenApiException when the process failure occur
      */
-    private FunctionDefinitionNode getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
-                                                       List<Node> pathNodes, String path,
-                                                       List<Node> resourceFunctionDocs)
+    private ResourceFunction getResourceFunction(Map.Entry<PathItem.HttpMethod, Operation> operation,
+                                                 List<Node> pathNodes, String path,
+                                                 List<Node> resourceFunctionDocs, String recordName)
             throws BallerinaOpenApiException {
 
         NodeList<Token> qualifiersList = createNodeList(createIdentifierToken(GeneratorConstants.RESOURCE,
@@ -344,6 +804,7 @@ public class BallerinaServiceGenerator {
         ParametersGenerator parametersGenerator = new ParametersGenerator(false, openAPI);
         parametersGenerator.generateResourcesInputs(operation, resourceFunctionDocs);
         List<Node> params = new ArrayList<>(parametersGenerator.getRequiredParams());
+        boolean streamingPayload = false;
 
         // Handle request Body (Payload)
         if (operation.getValue().getRequestBody() != null) {
@@ -351,8 +812,9 @@ public class BallerinaServiceGenerator {
             requestBody = resolveRequestBodyReference(requestBody);
             RequiredParameterNode nodeForRequestBody = null;
             if (requestBody.getContent() != null) {
-                RequestBodyGenerator requestBodyGen = new RequestBodyGenerator(requestBody);
+                RequestBodyGenerator requestBodyGen = new RequestBodyGenerator(requestBody, streamingPayloads);
                 nodeForRequestBody = requestBodyGen.createNodeForRequestBody();
+                streamingPayload = requestBodyGen.isStreamingPayload();
                 params.add(nodeForRequestBody);
                 params.add(createToken(SyntaxKind.COMMA_TOKEN));
             }
@@ -376,21 +838,14 @@ public class BallerinaServiceGenerator {
             params.remove(params.size() - 1);
         }
 
-        if (!isNullableRequired) {
-            isNullableRequired = parametersGenerator.isNullableRequired();
-        }
         SeparatedNodeList<ParameterNode> parameters = createSeparatedNodeList(params);
-        String pathForRecord = Objects.equals(path, SLASH) || Objects.equals(path, CATCH_ALL_PATH) ? "" :
-                GeneratorUtils.getValidName(path, true);
-        ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator(ballerinaSchemaGenerator, pathForRecord,
+        ReturnTypeGenerator returnTypeGenerator = new ReturnTypeGenerator(ballerinaSchemaGenerator, recordName,
                 openAPI);
-        if (!paths.contains(path)) {
-            returnTypeGenerator.setCountForRecord(0);
-            paths.add(path);
-        }
         ReturnTypeDescriptorNode returnNode = returnTypeGenerator.getReturnTypeDescriptorNode(operation,
                 createEmptyNodeList(), path, resourceFunctionDocs);
-        typeInclusionRecords.putAll(returnTypeGenerator.getTypeInclusionRecords());
+        if (streamingPayload) {
+            returnNode = getStreamingPayloadReturnNode(returnNode);
+        }
 
         FunctionSignatureNode functionSignatureNode = createFunctionSignatureNode(
                 createToken(SyntaxKind.OPEN_PAREN_TOKEN),
@@ -398,7 +853,10 @@ public class BallerinaServiceGenerator {
 
         // Function Body Node
         // If path parameter has some special characters, extra body statements are added to handle the complexity.
-        List<StatementNode> bodyStatements = GeneratorUtils.generateBodyStatementForComplexUrl(path);
+        List<StatementNode> bodyStatements = new ArrayList<>(GeneratorUtils.generateBodyStatementForComplexUrl(path));
+        if (streamingPayload) {
+            bodyStatements.addAll(getStreamingPayloadStatements());
+        }
         FunctionBodyBlockNode functionBodyBlockNode = createFunctionBodyBlockNode(
                 createToken(SyntaxKind.OPEN_BRACE_TOKEN),
                 null,
@@ -411,9 +869,53 @@ public class BallerinaServiceGenerator {
         MetadataNode metadataNode = createMetadataNode(createMarkdownDocumentationNode(
                 createNodeList(resourceFunctionDocs)), createNodeList(annotationNodes));
 
-        return createFunctionDefinitionNode(SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode,
-                qualifiersList, functionKeyWord, functionName, relativeResourcePath, functionSignatureNode,
-                functionBodyBlockNode);
+        FunctionDefinitionNode functionDefinitionNode = createFunctionDefinitionNode(
+                SyntaxKind.RESOURCE_ACCESSOR_DEFINITION, metadataNode, qualifiersList, functionKeyWord, functionName,
+                relativeResourcePath, functionSignatureNode, functionBodyBlockNode);
+        return new ResourceFunction(functionDefinitionNode, returnTypeGenerator.getTypeInclusionRecords(),
+                parametersGenerator.isNullableRequired(), streamingPayload);
+    }
+
+    /**
+     * Generate the statements which read the request payload as a byte stream, hence the payload is processed in
+     * chunks without loading the whole body to the memory. The failures to read the payload are returned from the
+     * resource.
+     * <pre>
+     *     stream<byte[], io:Error?> payloadStream = check request.getByteStream();
+     *     record {|byte[] value;|}? chunk = check payloadStream.next();
+     *     while chunk is record {|byte[] value;|} {
+     *         // Process the `chunk.value` bytes of the payload
+     *         chunk = check payloadStream.next();
+     *     }
+     *     check payloadStream.close();
+     * </pre>
+     */
+    private static List<StatementNode> getStreamingPayloadStatements() {
+
+        List<StatementNode> statements = new ArrayList<>();
+        statements.add(NodeParser.parseStatement("stream<byte[], io:Error?> payloadStream = check " +
+                REQUEST + ".getByteStream();"));
+        statements.add(NodeParser.parseStatement("record {|byte[] value;|}? chunk = check payloadStream.next();"));
+        statements.add(NodeParser.parseStatement("while chunk is record {|byte[] value;|} {\n" +
+                "// Process the `chunk.value` bytes of the payload\n" +
+                "chunk = check payloadStream.next();" +
+                "}"));
+        statements.add(NodeParser.parseStatement("check payloadStream.close();"));
+        return statements;
+    }
+
+    /**
+     * Adds `error` to the return type of a resource reading a streaming payload, which returns the failures to read
+     * the payload.
+     */
+    private static ReturnTypeDescriptorNode getStreamingPayloadReturnNode(ReturnTypeDescriptorNode returnNode) {
+
+        String returnType = returnNode.type().toString().trim();
+        if (returnType.equals("error?") || returnType.endsWith("|error")) {
+            return returnNode;
+        }
+        return createReturnTypeDescriptorNode(returnNode.returnsKeyword(), returnNode.annotations(),
+                createSimpleNameReferenceNode(createIdentifierToken(returnType + "|error")));
     }
 
     private static void addFunctionDescToAPIDocs(Map.Entry<PathItem.HttpMethod, Operation> operation,
@@ -443,4 +945,68 @@ public class BallerinaServiceGenerator {
         }
         return requestBody;
     }
+
+    /**
+     * Immutable result of the generation of a resource function.
+     */
+    private static class ResourceFunction {
+
+        private final FunctionDefinitionNode functionDefinitionNode;
+        private final Map<String, TypeDefinitionNode> typeInclusionRecords;
+        private final boolean nullableRequired;
+        private final boolean streamingPayload;
+        private final String serviceGroup;
+
+        ResourceFunction(FunctionDefinitionNode functionDefinitionNode,
+                         Map<String, TypeDefinitionNode> typeInclusionRecords, boolean nullableRequired,
+                         boolean streamingPayload) {
+            this(functionDefinitionNode, typeInclusionRecords, nullableRequired, streamingPayload, null);
+        }
+
+        private ResourceFunction(FunctionDefinitionNode functionDefinitionNode,
+                                 Map<String, TypeDefinitionNode> typeInclusionRecords, boolean nullableRequired,
+                                 boolean streamingPayload, String serviceGroup) {
+            this.functionDefinitionNode = functionDefinitionNode;
+            this.typeInclusionRecords = Collections.unmodifiableMap(new LinkedHashMap<>(typeInclusionRecords));
+            this.nullableRequired = nullableRequired;
+            this.streamingPayload = streamingPayload;
+            this.serviceGroup = serviceGroup;
+        }
+
+        /**
+         * Returns the result of the resource function with the given function definition.
+         */
+        ResourceFunction withFunctionDefinitionNode(FunctionDefinitionNode functionDefinitionNode) {
+            return new ResourceFunction(functionDefinitionNode, typeInclusionRecords, nullableRequired,
+                    streamingPayload, serviceGroup);
+        }
+
+        /**
+         * Returns the result of the resource function of the given service group.
+         */
+        ResourceFunction inServiceGroup(String serviceGroup) {
+            return new ResourceFunction(functionDefinitionNode, typeInclusionRecords, nullableRequired,
+                    streamingPayload, serviceGroup);
+        }
+
+        FunctionDefinitionNode getFunctionDefinitionNode() {
+            return functionDefinitionNode;
+        }
+
+        Map<String, TypeDefinitionNode> getTypeInclusionRecords() {
+            return typeInclusionRecords;
+        }
+
+        boolean isNullableRequired() {
+            return nullableRequired;
+        }
+
+        boolean isStreamingPayload() {
+            return streamingPayload;
+        }
+
+        String getServiceGroup() {
+            return serviceGroup;
+        }
+    }
 }
@@ -61,9 +61,22 @@ import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtil
  */
 public class BallerinaServiceObjectGenerator {
     private final List<Node> resourceFunctionList;
+    private final String serviceTypeName;
 
     public BallerinaServiceObjectGenerator(List<Node> resourceFunctionList) {
+        this(resourceFunctionList, SERVICE_TYPE_NAME);
+    }
+
+    /**
+     * Create the generator of the service object with the given name, which types one of the services of a split
+     * service.
+     *
+     * @param resourceFunctionList resource functions of the service
+     * @param serviceTypeName      name of the service object type
+     */
+    public BallerinaServiceObjectGenerator(List<Node> resourceFunctionList, String serviceTypeName) {
         this.resourceFunctionList = resourceFunctionList;
+        this.serviceTypeName = serviceTypeName;
     }
 
     public SyntaxTree generateSyntaxTree() {
@@ -111,6 +124,6 @@ public class BallerinaServiceObjectGenerator {
                 createToken(SyntaxKind.CLOSE_BRACE_TOKEN));
 
         return createTypeDefinitionNode(null, null, createToken(TYPE_KEYWORD),
-                createIdentifierToken(SERVICE_TYPE_NAME), objectTypeDescriptorNode, createToken(SEMICOLON_TOKEN));
+                createIdentifierToken(serviceTypeName), objectTypeDescriptorNode, createToken(SEMICOLON_TOKEN));
     }
 }
@@ -0,0 +1,268 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import io.ballerina.compiler.syntax.tree.AnnotationNode;
+import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.headers.Header;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static io.ballerina.openapi.core.GeneratorConstants.X_CACHE;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getAnnotationNode;
+
+/**
+ * This class generates the `@http:Cache` return type annotation of a resource from the caching headers of its
+ * successful response, or from the `x-cache` extension of the operation.
+ * <pre>
+ *     resource function get pets() returns @http:Cache {maxAge: 60, mustRevalidate: false, setETag: true,
+ *             setLastModified: false} Pets {
+ *     }
+ * </pre>
+ * The `Cache-Control` directives are read from the default value or the example of the header, which is the reverse
+ * of how the `@http:Cache` annotation is mapped to the response headers when exporting a service.
+ *
+ * @since 1.8.0
+ */
+public class CacheConfigGenerator {
+
+    private static final String CACHE = "Cache";
+    private static final String CACHE_CONTROL = "cache-control";
+    private static final String ETAG = "etag";
+    private static final String LAST_MODIFIED = "last-modified";
+    private static final List<String> CACHE_CONFIG_FIELDS = List.of("maxAge", "sMaxAge", "mustRevalidate", "noCache",
+            "noCacheFields", "noStore", "noTransform", "isPrivate", "privateFields", "proxyRevalidate", "setETag",
+            "setLastModified");
+
+    private final OpenAPI openAPI;
+
+    public CacheConfigGenerator(OpenAPI openAPI) {
+        this.openAPI = openAPI;
+    }
+
+    /**
+     * Generate the `@http:Cache` annotation of the given operation.
+     *
+     * @param operation OAS operation
+     * @return the annotation when the operation declares caching headers or the `x-cache` extension
+     * @throws BallerinaOpenApiException when the `x-cache` extension is invalid
+     */
+    public Optional<AnnotationNode> getCacheAnnotation(Operation operation) throws BallerinaOpenApiException {
+
+        Map<String, String> cacheConfig;
+        if (operation.getExtensions() != null && operation.getExtensions().containsKey(X_CACHE)) {
+            Object extension = operation.getExtensions().get(X_CACHE);
+            if (Boolean.FALSE.equals(extension)) {
+                return Optional.empty();
+            }
+            cacheConfig = getCacheConfigFromExtension(extension);
+        } else {
+            Optional<Map<String, Header>> headers = getSuccessResponseHeaders(operation);
+            if (headers.isEmpty()) {
+                return Optional.empty();
+            }
+            cacheConfig = getCacheConfigFromHeaders(headers.get());
+        }
+        if (cacheConfig.isEmpty()) {
+            return Optional.of(getAnnotationNode(CACHE, null));
+        }
+        List<String> fields = new ArrayList<>();
+        cacheConfig.forEach((field, value) -> fields.add(field + ": " + value));
+        MappingConstructorExpressionNode annotValue = (MappingConstructorExpressionNode)
+                NodeParser.parseExpression("{" + String.join(", ", fields) + "}");
+        return Optional.of(getAnnotationNode(CACHE, annotValue));
+    }
+
+    /**
+     * Returns the headers of the successful response, when it declares any of the caching headers.
+     */
+    private Optional<Map<String, Header>> getSuccessResponseHeaders(Operation operation)
+            throws BallerinaOpenApiException {
+
+        if (operation.getResponses() == null) {
+            return Optional.empty();
+        }
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            if (!response.getKey().trim().startsWith("2")) {
+                continue;
+            }
+            ApiResponse apiResponse = response.getValue();
+            if (apiResponse.get$ref() != null && openAPI.getComponents() != null &&
+                    openAPI.getComponents().getResponses() != null) {
+                apiResponse = openAPI.getComponents().getResponses().get(
+                        GeneratorUtils.extractReferenceType(apiResponse.get$ref()));
+            }
+            if (apiResponse == null || apiResponse.getHeaders() == null) {
+                return Optional.empty();
+            }
+            Map<String, Header> headers = new LinkedHashMap<>();
+            for (Map.Entry<String, Header> header : apiResponse.getHeaders().entrySet()) {
+                String headerName = header.getKey().trim().toLowerCase(Locale.ENGLISH);
+                if (headerName.equals(CACHE_CONTROL) || headerName.equals(ETAG) ||
+                        headerName.equals(LAST_MODIFIED)) {
+                    headers.put(headerName, resolveHeader(header.getValue()));
+                }
+            }
+            return headers.isEmpty() ? Optional.empty() : Optional.of(headers);
+        }
+        return Optional.empty();
+    }
+
+    private Header resolveHeader(Header header) throws BallerinaOpenApiException {
+        if (header != null && header.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getHeaders() != null) {
+            Header resolvedHeader = openAPI.getComponents().getHeaders().get(
+                    GeneratorUtils.extractReferenceType(header.get$ref()));
+            return resolvedHeader != null ? resolvedHeader : header;
+        }
+        return header;
+    }
+
+    /**
+     * Map the caching headers to the cache configuration fields. The `Cache-Control` directives are mapped only when
+     * the header has a default value or an example. The `max-age` and `must-revalidate` directives are omitted unless
+     * the contract declares them, as the defaults of the annotation would add directives the contract does not have.
+     */
+    private static Map<String, String> getCacheConfigFromHeaders(Map<String, Header> headers) {
+
+        Map<String, String> cacheConfig = new LinkedHashMap<>();
+        // A negative max age omits the `max-age` directive
+        cacheConfig.put("maxAge", "-1");
+        cacheConfig.put("mustRevalidate", "false");
+        Optional<String> cacheControl = getHeaderValue(headers.get(CACHE_CONTROL));
+        if (cacheControl.isPresent()) {
+            Map<String, String> directives = new LinkedHashMap<>();
+            // Directive values may be quoted lists, ex: private="Set-Cookie, Authorization"
+            for (String directive : cacheControl.get().split(",(?=(?:[^\"]*\"[^\"]*\")*[^\"]*$)")) {
+                String[] parts = directive.trim().split("=", 2);
+                directives.put(parts[0].trim().toLowerCase(Locale.ENGLISH), parts.length > 1 ? parts[1].trim() : "");
+            }
+            getNumber(directives.get("max-age")).ifPresent(maxAge -> cacheConfig.put("maxAge", maxAge));
+            getNumber(directives.get("s-maxage")).ifPresent(sMaxAge -> cacheConfig.put("sMaxAge", sMaxAge));
+            cacheConfig.put("mustRevalidate", String.valueOf(directives.containsKey("must-revalidate")));
+            putDirective(cacheConfig, directives, "no-cache", "noCache", "noCacheFields");
+            if (directives.containsKey("no-store")) {
+                cacheConfig.put("noStore", "true");
+            }
+            if (directives.containsKey("no-transform")) {
+                cacheConfig.put("noTransform", "true");
+            }
+            putDirective(cacheConfig, directives, "private", "isPrivate", "privateFields");
+            if (directives.containsKey("proxy-revalidate")) {
+                cacheConfig.put("proxyRevalidate", "true");
+            }
+        }
+        cacheConfig.put("setETag", String.valueOf(headers.containsKey(ETAG)));
+        cacheConfig.put("setLastModified", String.valueOf(headers.containsKey(LAST_MODIFIED)));
+        return cacheConfig;
+    }
+
+    private static void putDirective(Map<String, String> cacheConfig, Map<String, String> directives,
+                                     String directive, String flagField, String listField) {
+
+        if (!directives.containsKey(directive)) {
+            return;
+        }
+        cacheConfig.put(flagField, "true");
+        String value = directives.get(directive).replace("\"", "").trim();
+        if (!value.isEmpty()) {
+            List<String> fieldNames = new ArrayList<>();
+            for (String fieldName : value.split(",")) {
+                fieldNames.add("\"" + fieldName.trim() + "\"");
+            }
+            cacheConfig.put(listField, "[" + String.join(", ", fieldNames) + "]");
+        }
+    }
+
+    private static Optional<String> getHeaderValue(Header header) {
+        if (header == null) {
+            return Optional.empty();
+        }
+        Object value = null;
+        if (header.getSchema() != null) {
+            value = header.getSchema().getDefault() != null ? header.getSchema().getDefault() :
+                    header.getSchema().getExample();
+        }
+        if (value == null) {
+            value = header.getExample();
+        }
+        return value == null || value.toString().isBlank() ? Optional.empty() : Optional.of(value.toString());
+    }
+
+    private static Optional<String> getNumber(String value) {
+        if (value == null || !value.matches("\\d+")) {
+            return Optional.empty();
+        }
+        return Optional.of(value);
+    }
+
+    /**
+     * Map the `x-cache` extension, which has the fields of the `@http:Cache` annotation, to the cache configuration.
+     */
+    private static Map<String, String> getCacheConfigFromExtension(Object extension) throws BallerinaOpenApiException {
+
+        Map<String, String> cacheConfig = new LinkedHashMap<>();
+        if (Boolean.TRUE.equals(extension)) {
+            return cacheConfig;
+        }
+        if (!(extension instanceof Map)) {
+            throw new BallerinaOpenApiException("The `" + X_CACHE + "` extension must be a boolean or a mapping of " +
+                    "the `@http:Cache` annotation fields.");
+        }
+        for (Map.Entry<?, ?> entry : ((Map<?, ?>) extension).entrySet()) {
+            String field = String.valueOf(entry.getKey()).trim();
+            Object value = entry.getValue();
+            if (!CACHE_CONFIG_FIELDS.contains(field)) {
+                throw new BallerinaOpenApiException("Unsupported field `" + field + "` in the `" + X_CACHE +
+                        "` extension.");
+            }
+            if (value instanceof List) {
+                List<String> fieldNames = new ArrayList<>();
+                for (Object fieldName : (List<?>) value) {
+                    fieldNames.add("\"" + fieldName.toString().trim() + "\"");
+                }
+                cacheConfig.put(field, "[" + String.join(", ", fieldNames) + "]");
+            } else if (value instanceof Boolean || value instanceof Integer || value instanceof Long) {
+                cacheConfig.put(field, value.toString());
+            } else {
+                throw new BallerinaOpenApiException("Invalid value for `" + field + "` in the `" + X_CACHE +
+                        "` extension.");
+            }
+        }
+        // Fields are generated in the order of the annotation, regardless of the order of the extension
+        Map<String, String> orderedCacheConfig = new LinkedHashMap<>();
+        for (String field : CACHE_CONFIG_FIELDS) {
+            if (cacheConfig.containsKey(field)) {
+                orderedCacheConfig.put(field, cacheConfig.get(field));
+            }
+        }
+        return orderedCacheConfig;
+    }
+}
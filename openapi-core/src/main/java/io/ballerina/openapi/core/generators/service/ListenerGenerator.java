@@ -26,8 +26,11 @@ import io.ballerina.compiler.syntax.tree.ImplicitNewExpressionNode;
 import io.ballerina.compiler.syntax.tree.ListenerDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MappingFieldNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
 import io.ballerina.compiler.syntax.tree.NamedArgumentNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.ParenthesizedArgList;
 import io.ballerina.compiler.syntax.tree.PositionalArgumentNode;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
@@ -38,11 +41,13 @@ import io.ballerina.compiler.syntax.tree.Token;
 import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.ListenerTuning;
 import io.swagger.v3.oas.models.servers.Server;
 import io.swagger.v3.oas.models.servers.ServerVariables;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -53,9 +58,25 @@ import java.util.List;
 public class ListenerGenerator {
     private static final int HTTP_PORT = 80;
     private static final int HTTPS_PORT = 443;
+    private static final String LISTENER_HTTP_VERSION = "listenerHttpVersion";
+    private static final String LISTENER_TIMEOUT = "listenerTimeout";
+    private static final String LISTENER_REQUEST_LIMITS = "listenerRequestLimits";
+    private static final String LISTENER_HTTP1_SETTINGS = "listenerHttp1Settings";
     private String basePath = "/";
+    private final ListenerTuning listenerTuning;
 
     public ListenerGenerator() {
+        this(new ListenerTuning());
+    }
+
+    /**
+     * Create the listener generator with the given tuning values. The tuning values are generated as configurable
+     * variables, which are referred in the listener configuration, hence they can be overridden at deployment.
+     *
+     * @param listenerTuning tuning values of the listener
+     */
+    public ListenerGenerator(ListenerTuning listenerTuning) {
+        this.listenerTuning = listenerTuning;
     }
 
     public String getBasePath() {
@@ -97,10 +118,83 @@ public class ListenerGenerator {
             host = "localhost";
             port = 9090;
         }
-        return getListenerDeclarationNode(port, host, "ep0");
+        return getListenerDeclarationNode(port, host, "ep0", getTuningFields());
+    }
+
+    /**
+     * Generate the configurable variables of the tuning values of the listener.
+     * <pre>
+     *     configurable decimal listenerTimeout = 30;
+     *     configurable http:ListenerHttp1Settings listenerHttp1Settings = {keepAlive: http:KEEPALIVE_AUTO};
+     * </pre>
+     *
+     * @return list of {@link ModuleMemberDeclarationNode} of the configurable variables
+     */
+    public List<ModuleMemberDeclarationNode> getConfigurableDeclarationNodes() {
+
+        List<ModuleMemberDeclarationNode> configurables = new ArrayList<>();
+        listenerTuning.getHttpVersion().ifPresent(httpVersion -> configurables.add(
+                NodeParser.parseModuleMemberDeclaration("# HTTP version supported by the listener\n" +
+                        "configurable http:HttpVersion " + LISTENER_HTTP_VERSION + " = " +
+                        GeneratorConstants.HTTP_VERSION_MAP.get(httpVersion) + ";")));
+        listenerTuning.getTimeout().ifPresent(timeout -> configurables.add(
+                NodeParser.parseModuleMemberDeclaration("# Period of time in seconds that a connection waits " +
+                        "for a read/write operation\n" +
+                        "configurable decimal " + LISTENER_TIMEOUT + " = " + timeout.toPlainString() + ";")));
+        if (!listenerTuning.getRequestLimits().isEmpty()) {
+            List<String> limits = new ArrayList<>();
+            listenerTuning.getRequestLimits().forEach((field, value) -> limits.add(field + ": " + value));
+            configurables.add(NodeParser.parseModuleMemberDeclaration("# Inbound request size limits\n" +
+                    "configurable http:RequestLimitConfigs " + LISTENER_REQUEST_LIMITS + " = {" +
+                    String.join(", ", limits) + "};"));
+        }
+        if (listenerTuning.hasHttp1Settings()) {
+            List<String> settings = new ArrayList<>();
+            listenerTuning.getKeepAlive().ifPresent(keepAlive ->
+                    settings.add(ListenerTuning.KEEP_ALIVE + ": http:KEEPALIVE_" + keepAlive));
+            listenerTuning.getMaxPipelinedRequests().ifPresent(maxPipelinedRequests ->
+                    settings.add(ListenerTuning.MAX_PIPELINED_REQUESTS + ": " + maxPipelinedRequests));
+            configurables.add(NodeParser.parseModuleMemberDeclaration("# HTTP/1.x settings of the listener\n" +
+                    "configurable http:ListenerHttp1Settings " + LISTENER_HTTP1_SETTINGS + " = {" +
+                    String.join(", ", settings) + "};"));
+        }
+        return configurables;
+    }
+
+    /**
+     * Generate the listener configuration fields of the tuning values, which refer the configurable variables.
+     */
+    private List<MappingFieldNode> getTuningFields() {
+
+        List<MappingFieldNode> fields = new ArrayList<>();
+        if (listenerTuning.getHttpVersion().isPresent()) {
+            fields.add(getReferenceField(ListenerTuning.HTTP_VERSION, LISTENER_HTTP_VERSION));
+        }
+        if (listenerTuning.getTimeout().isPresent()) {
+            fields.add(getReferenceField(ListenerTuning.TIMEOUT, LISTENER_TIMEOUT));
+        }
+        if (!listenerTuning.getRequestLimits().isEmpty()) {
+            fields.add(getReferenceField(ListenerTuning.REQUEST_LIMITS, LISTENER_REQUEST_LIMITS));
+        }
+        if (listenerTuning.hasHttp1Settings()) {
+            fields.add(getReferenceField(ListenerTuning.HTTP1_SETTINGS, LISTENER_HTTP1_SETTINGS));
+        }
+        return fields;
+    }
+
+    private static MappingFieldNode getReferenceField(String fieldName, String variableName) {
+        return NodeFactory.createSpecificFieldNode(null, AbstractNodeFactory.createIdentifierToken(fieldName),
+                AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN),
+                NodeFactory.createSimpleNameReferenceNode(AbstractNodeFactory.createIdentifierToken(variableName,
+                        GeneratorUtils.SINGLE_WS_MINUTIAE, AbstractNodeFactory.createEmptyMinutiaeList())));
     }
 
     public static ListenerDeclarationNode getListenerDeclarationNode(Integer port, String host, String ep) {
+        return getListenerDeclarationNode(port, host, ep, new ArrayList<>());
+    }
+
+    private static ListenerDeclarationNode getListenerDeclarationNode(Integer port, String host, String ep,
+                                                                      List<MappingFieldNode> tuningFields) {
         // Take first server to Map
         Token listenerKeyword = AbstractNodeFactory.createIdentifierToken("listener", GeneratorUtils.SINGLE_WS_MINUTIAE,
                 GeneratorUtils.SINGLE_WS_MINUTIAE);
@@ -133,7 +227,13 @@ public class ListenerGenerator {
                 literalHostToken);
         MappingFieldNode hostNode = NodeFactory.createSpecificFieldNode(null, fieldName,
                 AbstractNodeFactory.createToken(SyntaxKind.COLON_TOKEN), valueExpr);
-        SeparatedNodeList<MappingFieldNode> fields = NodeFactory.createSeparatedNodeList(hostNode);
+        List<Node> fieldNodes = new ArrayList<>();
+        fieldNodes.add(hostNode);
+        for (MappingFieldNode tuningField : tuningFields) {
+            fieldNodes.add(AbstractNodeFactory.createToken(SyntaxKind.COMMA_TOKEN));
+            fieldNodes.add(tuningField);
+        }
+        SeparatedNodeList<MappingFieldNode> fields = NodeFactory.createSeparatedNodeList(fieldNodes);
 
         MappingConstructorExpressionNode hostExpression = NodeFactory.createMappingConstructorExpressionNode(
                 AbstractNodeFactory.createToken(SyntaxKind.OPEN_BRACE_TOKEN),
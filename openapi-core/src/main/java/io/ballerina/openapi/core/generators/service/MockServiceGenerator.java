@@ -0,0 +1,236 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.generators.schema.MockValueGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.responses.ApiResponse;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getPathParamCount;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getRequestMatchCondition;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getStringLiteral;
+
+/**
+ * This class generates a mock service, which answers every operation of the contract with the example of the response
+ * or a payload synthesized from the schema of the response. The mock service is the offline upstream of the load tests
+ * of the generated clients, and injects the latency configured with the `mockLatency` and the `mockLatencyJitter`
+ * configurables into every response.
+ * <pre>
+ *     service /v1 on mockEp {
+ *         isolated resource function 'default [string... path](http:Request req) returns http:Response {
+ *             decimal latency = mockLatency + mockLatencyJitter * &lt;decimal&gt;random:createDecimal();
+ *             if latency > 0d {
+ *                 runtime:sleep(latency);
+ *             }
+ *             if req.method == "GET" && path.length() == 1 && path[0] == "pets" {
+ *                 return getMockResponse(200, "application/json", "[{\"id\":1,\"name\":\"mock\"}]");
+ *             }
+ *             return getMockResponse(404, (), ());
+ *         }
+ *     }
+ * </pre>
+ *
+ * @since 1.8.0
+ */
+public class MockServiceGenerator {
+
+    public static final String MOCK_PORT = "mockPort";
+    private static final int DEFAULT_STATUS_CODE = 200;
+
+    private final OpenAPI openAPI;
+    private final Filter filter;
+    private final MockValueGenerator mockValueGenerator;
+    private String basePath = GeneratorConstants.OAS_PATH_SEPARATOR;
+
+    public MockServiceGenerator(OpenAPI openAPI, Filter filter) {
+        this.openAPI = openAPI;
+        this.filter = filter;
+        this.mockValueGenerator = new MockValueGenerator(openAPI);
+    }
+
+    /**
+     * Returns the base path of the mock service, which is the path of the first server of the contract.
+     */
+    public String getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * Generate the syntax tree of the mock service.
+     *
+     * @return {@link SyntaxTree} of the mock service file
+     * @throws BallerinaOpenApiException when the mock payload of a response cannot be generated
+     */
+    public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
+
+        if (openAPI.getServers() != null && !openAPI.getServers().isEmpty()) {
+            ListenerGenerator listenerGenerator = new ListenerGenerator();
+            listenerGenerator.getListenerDeclarationNodes(openAPI.getServers());
+            basePath = listenerGenerator.getBasePath();
+        }
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration("# Port of the mock service\n" +
+                "configurable int " + MOCK_PORT + " = 9090;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Latency in seconds, which is injected into every " +
+                "response of the mock service\n" +
+                "configurable decimal mockLatency = 0;"));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Maximum random latency in seconds, which is added to " +
+                "the latency of every response\n" +
+                "configurable decimal mockLatencyJitter = 0;"));
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                "listener http:Listener mockEp = new (" + MOCK_PORT + ");"));
+        members.add(NodeParser.parseModuleMemberDeclaration(getMockService()));
+        members.add(NodeParser.parseModuleMemberDeclaration("# Creates a response of the mock service\n" +
+                "isolated function getMockResponse(int statusCode, string? contentType, string? payload) " +
+                "returns http:Response {" +
+                "http:Response response = new;" +
+                "response.statusCode = statusCode;" +
+                "if payload is string {" +
+                "response.setTextPayload(payload, contentType ?: \"text/plain\");" +
+                "}" +
+                "return response;" +
+                "}"));
+
+        List<ImportDeclarationNode> imports = new ArrayList<>();
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.HTTP));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                GeneratorConstants.LANG_RUNTIME));
+        imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA,
+                GeneratorConstants.RANDOM));
+        Token eofToken = createIdentifierToken("");
+        ModulePartNode modulePartNode = createModulePartNode(createNodeList(imports), createNodeList(members),
+                eofToken);
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    private String getMockService() throws BallerinaOpenApiException {
+
+        List<Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>>> operations = new ArrayList<>();
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    if (ServiceGenerationUtils.isSelectedOperation(operation.getValue(), filter)) {
+                        operations.add(Map.entry(path.getKey(), operation));
+                    }
+                }
+            }
+        }
+        // The operations with more static path segments are matched first, as the generated services do
+        operations.sort(Comparator.comparingInt(operation -> getPathParamCount(operation.getKey())));
+
+        StringBuilder dispatch = new StringBuilder();
+        for (Map.Entry<String, Map.Entry<PathItem.HttpMethod, Operation>> operation : operations) {
+            dispatch.append("if ").append(getRequestMatchCondition(operation.getValue().getKey(), operation.getKey()))
+                    .append(" {")
+                    .append("return ").append(getMockResponse(operation.getValue().getValue())).append(";")
+                    .append("}");
+        }
+        StringBuilder servicePath = new StringBuilder();
+        for (String segment : ServiceGenerationUtils.getPathSegments(basePath)) {
+            servicePath.append(GeneratorConstants.OAS_PATH_SEPARATOR).append(GeneratorUtils.escapeIdentifier(segment));
+        }
+        return "service " + (servicePath.length() == 0 ? GeneratorConstants.OAS_PATH_SEPARATOR : servicePath) +
+                " on mockEp {" +
+                "isolated resource function 'default [string... path](http:Request req) returns http:Response {" +
+                "decimal latency = mockLatency + mockLatencyJitter * <decimal>random:createDecimal();" +
+                "if latency > 0d {" +
+                "runtime:sleep(latency);" +
+                "}" +
+                dispatch +
+                "return getMockResponse(404, (), ());" +
+                "}" +
+                "}";
+    }
+
+    /**
+     * Returns the invocation of `getMockResponse` for the successful response of the given operation, which is the
+     * first `2XX` response, or else the default response.
+     */
+    private String getMockResponse(Operation operation) throws BallerinaOpenApiException {
+
+        if (operation.getResponses() == null || operation.getResponses().isEmpty()) {
+            return "getMockResponse(" + DEFAULT_STATUS_CODE + ", (), ())";
+        }
+        Map.Entry<String, ApiResponse> selected = null;
+        for (Map.Entry<String, ApiResponse> response : operation.getResponses().entrySet()) {
+            String code = response.getKey().trim().toUpperCase(Locale.ENGLISH);
+            if (code.startsWith("2")) {
+                selected = response;
+                break;
+            } else if (selected == null && code.equals("DEFAULT")) {
+                selected = response;
+            }
+        }
+        if (selected == null) {
+            selected = operation.getResponses().entrySet().iterator().next();
+        }
+        String code = selected.getKey().trim();
+        int statusCode = code.matches("\\d{3}") ? Integer.parseInt(code) : DEFAULT_STATUS_CODE;
+
+        ApiResponse response = selected.getValue();
+        if (response.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getResponses() != null) {
+            response = openAPI.getComponents().getResponses().get(
+                    GeneratorUtils.extractReferenceType(response.get$ref()));
+        }
+        if (response == null || response.getContent() == null || response.getContent().isEmpty()) {
+            return "getMockResponse(" + statusCode + ", (), ())";
+        }
+        Map.Entry<String, MediaType> mediaType = response.getContent().entrySet().iterator().next();
+        String contentType = mediaType.getKey().trim();
+        Object value = mediaType.getValue() == null ? null : mockValueGenerator.getMockValue(mediaType.getValue());
+        String payload;
+        if (value == null) {
+            return "getMockResponse(" + statusCode + ", " + getStringLiteral(contentType) + ", ())";
+        } else if (value instanceof String && !contentType.toLowerCase(Locale.ENGLISH).contains("json")) {
+            payload = (String) value;
+        } else {
+            payload = MockValueGenerator.toJsonString(value);
+        }
+        return "getMockResponse(" + statusCode + ", " + getStringLiteral(contentType) + ", " +
+                getStringLiteral(payload) + ")";
+    }
+}
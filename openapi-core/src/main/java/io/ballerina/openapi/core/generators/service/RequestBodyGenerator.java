@@ -32,6 +32,7 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
 import io.swagger.v3.oas.models.parameters.RequestBody;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
@@ -63,9 +64,29 @@ import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtil
  */
 public class RequestBodyGenerator {
     private final RequestBody requestBody;
+    private final boolean streamingPayload;
 
     public RequestBodyGenerator(RequestBody requestBody) {
+        this(requestBody, false);
+    }
+
+    /**
+     * Create the request body generator. When streaming payloads are enabled, binary request bodies are taken as
+     * `http:Request`, hence the resource can read them as a byte stream instead of binding the whole payload.
+     *
+     * @param requestBody       OAS request body
+     * @param streamingPayloads whether the binary request bodies need to be streamed
+     */
+    public RequestBodyGenerator(RequestBody requestBody, boolean streamingPayloads) {
         this.requestBody = requestBody;
+        this.streamingPayload = streamingPayloads && isBinaryRequestBody(requestBody);
+    }
+
+    /**
+     * Returns whether the request body is taken as `http:Request` to be read as a byte stream.
+     */
+    public boolean isStreamingPayload() {
+        return streamingPayload;
     }
 
     /**
@@ -74,6 +95,10 @@ public class RequestBodyGenerator {
     public RequiredParameterNode createNodeForRequestBody() throws BallerinaOpenApiException {
         // type CustomRecord record {| anydata...; |};
         // public type PayloadType string|json|xml|byte[]|CustomRecord|CustomRecord[] ;
+        if (streamingPayload) {
+            return createRequiredParameterNode(createEmptyNodeList(),
+                    createSimpleNameReferenceNode(createIdentifierToken(HTTP_REQUEST)), createIdentifierToken(REQUEST));
+        }
         Optional<TypeDescriptorNode> typeName;
         // Filter same data type
         HashSet<String> types = new HashSet<>();
@@ -162,4 +187,28 @@ public class RequestBodyGenerator {
         }
         return typeName;
     }
+
+    /**
+     * Checks whether all the media types of the request body carry binary content, which is either an
+     * `application/octet-stream` body or a body with a `format: binary` string schema.
+     */
+    private static boolean isBinaryRequestBody(RequestBody requestBody) {
+
+        if (requestBody.getContent() == null || requestBody.getContent().isEmpty()) {
+            return false;
+        }
+        for (Map.Entry<String, MediaType> mediaType : requestBody.getContent().entrySet()) {
+            String mediaTypeContent = selectMediaType(mediaType.getKey().trim());
+            if (mediaTypeContent.equals(GeneratorConstants.APPLICATION_OCTET_STREAM)) {
+                continue;
+            }
+            Schema<?> schema = mediaType.getValue() != null ? mediaType.getValue().getSchema() : null;
+            boolean isBinarySchema = schema != null && GeneratorConstants.BINARY.equals(schema.getFormat());
+            if (!isBinarySchema || mediaTypeContent.startsWith("multipart/") ||
+                    mediaTypeContent.equals(GeneratorConstants.APPLICATION_URL_ENCODE)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
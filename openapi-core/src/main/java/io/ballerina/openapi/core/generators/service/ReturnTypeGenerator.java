@@ -53,17 +53,20 @@ import io.swagger.v3.oas.models.responses.ApiResponses;
 import org.apache.commons.lang3.tuple.ImmutablePair;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createEmptyNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createSeparatedNodeList;
 import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createToken;
 import static io.ballerina.compiler.syntax.tree.NodeFactory.createBuiltinSimpleNameReferenceNode;
@@ -99,24 +102,32 @@ public class ReturnTypeGenerator {
 
     private final BallerinaTypesGenerator ballerinaSchemaGenerator;
     private final String pathRecord;
-    private static int countForRecord = 0;
+    private int countForRecord = 0;
     private String httpMethod;
     private OpenAPI openAPI;
 
-    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new HashMap<>();
+    private static final Pattern IDENTIFIER_UNION = Pattern.compile(
+            "[A-Za-z_][A-Za-z0-9_]*(\\|[A-Za-z_][A-Za-z0-9_]*)*");
+    private static final Pattern TYPE_TOKEN = Pattern.compile("[A-Za-z0-9_]+|\\[]|\\S");
+    private static final Map<String, String> TYPE_TOKEN_NAMES = Map.of("[]", "Array", "?", "Optional",
+            PIPE, "Or", "<", "Of");
+    private static final Set<String> BUILTIN_TYPE_NAMES = Set.of("Anydata", "Boolean", "Byte", "Decimal", "Float",
+            "Int", "Json", "String", "Xml");
+
+    private final Map<String, TypeDefinitionNode> typeInclusionRecords = new LinkedHashMap<>();
 
     public Map<String, TypeDefinitionNode> getTypeInclusionRecords() {
         return this.typeInclusionRecords;
     }
 
-    public static void setCount(int count) {
-        ReturnTypeGenerator.countForRecord = count;
-    }
-
-    public void setCountForRecord(int count) {
-        setCount(count);
-    }
-
+    /**
+     * Creates the return type generator of a resource function.
+     *
+     * @param ballerinaSchemaGenerator types generator
+     * @param pathRecord               prefix of the names of the inline response records, which is derived from the
+     *                                 path and the method of the operation
+     * @param openAPI                  OpenAPI definition
+     */
     public ReturnTypeGenerator(BallerinaTypesGenerator ballerinaSchemaGenerator, String pathRecord, OpenAPI openAPI) {
         this.ballerinaSchemaGenerator = ballerinaSchemaGenerator;
         this.pathRecord = pathRecord;
@@ -198,8 +209,17 @@ public class ReturnTypeGenerator {
         if (GeneratorUtils.isComplexURL(path)) {
             assert returnNode != null;
             String returnStatement = returnNode.toString().trim().replace(RETURNS, "") + "|error";
-            return createReturnTypeDescriptorNode(createToken(SyntaxKind.RETURNS_KEYWORD), createEmptyNodeList(),
-                    createSimpleNameReferenceNode(createIdentifierToken(returnStatement)));
+            returnNode = createReturnTypeDescriptorNode(createToken(SyntaxKind.RETURNS_KEYWORD),
+                    createEmptyNodeList(), createSimpleNameReferenceNode(createIdentifierToken(returnStatement)));
+        }
+        // Responses of GET resources are cached as declared by the caching headers of the contract
+        if (operation.getKey() == PathItem.HttpMethod.GET && returnNode != null) {
+            Optional<AnnotationNode> cacheAnnotation = new CacheConfigGenerator(openAPI)
+                    .getCacheAnnotation(operation.getValue());
+            if (cacheAnnotation.isPresent()) {
+                returnNode = createReturnTypeDescriptorNode(returnNode.returnsKeyword(),
+                        createNodeList(cacheAnnotation.get()), returnNode.type());
+            }
         }
         return returnNode;
     }
@@ -260,7 +280,7 @@ public class ReturnTypeGenerator {
                     Optional<TypeDefinitionNode> rightNode = mediaTypeToken.right;
                     if (rightNode.isPresent()) {
                         typeInclusionRecords.put(recordName, rightNode.get());
-                        setCountForRecord(countForRecord++);
+                        countForRecord++;
                         type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     } else {
                         type = mediaTypeToken.left.orElseGet(
@@ -303,7 +323,7 @@ public class ReturnTypeGenerator {
 
                 if (rightNode.isPresent()) {
                     typeInclusionRecords.put(recordName, rightNode.get());
-                    setCountForRecord(countForRecord++);
+                    countForRecord++;
                     SimpleNameReferenceNode type = createSimpleNameReferenceNode(createIdentifierToken(recordName));
                     returnNode = createReturnTypeDescriptorNode(returnKeyWord, createEmptyNodeList(), type);
                 } else {
@@ -397,7 +417,7 @@ public class ReturnTypeGenerator {
                 qualifiedNodes.add(httpResponse.name().text());
             } else if (rightNode.isPresent()) {
                 typeInclusionRecords.put(recordName, rightNode.get());
-                setCountForRecord(countForRecord++);
+                countForRecord++;
                 qualifiedNodes.add(createSimpleNameReferenceNode(createIdentifierToken(recordName)).toSourceCode());
             } else {
                 TypeDescriptorNode typeDescriptorNode = leftNode.get();
@@ -424,7 +444,9 @@ public class ReturnTypeGenerator {
      */
     private SimpleNameReferenceNode createReturnTypeInclusionRecord(String statusCode, TypeDescriptorNode type) {
 
-        String recordName = statusCode + GeneratorUtils.getValidName(type.toString(), true);
+        String bodyType = type.toSourceCode().replaceAll("\\s+", "");
+        // The name clashes with the records of the other operations are resolved when the records are merged
+        String recordName = getStatusCodeRecordName(statusCode, bodyType);
         Token recordKeyWord = createToken(RECORD_KEYWORD);
         Token bodyStartDelimiter = createIdentifierToken("{|");
         // Create record fields
@@ -468,4 +490,59 @@ public class ReturnTypeGenerator {
 
         return createSimpleNameReferenceNode(createIdentifierToken(recordName));
     }
+
+    /**
+     * Returns the name of the status code record of the given body type. The name is derived from the structure of
+     * the record alone, hence the identical records of different operations share a single type, and the names do not
+     * depend on the order of generation.
+     * <pre>
+     *     NotFound + Error     -> NotFoundError
+     *     Ok + User|xml        -> OkUserXml, or OkUserOrXml if `UserXml` is a type of the definition
+     *     Ok + Pet[]           -> OkPetArray, or OkPetArrayBody if `PetArray` is a type of the definition
+     * </pre>
+     * A name derived from a composite body type never equals the name of a type of the definition, so that it does
+     * not clash with the record of a response whose body is that type.
+     */
+    private String getStatusCodeRecordName(String statusCode, String bodyType) {
+
+        if (IDENTIFIER_UNION.matcher(bodyType).matches()) {
+            String name = GeneratorUtils.getValidName(bodyType, true);
+            if (!bodyType.contains(PIPE) || !isTypeName(name)) {
+                return statusCode + name;
+            }
+        }
+        StringBuilder name = new StringBuilder();
+        Matcher matcher = TYPE_TOKEN.matcher(bodyType);
+        while (matcher.find()) {
+            String token = matcher.group();
+            if (TYPE_TOKEN_NAMES.containsKey(token)) {
+                name.append(TYPE_TOKEN_NAMES.get(token));
+            } else if (Character.isLetterOrDigit(token.charAt(0)) || token.charAt(0) == '_') {
+                name.append(token.substring(0, 1).toUpperCase(Locale.ENGLISH)).append(token.substring(1));
+            }
+        }
+        while (isTypeName(name.toString())) {
+            name.append("Body");
+        }
+        return statusCode + name;
+    }
+
+    /**
+     * Checks whether the given name is the name of a built-in type or a schema of the definition.
+     */
+    private boolean isTypeName(String name) {
+
+        if (BUILTIN_TYPE_NAMES.contains(name)) {
+            return true;
+        }
+        if (openAPI.getComponents() == null || openAPI.getComponents().getSchemas() == null) {
+            return false;
+        }
+        for (String schemaName : openAPI.getComponents().getSchemas().keySet()) {
+            if (GeneratorUtils.getValidName(schemaName, true).equals(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
@@ -21,12 +21,15 @@ import io.ballerina.compiler.syntax.tree.AbstractNodeFactory;
 import io.ballerina.compiler.syntax.tree.AnnotationNode;
 import io.ballerina.compiler.syntax.tree.ArrayDimensionNode;
 import io.ballerina.compiler.syntax.tree.BasicLiteralNode;
+import io.ballerina.compiler.syntax.tree.ClassDefinitionNode;
 import io.ballerina.compiler.syntax.tree.IdentifierToken;
 import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
 import io.ballerina.compiler.syntax.tree.MappingConstructorExpressionNode;
 import io.ballerina.compiler.syntax.tree.MetadataNode;
+import io.ballerina.compiler.syntax.tree.Node;
 import io.ballerina.compiler.syntax.tree.NodeFactory;
 import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
 import io.ballerina.compiler.syntax.tree.QualifiedNameReferenceNode;
 import io.ballerina.compiler.syntax.tree.RecordTypeDescriptorNode;
 import io.ballerina.compiler.syntax.tree.SimpleNameReferenceNode;
@@ -40,6 +43,9 @@ import io.ballerina.openapi.core.GeneratorConstants;
 import io.ballerina.openapi.core.GeneratorUtils;
 import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
 import io.ballerina.openapi.core.generators.schema.ballerinatypegenerators.RecordTypeGenerator;
+import io.ballerina.openapi.core.model.Filter;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
 import io.swagger.v3.oas.models.media.MediaType;
 import io.swagger.v3.oas.models.media.Schema;
 import org.apache.commons.lang3.tuple.ImmutablePair;
@@ -312,14 +318,118 @@ public class ServiceGenerationUtils {
         return metadataNode;
     }
 
+    /**
+     * This util function checks whether the given operation is selected by the tag and operation filters.
+     */
+    public static boolean isSelectedOperation(Operation operation, Filter filter) {
+        List<String> filterTags = filter.getTags();
+        List<String> filterOperations = filter.getOperations();
+        if (filterTags.isEmpty() && filterOperations.isEmpty()) {
+            return true;
+        }
+        return (operation.getTags() != null && GeneratorUtils.hasTags(operation.getTags(), filterTags)) ||
+                (operation.getOperationId() != null && filterOperations.contains(operation.getOperationId().trim()));
+    }
+
+    /**
+     * This util function returns the number of path parameters of the given path, which decides the dispatching
+     * order of the interceptors, as the resources with static segments take precedence.
+     */
+    public static int getPathParamCount(String path) {
+        int count = 0;
+        for (String segment : getPathSegments(path)) {
+            if (segment.contains("{")) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * This util function returns the segments of the given path.
+     */
+    public static String[] getPathSegments(String path) {
+        String trimmedPath = path.replaceAll("^/+|/+$", "");
+        return trimmedPath.isEmpty() ? new String[0] : trimmedPath.split("/");
+    }
+
+    /**
+     * This util function generates the condition which matches the requests of the given operation in an interceptor
+     * with the `req` request and the `path` rest path segments.
+     * <pre>
+     *     req.method == "GET" && path.length() == 2 && path[0] == "pets"
+     * </pre>
+     */
+    public static String getRequestMatchCondition(PathItem.HttpMethod method, String path) {
+        String[] segments = getPathSegments(path);
+        StringBuilder condition = new StringBuilder("req.method == " + getStringLiteral(method.name()) +
+                " && path.length() == " + segments.length);
+        for (int i = 0; i < segments.length; i++) {
+            if (!segments[i].contains("{")) {
+                condition.append(" && path[").append(i).append("] == ").append(getStringLiteral(segments[i]));
+            }
+        }
+        return condition.toString();
+    }
+
+    /**
+     * This util function returns the given value as a Ballerina string literal.
+     */
+    public static String getStringLiteral(String value) {
+        return "\"" + value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n")
+                .replace("\r", "\\r").replace("\t", "\\t") + "\"";
+    }
+
+    /**
+     * This util function generates the `createInterceptors` method of an `http:InterceptableService`, which engages
+     * the metrics interceptors and the contract validation interceptors.
+     * <pre>
+     *     public function createInterceptors() returns http:Interceptor[] {
+     *         return enableContractValidation ?
+     *                 [new RequestValidationInterceptor(), new ResponseValidationInterceptor()] : [];
+     *     }
+     * </pre>
+     */
+    public static Node getCreateInterceptorsFunction(boolean contractValidation, boolean instrument) {
+        String metricsInterceptors = "new MetricsRequestInterceptor(), new MetricsResponseInterceptor()";
+        String validationInterceptors = "new RequestValidationInterceptor(), new ResponseValidationInterceptor()";
+        String interceptors;
+        if (contractValidation && instrument) {
+            interceptors = "enableContractValidation ? [" + metricsInterceptors + ", " + validationInterceptors +
+                    "] : [" + metricsInterceptors + "]";
+        } else if (contractValidation) {
+            interceptors = "enableContractValidation ? [" + validationInterceptors + "] : []";
+        } else {
+            interceptors = "[" + metricsInterceptors + "]";
+        }
+        ClassDefinitionNode classDefinitionNode = (ClassDefinitionNode) NodeParser.parseModuleMemberDeclaration(
+                "service class A {" +
+                        "public function createInterceptors() returns http:Interceptor[] {" +
+                        "return " + interceptors + ";" +
+                        "}" +
+                        "}");
+        return classDefinitionNode.members().get(0);
+    }
+
     /**
      * This util function is for generating the import node for http module.
      */
     public static NodeList<ImportDeclarationNode> createImportDeclarationNodes() {
+        return createImportDeclarationNodes(false);
+    }
+
+    /**
+     * This util function is for creating the imports of the service, where `ballerina/io` is imported when the
+     * resources read streaming payloads.
+     */
+    public static NodeList<ImportDeclarationNode> createImportDeclarationNodes(boolean isIoImportRequired) {
         List<ImportDeclarationNode> imports = new ArrayList<>();
         ImportDeclarationNode importForHttp = GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA
                 , GeneratorConstants.HTTP);
         imports.add(importForHttp);
+        if (isIoImportRequired) {
+            imports.add(GeneratorUtils.getImportDeclarationNode(GeneratorConstants.BALLERINA, GeneratorConstants.IO));
+        }
         return AbstractNodeFactory.createNodeList(imports);
     }
 }
@@ -0,0 +1,489 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.generators.service;
+
+import io.ballerina.compiler.syntax.tree.ImportDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModuleMemberDeclarationNode;
+import io.ballerina.compiler.syntax.tree.ModulePartNode;
+import io.ballerina.compiler.syntax.tree.NodeList;
+import io.ballerina.compiler.syntax.tree.NodeParser;
+import io.ballerina.compiler.syntax.tree.SyntaxTree;
+import io.ballerina.compiler.syntax.tree.Token;
+import io.ballerina.openapi.core.GeneratorConstants;
+import io.ballerina.openapi.core.GeneratorUtils;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.tools.text.TextDocument;
+import io.ballerina.tools.text.TextDocuments;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.MediaType;
+import io.swagger.v3.oas.models.media.Schema;
+import io.swagger.v3.oas.models.parameters.Parameter;
+import io.swagger.v3.oas.models.parameters.RequestBody;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createIdentifierToken;
+import static io.ballerina.compiler.syntax.tree.AbstractNodeFactory.createNodeList;
+import static io.ballerina.compiler.syntax.tree.NodeFactory.createModulePartNode;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.createImportDeclarationNodes;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getPathParamCount;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getPathSegments;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getRequestMatchCondition;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.getStringLiteral;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.isSelectedOperation;
+import static io.ballerina.openapi.core.generators.service.ServiceGenerationUtils.selectMediaType;
+
+/**
+ * This class generates the request and response interceptors which validate the traffic of the generated service
+ * against the contract. The checks of each operation are generated as a dedicated function, hence the contract is not
+ * interpreted at runtime.
+ * <pre>
+ *     service class RequestValidationInterceptor {
+ *         *http:RequestInterceptor;
+ *
+ *         resource function 'default [string... path](http:RequestContext ctx, http:Request req)
+ *                 returns http:NextService|http:BadRequest|error? {
+ *             string? violation = ();
+ *             if req.method == "GET" && path.length() == 2 && path[0] == "pets" {
+ *                 ctx.set(OPERATION_KEY, "GET /pets/{petId}");
+ *                 violation = validateShowPetById(path, req);
+ *             }
+ *             if violation is string {
+ *                 return <http:BadRequest>{body: violation};
+ *             }
+ *             return ctx.next();
+ *         }
+ *     }
+ * </pre>
+ * The interceptors are enabled with the `enableContractValidation` configurable, which can be turned off per
+ * environment.
+ *
+ * @since 1.8.0
+ */
+public class ValidationInterceptorGenerator {
+
+    private static final String ENABLE_VALIDATION = "enableContractValidation";
+    private static final String PATH = "path";
+    private static final String REQ = "req";
+
+    private final OpenAPI openAPI;
+    private final Filter filter;
+
+    public ValidationInterceptorGenerator(OpenAPI openAPI, Filter filter) {
+        this.openAPI = openAPI;
+        this.filter = filter;
+    }
+
+    /**
+     * Generate the syntax tree of the validation interceptors of the service.
+     *
+     * @return {@link SyntaxTree} of the validation file
+     * @throws BallerinaOpenApiException when a reference in the contract cannot be resolved
+     */
+    public SyntaxTree generateSyntaxTree() throws BallerinaOpenApiException {
+
+        List<OperationValidation> operations = getOperations();
+        List<ModuleMemberDeclarationNode> members = new ArrayList<>();
+        members.add(NodeParser.parseModuleMemberDeclaration("# Enables the validation of the requests and the " +
+                "responses of the service against the contract\n" +
+                "configurable boolean " + ENABLE_VALIDATION + " = true;"));
+        members.add(NodeParser.parseModuleMemberDeclaration(
+                "const string OPERATION_KEY = \"openapi.operation\";"));
+        members.add(NodeParser.parseModuleMemberDeclaration(getResponseStatusCodes(operations)));
+        members.add(NodeParser.parseModuleMemberDeclaration(getRequestInterceptor(operations)));
+        members.add(NodeParser.parseModuleMemberDeclaration(getResponseInterceptor()));
+        for (OperationValidation operation : operations) {
+            members.add(NodeParser.parseModuleMemberDeclaration(operation.getValidationFunction()));
+        }
+        members.add(NodeParser.parseModuleMemberDeclaration(getMediaTypeFunction()));
+
+        NodeList<ImportDeclarationNode> imports = createImportDeclarationNodes();
+        Token eofToken = createIdentifierToken("");
+        ModulePartNode modulePartNode = createModulePartNode(imports, createNodeList(members), eofToken);
+        TextDocument textDocument = TextDocuments.from("");
+        SyntaxTree syntaxTree = SyntaxTree.from(textDocument);
+        return syntaxTree.modifyWith(modulePartNode);
+    }
+
+    /**
+     * Collect the operations selected by the filter, where the operations with more static path segments are
+     * dispatched first, as the service does.
+     */
+    private List<OperationValidation> getOperations() throws BallerinaOpenApiException {
+
+        List<OperationValidation> operations = new ArrayList<>();
+        Set<String> functionNames = new HashSet<>();
+        if (openAPI.getPaths() == null) {
+            return operations;
+        }
+        for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+            for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                    path.getValue().readOperationsMap().entrySet()) {
+                if (!isSelectedOperation(operation.getValue(), filter)) {
+                    continue;
+                }
+                String name = operation.getValue().getOperationId() != null ?
+                        operation.getValue().getOperationId() :
+                        operation.getKey().name().toLowerCase(Locale.ENGLISH) + path.getKey();
+                String functionName = "validate" + GeneratorUtils.getValidName(name, true);
+                String uniqueName = functionName;
+                for (int i = 1; functionNames.contains(uniqueName); i++) {
+                    uniqueName = functionName + i;
+                }
+                functionNames.add(uniqueName);
+                operations.add(new OperationValidation(path.getKey(), operation.getKey(), operation.getValue(),
+                        path.getValue().getParameters(), uniqueName));
+            }
+        }
+        operations.sort(Comparator.comparingInt(operation -> getPathParamCount(operation.path)));
+        return operations;
+    }
+
+    private static String getResponseStatusCodes(List<OperationValidation> operations) {
+        List<String> entries = new ArrayList<>();
+        for (OperationValidation operation : operations) {
+            operation.getStatusCodes().ifPresent(codes -> entries.add(getStringLiteral(operation.getKey()) + ": [" +
+                    String.join(", ", codes) + "]"));
+        }
+        return "# Status codes declared for the operations which do not have a default or a range response\n" +
+                "final readonly & map<int[]> responseStatusCodes = {" + String.join(", ", entries) + "};";
+    }
+
+    private static String getRequestInterceptor(List<OperationValidation> operations) {
+        StringBuilder dispatch = new StringBuilder();
+        for (OperationValidation operation : operations) {
+            dispatch.append(dispatch.length() == 0 ? "if " : " else if ").append(operation.getMatchCondition())
+                    .append(" {")
+                    .append("ctx.set(OPERATION_KEY, ").append(getStringLiteral(operation.getKey())).append(");")
+                    .append("violation = ").append(operation.getFunctionName()).append("(" + PATH + ", " + REQ +
+                            ");")
+                    .append("}");
+        }
+        return "# Validates the requests against the contract before they are dispatched to the service\n" +
+                "service class RequestValidationInterceptor {" +
+                "*http:RequestInterceptor;" +
+                "resource function 'default [string... " + PATH + "](http:RequestContext ctx, http:Request " + REQ +
+                ") returns http:NextService|http:BadRequest|error? {" +
+                "string? violation = ();" +
+                dispatch +
+                "if violation is string {" +
+                "return <http:BadRequest>{body: violation};" +
+                "}" +
+                "return ctx.next();" +
+                "}" +
+                "}";
+    }
+
+    private static String getResponseInterceptor() {
+        return "# Validates the status codes of the responses against the contract\n" +
+                "service class ResponseValidationInterceptor {" +
+                "*http:ResponseInterceptor;" +
+                "remote function interceptResponse(http:RequestContext ctx, http:Response res) " +
+                "returns http:NextService|error? {" +
+                "if ctx.hasKey(OPERATION_KEY) {" +
+                "any operation = ctx.get(OPERATION_KEY);" +
+                "int[]? statusCodes = operation is string ? responseStatusCodes[operation] : ();" +
+                "if statusCodes is int[] && statusCodes.indexOf(res.statusCode) is () {" +
+                "return error(string `Status code ${res.statusCode} is not declared in the contract for " +
+                "${operation.toString()}`);" +
+                "}" +
+                "}" +
+                "return ctx.next();" +
+                "}" +
+                "}";
+    }
+
+    private static String getMediaTypeFunction() {
+        return "# Checks whether the given content type matches any of the declared media types\n" +
+                "isolated function isDeclaredMediaType(string contentType, string[] mediaTypes) returns boolean {" +
+                "int? index = contentType.indexOf(\";\");" +
+                "string baseType = (index is int ? contentType.substring(0, index) : contentType).trim()" +
+                ".toLowerAscii();" +
+                "foreach string mediaType in mediaTypes {" +
+                "if mediaType == \"*/*\" || mediaType == baseType || (mediaType.endsWith(\"/*\") && " +
+                "baseType.startsWith(mediaType.substring(0, mediaType.length() - 1))) {" +
+                "return true;" +
+                "}" +
+                "}" +
+                "return false;" +
+                "}";
+    }
+
+    /**
+     * Checks generated for a string value of the given schema.
+     */
+    private static String getValueChecks(String value, Schema<?> schema, String description) {
+
+        if (schema == null) {
+            return "";
+        }
+        StringBuilder checks = new StringBuilder();
+        String type = schema.getType();
+        if (GeneratorConstants.INTEGER.equals(type)) {
+            checks.append("if int:fromString(").append(value).append(") is error {")
+                    .append("return ").append(getStringLiteral(description + " must be an integer")).append(";}");
+        } else if (GeneratorConstants.NUMBER.equals(type)) {
+            checks.append("if float:fromString(").append(value).append(") is error {")
+                    .append("return ").append(getStringLiteral(description + " must be a number")).append(";}");
+        } else if (GeneratorConstants.BOOLEAN.equals(type)) {
+            checks.append("if ").append(value).append(" != \"true\" && ").append(value).append(" != \"false\" {")
+                    .append("return ").append(getStringLiteral(description + " must be a boolean")).append(";}");
+        }
+        if (schema.getEnum() != null && !schema.getEnum().isEmpty() && (type == null ||
+                GeneratorConstants.STRING.equals(type))) {
+            List<String> conditions = new ArrayList<>();
+            for (Object enumValue : schema.getEnum()) {
+                if (enumValue != null) {
+                    conditions.add(value + " != " + getStringLiteral(enumValue.toString()));
+                }
+            }
+            if (!conditions.isEmpty()) {
+                checks.append("if ").append(String.join(" && ", conditions)).append(" {")
+                        .append("return ").append(getStringLiteral(description +
+                                " must be one of the declared values")).append(";}");
+            }
+        }
+        return checks.toString();
+    }
+
+    /**
+     * Validation details of an operation of the contract.
+     */
+    private class OperationValidation {
+
+        private final String path;
+        private final PathItem.HttpMethod method;
+        private final Operation operation;
+        private final List<Parameter> pathParameters;
+        private final String functionName;
+        private final String[] segments;
+
+        OperationValidation(String path, PathItem.HttpMethod method, Operation operation,
+                            List<Parameter> pathParameters, String functionName) {
+            this.path = path;
+            this.method = method;
+            this.operation = operation;
+            this.pathParameters = pathParameters;
+            this.functionName = functionName;
+            this.segments = getPathSegments(path);
+        }
+
+        String getKey() {
+            return method.name() + " " + path;
+        }
+
+        String getFunctionName() {
+            return functionName;
+        }
+
+        String getMatchCondition() {
+            return getRequestMatchCondition(method, path);
+        }
+
+        /**
+         * Returns the declared status codes, unless the operation has a default response or a status code range.
+         */
+        Optional<List<String>> getStatusCodes() {
+            if (operation.getResponses() == null || operation.getResponses().isEmpty()) {
+                return Optional.empty();
+            }
+            List<String> codes = new ArrayList<>();
+            for (String code : operation.getResponses().keySet()) {
+                if (!code.trim().matches("\\d{3}")) {
+                    return Optional.empty();
+                }
+                codes.add(code.trim());
+            }
+            return Optional.of(codes);
+        }
+
+        String getValidationFunction() throws BallerinaOpenApiException {
+
+            StringBuilder body = new StringBuilder();
+            int index = 0;
+            for (Parameter parameter : getParameters()) {
+                Schema<?> schema = resolveSchema(parameter.getSchema());
+                boolean required = parameter.getRequired() != null && parameter.getRequired();
+                String name = parameter.getName();
+                switch (parameter.getIn()) {
+                    case "path":
+                        for (int i = 0; i < segments.length; i++) {
+                            if (segments[i].equals("{" + name + "}")) {
+                                body.append(getValueChecks(PATH + "[" + i + "]", schema,
+                                        "Path parameter `" + name + "`"));
+                            }
+                        }
+                        break;
+                    case "query":
+                        String query = "query" + index++;
+                        body.append("string? ").append(query).append(" = " + REQ + ".getQueryParamValue(")
+                                .append(getStringLiteral(name)).append(");");
+                        if (required) {
+                            body.append("if ").append(query).append(" is () {return ")
+                                    .append(getStringLiteral("Query parameter `" + name + "` is required"))
+                                    .append(";}");
+                        }
+                        String queryChecks = getValueChecks(query, schema, "Query parameter `" + name + "`");
+                        if (!queryChecks.isEmpty()) {
+                            body.append("if ").append(query).append(" is string {").append(queryChecks)
+                                    .append("}");
+                        }
+                        break;
+                    case "header":
+                        String header = "header" + index++;
+                        body.append("string|http:HeaderNotFoundError ").append(header)
+                                .append(" = " + REQ + ".getHeader(").append(getStringLiteral(name)).append(");");
+                        if (required) {
+                            body.append("if ").append(header).append(" is http:HeaderNotFoundError {return ")
+                                    .append(getStringLiteral("Header `" + name + "` is required")).append(";}");
+                        }
+                        String headerChecks = getValueChecks(header, schema, "Header `" + name + "`");
+                        if (!headerChecks.isEmpty()) {
+                            body.append("if ").append(header).append(" is string {").append(headerChecks)
+                                    .append("}");
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            body.append(getRequestBodyChecks());
+            return "# Validates the `" + getKey().replace("`", "") + "` requests\n" +
+                    "isolated function " + functionName + "(string[] " + PATH + ", http:Request " + REQ +
+                    ") returns string? {" + body + "return;" + "}";
+        }
+
+        /**
+         * Returns the parameters of the path merged with the ones of the operation, where an operation parameter
+         * overrides the path parameter of the same name and location.
+         */
+        private Collection<Parameter> getParameters() throws BallerinaOpenApiException {
+
+            Map<String, Parameter> parameters = new LinkedHashMap<>();
+            putParameters(parameters, pathParameters);
+            putParameters(parameters, operation.getParameters());
+            return parameters.values();
+        }
+
+        private void putParameters(Map<String, Parameter> parameters, List<Parameter> declaredParameters)
+                throws BallerinaOpenApiException {
+
+            if (declaredParameters == null) {
+                return;
+            }
+            for (Parameter parameter : declaredParameters) {
+                parameter = resolveParameter(parameter);
+                if (parameter != null && parameter.getName() != null && parameter.getIn() != null) {
+                    parameters.put(parameter.getIn() + " " + parameter.getName(), parameter);
+                }
+            }
+        }
+
+        private String getRequestBodyChecks() throws BallerinaOpenApiException {
+
+            RequestBody requestBody = operation.getRequestBody();
+            if (requestBody != null && requestBody.get$ref() != null && openAPI.getComponents() != null &&
+                    openAPI.getComponents().getRequestBodies() != null) {
+                requestBody = openAPI.getComponents().getRequestBodies().get(
+                        GeneratorUtils.extractReferenceType(requestBody.get$ref()));
+            }
+            if (requestBody == null || requestBody.getContent() == null || requestBody.getContent().isEmpty()) {
+                return "";
+            }
+            StringBuilder checks = new StringBuilder("string contentType = " + REQ + ".getContentType();");
+            if (requestBody.getRequired() != null && requestBody.getRequired()) {
+                checks.append("if contentType == \"\" {return \"Request body is required\";}");
+            }
+            List<String> mediaTypes = new ArrayList<>();
+            List<String> jsonMediaTypes = new ArrayList<>();
+            String jsonType = null;
+            for (Map.Entry<String, MediaType> mediaType : requestBody.getContent().entrySet()) {
+                String mediaTypeName = mediaType.getKey().trim().toLowerCase(Locale.ENGLISH);
+                mediaTypes.add(getStringLiteral(mediaTypeName));
+                if (selectMediaType(mediaTypeName).equals(GeneratorConstants.APPLICATION_JSON)) {
+                    jsonMediaTypes.add(getStringLiteral(mediaTypeName));
+                    if (jsonType == null && mediaType.getValue() != null) {
+                        jsonType = getReferenceType(mediaType.getValue().getSchema());
+                    }
+                }
+            }
+            checks.append("if contentType != \"\" && !isDeclaredMediaType(contentType, [")
+                    .append(String.join(", ", mediaTypes)).append("]) {return ")
+                    .append("string `Media type ${contentType} is not declared for the request body`;}");
+            if (jsonType != null) {
+                checks.append("if isDeclaredMediaType(contentType, [").append(String.join(", ", jsonMediaTypes))
+                        .append("]) {")
+                        .append("json|http:ClientError payload = " + REQ + ".getJsonPayload();")
+                        .append("if payload is http:ClientError {return \"Request body is not a valid JSON\";}")
+                        .append(jsonType).append("|error body = payload.cloneWithType();")
+                        .append("if body is error {return ")
+                        .append(getStringLiteral("Request body does not conform to the `" + jsonType + "` schema"))
+                        .append(";}")
+                        .append("}");
+            }
+            return checks.toString();
+        }
+    }
+
+    /**
+     * Returns the generated type of a referred component schema, or an array of it.
+     */
+    private static String getReferenceType(Schema<?> schema) throws BallerinaOpenApiException {
+        if (schema == null) {
+            return null;
+        }
+        if (schema.get$ref() != null) {
+            return GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(schema.get$ref()), true);
+        }
+        if (schema.getItems() != null && schema.getItems().get$ref() != null) {
+            return GeneratorUtils.getValidName(GeneratorUtils.extractReferenceType(schema.getItems().get$ref()),
+                    true) + "[]";
+        }
+        return null;
+    }
+
+    private Parameter resolveParameter(Parameter parameter) throws BallerinaOpenApiException {
+        if (parameter.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getParameters() != null) {
+            return openAPI.getComponents().getParameters().get(
+                    GeneratorUtils.extractReferenceType(parameter.get$ref()));
+        }
+        return parameter;
+    }
+
+    private Schema<?> resolveSchema(Schema<?> schema) throws BallerinaOpenApiException {
+        if (schema != null && schema.get$ref() != null && openAPI.getComponents() != null &&
+                openAPI.getComponents().getSchemas() != null) {
+            return openAPI.getComponents().getSchemas().get(GeneratorUtils.extractReferenceType(schema.get$ref()));
+        }
+        return schema;
+    }
+}
@@ -18,6 +18,8 @@
 package io.ballerina.openapi.core.generators.service.model;
 
 import io.ballerina.openapi.core.model.Filter;
+import io.ballerina.openapi.core.model.ListenerTuning;
+import io.ballerina.openapi.core.model.ServiceSplit;
 import io.swagger.v3.oas.models.OpenAPI;
 
 /**
@@ -32,6 +34,12 @@ public class OASServiceMetadata {
     private final boolean nullable;
     private final boolean generateServiceType;
     private final boolean generateWithoutDataBinding;
+    private final ListenerTuning listenerTuning;
+    private final boolean streamingPayloads;
+    private final boolean contractValidation;
+    private final boolean instrument;
+    private final ServiceSplit serviceSplit;
+    private final int parallelism;
 
     private OASServiceMetadata(Builder serviceMetadataBuilder) {
         this.openAPI = serviceMetadataBuilder.openAPI;
@@ -39,6 +47,12 @@ public class OASServiceMetadata {
         this.nullable = serviceMetadataBuilder.nullable;
         this.generateServiceType = serviceMetadataBuilder.generateServiceType;
         this.generateWithoutDataBinding = serviceMetadataBuilder.generateWithoutDataBinding;
+        this.listenerTuning = serviceMetadataBuilder.listenerTuning;
+        this.streamingPayloads = serviceMetadataBuilder.streamingPayloads;
+        this.contractValidation = serviceMetadataBuilder.contractValidation;
+        this.instrument = serviceMetadataBuilder.instrument;
+        this.serviceSplit = serviceMetadataBuilder.serviceSplit;
+        this.parallelism = serviceMetadataBuilder.parallelism;
     }
 
     public OpenAPI getOpenAPI() {
@@ -61,6 +75,30 @@ public class OASServiceMetadata {
         return generateWithoutDataBinding;
     }
 
+    public ListenerTuning getListenerTuning() {
+        return listenerTuning;
+    }
+
+    public boolean isStreamingPayloads() {
+        return streamingPayloads;
+    }
+
+    public boolean isContractValidation() {
+        return contractValidation;
+    }
+
+    public boolean isInstrument() {
+        return instrument;
+    }
+
+    public ServiceSplit getServiceSplit() {
+        return serviceSplit;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
     /**
      * Service generation meta data builder class.
      */
@@ -74,6 +112,18 @@ public class OASServiceMetadata {
 
         private boolean generateWithoutDataBinding = false;
 
+        private ListenerTuning listenerTuning = new ListenerTuning();
+
+        private boolean streamingPayloads = false;
+
+        private boolean contractValidation = false;
+
+        private boolean instrument = false;
+
+        private ServiceSplit serviceSplit = null;
+
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
         public Builder withOpenAPI(OpenAPI openAPI) {
             this.openAPI = openAPI;
             return this;
@@ -99,6 +149,36 @@ public class OASServiceMetadata {
             return this;
         }
 
+        public Builder withListenerTuning(ListenerTuning listenerTuning) {
+            this.listenerTuning = listenerTuning;
+            return this;
+        }
+
+        public Builder withStreamingPayloads(boolean streamingPayloads) {
+            this.streamingPayloads = streamingPayloads;
+            return this;
+        }
+
+        public Builder withContractValidation(boolean contractValidation) {
+            this.contractValidation = contractValidation;
+            return this;
+        }
+
+        public Builder withInstrument(boolean instrument) {
+            this.instrument = instrument;
+            return this;
+        }
+
+        public Builder withServiceSplit(ServiceSplit serviceSplit) {
+            this.serviceSplit = serviceSplit;
+            return this;
+        }
+
+        public Builder withParallelism(int parallelism) {
+            this.parallelism = parallelism;
+            return this;
+        }
+
         public OASServiceMetadata build() {
             return new OASServiceMetadata(this);
         }
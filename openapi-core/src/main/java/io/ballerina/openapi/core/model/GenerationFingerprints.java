@@ -0,0 +1,310 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+import io.swagger.v3.core.util.Json;
+import io.swagger.v3.oas.models.Components;
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.Operation;
+import io.swagger.v3.oas.models.PathItem;
+import io.swagger.v3.oas.models.media.Schema;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This model is used for storing the fingerprints of a generation, which are recorded next to the generated sources
+ * and used for regenerating only the functions and types of the operations and schemas changed since then.
+ * <pre>
+ *     {
+ *       "version" : 1,
+ *       "global" : "9c1f...",
+ *       "operations" : {
+ *         "get /pets/{petId}" : { "hash" : "51e0...", "operationId" : "showPetById" }
+ *       },
+ *       "schemas" : { "Pet" : "0d4a..." },
+ *       "files" : [ "client.bal", "types.bal" ]
+ *     }
+ * </pre>
+ * The fingerprint of an operation covers the operation and the parameters of its path, and the one of a schema covers
+ * the schema. The global fingerprint covers the rest of the definition and the generation options, a change of which
+ * requires regenerating all the sources. The files are the generated sources, relative to the output directory.
+ *
+ * @since 1.8.0
+ */
+public class GenerationFingerprints {
+
+    public static final String FILE_NAME = ".openapi-fingerprints.json";
+    private static final int VERSION = 1;
+    private static final String VERSION_KEY = "version";
+    private static final String GLOBAL_KEY = "global";
+    private static final String OPERATIONS_KEY = "operations";
+    private static final String SCHEMAS_KEY = "schemas";
+    private static final String HASH_KEY = "hash";
+    private static final String OPERATION_ID_KEY = "operationId";
+    private static final String FILES_KEY = "files";
+
+    private final String global;
+    // Insertion ordered, hence the fingerprints are recorded in the order of the definition
+    private final Map<String, String> operations = new LinkedHashMap<>();
+    private final Map<String, String> operationIds = new LinkedHashMap<>();
+    private final Map<String, String> schemas = new LinkedHashMap<>();
+    private final Set<String> files = new LinkedHashSet<>();
+
+    private GenerationFingerprints(String global) {
+        this.global = global;
+    }
+
+    /**
+     * Compute the fingerprints of the given definition.
+     *
+     * @param openAPI normalized OpenAPI definition
+     * @param options generation options, which affect all the generated sources
+     * @return {@link GenerationFingerprints} of the definition
+     * @throws BallerinaOpenApiException when the definition cannot be serialized
+     */
+    public static GenerationFingerprints of(OpenAPI openAPI, String options) throws BallerinaOpenApiException {
+
+        OpenAPI globalFragment = new OpenAPI()
+                .openapi(openAPI.getOpenapi())
+                .info(openAPI.getInfo())
+                .servers(openAPI.getServers())
+                .security(openAPI.getSecurity())
+                .extensions(openAPI.getExtensions());
+        Components components = openAPI.getComponents();
+        if (components != null) {
+            globalFragment.components(new Components()
+                    .securitySchemes(components.getSecuritySchemes())
+                    .parameters(components.getParameters())
+                    .requestBodies(components.getRequestBodies())
+                    .responses(components.getResponses())
+                    .headers(components.getHeaders()));
+        }
+        GenerationFingerprints fingerprints = new GenerationFingerprints(hash(serialize(globalFragment) + options));
+
+        if (openAPI.getPaths() != null) {
+            for (Map.Entry<String, PathItem> path : openAPI.getPaths().entrySet()) {
+                String pathParameters = serialize(path.getValue().getParameters());
+                for (Map.Entry<PathItem.HttpMethod, Operation> operation :
+                        path.getValue().readOperationsMap().entrySet()) {
+                    String key = getOperationKey(operation.getKey(), path.getKey());
+                    fingerprints.operations.put(key, hash(serialize(operation.getValue()) + pathParameters));
+                    fingerprints.operationIds.put(key, operation.getValue().getOperationId());
+                }
+            }
+        }
+        if (components != null && components.getSchemas() != null) {
+            for (Map.Entry<String, Schema> schema : components.getSchemas().entrySet()) {
+                fingerprints.schemas.put(schema.getKey(), hash(serialize(schema.getValue())));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Read the fingerprints recorded by a previous generation.
+     *
+     * @param content content of the fingerprints file
+     * @return {@link GenerationFingerprints} of the previous generation
+     * @throws BallerinaOpenApiException when the content is not a fingerprints file of a supported version
+     */
+    public static GenerationFingerprints fromJson(String content) throws BallerinaOpenApiException {
+
+        Map<?, ?> json;
+        try {
+            json = Json.mapper().readValue(content, Map.class);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("Invalid fingerprints file: " + e.getMessage(), e);
+        }
+        if (!Objects.equals(json.get(VERSION_KEY), VERSION) || !(json.get(GLOBAL_KEY) instanceof String) ||
+                !(json.get(OPERATIONS_KEY) instanceof Map) || !(json.get(SCHEMAS_KEY) instanceof Map)) {
+            throw new BallerinaOpenApiException("Unsupported fingerprints file, which is not of version " + VERSION);
+        }
+        GenerationFingerprints fingerprints = new GenerationFingerprints((String) json.get(GLOBAL_KEY));
+        for (Map.Entry<?, ?> operation : ((Map<?, ?>) json.get(OPERATIONS_KEY)).entrySet()) {
+            if (!(operation.getValue() instanceof Map)) {
+                throw new BallerinaOpenApiException("Invalid fingerprint of the operation: " + operation.getKey());
+            }
+            Map<?, ?> value = (Map<?, ?>) operation.getValue();
+            String key = String.valueOf(operation.getKey());
+            fingerprints.operations.put(key, String.valueOf(value.get(HASH_KEY)));
+            if (value.get(OPERATION_ID_KEY) != null) {
+                fingerprints.operationIds.put(key, String.valueOf(value.get(OPERATION_ID_KEY)));
+            }
+        }
+        for (Map.Entry<?, ?> schema : ((Map<?, ?>) json.get(SCHEMAS_KEY)).entrySet()) {
+            fingerprints.schemas.put(String.valueOf(schema.getKey()), String.valueOf(schema.getValue()));
+        }
+        // The files are not recorded by the earlier generations, in which case the sources are not up-to-date
+        if (json.get(FILES_KEY) instanceof List) {
+            for (Object file : (List<?>) json.get(FILES_KEY)) {
+                fingerprints.files.add(String.valueOf(file));
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Returns the content of the fingerprints file.
+     */
+    public String toJson() throws BallerinaOpenApiException {
+
+        Map<String, Object> operationsJson = new LinkedHashMap<>();
+        for (Map.Entry<String, String> operation : operations.entrySet()) {
+            Map<String, String> value = new LinkedHashMap<>();
+            value.put(HASH_KEY, operation.getValue());
+            if (operationIds.get(operation.getKey()) != null) {
+                value.put(OPERATION_ID_KEY, operationIds.get(operation.getKey()));
+            }
+            operationsJson.put(operation.getKey(), value);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put(VERSION_KEY, VERSION);
+        json.put(GLOBAL_KEY, global);
+        json.put(OPERATIONS_KEY, operationsJson);
+        json.put(SCHEMAS_KEY, schemas);
+        json.put(FILES_KEY, files);
+        try {
+            return Json.mapper().writerWithDefaultPrettyPrinter().writeValueAsString(json);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("Failed to write the fingerprints: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the key of an operation, which is the lower case method followed by the path.
+     */
+    public static String getOperationKey(PathItem.HttpMethod method, String path) {
+        return method.name().toLowerCase(Locale.ENGLISH) + " " + path;
+    }
+
+    /**
+     * Returns true when the sources generated with the given previous fingerprints are up-to-date.
+     */
+    public boolean isUpToDate(GenerationFingerprints previous) {
+        return global.equals(previous.global) && operations.equals(previous.operations) &&
+                operationIds.equals(previous.operationIds) && schemas.equals(previous.schemas);
+    }
+
+    /**
+     * Returns true when the global fingerprint differs from the given previous one, hence all the sources have to be
+     * regenerated.
+     */
+    public boolean requiresFullGeneration(GenerationFingerprints previous) {
+        return !global.equals(previous.global);
+    }
+
+    /**
+     * Returns the keys of the operations added or changed since the given previous fingerprints.
+     */
+    public Set<String> getChangedOperations(GenerationFingerprints previous) {
+        return getChangedKeys(operations, previous.operations);
+    }
+
+    /**
+     * Returns the keys of the operations removed since the given previous fingerprints.
+     */
+    public Set<String> getRemovedOperations(GenerationFingerprints previous) {
+        Set<String> removed = new HashSet<>(previous.operations.keySet());
+        removed.removeAll(operations.keySet());
+        return removed;
+    }
+
+    /**
+     * Returns the names of the schemas added, changed or removed since the given previous fingerprints.
+     */
+    public Set<String> getChangedSchemas(GenerationFingerprints previous) {
+        Set<String> changed = getChangedKeys(schemas, previous.schemas);
+        for (String schema : previous.schemas.keySet()) {
+            if (!schemas.containsKey(schema)) {
+                changed.add(schema);
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Record a generated source file.
+     *
+     * @param file path of the file, relative to the output directory
+     */
+    public void addFile(String file) {
+        files.add(file);
+    }
+
+    public Set<String> getFiles() {
+        return files;
+    }
+
+    public Map<String, String> getOperationIds() {
+        return operationIds;
+    }
+
+    public Set<String> getSchemas() {
+        return schemas.keySet();
+    }
+
+    private static Set<String> getChangedKeys(Map<String, String> current, Map<String, String> previous) {
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, String> entry : current.entrySet()) {
+            if (!entry.getValue().equals(previous.get(entry.getKey()))) {
+                changed.add(entry.getKey());
+            }
+        }
+        return changed;
+    }
+
+    /**
+     * Serialize the given fragment of the definition with the keys of the mappings sorted, hence the fingerprint does
+     * not depend on the order of the keys in the definition.
+     */
+    private static String serialize(Object fragment) throws BallerinaOpenApiException {
+        try {
+            return Json.mapper().writer().with(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS)
+                    .writeValueAsString(fragment);
+        } catch (JsonProcessingException e) {
+            throw new BallerinaOpenApiException("Failed to compute the fingerprint: " + e.getMessage(), e);
+        }
+    }
+
+    private static String hash(String content) throws BallerinaOpenApiException {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            StringBuilder hash = new StringBuilder();
+            for (byte b : digest) {
+                hash.append(String.format("%02x", b));
+            }
+            return hash.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new BallerinaOpenApiException("Failed to compute the fingerprint: " + e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import io.ballerina.openapi.core.exception.BallerinaOpenApiException;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This model is used for storing the tuning values of the listener of the generated service. The values are read from
+ * the `x-ballerina-listener` extension of the OpenAPI definition or from a listener configuration file, which have the
+ * same structure.
+ * <pre>
+ *     x-ballerina-listener:
+ *       httpVersion: "2.0"
+ *       timeout: 30
+ *       requestLimits:
+ *         maxUriLength: 4096
+ *         maxHeaderSize: 8192
+ *         maxEntityBodySize: 1048576
+ *       http1Settings:
+ *         keepAlive: AUTO
+ *         maxPipelinedRequests: 10
+ * </pre>
+ *
+ * @since 1.8.0
+ */
+public class ListenerTuning {
+
+    public static final String HTTP_VERSION = "httpVersion";
+    public static final String TIMEOUT = "timeout";
+    public static final String REQUEST_LIMITS = "requestLimits";
+    public static final String HTTP1_SETTINGS = "http1Settings";
+    public static final String MAX_URI_LENGTH = "maxUriLength";
+    public static final String MAX_HEADER_SIZE = "maxHeaderSize";
+    public static final String MAX_ENTITY_BODY_SIZE = "maxEntityBodySize";
+    public static final String KEEP_ALIVE = "keepAlive";
+    public static final String MAX_PIPELINED_REQUESTS = "maxPipelinedRequests";
+
+    private String httpVersion;
+    private BigDecimal timeout;
+    // Insertion ordered, hence the fields are generated in the order of the configuration
+    private final Map<String, Long> requestLimits = new LinkedHashMap<>();
+    private String keepAlive;
+    private Long maxPipelinedRequests;
+
+    public ListenerTuning() {
+    }
+
+    /**
+     * Create the listener tuning from the given mapping.
+     *
+     * @param tuning mapping of the tuning values
+     * @param source name of the source of the mapping, which is used in the error messages
+     * @return {@link ListenerTuning} of the mapping
+     * @throws BallerinaOpenApiException when the mapping has an unsupported field or an invalid value
+     */
+    public static ListenerTuning fromMap(Map<?, ?> tuning, String source) throws BallerinaOpenApiException {
+
+        ListenerTuning listenerTuning = new ListenerTuning();
+        for (Map.Entry<?, ?> entry : tuning.entrySet()) {
+            String field = String.valueOf(entry.getKey()).trim();
+            Object value = entry.getValue();
+            if (value == null) {
+                continue;
+            }
+            switch (field) {
+                case HTTP_VERSION:
+                    String httpVersion = String.valueOf(value).trim();
+                    if (!httpVersion.equals("1.0") && !httpVersion.equals("1.1") && !httpVersion.equals("2.0")) {
+                        throw invalidValue(source, field, "one of `1.0`, `1.1` or `2.0`");
+                    }
+                    listenerTuning.httpVersion = httpVersion;
+                    break;
+                case TIMEOUT:
+                    if (!(value instanceof Number) || new BigDecimal(value.toString()).signum() < 0) {
+                        throw invalidValue(source, field, "a non-negative number of seconds");
+                    }
+                    listenerTuning.timeout = new BigDecimal(value.toString());
+                    break;
+                case REQUEST_LIMITS:
+                    for (Map.Entry<?, ?> limit : getMap(value, source, field).entrySet()) {
+                        String limitField = String.valueOf(limit.getKey()).trim();
+                        if (!limitField.equals(MAX_URI_LENGTH) && !limitField.equals(MAX_HEADER_SIZE) &&
+                                !limitField.equals(MAX_ENTITY_BODY_SIZE)) {
+                            throw unsupportedField(source, field + "." + limitField);
+                        }
+                        listenerTuning.requestLimits.put(limitField,
+                                getInteger(limit.getValue(), source, field + "." + limitField));
+                    }
+                    break;
+                case HTTP1_SETTINGS:
+                    for (Map.Entry<?, ?> setting : getMap(value, source, field).entrySet()) {
+                        String settingField = String.valueOf(setting.getKey()).trim();
+                        if (settingField.equals(KEEP_ALIVE)) {
+                            String keepAlive = String.valueOf(setting.getValue()).trim().toUpperCase(Locale.ENGLISH);
+                            if (!keepAlive.equals("AUTO") && !keepAlive.equals("ALWAYS") &&
+                                    !keepAlive.equals("NEVER")) {
+                                throw invalidValue(source, field + "." + settingField,
+                                        "one of `AUTO`, `ALWAYS` or `NEVER`");
+                            }
+                            listenerTuning.keepAlive = keepAlive;
+                        } else if (settingField.equals(MAX_PIPELINED_REQUESTS)) {
+                            listenerTuning.maxPipelinedRequests = getInteger(setting.getValue(), source,
+                                    field + "." + settingField);
+                        } else {
+                            throw unsupportedField(source, field + "." + settingField);
+                        }
+                    }
+                    break;
+                default:
+                    throw unsupportedField(source, field);
+            }
+        }
+        return listenerTuning;
+    }
+
+    /**
+     * Returns a listener tuning with the values of this tuning, overridden by the values given in the override.
+     *
+     * @param override listener tuning with the overriding values
+     * @return merged {@link ListenerTuning}
+     */
+    public ListenerTuning override(ListenerTuning override) {
+
+        ListenerTuning merged = new ListenerTuning();
+        merged.httpVersion = override.httpVersion != null ? override.httpVersion : httpVersion;
+        merged.timeout = override.timeout != null ? override.timeout : timeout;
+        merged.requestLimits.putAll(requestLimits);
+        merged.requestLimits.putAll(override.requestLimits);
+        merged.keepAlive = override.keepAlive != null ? override.keepAlive : keepAlive;
+        merged.maxPipelinedRequests = override.maxPipelinedRequests != null ? override.maxPipelinedRequests :
+                maxPipelinedRequests;
+        return merged;
+    }
+
+    public Optional<String> getHttpVersion() {
+        return Optional.ofNullable(httpVersion);
+    }
+
+    public Optional<BigDecimal> getTimeout() {
+        return Optional.ofNullable(timeout);
+    }
+
+    public Map<String, Long> getRequestLimits() {
+        return requestLimits;
+    }
+
+    public Optional<String> getKeepAlive() {
+        return Optional.ofNullable(keepAlive);
+    }
+
+    public Optional<Long> getMaxPipelinedRequests() {
+        return Optional.ofNullable(maxPipelinedRequests);
+    }
+
+    public boolean hasHttp1Settings() {
+        return keepAlive != null || maxPipelinedRequests != null;
+    }
+
+    public boolean isEmpty() {
+        return httpVersion == null && timeout == null && requestLimits.isEmpty() && !hasHttp1Settings();
+    }
+
+    private static Map<?, ?> getMap(Object value, String source, String field) throws BallerinaOpenApiException {
+        if (!(value instanceof Map)) {
+            throw invalidValue(source, field, "a mapping");
+        }
+        return (Map<?, ?>) value;
+    }
+
+    private static Long getInteger(Object value, String source, String field) throws BallerinaOpenApiException {
+        if (!(value instanceof Integer || value instanceof Long)) {
+            throw invalidValue(source, field, "an integer");
+        }
+        return ((Number) value).longValue();
+    }
+
+    private static BallerinaOpenApiException invalidValue(String source, String field, String expected) {
+        return new BallerinaOpenApiException(String.format("Invalid value for `%s` in %s, expected %s.", field,
+                source, expected));
+    }
+
+    private static BallerinaOpenApiException unsupportedField(String source, String field) {
+        return new BallerinaOpenApiException(String.format("Unsupported listener tuning field `%s` in %s.", field,
+                source));
+    }
+}
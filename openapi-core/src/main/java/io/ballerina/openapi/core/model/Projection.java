@@ -0,0 +1,81 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This model is used for storing the response fields to be projected per operation and per schema. Only the given
+ * fields are included in the record types generated for the projected responses.
+ * <pre>
+ *     operations:
+ *       getIssue: [id, key, fields]
+ *     schemas:
+ *       Customer: [id, email]
+ * </pre>
+ *
+ * @since 1.8.0
+ */
+public class Projection {
+    private Map<String, List<String>> operations = new LinkedHashMap<>();
+    private Map<String, List<String>> schemas = new LinkedHashMap<>();
+
+    public Projection() {
+    }
+
+    public Projection(Map<String, List<String>> operations, Map<String, List<String>> schemas) {
+        this.operations = operations;
+        this.schemas = schemas;
+    }
+
+    public Map<String, List<String>> getOperations() {
+        return operations;
+    }
+
+    public Map<String, List<String>> getSchemas() {
+        return schemas;
+    }
+
+    /**
+     * Returns the fields to be projected in the response of the given operation.
+     *
+     * @param operationId operation id
+     * @return projected fields, if the operation has a projection
+     */
+    public Optional<List<String>> getOperationFields(String operationId) {
+        return Optional.ofNullable(operations.get(operationId));
+    }
+
+    /**
+     * Returns the fields to be projected when the given schema is used as a response.
+     *
+     * @param schemaName name of the component schema
+     * @return projected fields, if the schema has a projection
+     */
+    public Optional<List<String>> getSchemaFields(String schemaName) {
+        return Optional.ofNullable(schemas.get(schemaName));
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty() && schemas.isEmpty();
+    }
+}
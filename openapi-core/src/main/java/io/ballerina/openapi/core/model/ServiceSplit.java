@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.core.model;
+
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * This model is used for selecting how the generated service is split into multiple services attached to the shared
+ * listener. The operations are grouped by their first tag, or by the first segment of their paths.
+ *
+ * @since 1.8.0
+ */
+public enum ServiceSplit {
+    TAG("default"),
+    PATH("root");
+
+    private final String defaultGroup;
+
+    ServiceSplit(String defaultGroup) {
+        this.defaultGroup = defaultGroup;
+    }
+
+    /**
+     * Returns the name of the group of the operations without a tag, or of the paths which do not start with a static
+     * segment.
+     */
+    public String getDefaultGroup() {
+        return defaultGroup;
+    }
+
+    /**
+     * Returns the split mode of the given option value, which is either `tag` or `path`.
+     *
+     * @param value value of the option
+     * @return split mode, or empty when the value is not a split mode
+     */
+    public static Optional<ServiceSplit> fromString(String value) {
+        if (value == null) {
+            return Optional.empty();
+        }
+        for (ServiceSplit serviceSplit : values()) {
+            if (serviceSplit.name().equals(value.trim().toUpperCase(Locale.ENGLISH))) {
+                return Optional.of(serviceSplit);
+            }
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package io.ballerina.openapi.validator;
+
+import io.swagger.v3.oas.models.OpenAPI;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * This bounded cache keeps the OpenAPI contracts parsed for validating the services, across the services referring
+ * the same contract and across the compilations of a project. A contract is identified by its canonical path, and a
+ * cached model is used only while the size, the modification time and the content hash of the file are unchanged.
+ * The cached models are shared, as the validator only reads them.
+ *
+ * @since 1.8.0
+ */
+class ContractCache {
+
+    private static final int CAPACITY = 32;
+    // Contracts in the order they are accessed, from the least recently used one
+    private static final Map<Path, CachedContract> CONTRACTS = new LinkedHashMap<>(16, 0.75f, true);
+
+    private ContractCache() {
+    }
+
+    static synchronized Optional<OpenAPI> get(Path contractPath, String content) throws IOException {
+        CachedContract contract = CONTRACTS.get(contractPath);
+        if (contract == null || !contract.fingerprint.equals(getFingerprint(contractPath, content))) {
+            return Optional.empty();
+        }
+        return Optional.of(contract.openAPI);
+    }
+
+    static synchronized void put(Path contractPath, String content, OpenAPI openAPI) throws IOException {
+        CONTRACTS.put(contractPath, new CachedContract(getFingerprint(contractPath, content), openAPI));
+        Iterator<Path> leastRecentlyUsed = CONTRACTS.keySet().iterator();
+        while (CONTRACTS.size() > CAPACITY) {
+            leastRecentlyUsed.next();
+            leastRecentlyUsed.remove();
+        }
+    }
+
+    private static String getFingerprint(Path contractPath, String content) throws IOException {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            StringBuilder hash = new StringBuilder();
+            for (byte hashByte : digest.digest(content.getBytes(StandardCharsets.UTF_8))) {
+                hash.append(String.format("%02x", hashByte));
+            }
+            return Files.size(contractPath) + ":" + Files.getLastModifiedTime(contractPath).toMillis() + ":" + hash;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Model parsed from a contract, with the fingerprint of the contract file it is parsed from.
+     */
+    private static class CachedContract {
+        private final String fingerprint;
+        private final OpenAPI openAPI;
+
+        CachedContract(String fingerprint, OpenAPI openAPI) {
+            this.fingerprint = fingerprint;
+            this.openAPI = openAPI;
+        }
+    }
+}
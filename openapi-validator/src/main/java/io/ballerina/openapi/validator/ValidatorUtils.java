@@ -132,12 +132,20 @@ public class ValidatorUtils {
         }
 
         String openAPIFileContent = Files.readString(contractPath);
+        // Services sharing a contract, and the repeated compilations of a project, reuse the parsed model
+        Path canonicalPath = contractPath.toRealPath();
+        Optional<OpenAPI> cachedContract = ContractCache.get(canonicalPath, openAPIFileContent);
+        if (cachedContract.isPresent()) {
+            return cachedContract.get();
+        }
         SwaggerParseResult parseResult = new OpenAPIV3Parser().readContents(openAPIFileContent, null,
                 parseOptions);
         OpenAPI api = parseResult.getOpenAPI();
         if (api == null) {
             reportDiagnostic(context, CompilationError.PARSER_EXCEPTION, location, DiagnosticSeverity.ERROR,
                     definitionURI);
+        } else {
+            ContractCache.put(canonicalPath, openAPIFileContent, api);
         }
         return api;
     }
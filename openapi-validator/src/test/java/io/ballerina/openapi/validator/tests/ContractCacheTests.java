@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2023, WSO2 LLC. (http://www.wso2.com). All Rights Reserved.
+ *
+ * WSO2 LLC. licenses this file to you under the Apache License,
+ * Version 2.0 (the "License"); you may not use this file except
+ * in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package io.ballerina.openapi.validator.tests;
+
+import io.ballerina.openapi.validator.ValidatorUtils;
+import io.swagger.v3.oas.models.OpenAPI;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Tests for the cache of the contracts parsed by the validator.
+ */
+public class ContractCacheTests {
+    private static final String CONTRACT = "openapi: 3.0.1\ninfo:\n  title: Petstore\n  version: 1.0.0\npaths:\n" +
+            "  /pets:\n    get:\n      responses:\n        '200':\n          description: Ok\n";
+    private Path tempDir;
+
+    @BeforeClass
+    public void setUp() throws IOException {
+        this.tempDir = Files.createTempDirectory("openapi-validator-cache-" + System.nanoTime());
+    }
+
+    @Test(description = "An unchanged contract is parsed once, and a changed contract is parsed again")
+    public void reparseChangedContract() throws IOException {
+        Path contractPath = tempDir.resolve("petstore.yaml");
+        Files.writeString(contractPath, CONTRACT);
+        OpenAPI firstParse = ValidatorUtils.parseOpenAPIFile(null, contractPath.toString(), null);
+        OpenAPI secondParse = ValidatorUtils.parseOpenAPIFile(null, contractPath.toString(), null);
+        // The validator only reads the contract, so the cached model is shared
+        Assert.assertSame(secondParse, firstParse);
+
+        Files.writeString(contractPath, CONTRACT.replace("/pets", "/animals"));
+        OpenAPI changedParse = ValidatorUtils.parseOpenAPIFile(null, contractPath.toString(), null);
+        Assert.assertTrue(changedParse.getPaths().containsKey("/animals"));
+        Assert.assertFalse(changedParse.getPaths().containsKey("/pets"));
+    }
+
+    @AfterClass
+    public void cleanUp() throws IOException {
+        Files.deleteIfExists(tempDir.resolve("petstore.yaml"));
+        Files.deleteIfExists(tempDir);
+    }
+}